@@ -0,0 +1,116 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.microbenchmark;
+
+import com.google.common.io.Files;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sonar.api.utils.internal.DefaultTempFolder;
+import org.sonar.batch.index.Cache;
+import org.sonar.batch.index.Caches;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the backends of batch caches on a workload similar to the cache of measures:
+ * values are put by component, metric and measure key, then read by component.
+ */
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.Throughput)
+public class CacheBenchmark {
+
+  private static final int METRICS = 50;
+
+  @Param({"PERSISTIT", "HEAP", "OFF_HEAP"})
+  public Caches.Backend backend;
+
+  @Param({"100", "1000"})
+  public int components;
+
+  File dir;
+  Caches caches;
+  Cache<String> cache;
+  int id = 0;
+
+  @Setup(Level.Iteration)
+  public void setup() throws Exception {
+    dir = Files.createTempDir();
+    caches = new Caches(new DefaultTempFolder(dir));
+    caches.start();
+    cache = caches.createCache("measures", backend);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws Exception {
+    caches.stop();
+    FileUtils.deleteQuietly(dir);
+  }
+
+  @Benchmark
+  public int putThenReadByComponent() throws Exception {
+    cache.clear();
+    for (int component = 0; component < components; component++) {
+      String componentKey = "project:src/main/java/File" + component + ".java";
+      for (int metric = 0; metric < METRICS; metric++) {
+        cache.put(componentKey, "metric" + metric, "measure" + id, "value " + id);
+        id++;
+      }
+    }
+    int count = 0;
+    for (int component = 0; component < components; component++) {
+      for (String value : cache.values("project:src/main/java/File" + component + ".java")) {
+        count += value.length();
+      }
+    }
+    return count;
+  }
+
+  /**
+   * You can this benchmark with maven command-line (see run.sh) or by executing this method
+   * in IDE
+   */
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+      .include(CacheBenchmark.class.getSimpleName())
+      .build();
+    new Runner(opt).run();
+  }
+}
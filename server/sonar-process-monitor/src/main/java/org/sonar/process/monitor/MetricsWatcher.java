@@ -0,0 +1,112 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process.monitor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.process.ProcessMetrics;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Periodically reads the metrics published by child processes in shared memory (see
+ * {@link org.sonar.process.MetricsPublisher}), records them in {@link ProcessRef} and logs them. A warning
+ * is logged when a process stops publishing, for example because of long GC pauses. The last metrics of
+ * all the processes are summarized in INFO logs every 10 minutes.
+ */
+class MetricsWatcher extends Thread {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MetricsWatcher.class);
+
+  private final List<ProcessRef> processes;
+  private final long delayMs;
+  private final long staleDelayMs;
+  private final long summaryDelayMs;
+  private long lastSummaryAt;
+  private final Set<String> staleProcessKeys = new HashSet<String>();
+  private volatile boolean watching = true;
+
+  MetricsWatcher(List<ProcessRef> processes) {
+    this(processes, 10000L, 60000L, 600000L);
+  }
+
+  MetricsWatcher(List<ProcessRef> processes, long delayMs, long staleDelayMs, long summaryDelayMs) {
+    super("Metrics Watcher");
+    setDaemon(true);
+    this.processes = processes;
+    this.delayMs = delayMs;
+    this.staleDelayMs = staleDelayMs;
+    this.summaryDelayMs = summaryDelayMs;
+    this.lastSummaryAt = System.currentTimeMillis();
+  }
+
+  @Override
+  public void run() {
+    while (watching) {
+      watch();
+      try {
+        Thread.sleep(delayMs);
+      } catch (InterruptedException ignored) {
+        watching = false;
+      }
+    }
+  }
+
+  void watch() {
+    long now = System.currentTimeMillis();
+    for (ProcessRef process : processes) {
+      if (process.isStopped()) {
+        continue;
+      }
+      ProcessMetrics metrics = process.readMetrics();
+      if (metrics == null) {
+        continue;
+      }
+      if (now - metrics.getPublishedAt() > staleDelayMs) {
+        if (staleProcessKeys.add(process.getKey())) {
+          LOG.warn(String.format("%s did not publish metrics for %d seconds", process, (now - metrics.getPublishedAt()) / 1000L));
+        }
+      } else {
+        staleProcessKeys.remove(process.getKey());
+        LOG.debug(String.format("%s %s", process, metrics));
+      }
+    }
+    if (now - lastSummaryAt >= summaryDelayMs) {
+      logSummary();
+      lastSummaryAt = now;
+    }
+  }
+
+  private void logSummary() {
+    for (ProcessRef process : processes) {
+      ProcessMetrics metrics = process.getLastMetrics();
+      if (!process.isStopped() && metrics != null) {
+        LOG.info(String.format("%s %s", process, metrics));
+      }
+    }
+  }
+
+  void stopWatching() {
+    watching = false;
+    interrupt();
+  }
+}
@@ -40,6 +40,7 @@ public class Monitor {
 
   // used by awaitStop() to block until all processes are shutdown
   private final List<WatcherThread> watcherThreads = new CopyOnWriteArrayList<WatcherThread>();
+  private final MetricsWatcher metricsWatcher = new MetricsWatcher(processes);
   static int nextProcessId = 0;
 
   Monitor(JavaProcessLauncher launcher, SystemExit exit, TerminatorThread terminator) {
@@ -91,6 +92,7 @@ public class Monitor {
       stop();
       throw new IllegalStateException("Stopped during startup");
     }
+    metricsWatcher.start();
   }
 
   private void monitor(ProcessRef processRef) {
@@ -142,6 +144,7 @@ public class Monitor {
    */
   public void stopAsync() {
     if (lifecycle.tryToMoveTo(State.STOPPING)) {
+      metricsWatcher.stopWatching();
       terminator.setProcesses(processes);
       terminator.start();
     }
@@ -22,8 +22,11 @@ package org.sonar.process.monitor;
 import org.slf4j.LoggerFactory;
 import org.sonar.process.MessageException;
 import org.sonar.process.ProcessCommands;
+import org.sonar.process.ProcessMetrics;
 import org.sonar.process.ProcessUtils;
 
+import javax.annotation.CheckForNull;
+
 class ProcessRef {
 
   private final String key;
@@ -31,6 +34,7 @@ class ProcessRef {
   private final Process process;
   private final StreamGobbler gobbler;
   private volatile boolean stopped = false;
+  private volatile ProcessMetrics lastMetrics = null;
 
   ProcessRef(String key, ProcessCommands commands, Process process, StreamGobbler gobbler) {
     this.key = key;
@@ -76,6 +80,24 @@ class ProcessRef {
     return stopped;
   }
 
+  /**
+   * Reads the metrics published by process in shared memory. The last non-null result is kept
+   * in {@link #getLastMetrics()}.
+   */
+  @CheckForNull
+  ProcessMetrics readMetrics() {
+    ProcessMetrics metrics = commands.readMetrics();
+    if (metrics != null) {
+      lastMetrics = metrics;
+    }
+    return metrics;
+  }
+
+  @CheckForNull
+  ProcessMetrics getLastMetrics() {
+    return lastMetrics;
+  }
+
   void askForGracefulAsyncStop() {
     commands.askForStop();
   }
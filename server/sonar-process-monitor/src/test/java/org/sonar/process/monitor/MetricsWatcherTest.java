@@ -0,0 +1,84 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process.monitor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.process.ProcessCommands;
+import org.sonar.process.ProcessMetrics;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MetricsWatcherTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void record_metrics_of_processes() throws Exception {
+    ProcessCommands monitorCommands = new ProcessCommands(temp.newFolder(), 1);
+    Process process = mock(Process.class);
+    when(process.exitValue()).thenThrow(new IllegalThreadStateException());
+    ProcessRef ref = new ProcessRef("web", monitorCommands, process, mock(StreamGobbler.class));
+    MetricsWatcher watcher = new MetricsWatcher(Arrays.asList(ref));
+
+    watcher.watch();
+    assertThat(ref.getLastMetrics()).isNull();
+
+    monitorCommands.publishMetrics(new ProcessMetrics(System.currentTimeMillis(), 200L, 500L, 30L, 4L, 40L, 2L));
+    watcher.watch();
+    assertThat(ref.getLastMetrics().getHeapUsed()).isEqualTo(200L);
+    assertThat(ref.getLastMetrics().getComputationQueueSize()).isEqualTo(2L);
+  }
+
+  @Test
+  public void summarize_last_metrics_periodically() throws Exception {
+    ProcessRef ref = mock(ProcessRef.class);
+    when(ref.getLastMetrics()).thenReturn(new ProcessMetrics(System.currentTimeMillis(), 200L, 500L, 30L, 4L, 40L, 2L));
+
+    new MetricsWatcher(Arrays.asList(ref), 10L, 60000L, 0L).watch();
+    verify(ref).getLastMetrics();
+  }
+
+  @Test
+  public void do_not_summarize_metrics_before_delay() throws Exception {
+    ProcessRef ref = mock(ProcessRef.class);
+
+    new MetricsWatcher(Arrays.asList(ref), 10L, 60000L, 600000L).watch();
+    verify(ref, never()).getLastMetrics();
+  }
+
+  @Test
+  public void ignore_stopped_processes() throws Exception {
+    ProcessRef ref = mock(ProcessRef.class);
+    when(ref.isStopped()).thenReturn(true);
+    MetricsWatcher watcher = new MetricsWatcher(Arrays.asList(ref));
+
+    watcher.watch();
+    verify(ref, never()).readMetrics();
+  }
+}
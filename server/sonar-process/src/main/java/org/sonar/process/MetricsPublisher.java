@@ -0,0 +1,109 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process;
+
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Publishes periodically the metrics of current JVM in {@link org.sonar.process.ProcessCommands}, so that
+ * they can be read by the monitor process without opening any port.
+ * <p/>
+ * The size of computation queue is read from the JMX bean {@link #COMPUTATION_QUEUE_MBEAN}, which is
+ * registered by the web server only.
+ */
+public class MetricsPublisher extends Thread {
+
+  static final String COMPUTATION_QUEUE_MBEAN = "SonarQube:name=ComputationQueue";
+  static final String COMPUTATION_QUEUE_ATTRIBUTE = "PendingReports";
+
+  private final ProcessCommands commands;
+  private final long delayMs;
+  private volatile boolean publishing = true;
+
+  public MetricsPublisher(ProcessCommands commands) {
+    this(commands, 10000L);
+  }
+
+  MetricsPublisher(ProcessCommands commands, long delayMs) {
+    super("Metrics Publisher");
+    setDaemon(true);
+    this.commands = commands;
+    this.delayMs = delayMs;
+  }
+
+  @Override
+  public void run() {
+    while (publishing) {
+      try {
+        publish();
+      } catch (RuntimeException e) {
+        LoggerFactory.getLogger(getClass()).warn("Fail to publish metrics", e);
+      }
+      try {
+        Thread.sleep(delayMs);
+      } catch (InterruptedException ignored) {
+        publishing = false;
+      }
+    }
+  }
+
+  void publish() {
+    commands.publishMetrics(currentMetrics());
+  }
+
+  static ProcessMetrics currentMetrics() {
+    MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    long gcTimeMs = 0L;
+    long gcCount = 0L;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      // -1 if undefined
+      gcTimeMs += Math.max(0L, gc.getCollectionTime());
+      gcCount += Math.max(0L, gc.getCollectionCount());
+    }
+    return new ProcessMetrics(System.currentTimeMillis(), heap.getUsed(), heap.getMax(), gcTimeMs, gcCount,
+      ManagementFactory.getThreadMXBean().getThreadCount(), computationQueueSize());
+  }
+
+  private static long computationQueueSize() {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(COMPUTATION_QUEUE_MBEAN);
+      if (server.isRegistered(name)) {
+        return ((Number) server.getAttribute(name, COMPUTATION_QUEUE_ATTRIBUTE)).longValue();
+      }
+    } catch (JMException e) {
+      LoggerFactory.getLogger(MetricsPublisher.class).debug("Fail to read size of computation queue", e);
+    }
+    return ProcessMetrics.UNDEFINED;
+  }
+
+  public void stopPublishing() {
+    publishing = false;
+    interrupt();
+  }
+}
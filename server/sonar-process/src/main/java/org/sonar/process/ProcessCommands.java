@@ -22,6 +22,8 @@ package org.sonar.process;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.CheckForNull;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
@@ -33,6 +35,7 @@ import java.nio.channels.FileChannel;
  * <ul>
  *   <li>share status of child process</li>
  *   <li>stop child process</li>
+ *   <li>publish health metrics of child process, see {@link org.sonar.process.ProcessMetrics}</li>
  * </ul>
  *
  * <p/>
@@ -50,20 +53,28 @@ public class ProcessCommands {
    * The ByteBuffer will contains :
    * <ul>
    *   <li>First byte will contains 0x00 until stop command is issued = 0xFF</li>
-   *   <li>Then each 10 bytes will be reserved for each process</li>
+   *   <li>Then each 82 bytes will be reserved for each process</li>
    * </ul>
    *
-   * Description of ten bytes of each process :
+   * Description of the 82 bytes of each process :
    * <ul>
    *   <li>First byte will contains the state 0x00 until READY 0x01</li>
    *   <li>The second byte will contains the request for stopping 0x00 or STOP (0xFF)</li>
    *   <li>The next 8 bytes contains a long (System.currentTimeInMillis for ping)</li>
+   *   <li>The next 8 bytes contains the version of metrics. It is odd while metrics are being written.</li>
+   *   <li>The next 56 bytes contains the 7 longs of {@link org.sonar.process.ProcessMetrics}</li>
+   *   <li>The next 8 bytes contains the checksum of version and metrics</li>
    * </ul>
    */
   final MappedByteBuffer mappedByteBuffer;
   private final RandomAccessFile sharedMemory;
   private static final int MAX_PROCESSES = 50;
-  private static final int BYTE_LENGTH_FOR_ONE_PROCESS = 1 + 1 + 8;
+  private static final int METRICS_VERSION_OFFSET = 1 + 1 + 8;
+  private static final int METRICS_OFFSET = METRICS_VERSION_OFFSET + 8;
+  private static final int NUMBER_OF_METRICS = 7;
+  private static final int METRICS_CHECKSUM_OFFSET = METRICS_OFFSET + 8 * NUMBER_OF_METRICS;
+  private static final int BYTE_LENGTH_FOR_ONE_PROCESS = METRICS_CHECKSUM_OFFSET + 8;
+  private static final int MAX_METRICS_READ_ATTEMPTS = 10;
 
   // With this shared memory we can handle up to MAX_PROCESSES processes
   private static final int MAX_SHARED_MEMORY = BYTE_LENGTH_FOR_ONE_PROCESS * MAX_PROCESSES;
@@ -120,6 +131,80 @@ public class ProcessCommands {
     }
   }
 
+  /**
+   * To be executed by child process. There must be a single writer, but no lock is needed
+   * with the monitor process : the version is odd during the update, so that the reader can detect
+   * partially written metrics.
+   * <p/>
+   * Puts on a {@link MappedByteBuffer} are plain memory writes : the Java memory model does not guarantee
+   * that the other process observes them in program order, and Java 7 does not provide any fence.
+   * That's why the version is completed by a checksum of the written values, verified by
+   * {@link #readMetrics()}. Metrics are only informative, so a torn read that would pass both checks
+   * is accepted.
+   */
+  public void publishMetrics(ProcessMetrics metrics) {
+    if (canBeMonitored()) {
+      int versionOffset = offset() + METRICS_VERSION_OFFSET;
+      long version = mappedByteBuffer.getLong(versionOffset);
+      mappedByteBuffer.putLong(versionOffset, version + 1);
+      int metricsOffset = offset() + METRICS_OFFSET;
+      mappedByteBuffer.putLong(metricsOffset, metrics.getPublishedAt());
+      mappedByteBuffer.putLong(metricsOffset + 8, metrics.getHeapUsed());
+      mappedByteBuffer.putLong(metricsOffset + 16, metrics.getHeapMax());
+      mappedByteBuffer.putLong(metricsOffset + 24, metrics.getGcTimeMs());
+      mappedByteBuffer.putLong(metricsOffset + 32, metrics.getGcCount());
+      mappedByteBuffer.putLong(metricsOffset + 40, metrics.getThreads());
+      mappedByteBuffer.putLong(metricsOffset + 48, metrics.getComputationQueueSize());
+      mappedByteBuffer.putLong(offset() + METRICS_CHECKSUM_OFFSET, checksum(version + 2, metrics));
+      mappedByteBuffer.putLong(versionOffset, version + 2);
+    }
+  }
+
+  /**
+   * To be executed by monitor process. Returns null if the child process did not publish metrics yet or
+   * if they are being continuously updated or could not be read consistently.
+   */
+  @CheckForNull
+  public ProcessMetrics readMetrics() {
+    if (!canBeMonitored()) {
+      return null;
+    }
+    int versionOffset = offset() + METRICS_VERSION_OFFSET;
+    int metricsOffset = offset() + METRICS_OFFSET;
+    for (int attempt = 0; attempt < MAX_METRICS_READ_ATTEMPTS; attempt++) {
+      long version = mappedByteBuffer.getLong(versionOffset);
+      if (version == 0L) {
+        return null;
+      }
+      if (version % 2 == 0) {
+        ProcessMetrics metrics = new ProcessMetrics(
+          mappedByteBuffer.getLong(metricsOffset),
+          mappedByteBuffer.getLong(metricsOffset + 8),
+          mappedByteBuffer.getLong(metricsOffset + 16),
+          mappedByteBuffer.getLong(metricsOffset + 24),
+          mappedByteBuffer.getLong(metricsOffset + 32),
+          mappedByteBuffer.getLong(metricsOffset + 40),
+          mappedByteBuffer.getLong(metricsOffset + 48));
+        long checksum = mappedByteBuffer.getLong(offset() + METRICS_CHECKSUM_OFFSET);
+        if (mappedByteBuffer.getLong(versionOffset) == version && checksum == checksum(version, metrics)) {
+          return metrics;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static long checksum(long version, ProcessMetrics metrics) {
+    long checksum = version;
+    checksum = 31 * checksum + metrics.getPublishedAt();
+    checksum = 31 * checksum + metrics.getHeapUsed();
+    checksum = 31 * checksum + metrics.getHeapMax();
+    checksum = 31 * checksum + metrics.getGcTimeMs();
+    checksum = 31 * checksum + metrics.getGcCount();
+    checksum = 31 * checksum + metrics.getThreads();
+    return 31 * checksum + metrics.getComputationQueueSize();
+  }
+
   /**
    * To be executed by monitor process to ask for child process termination
    */
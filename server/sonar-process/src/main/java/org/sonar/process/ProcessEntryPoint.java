@@ -35,6 +35,7 @@ public class ProcessEntryPoint implements Stoppable {
   private volatile Monitored monitored;
   private volatile StopperThread stopperThread;
   private final StopWatcher stopWatcher;
+  private final MetricsPublisher metricsPublisher;
 
   // new Runnable() is important to avoid conflict of call to ProcessEntryPoint#stop() with Thread#stop()
   private Thread shutdownHook = new Thread(new Runnable() {
@@ -50,6 +51,7 @@ public class ProcessEntryPoint implements Stoppable {
     this.exit = exit;
     this.commands = commands;
     this.stopWatcher = new StopWatcher(commands, this);
+    this.metricsPublisher = new MetricsPublisher(commands);
   }
 
   public Props getProps() {
@@ -83,6 +85,7 @@ public class ProcessEntryPoint implements Stoppable {
 
       // notify monitor that process is ready
       commands.setReady();
+      metricsPublisher.start();
 
       if (lifecycle.tryToMoveTo(Lifecycle.State.STARTED)) {
         monitored.awaitStop();
@@ -121,6 +124,7 @@ public class ProcessEntryPoint implements Stoppable {
       stopperThread = new StopperThread(monitored, commands, Long.parseLong(props.nonNullValue(PROPERTY_TERMINATION_TIMEOUT)));
       stopperThread.start();
       stopWatcher.stopWatching();
+      metricsPublisher.stopPublishing();
     }
   }
 
@@ -0,0 +1,102 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process;
+
+import static org.apache.commons.io.FileUtils.byteCountToDisplaySize;
+
+/**
+ * Health metrics published by a child process in its {@link org.sonar.process.ProcessCommands} area
+ * and read by the monitor process
+ */
+public class ProcessMetrics {
+
+  /**
+   * Value of metrics that are not supported by the process, for example the size of computation queue
+   * of the search process
+   */
+  public static final long UNDEFINED = -1L;
+
+  private final long publishedAt;
+  private final long heapUsed;
+  private final long heapMax;
+  private final long gcTimeMs;
+  private final long gcCount;
+  private final long threads;
+  private final long computationQueueSize;
+
+  public ProcessMetrics(long publishedAt, long heapUsed, long heapMax, long gcTimeMs, long gcCount, long threads, long computationQueueSize) {
+    this.publishedAt = publishedAt;
+    this.heapUsed = heapUsed;
+    this.heapMax = heapMax;
+    this.gcTimeMs = gcTimeMs;
+    this.gcCount = gcCount;
+    this.threads = threads;
+    this.computationQueueSize = computationQueueSize;
+  }
+
+  /**
+   * Date of publication, in milliseconds since epoch
+   */
+  public long getPublishedAt() {
+    return publishedAt;
+  }
+
+  public long getHeapUsed() {
+    return heapUsed;
+  }
+
+  public long getHeapMax() {
+    return heapMax;
+  }
+
+  /**
+   * Total time of garbage collections since startup
+   */
+  public long getGcTimeMs() {
+    return gcTimeMs;
+  }
+
+  public long getGcCount() {
+    return gcCount;
+  }
+
+  public long getThreads() {
+    return threads;
+  }
+
+  /**
+   * Number of analysis reports waiting to be processed, or {@link #UNDEFINED}
+   */
+  public long getComputationQueueSize() {
+    return computationQueueSize;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("heap=").append(byteCountToDisplaySize(heapUsed)).append("/").append(byteCountToDisplaySize(heapMax));
+    sb.append(", gc=").append(gcTimeMs).append("ms (").append(gcCount).append(" collections)");
+    sb.append(", threads=").append(threads);
+    if (computationQueueSize != UNDEFINED) {
+      sb.append(", computation queue=").append(computationQueueSize);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.process;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MetricsPublisherTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @After
+  public void unregisterMBean() throws Exception {
+    ObjectName name = new ObjectName(MetricsPublisher.COMPUTATION_QUEUE_MBEAN);
+    if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    }
+  }
+
+  @Test
+  public void publish_metrics_of_jvm() throws Exception {
+    ProcessCommands commands = new ProcessCommands(temp.newFolder(), 1);
+    long now = System.currentTimeMillis();
+
+    new MetricsPublisher(commands).publish();
+
+    ProcessMetrics metrics = commands.readMetrics();
+    assertThat(metrics.getPublishedAt()).isGreaterThanOrEqualTo(now);
+    assertThat(metrics.getHeapUsed()).isGreaterThan(0L);
+    assertThat(metrics.getHeapMax()).isGreaterThanOrEqualTo(metrics.getHeapUsed());
+    assertThat(metrics.getThreads()).isGreaterThan(0L);
+    assertThat(metrics.getGcTimeMs()).isGreaterThanOrEqualTo(0L);
+    assertThat(metrics.getComputationQueueSize()).isEqualTo(ProcessMetrics.UNDEFINED);
+  }
+
+  @Test
+  public void publish_size_of_computation_queue_if_registered() throws Exception {
+    ManagementFactory.getPlatformMBeanServer().registerMBean(new FakeQueue(), new ObjectName(MetricsPublisher.COMPUTATION_QUEUE_MBEAN));
+
+    assertThat(MetricsPublisher.currentMetrics().getComputationQueueSize()).isEqualTo(7L);
+  }
+
+  @Test
+  public void stop_publishing() throws Exception {
+    ProcessCommands commands = new ProcessCommands(temp.newFolder(), 1);
+    MetricsPublisher publisher = new MetricsPublisher(commands, 10L);
+    publisher.start();
+    while (commands.readMetrics() == null) {
+      Thread.sleep(10L);
+    }
+    publisher.stopPublishing();
+    publisher.join();
+    assertThat(publisher.isAlive()).isFalse();
+  }
+
+  public interface FakeQueueMBean {
+    long getPendingReports();
+  }
+
+  public static class FakeQueue implements FakeQueueMBean {
+    @Override
+    public long getPendingReports() {
+      return 7L;
+    }
+  }
+}
@@ -79,6 +79,55 @@ public class ProcessCommandsTest {
     assertThat(commands.mappedByteBuffer.get(commands.offset() + 1)).isEqualTo(ProcessCommands.STOP);
   }
 
+  @Test
+  public void publish_metrics_to_monitor() throws Exception {
+    File dir = temp.newFolder();
+    // monitor maps the file before the child process
+    ProcessCommands monitorCommands = new ProcessCommands(dir, 2);
+    ProcessCommands childCommands = new ProcessCommands(dir, 2);
+    assertThat(monitorCommands.readMetrics()).isNull();
+
+    childCommands.publishMetrics(new ProcessMetrics(1000L, 200L, 500L, 30L, 4L, 40L, ProcessMetrics.UNDEFINED));
+    childCommands.publishMetrics(new ProcessMetrics(2000L, 300L, 500L, 35L, 5L, 42L, 3L));
+
+    ProcessMetrics metrics = monitorCommands.readMetrics();
+    assertThat(metrics.getPublishedAt()).isEqualTo(2000L);
+    assertThat(metrics.getHeapUsed()).isEqualTo(300L);
+    assertThat(metrics.getHeapMax()).isEqualTo(500L);
+    assertThat(metrics.getGcTimeMs()).isEqualTo(35L);
+    assertThat(metrics.getGcCount()).isEqualTo(5L);
+    assertThat(metrics.getThreads()).isEqualTo(42L);
+    assertThat(metrics.getComputationQueueSize()).isEqualTo(3L);
+
+    // metrics of other processes are not impacted
+    assertThat(new ProcessCommands(dir, 3).readMetrics()).isNull();
+    assertThat(monitorCommands.isReady()).isFalse();
+    assertThat(monitorCommands.askedForStop()).isFalse();
+  }
+
+  @Test
+  public void do_not_read_metrics_being_written() throws Exception {
+    File dir = temp.newFolder();
+    ProcessCommands commands = new ProcessCommands(dir, 1);
+    commands.publishMetrics(new ProcessMetrics(1000L, 200L, 500L, 30L, 4L, 40L, 3L));
+
+    // odd version
+    commands.mappedByteBuffer.putLong(commands.offset() + 10, 3L);
+    assertThat(commands.readMetrics()).isNull();
+  }
+
+  @Test
+  public void do_not_read_metrics_not_matching_checksum() throws Exception {
+    File dir = temp.newFolder();
+    ProcessCommands commands = new ProcessCommands(dir, 1);
+    commands.publishMetrics(new ProcessMetrics(1000L, 200L, 500L, 30L, 4L, 40L, 3L));
+    assertThat(commands.readMetrics()).isNotNull();
+
+    // heap used is updated but not yet visible with the new version
+    commands.mappedByteBuffer.putLong(commands.offset() + 18 + 8, 300L);
+    assertThat(commands.readMetrics()).isNull();
+  }
+
   @Test
   public void test_max_processes() throws Exception {
     File dir = temp.newFolder();
@@ -0,0 +1,127 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.benchmark;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.issue.internal.DefaultIssue;
+import org.sonar.api.issue.internal.FieldDiffs;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.api.rule.Severity;
+import org.sonar.api.utils.Duration;
+import org.sonar.api.utils.System2;
+import org.sonar.api.utils.internal.Uuids;
+import org.sonar.server.computation.issue.DefaultIssueCodec;
+import org.sonar.server.util.CloseableIterator;
+import org.sonar.server.util.cache.DiskCache;
+
+import java.io.File;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the formats of {@link org.sonar.server.util.cache.DiskCache} when storing the issues
+ * of an analysis report: Java serialization versus {@link org.sonar.server.computation.issue.DefaultIssueCodec},
+ * with and without compression.
+ */
+public class IssueCacheBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger("benchmarkIssueCache");
+
+  private static final int ISSUES = 100000;
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Rule
+  public Benchmark benchmark = new Benchmark();
+
+  @Test
+  public void benchmark() throws Exception {
+    File javaSerializationFile = temp.newFile();
+    long javaSerializationDuration = writeAndRead("Java serialization", new DiskCache<DefaultIssue>(javaSerializationFile, System2.INSTANCE), javaSerializationFile);
+
+    File codecFile = temp.newFile();
+    long codecDuration = writeAndRead("Codec", new DiskCache<>(codecFile, System2.INSTANCE, new DefaultIssueCodec(), false), codecFile);
+
+    File compressedCodecFile = temp.newFile();
+    writeAndRead("Compressed codec", new DiskCache<>(compressedCodecFile, System2.INSTANCE, new DefaultIssueCodec(), true), compressedCodecFile);
+
+    benchmark.expectLessThanOrEqualTo("Codec must be faster than Java serialization", codecDuration, javaSerializationDuration);
+    benchmark.expectLessThanOrEqualTo("Codec file must be smaller than Java serialization", codecFile.length(), javaSerializationFile.length());
+    benchmark.expectLessThanOrEqualTo("Compressed file must be smaller than uncompressed", compressedCodecFile.length(), codecFile.length());
+  }
+
+  private long writeAndRead(String label, DiskCache<DefaultIssue> cache, File file) {
+    long start = System.currentTimeMillis();
+    DiskCache<DefaultIssue>.DiskAppender appender = cache.newAppender();
+    for (int i = 0; i < ISSUES; i++) {
+      appender.append(newIssue(i));
+    }
+    appender.close();
+    long writeEnd = System.currentTimeMillis();
+
+    int count = 0;
+    try (CloseableIterator<DefaultIssue> issues = cache.traverse()) {
+      while (issues.hasNext()) {
+        issues.next();
+        count++;
+      }
+    }
+    long readEnd = System.currentTimeMillis();
+    assertThat(count).isEqualTo(ISSUES);
+
+    LOGGER.info(String.format("%s - %d issues written in %d ms, read in %d ms, file size is %d bytes",
+      label, ISSUES, writeEnd - start, readEnd - writeEnd, file.length()));
+    return readEnd - start;
+  }
+
+  private DefaultIssue newIssue(int index) {
+    Date now = new Date();
+    DefaultIssue issue = new DefaultIssue()
+      .setKey(Uuids.create())
+      .setComponentUuid(Uuids.create())
+      .setComponentKey("org.struts:struts-core:src/main/java/org/struts/File" + index + ".java")
+      .setProjectUuid("PROJECT_UUID")
+      .setProjectKey("org.struts:struts")
+      .setModuleUuid("MODULE_UUID")
+      .setModuleUuidPath(".PROJECT_UUID.MODULE_UUID.")
+      .setRuleKey(RuleKey.of("squid", "Rule" + (index % 100)))
+      .setLanguage("java")
+      .setSeverity(Severity.MAJOR)
+      .setMessage("Remove this unused method parameter " + index)
+      .setLine(1 + index % 1000)
+      .setDebt(Duration.create(10L))
+      .setStatus("OPEN")
+      .setChecksum("c7b5db46591806455cf082bb348631e8")
+      .setAuthorLogin("john")
+      .setCreationDate(now)
+      .setUpdateDate(now);
+    if (index % 10 == 0) {
+      issue.setChanged(true);
+      issue.addChange(new FieldDiffs().setCreationDate(now).setDiff("severity", Severity.MINOR, Severity.MAJOR));
+    }
+    return issue;
+  }
+}
@@ -38,6 +38,7 @@ import org.sonar.server.user.UserSession;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +48,7 @@ import static com.google.common.collect.Maps.newHashMap;
 public class IssuesAction implements RequestHandler {
 
   private static final String PARAM_KEY = "key";
+  static final String PARAM_CHANGED_SINCE = "changedSince";
 
   private final DbClient dbClient;
 
@@ -69,12 +71,19 @@ public class IssuesAction implements RequestHandler {
       .setRequired(true)
       .setDescription("Project, module or file key")
       .setExampleValue("org.codehaus.sonar:sonar");
+
+    action
+      .createParam(PARAM_CHANGED_SINCE)
+      .setDescription("Only return the issues changed since this date, in milliseconds since epoch. " +
+        "Closed issues are then returned too, so that clients can remove them from their local copy")
+      .setExampleValue("1424883005000");
   }
 
   @Override
   public void handle(Request request, Response response) throws Exception {
     UserSession.get().checkGlobalPermission(GlobalPermissions.PREVIEW_EXECUTION);
     final String moduleKey = request.mandatoryParam(PARAM_KEY);
+    Long changedSince = request.paramAsLong(PARAM_CHANGED_SINCE);
 
     response.stream().setMediaType(MimeTypes.PROTOBUF);
     DbSession session = dbClient.openSession(false);
@@ -83,7 +92,8 @@ public class IssuesAction implements RequestHandler {
       Map<String, String> keysByUUid = keysByUUid(session, component);
 
       BatchInput.ServerIssue.Builder issueBuilder = BatchInput.ServerIssue.newBuilder();
-      for (Iterator<IssueDoc> issueDocIterator = issueIndex.selectIssuesForBatch(component); issueDocIterator.hasNext();) {
+      for (Iterator<IssueDoc> issueDocIterator = issueIndex.selectIssuesForBatch(component,
+        changedSince == null ? null : new Date(changedSince)); issueDocIterator.hasNext();) {
         handleIssue(issueDocIterator.next(), issueBuilder, keysByUUid, response.stream().output());
       }
     } finally {
@@ -124,6 +134,10 @@ public class IssuesAction implements RequestHandler {
       issueBuilder.setResolution(resolution);
     }
     issueBuilder.setCreationDate(issue.creationDate().getTime());
+    Date updateDate = issue.technicalUpdateDate();
+    if (updateDate != null) {
+      issueBuilder.setUpdateDate(updateDate.getTime());
+    }
     try {
       issueBuilder.build().writeDelimitedTo(out);
     } catch (IOException e) {
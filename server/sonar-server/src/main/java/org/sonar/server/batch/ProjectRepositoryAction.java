@@ -20,6 +20,8 @@
 
 package org.sonar.server.batch;
 
+import com.google.common.base.Charsets;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
 import org.sonar.api.server.ws.Request;
 import org.sonar.api.server.ws.RequestHandler;
@@ -27,12 +29,19 @@ import org.sonar.api.server.ws.Response;
 import org.sonar.api.server.ws.WebService;
 import org.sonar.batch.protocol.input.ProjectRepositories;
 import org.sonar.server.plugins.MimeTypes;
+import org.sonar.server.ws.HeaderAwareStream;
+
+import java.net.HttpURLConnection;
 
 public class ProjectRepositoryAction implements RequestHandler {
 
   private static final String PARAM_KEY = "key";
   private static final String PARAM_PROFILE = "profile";
   private static final String PARAM_PREVIEW = "preview";
+  private static final String PARAM_FORMAT = "format";
+
+  static final String FORMAT_JSON = "json";
+  static final String FORMAT_PROTOBUF = "protobuf";
 
   private final ProjectRepositoryLoader projectReferentialsLoader;
 
@@ -63,6 +72,13 @@ public class ProjectRepositoryAction implements RequestHandler {
       .setDescription("Preview mode or not")
       .setDefaultValue(false)
       .setBooleanPossibleValues();
+
+    action
+      .createParam(PARAM_FORMAT)
+      .setDescription("Format of response. The response includes the header ETag, so that it can be requested again with the header " +
+        "If-None-Match. The status 304 Not Modified is then returned if the repositories did not change.")
+      .setDefaultValue(FORMAT_JSON)
+      .setPossibleValues(FORMAT_JSON, FORMAT_PROTOBUF);
   }
 
   @Override
@@ -71,8 +87,32 @@ public class ProjectRepositoryAction implements RequestHandler {
       .setModuleKey(request.mandatoryParam(PARAM_KEY))
       .setProfileName(request.param(PARAM_PROFILE))
       .setPreview(request.mandatoryParamAsBoolean(PARAM_PREVIEW)));
-    response.stream().setMediaType(MimeTypes.JSON);
-    IOUtils.write(ref.toJson(), response.stream().output());
+
+    byte[] bytes;
+    if (FORMAT_PROTOBUF.equals(request.mandatoryParam(PARAM_FORMAT))) {
+      response.stream().setMediaType(MimeTypes.PROTOBUF);
+      bytes = ref.toProtobuf();
+    } else {
+      response.stream().setMediaType(MimeTypes.JSON);
+      bytes = ref.toJson().getBytes(Charsets.UTF_8);
+    }
+
+    String etag = etag(bytes);
+    if (response.stream() instanceof HeaderAwareStream) {
+      ((HeaderAwareStream) response.stream()).setHeader("ETag", etag);
+    }
+    if (etag.equals(request.header("If-None-Match"))) {
+      response.stream().setStatus(HttpURLConnection.HTTP_NOT_MODIFIED).output().close();
+    } else {
+      IOUtils.write(bytes, response.stream().output());
+    }
+  }
+
+  /**
+   * Quoted hash of the response. The scanner computes the same value from its local copy.
+   */
+  static String etag(byte[] response) {
+    return "\"" + DigestUtils.sha1Hex(response) + "\"";
   }
 
 }
@@ -36,6 +36,7 @@ import org.sonar.batch.protocol.input.ProjectRepositories;
 import org.sonar.core.UtcDateUtils;
 import org.sonar.core.component.ComponentDto;
 import org.sonar.core.component.FilePathWithHashDto;
+import org.sonar.core.component.SnapshotDto;
 import org.sonar.core.permission.GlobalPermissions;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
@@ -112,9 +113,10 @@ public class ProjectRepositoryLoader implements ServerComponent {
         addSettingsToChildrenModules(ref, query.getModuleKey(), Maps.<String, String>newHashMap(), treeModuleSettings, hasScanPerm, session);
         addFileData(session, ref, modulesTree, module.uuid());
 
-        // FIXME need real value but actually only used to know if there is a previous analysis in local issue tracking mode so any value is
-        // ok
-        ref.setLastAnalysisDate(new Date());
+        // Date of the last snapshot, rather than the current date, so that the response is stable between two analyses. Null if the
+        // module has been provisioned but never analyzed
+        SnapshotDto lastSnapshot = dbClient.resourceDao().getLastSnapshotByResourceUuid(module.uuid(), session);
+        ref.setLastAnalysisDate(lastSnapshot != null && lastSnapshot.getCreatedAt() != null ? new Date(lastSnapshot.getCreatedAt()) : null);
       } else {
         ref.setLastAnalysisDate(null);
       }
@@ -20,11 +20,13 @@
 
 package org.sonar.server.computation;
 
+import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import org.sonar.core.activity.ActivityLog;
 import org.sonar.core.component.ComponentDto;
 import org.sonar.core.computation.db.AnalysisReportDto;
 
+import java.util.Collections;
 import java.util.Map;
 
 import static org.sonar.api.utils.DateUtils.formatDateTimeNullSafe;
@@ -36,10 +38,19 @@ public class AnalysisReportLog implements ActivityLog {
 
   private final AnalysisReportDto report;
   private final ComponentDto project;
+  private final Map<String, Long> stepDurations;
 
   public AnalysisReportLog(AnalysisReportDto report, ComponentDto project) {
+    this(report, project, Collections.<String, Long>emptyMap());
+  }
+
+  /**
+   * @param stepDurations durations in milliseconds of the executed computation steps, by step description
+   */
+  public AnalysisReportLog(AnalysisReportDto report, ComponentDto project, Map<String, Long> stepDurations) {
     this.report = report;
     this.project = project;
+    this.stepDurations = stepDurations;
   }
 
   @Override
@@ -53,6 +64,7 @@ public class AnalysisReportLog implements ActivityLog {
       .put("submittedAt", formatDateTimeNullSafe(longToDate(report.getCreatedAt())))
       .put("startedAt", formatDateTimeNullSafe(longToDate(report.getStartedAt())))
       .put("finishedAt", formatDateTimeNullSafe(longToDate(report.getFinishedAt())))
+      .put("stepDurations", Joiner.on(", ").withKeyValueSeparator("=").join(stepDurations))
       .build();
   }
 
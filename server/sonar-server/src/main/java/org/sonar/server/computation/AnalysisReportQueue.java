@@ -96,8 +96,13 @@ public class AnalysisReportQueue implements ServerComponent {
     }
   }
 
+  /**
+   * Books the oldest available report. A report is available if no other report of the same
+   * project is being processed. This method is synchronized so that concurrent computation workers
+   * can not book two reports of the same project.
+   */
   @CheckForNull
-  public AnalysisReportDto pop() {
+  public synchronized AnalysisReportDto pop() {
     DbSession session = dbClient.openSession(false);
     try {
       return dbClient.analysisReportDao().pop(session);
@@ -127,4 +132,16 @@ public class AnalysisReportQueue implements ServerComponent {
     }
   }
 
+  /**
+   * Number of reports of the queue with the given status
+   */
+  public long count(AnalysisReportDto.Status status) {
+    DbSession session = dbClient.openSession(false);
+    try {
+      return dbClient.analysisReportDao().countByStatus(session, status);
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
+  }
+
 }
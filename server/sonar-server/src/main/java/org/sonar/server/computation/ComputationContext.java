@@ -21,11 +21,19 @@
 package org.sonar.server.computation;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import org.sonar.batch.protocol.output.BatchReport;
 import org.sonar.core.component.ComponentDto;
 import org.sonar.core.computation.db.AnalysisReportDto;
 import org.sonar.server.computation.step.ParseReportStep;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 public class ComputationContext {
 
   private final AnalysisReportDto reportDto;
@@ -36,6 +44,18 @@ public class ComputationContext {
    */
   private BatchReport.Metadata reportMetadata = null;
 
+  /**
+   * Durations in milliseconds of the executed steps, by step description. Steps
+   * can be executed concurrently, so access is synchronized.
+   */
+  private final Map<String, Long> stepDurations = new LinkedHashMap<>();
+
+  /**
+   * Keys of the issues that have been changed by end-users during the analysis. Their versions in db,
+   * merged by {@link org.sonar.server.computation.step.PersistIssuesStep}, are more recent than the ones of the issue cache.
+   */
+  private final Set<String> conflictingIssueKeys = new HashSet<>();
+
   public ComputationContext(AnalysisReportDto reportDto, ComponentDto project) {
     this.reportDto = reportDto;
     this.project = project;
@@ -57,4 +77,28 @@ public class ComputationContext {
   public void setReportMetadata(BatchReport.Metadata m) {
     this.reportMetadata = m;
   }
+
+  public void addStepDuration(String stepDescription, long durationMs) {
+    synchronized (stepDurations) {
+      stepDurations.put(stepDescription, durationMs);
+    }
+  }
+
+  public Map<String, Long> getStepDurations() {
+    synchronized (stepDurations) {
+      return ImmutableMap.copyOf(stepDurations);
+    }
+  }
+
+  public void addConflictingIssueKeys(Collection<String> issueKeys) {
+    synchronized (conflictingIssueKeys) {
+      conflictingIssueKeys.addAll(issueKeys);
+    }
+  }
+
+  public Set<String> getConflictingIssueKeys() {
+    synchronized (conflictingIssueKeys) {
+      return ImmutableSet.copyOf(conflictingIssueKeys);
+    }
+  }
 }
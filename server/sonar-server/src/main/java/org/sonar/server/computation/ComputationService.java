@@ -21,6 +21,8 @@
 package org.sonar.server.computation;
 
 import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang.ArrayUtils;
 import org.sonar.api.ServerComponent;
 import org.sonar.api.utils.System2;
@@ -37,18 +39,32 @@ import org.sonar.server.computation.step.ComputationStep;
 import org.sonar.server.computation.step.ComputationSteps;
 import org.sonar.server.db.DbClient;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class ComputationService implements ServerComponent {
 
   private static final Logger LOG = Loggers.get(ComputationService.class);
 
+  /**
+   * Maximum number of steps of a same stage that are executed concurrently
+   */
+  static final int MAX_CONCURRENT_STEPS = 4;
+
   private final DbClient dbClient;
   private final ComputationSteps steps;
   private final ActivityService activityService;
+  private final System2 system;
 
-  public ComputationService(DbClient dbClient, ComputationSteps steps, ActivityService activityService) {
+  public ComputationService(DbClient dbClient, ComputationSteps steps, ActivityService activityService, System2 system) {
     this.dbClient = dbClient;
     this.steps = steps;
     this.activityService = activityService;
+    this.system = system;
   }
 
   public void process(AnalysisReportDto report) {
@@ -56,14 +72,12 @@ public class ComputationService implements ServerComponent {
       "#%s - %s - processing analysis report", report.getId(), report.getProjectKey()));
 
     ComponentDto project = loadProject(report);
+    ComputationContext context = new ComputationContext(report, project);
+    ExecutorService executor = Executors.newFixedThreadPool(MAX_CONCURRENT_STEPS,
+      new ThreadFactoryBuilder().setNameFormat(Thread.currentThread().getName() + "-step-%d").build());
     try {
-      ComputationContext context = new ComputationContext(report, project);
-      for (ComputationStep step : steps.orderedSteps()) {
-        if (ArrayUtils.contains(step.supportedProjectQualifiers(), context.getProject().qualifier())) {
-          Profiler stepProfiler = Profiler.create(LOG).startInfo(step.getDescription());
-          step.execute(context);
-          stepProfiler.stopInfo();
-        }
+      for (List<ComputationStep> stage : steps.stages()) {
+        executeStage(context, stage, executor);
       }
       report.succeed();
 
@@ -72,11 +86,69 @@ public class ComputationService implements ServerComponent {
       throw Throwables.propagate(e);
 
     } finally {
-      logActivity(report, project);
+      executor.shutdownNow();
+      logActivity(report, project, context);
       profiler.stopInfo();
     }
   }
 
+  private void executeStage(ComputationContext context, List<ComputationStep> stage, ExecutorService executor) {
+    List<ComputationStep> supportedSteps = Lists.newArrayList();
+    for (ComputationStep step : stage) {
+      if (ArrayUtils.contains(step.supportedProjectQualifiers(), context.getProject().qualifier())) {
+        supportedSteps.add(step);
+      }
+    }
+    if (supportedSteps.size() == 1) {
+      // no need to switch thread
+      executeStep(context, supportedSteps.get(0));
+
+    } else if (!supportedSteps.isEmpty()) {
+      List<Future<Void>> futures = Lists.newArrayList();
+      for (ComputationStep step : supportedSteps) {
+        futures.add(executor.submit(new StepExecution(context, step)));
+      }
+      // wait for all the steps of the stage, even if one of them fails
+      Throwable failure = null;
+      for (Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          failure = failure == null ? e.getCause() : failure;
+        } catch (InterruptedException e) {
+          failure = failure == null ? e : failure;
+        }
+      }
+      if (failure != null) {
+        throw Throwables.propagate(failure);
+      }
+    }
+  }
+
+  private void executeStep(ComputationContext context, ComputationStep step) {
+    Profiler stepProfiler = Profiler.create(LOG).startInfo(step.getDescription());
+    long startTime = system.now();
+    step.execute(context);
+    context.addStepDuration(step.getDescription(), system.now() - startTime);
+    stepProfiler.stopInfo();
+  }
+
+  private class StepExecution implements Callable<Void> {
+    private final ComputationContext context;
+    private final ComputationStep step;
+
+    StepExecution(ComputationContext context, ComputationStep step) {
+      this.context = context;
+      this.step = step;
+    }
+
+    @Override
+    public Void call() {
+      executeStep(context, step);
+      return null;
+    }
+  }
+
   private ComponentDto loadProject(AnalysisReportDto report) {
     DbSession session = dbClient.openSession(false);
     try {
@@ -86,11 +158,11 @@ public class ComputationService implements ServerComponent {
     }
   }
 
-  private void logActivity(AnalysisReportDto report, ComponentDto project) {
+  private void logActivity(AnalysisReportDto report, ComponentDto project, ComputationContext context) {
     DbSession session = dbClient.openSession(false);
     try {
-      report.setFinishedAt(System2.INSTANCE.now());
-      activityService.write(session, Activity.Type.ANALYSIS_REPORT, new AnalysisReportLog(report, project));
+      report.setFinishedAt(system.now());
+      activityService.write(session, Activity.Type.ANALYSIS_REPORT, new AnalysisReportLog(report, project, context.getStepDurations()));
       session.commit();
     } finally {
       MyBatis.closeQuietly(session);
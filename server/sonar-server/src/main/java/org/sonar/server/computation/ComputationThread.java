@@ -77,10 +77,8 @@ public class ComputationThread implements Runnable {
     try {
       child.getComponentByType(ComputationService.class).process(report);
     } finally {
+      // also removes this child, and only this one, from the platform container
       child.stopComponents();
-      // TODO not possible to have multiple children -> will be
-      // a problem when we will have multiple concurrent computation workers
-      container.removeChild();
     }
   }
 }
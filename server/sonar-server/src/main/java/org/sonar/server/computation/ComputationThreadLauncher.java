@@ -23,7 +23,11 @@ package org.sonar.server.computation;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.picocontainer.Startable;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
 import org.sonar.api.ServerComponent;
+import org.sonar.api.config.Settings;
 import org.sonar.api.platform.Server;
 import org.sonar.api.platform.ServerStartHandler;
 
@@ -32,30 +36,43 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+@Properties({
+  @Property(
+    key = ComputationThreadLauncher.WORKERS_PROPERTY,
+    defaultValue = "" + ComputationThreadLauncher.DEFAULT_WORKERS,
+    name = "Number of concurrent workers processing analysis reports",
+    type = PropertyType.INTEGER,
+    project = false,
+    global = false)
+})
 public class ComputationThreadLauncher implements Startable, ServerComponent, ServerStartHandler {
 
   public static final String THREAD_NAME_PREFIX = "computation-";
+  public static final String WORKERS_PROPERTY = "sonar.computation.workers";
+  public static final int DEFAULT_WORKERS = 1;
 
   private final AnalysisReportQueue queue;
   private final ScheduledExecutorService executorService;
+  private final int workers;
 
   private final long delayBetweenTasks;
   private final long delayForFirstStart;
   private final TimeUnit timeUnit;
 
-  public ComputationThreadLauncher(AnalysisReportQueue queue) {
-    this.queue = queue;
-    this.executorService = Executors.newSingleThreadScheduledExecutor(newThreadFactory());
-
-    this.delayBetweenTasks = 10;
-    this.delayForFirstStart = 0;
-    this.timeUnit = TimeUnit.SECONDS;
+  public ComputationThreadLauncher(AnalysisReportQueue queue, Settings settings) {
+    this(queue, numberOfWorkers(settings), 0, 10, TimeUnit.SECONDS);
   }
 
   @VisibleForTesting
   ComputationThreadLauncher(AnalysisReportQueue queue, long delayForFirstStart, long delayBetweenTasks, TimeUnit timeUnit) {
+    this(queue, DEFAULT_WORKERS, delayForFirstStart, delayBetweenTasks, timeUnit);
+  }
+
+  @VisibleForTesting
+  ComputationThreadLauncher(AnalysisReportQueue queue, int workers, long delayForFirstStart, long delayBetweenTasks, TimeUnit timeUnit) {
     this.queue = queue;
-    this.executorService = Executors.newSingleThreadScheduledExecutor(newThreadFactory());
+    this.workers = workers;
+    this.executorService = Executors.newScheduledThreadPool(workers, newThreadFactory());
 
     this.delayBetweenTasks = delayBetweenTasks;
     this.delayForFirstStart = delayForFirstStart;
@@ -78,7 +95,23 @@ public class ComputationThreadLauncher implements Startable, ServerComponent, Se
 
   @Override
   public void onServerStart(Server server) {
-    executorService.scheduleAtFixedRate(new ComputationThread(queue), delayForFirstStart, delayBetweenTasks, timeUnit);
+    // each worker processes its own report in an isolated container. Reports
+    // of a same project are never processed concurrently, see AnalysisReportQueue#pop()
+    for (int i = 0; i < workers; i++) {
+      executorService.scheduleAtFixedRate(new ComputationThread(queue), delayForFirstStart, delayBetweenTasks, timeUnit);
+    }
+  }
+
+  @VisibleForTesting
+  static int numberOfWorkers(Settings settings) {
+    int workers = settings.getInt(WORKERS_PROPERTY);
+    if (workers < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", WORKERS_PROPERTY, workers));
+    }
+    if (workers == 0) {
+      workers = DEFAULT_WORKERS;
+    }
+    return workers;
   }
 
   private ThreadFactory newThreadFactory() {
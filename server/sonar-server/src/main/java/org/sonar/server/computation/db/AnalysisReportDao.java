@@ -108,6 +108,10 @@ public class AnalysisReportDao implements DaoComponent {
     return mapper(session).selectAll();
   }
 
+  public long countByStatus(DbSession session, AnalysisReportDto.Status status) {
+    return mapper(session).countByStatus(status);
+  }
+
   public AnalysisReportDto insert(DbSession session, AnalysisReportDto report) {
     report.setCreatedAt(system2.now());
     report.setUpdatedAt(system2.now());
@@ -0,0 +1,412 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation.issue;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.sonar.api.issue.IssueComment;
+import org.sonar.api.issue.internal.DefaultIssue;
+import org.sonar.api.issue.internal.DefaultIssueComment;
+import org.sonar.api.issue.internal.FieldDiffs;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.api.utils.Duration;
+import org.sonar.server.util.cache.DiskCacheCodec;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written binary encoding of {@link org.sonar.api.issue.internal.DefaultIssue}, much more
+ * compact and faster than Java serialization. Fields must be read in the same order than they are written.
+ */
+public class DefaultIssueCodec implements DiskCacheCodec<DefaultIssue> {
+
+  private static final int NULL = -1;
+
+  // types of the values of field diffs
+  private static final byte NULL_VALUE = 0;
+  private static final byte STRING_VALUE = 1;
+  private static final byte LONG_VALUE = 2;
+  private static final byte INTEGER_VALUE = 3;
+  private static final byte DOUBLE_VALUE = 4;
+  private static final byte SERIALIZED_VALUE = 5;
+
+  // index of current change when it's not referenced by the list of changes
+  private static final int NOT_IN_CHANGES = -2;
+
+  @Override
+  public void encode(DefaultIssue issue, DataOutput output) throws IOException {
+    writeString(issue.key(), output);
+    writeString(issue.componentUuid(), output);
+    writeString(issue.componentKey(), output);
+    writeString(issue.moduleUuid(), output);
+    writeString(issue.moduleUuidPath(), output);
+    writeString(issue.projectUuid(), output);
+    writeString(issue.projectKey(), output);
+    RuleKey ruleKey = issue.ruleKey();
+    writeString(ruleKey == null ? null : ruleKey.repository(), output);
+    writeString(ruleKey == null ? null : ruleKey.rule(), output);
+    writeString(issue.language(), output);
+    writeString(issue.severity(), output);
+    output.writeBoolean(issue.manualSeverity());
+    writeString(issue.message(), output);
+    Integer line = issue.line();
+    output.writeInt(line == null ? NULL : line);
+    Double effortToFix = issue.effortToFix();
+    output.writeBoolean(effortToFix != null);
+    if (effortToFix != null) {
+      output.writeDouble(effortToFix);
+    }
+    writeLong(issue.debtInMinutes(), output);
+    writeString(issue.status(), output);
+    writeString(issue.resolution(), output);
+    writeString(issue.reporter(), output);
+    writeString(issue.assignee(), output);
+    writeString(issue.checksum(), output);
+    writeAttributes(issue.attributes(), output);
+    writeString(issue.authorLogin(), output);
+    writeString(issue.actionPlanKey(), output);
+    writeComments(issue.comments(), output);
+    writeTags(issue.tags(), output);
+    writeDate(issue.creationDate(), output);
+    writeDate(issue.updateDate(), output);
+    writeDate(issue.closeDate(), output);
+    writeChanges(issue.changes(), issue.currentChange(), output);
+    output.writeBoolean(issue.isNew());
+    output.writeBoolean(issue.isEndOfLife());
+    output.writeBoolean(issue.isOnDisabledRule());
+    output.writeBoolean(issue.isChanged());
+    output.writeBoolean(issue.mustSendNotifications());
+    writeLong(issue.selectedAt(), output);
+  }
+
+  @Override
+  public DefaultIssue decode(DataInput input) throws IOException {
+    DefaultIssue issue = new DefaultIssue();
+    issue.setKey(readString(input));
+    issue.setComponentUuid(readString(input));
+    issue.setComponentKey(readString(input));
+    issue.setModuleUuid(readString(input));
+    issue.setModuleUuidPath(readString(input));
+    issue.setProjectUuid(readString(input));
+    issue.setProjectKey(readString(input));
+    String ruleRepository = readString(input);
+    String rule = readString(input);
+    if (ruleRepository != null && rule != null) {
+      issue.setRuleKey(RuleKey.of(ruleRepository, rule));
+    }
+    issue.setLanguage(readString(input));
+    issue.setSeverity(readString(input));
+    issue.setManualSeverity(input.readBoolean());
+    issue.setMessage(readString(input));
+    int line = input.readInt();
+    issue.setLine(line == NULL ? null : line);
+    if (input.readBoolean()) {
+      issue.setEffortToFix(input.readDouble());
+    }
+    Long debt = readLong(input);
+    issue.setDebt(debt == null ? null : Duration.create(debt));
+    String status = readString(input);
+    if (status != null) {
+      issue.setStatus(status);
+    }
+    issue.setResolution(readString(input));
+    issue.setReporter(readString(input));
+    issue.setAssignee(readString(input));
+    issue.setChecksum(readString(input));
+    issue.setAttributes(readAttributes(input));
+    issue.setAuthorLogin(readString(input));
+    issue.setActionPlanKey(readString(input));
+    readComments(issue, input);
+    Collection<String> tags = readTags(input);
+    if (tags != null) {
+      issue.setTags(tags);
+    }
+    issue.setCreationDate(readDate(input));
+    issue.setUpdateDate(readDate(input));
+    issue.setCloseDate(readDate(input));
+    readChanges(issue, input);
+    issue.setNew(input.readBoolean());
+    issue.setEndOfLife(input.readBoolean());
+    issue.setOnDisabledRule(input.readBoolean());
+    issue.setChanged(input.readBoolean());
+    issue.setSendNotifications(input.readBoolean());
+    issue.setSelectedAt(readLong(input));
+    return issue;
+  }
+
+  private static void writeAttributes(Map<String, String> attributes, DataOutput output) throws IOException {
+    output.writeInt(attributes.size());
+    for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+      writeString(attribute.getKey(), output);
+      writeString(attribute.getValue(), output);
+    }
+  }
+
+  @CheckForNull
+  private static Map<String, String> readAttributes(DataInput input) throws IOException {
+    int size = input.readInt();
+    if (size == 0) {
+      return null;
+    }
+    Map<String, String> attributes = Maps.newHashMap();
+    for (int i = 0; i < size; i++) {
+      attributes.put(readString(input), readString(input));
+    }
+    return attributes;
+  }
+
+  private static void writeComments(List<IssueComment> comments, DataOutput output) throws IOException {
+    output.writeInt(comments.size());
+    for (IssueComment comment : comments) {
+      DefaultIssueComment defaultComment = (DefaultIssueComment) comment;
+      writeString(defaultComment.key(), output);
+      writeString(defaultComment.issueKey(), output);
+      writeString(defaultComment.userLogin(), output);
+      writeString(defaultComment.markdownText(), output);
+      writeDate(defaultComment.createdAt(), output);
+      writeDate(defaultComment.updatedAt(), output);
+      output.writeBoolean(defaultComment.isNew());
+    }
+  }
+
+  private static void readComments(DefaultIssue issue, DataInput input) throws IOException {
+    int size = input.readInt();
+    for (int i = 0; i < size; i++) {
+      DefaultIssueComment comment = new DefaultIssueComment();
+      comment.setKey(readString(input));
+      comment.setIssueKey(readString(input));
+      comment.setUserLogin(readString(input));
+      comment.setMarkdownText(readString(input));
+      comment.setCreatedAt(readDate(input));
+      comment.setUpdatedAt(readDate(input));
+      comment.setNew(input.readBoolean());
+      issue.addComment(comment);
+    }
+  }
+
+  private static void writeTags(Collection<String> tags, DataOutput output) throws IOException {
+    output.writeInt(tags.size());
+    for (String tag : tags) {
+      writeString(tag, output);
+    }
+  }
+
+  @CheckForNull
+  private static Collection<String> readTags(DataInput input) throws IOException {
+    int size = input.readInt();
+    if (size == 0) {
+      return null;
+    }
+    List<String> tags = Lists.newArrayListWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      tags.add(readString(input));
+    }
+    return tags;
+  }
+
+  /**
+   * The current change is usually referenced several times by the list of changes. These
+   * references are kept when decoding.
+   */
+  private static void writeChanges(List<FieldDiffs> changes, @Nullable FieldDiffs currentChange, DataOutput output) throws IOException {
+    output.writeInt(changes.size());
+    int currentChangeIndex = currentChange == null ? NULL : NOT_IN_CHANGES;
+    for (int i = 0; i < changes.size(); i++) {
+      FieldDiffs change = changes.get(i);
+      if (change == currentChange) {
+        if (currentChangeIndex < 0) {
+          currentChangeIndex = i;
+          output.writeInt(NULL);
+          writeFieldDiffs(change, output);
+        } else {
+          output.writeInt(currentChangeIndex);
+        }
+      } else {
+        output.writeInt(NULL);
+        writeFieldDiffs(change, output);
+      }
+    }
+    output.writeInt(currentChangeIndex);
+    if (currentChangeIndex == NOT_IN_CHANGES) {
+      writeFieldDiffs(currentChange, output);
+    }
+  }
+
+  private static void readChanges(DefaultIssue issue, DataInput input) throws IOException {
+    int size = input.readInt();
+    List<FieldDiffs> changes = null;
+    if (size > 0) {
+      changes = Lists.newArrayListWithCapacity(size);
+      for (int i = 0; i < size; i++) {
+        int reference = input.readInt();
+        changes.add(reference == NULL ? readFieldDiffs(input) : changes.get(reference));
+      }
+    }
+    int currentChangeIndex = input.readInt();
+    if (currentChangeIndex != NULL) {
+      FieldDiffs currentChange = currentChangeIndex == NOT_IN_CHANGES ? readFieldDiffs(input) : changes.get(currentChangeIndex);
+      // setCurrentChange() adds the change to the list of changes, which is then replaced by the decoded list
+      issue.setCurrentChange(currentChange);
+    }
+    issue.setChanges(changes);
+  }
+
+  private static void writeFieldDiffs(FieldDiffs diffs, DataOutput output) throws IOException {
+    writeString(diffs.issueKey(), output);
+    writeString(diffs.userLogin(), output);
+    writeDate(diffs.creationDate(), output);
+    output.writeInt(diffs.diffs().size());
+    for (Map.Entry<String, FieldDiffs.Diff> entry : diffs.diffs().entrySet()) {
+      writeString(entry.getKey(), output);
+      writeValue(entry.getValue().oldValue(), output);
+      writeValue(entry.getValue().newValue(), output);
+    }
+  }
+
+  private static FieldDiffs readFieldDiffs(DataInput input) throws IOException {
+    FieldDiffs diffs = new FieldDiffs();
+    diffs.setIssueKey(readString(input));
+    diffs.setUserLogin(readString(input));
+    diffs.setCreationDate(readDate(input));
+    int size = input.readInt();
+    for (int i = 0; i < size; i++) {
+      diffs.setDiff(readString(input), readValue(input), readValue(input));
+    }
+    return diffs;
+  }
+
+  private static void writeValue(@Nullable Serializable value, DataOutput output) throws IOException {
+    if (value == null) {
+      output.writeByte(NULL_VALUE);
+    } else if (value instanceof String) {
+      output.writeByte(STRING_VALUE);
+      writeString((String) value, output);
+    } else if (value instanceof Long) {
+      output.writeByte(LONG_VALUE);
+      output.writeLong((Long) value);
+    } else if (value instanceof Integer) {
+      output.writeByte(INTEGER_VALUE);
+      output.writeInt((Integer) value);
+    } else if (value instanceof Double) {
+      output.writeByte(DOUBLE_VALUE);
+      output.writeDouble((Double) value);
+    } else {
+      // other types are not expected, but are still supported
+      output.writeByte(SERIALIZED_VALUE);
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      ObjectOutputStream objectOutput = new ObjectOutputStream(bytes);
+      objectOutput.writeObject(value);
+      objectOutput.close();
+      output.writeInt(bytes.size());
+      output.write(bytes.toByteArray());
+    }
+  }
+
+  @CheckForNull
+  private static Serializable readValue(DataInput input) throws IOException {
+    byte type = input.readByte();
+    switch (type) {
+      case NULL_VALUE:
+        return null;
+      case STRING_VALUE:
+        return readString(input);
+      case LONG_VALUE:
+        return input.readLong();
+      case INTEGER_VALUE:
+        return input.readInt();
+      case DOUBLE_VALUE:
+        return input.readDouble();
+      case SERIALIZED_VALUE:
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        try {
+          return (Serializable) objectInput.readObject();
+        } catch (ClassNotFoundException e) {
+          throw new IllegalStateException("Fail to deserialize value of field diff", e);
+        } finally {
+          objectInput.close();
+        }
+      default:
+        throw new IllegalStateException("Unsupported type of value: " + type);
+    }
+  }
+
+  /**
+   * {@link java.io.DataOutput#writeUTF(String)} is not used as it does not support strings larger than 64Kb
+   */
+  private static void writeString(@Nullable String s, DataOutput output) throws IOException {
+    if (s == null) {
+      output.writeInt(NULL);
+    } else {
+      byte[] bytes = s.getBytes(Charsets.UTF_8);
+      output.writeInt(bytes.length);
+      output.write(bytes);
+    }
+  }
+
+  @CheckForNull
+  private static String readString(DataInput input) throws IOException {
+    int length = input.readInt();
+    if (length == NULL) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    input.readFully(bytes);
+    return new String(bytes, Charsets.UTF_8);
+  }
+
+  private static void writeLong(@Nullable Long l, DataOutput output) throws IOException {
+    output.writeBoolean(l != null);
+    if (l != null) {
+      output.writeLong(l);
+    }
+  }
+
+  @CheckForNull
+  private static Long readLong(DataInput input) throws IOException {
+    return input.readBoolean() ? input.readLong() : null;
+  }
+
+  private static void writeDate(@Nullable Date date, DataOutput output) throws IOException {
+    writeLong(date == null ? null : date.getTime(), output);
+  }
+
+  @CheckForNull
+  private static Date readDate(DataInput input) throws IOException {
+    Long time = readLong(input);
+    return time == null ? null : new Date(time);
+  }
+}
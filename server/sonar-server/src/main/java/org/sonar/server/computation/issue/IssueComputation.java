@@ -30,35 +30,70 @@ import org.sonar.core.rule.RuleDto;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.util.cache.DiskCache;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 
 public class IssueComputation {
 
   private final RuleCache ruleCache;
   private final ScmAccountCache scmAccountCache;
   private final SourceLinesCache linesCache;
+  private final IssueCache issueCache;
   private final DiskCache<DefaultIssue>.DiskAppender diskIssuesAppender;
+  private final List<DiskCache<DefaultIssue>> segments = new ArrayList<>();
 
   public IssueComputation(RuleCache ruleCache, SourceLinesCache linesCache, ScmAccountCache scmAccountCache,
     IssueCache issueCache) {
     this.ruleCache = ruleCache;
     this.linesCache = linesCache;
     this.scmAccountCache = scmAccountCache;
+    this.issueCache = issueCache;
     this.diskIssuesAppender = issueCache.newAppender();
   }
 
-  public void processComponentIssues(ComputationContext context, String componentUuid, Iterable<BatchReport.Issue> issues) {
-    linesCache.init(componentUuid);
-    for (BatchReport.Issue reportIssue : issues) {
+  /**
+   * Issues are consumed one at a time, so that they don't need to be loaded in memory
+   */
+  public void processComponentIssues(ComputationContext context, String componentUuid, Iterator<BatchReport.Issue> issues) {
+    processComponentIssues(context, componentUuid, issues, linesCache, diskIssuesAppender);
+  }
+
+  /**
+   * Declares the batch of files which are going to be processed, so that SCM data required to guess the authors
+   * of new issues is loaded by a single db request instead of one request per file. See {@link SourceLinesCache#prefetch(Collection)}.
+   */
+  public void prefetchLines(Collection<String> fileUuids) {
+    linesCache.prefetch(fileUuids);
+  }
+
+  /**
+   * Creates a processor of components which can be used in parallel with other processors. It has its own
+   * cache of lines and its own segment of {@link IssueCache}. The segment is merged into {@link IssueCache}
+   * by {@link #afterReportProcessing()}, so processor must be closed before.
+   */
+  public synchronized ConcurrentProcessor newConcurrentProcessor() {
+    DiskCache<DefaultIssue> segment = issueCache.newSegment();
+    segments.add(segment);
+    return new ConcurrentProcessor(linesCache.newCache(), segment.newAppender());
+  }
+
+  private void processComponentIssues(ComputationContext context, String componentUuid, Iterator<BatchReport.Issue> issues,
+    SourceLinesCache lines, DiskCache<DefaultIssue>.DiskAppender appender) {
+    lines.init(componentUuid);
+    while (issues.hasNext()) {
+      BatchReport.Issue reportIssue = issues.next();
       DefaultIssue issue = toDefaultIssue(context, componentUuid, reportIssue);
       if (issue.isNew()) {
-        guessAuthor(issue);
+        guessAuthor(issue, lines);
         autoAssign(issue);
         copyRuleTags(issue);
       }
-      diskIssuesAppender.append(issue);
+      appender.append(issue);
     }
-    linesCache.clear();
+    lines.clear();
   }
 
   private DefaultIssue toDefaultIssue(ComputationContext context, String componentUuid, BatchReport.Issue issue) {
@@ -98,15 +133,19 @@ public class IssueComputation {
     return target;
   }
 
-  public void afterReportProcessing() {
+  public synchronized void afterReportProcessing() {
     diskIssuesAppender.close();
+    for (DiskCache<DefaultIssue> segment : segments) {
+      issueCache.merge(segment);
+    }
+    segments.clear();
   }
 
-  private void guessAuthor(DefaultIssue issue) {
+  private void guessAuthor(DefaultIssue issue, SourceLinesCache lines) {
     // issue.authorLogin() can be not-null when old developer cockpit plugin (or other plugin)
     // is still installed and executed during analysis
     if (issue.authorLogin() == null) {
-      issue.setAuthorLogin(linesCache.lineAuthor(issue.line()));
+      issue.setAuthorLogin(lines.lineAuthor(issue.line()));
     }
   }
 
@@ -126,4 +165,29 @@ public class IssueComputation {
     issue.setTags(Sets.union(rule.getTags(), rule.getSystemTags()));
   }
 
+  /**
+   * See {@link #newConcurrentProcessor()}. Not thread-safe, an instance must be used by a single thread.
+   */
+  public class ConcurrentProcessor implements AutoCloseable {
+    private final SourceLinesCache lines;
+    private final DiskCache<DefaultIssue>.DiskAppender appender;
+
+    private ConcurrentProcessor(SourceLinesCache lines, DiskCache<DefaultIssue>.DiskAppender appender) {
+      this.lines = lines;
+      this.appender = appender;
+    }
+
+    public void prefetchLines(Collection<String> fileUuids) {
+      lines.prefetch(fileUuids);
+    }
+
+    public void processComponentIssues(ComputationContext context, String componentUuid, Iterator<BatchReport.Issue> issues) {
+      IssueComputation.this.processComponentIssues(context, componentUuid, issues, lines, appender);
+    }
+
+    @Override
+    public void close() {
+      appender.close();
+    }
+  }
 }
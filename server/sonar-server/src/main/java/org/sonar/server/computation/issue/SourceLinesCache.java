@@ -20,54 +20,89 @@
 package org.sonar.server.computation.issue;
 
 import com.google.common.base.Function;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import net.jpountz.lz4.LZ4BlockInputStream;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.StringUtils;
-import org.sonar.core.source.db.FileSourceDto;
 import org.sonar.server.db.DbClient;
-import org.sonar.server.source.db.FileSourceDb;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Cache of the lines of the currently processed file. Only a single file
  * is kept in memory at a time. Moreover data is loaded on demand to avoid
  * useless db trips.
  * <p/>
+ * The SCM data of a batch of files can be loaded in a single db request, see {@link #prefetch(java.util.Collection)}.
+ * Only the authors and dates of lines are decoded, other columns of lines are skipped.
+ * <p/>
  * It assumes that db table FILE_SOURCES is up-to-date before using this
  * cache.
+ * <p/>
+ * This class is not thread-safe. Threads processing files concurrently must use
+ * their own instance, see {@link #newCache()}.
  */
 public class SourceLinesCache {
 
+  private static final String[] NO_AUTHORS = new String[0];
+
   private final DbClient dbClient;
-  private final FileDataParser parserFunction = new FileDataParser();
+  private final ScmDataParser parserFunction = new ScmDataParser();
 
-  private final List<String> authors = new ArrayList<>();
-  private boolean loaded = false;
-  private String currentFileUuid = null;
+  // the same author is referenced by many lines
+  private final Map<String, String> internedAuthors = new HashMap<>();
 
-  // date of the latest commit on the file
-  private long lastCommitDate = 0L;
+  // files of the batch which are not processed yet and whose data is not loaded
+  private final Set<String> batchFileUuids = new LinkedHashSet<>();
+  private final Set<String> prefetchedFileUuids = new HashSet<>();
+  private final Map<String, ScmData> prefetchedData = new HashMap<>();
 
-  // author of the latest commit on the file
-  private String lastCommitAuthor = null;
+  private String currentFileUuid = null;
+  private ScmData currentData = null;
 
   public SourceLinesCache(DbClient dbClient) {
     this.dbClient = dbClient;
   }
 
+  /**
+   * New empty cache, to be used by another thread
+   */
+  SourceLinesCache newCache() {
+    return new SourceLinesCache(dbClient);
+  }
+
+  /**
+   * Declares the batch of files which are going to be processed. Nothing is loaded yet : the first time a file
+   * of the batch requires SCM data, the data of this file and of the files of the batch which are not processed
+   * yet is loaded by a single db request. It replaces the batch previously declared.
+   */
+  void prefetch(Collection<String> fileUuids) {
+    batchFileUuids.clear();
+    prefetchedFileUuids.clear();
+    prefetchedData.clear();
+    batchFileUuids.addAll(fileUuids);
+  }
+
   /**
    * Marks the currently processed component
    */
   void init(String fileUuid) {
-    loaded = false;
     currentFileUuid = fileUuid;
-    authors.clear();
-    lastCommitDate = 0L;
-    lastCommitAuthor = null;
+    currentData = null;
   }
 
   /**
@@ -76,62 +111,138 @@ public class SourceLinesCache {
    */
   @CheckForNull
   public String lineAuthor(@Nullable Integer lineId) {
-    loadIfNeeded();
+    ScmData data = loadIfNeeded();
 
     if (lineId == null) {
       // issue on file, approximately estimate that author is the last committer on the file
-      return lastCommitAuthor;
+      return data.lastCommitAuthor;
     }
     String author = null;
-    if (lineId <= authors.size()) {
-      author = authors.get(lineId - 1);
+    if (lineId <= data.authors.length) {
+      author = data.authors[lineId - 1];
     }
-    return StringUtils.defaultIfEmpty(author, lastCommitAuthor);
+    return StringUtils.defaultIfEmpty(author, data.lastCommitAuthor);
   }
 
   /**
    * Load only on demand, to avoid useless db requests on files without any new issues
    */
-  private void loadIfNeeded() {
-    if (!loaded) {
-      dbClient.fileSourceDao().readDataStream(currentFileUuid, parserFunction);
-      loaded = true;
+  private ScmData loadIfNeeded() {
+    if (currentData == null) {
+      if (batchFileUuids.contains(currentFileUuid)) {
+        prefetchedData.putAll(dbClient.fileSourceDao().readDataStreams(new ArrayList<>(batchFileUuids), parserFunction));
+        prefetchedFileUuids.addAll(batchFileUuids);
+        batchFileUuids.clear();
+      }
+      if (prefetchedFileUuids.contains(currentFileUuid)) {
+        currentData = prefetchedData.remove(currentFileUuid);
+      } else {
+        currentData = dbClient.fileSourceDao().readDataStreams(Arrays.asList(currentFileUuid), parserFunction).get(currentFileUuid);
+      }
+      if (currentData == null) {
+        // file without sources
+        currentData = new ScmData(NO_AUTHORS, null);
+      }
     }
+    return currentData;
   }
 
   /**
-   * Makes cache eligible to GC
+   * Makes cache eligible to GC. The current file is considered as processed.
    */
   public void clear() {
-    authors.clear();
+    batchFileUuids.remove(currentFileUuid);
+    prefetchedFileUuids.remove(currentFileUuid);
+    prefetchedData.remove(currentFileUuid);
+    currentData = null;
   }
 
   /**
    * Number of lines in cache of the current file
    */
   int countLines() {
-    return authors.size();
+    return currentData == null ? 0 : currentData.authors.length;
+  }
+
+  private String intern(String author) {
+    String interned = internedAuthors.get(author);
+    if (interned == null) {
+      internedAuthors.put(author, author);
+      interned = author;
+    }
+    return interned;
+  }
+
+  private static class ScmData {
+    // author of each line, index 0 is the first line
+    private final String[] authors;
+
+    // author of the latest commit on the file
+    private final String lastCommitAuthor;
+
+    private ScmData(String[] authors, @Nullable String lastCommitAuthor) {
+      this.authors = authors;
+      this.lastCommitAuthor = lastCommitAuthor;
+    }
   }
 
   /**
-   * Parse lines from db and collect SCM information
+   * Reads the SCM authors and dates of lines from the protobuf message {@link org.sonar.server.source.db.FileSourceDb.Data},
+   * as stored in column FILE_SOURCES.BINARY_DATA. Other fields, for example the source code and the syntax highlighting, are
+   * skipped without being decoded.
    */
-  class FileDataParser implements Function<InputStream, Void> {
+  class ScmDataParser implements Function<InputStream, ScmData> {
+    // see file_source_db.proto
+    private static final int DATA_LINES_FIELD = 1;
+    private static final int LINE_SCM_AUTHOR_FIELD = 4;
+    private static final int LINE_SCM_DATE_FIELD = 5;
+
     @Override
-    public Void apply(InputStream input) {
-      FileSourceDb.Data data = FileSourceDto.decodeData(input);
-      for (FileSourceDb.Line line : data.getLinesList()) {
-        String author = null;
-        if (line.hasScmAuthor()) {
-          author = line.getScmAuthor();
-        }
-        authors.add(author);
-        if (line.hasScmDate() && line.getScmDate() > lastCommitDate && author != null) {
-          lastCommitDate = line.getScmDate();
-          lastCommitAuthor = author;
+    public ScmData apply(InputStream binaryInput) {
+      LZ4BlockInputStream lz4Input = null;
+      try {
+        lz4Input = new LZ4BlockInputStream(binaryInput);
+        CodedInputStream input = CodedInputStream.newInstance(lz4Input);
+        // the default limit of 64Mb may be reached by huge files
+        input.setSizeLimit(Integer.MAX_VALUE);
+        List<String> authors = new ArrayList<>();
+        long lastCommitDate = 0L;
+        String lastCommitAuthor = null;
+        int tag;
+        while ((tag = input.readTag()) != 0) {
+          if (WireFormat.getTagFieldNumber(tag) == DATA_LINES_FIELD) {
+            int limit = input.pushLimit(input.readRawVarint32());
+            String author = null;
+            long date = 0L;
+            boolean hasDate = false;
+            int lineTag;
+            while ((lineTag = input.readTag()) != 0) {
+              int field = WireFormat.getTagFieldNumber(lineTag);
+              if (field == LINE_SCM_AUTHOR_FIELD) {
+                author = intern(input.readString());
+              } else if (field == LINE_SCM_DATE_FIELD) {
+                date = input.readInt64();
+                hasDate = true;
+              } else {
+                input.skipField(lineTag);
+              }
+            }
+            input.popLimit(limit);
+            authors.add(author);
+            if (hasDate && date > lastCommitDate && author != null) {
+              lastCommitDate = date;
+              lastCommitAuthor = author;
+            }
+          } else {
+            input.skipField(tag);
+          }
         }
+        return new ScmData(authors.toArray(new String[authors.size()]), lastCommitAuthor);
+      } catch (IOException e) {
+        throw new IllegalStateException("Fail to decompress and deserialize source data", e);
+      } finally {
+        IOUtils.closeQuietly(lz4Input);
       }
-      return null;
     }
   }
 }
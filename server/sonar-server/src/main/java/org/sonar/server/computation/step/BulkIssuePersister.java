@@ -0,0 +1,207 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation.step;
+
+import com.google.common.collect.Lists;
+import org.apache.ibatis.executor.BatchResult;
+import org.sonar.api.issue.Issue;
+import org.sonar.api.issue.IssueComment;
+import org.sonar.api.issue.internal.DefaultIssue;
+import org.sonar.api.issue.internal.DefaultIssueComment;
+import org.sonar.api.issue.internal.FieldDiffs;
+import org.sonar.api.utils.System2;
+import org.sonar.core.issue.db.IssueChangeDto;
+import org.sonar.core.issue.db.IssueChangeMapper;
+import org.sonar.core.issue.db.IssueDto;
+import org.sonar.core.issue.db.IssueMapper;
+import org.sonar.core.issue.db.UpdateConflictResolver;
+import org.sonar.core.persistence.BatchSession;
+import org.sonar.core.persistence.DbSession;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Persists issues with JDBC batches. Issues are buffered and the statements of a same kind are
+ * executed together, so that they are grouped in the same JDBC batch. New issues are inserted with
+ * multi-row statements when supported by database.
+ * <p/>
+ * Conflicts between scan and end-users are detected on the update counts of the
+ * whole batch of conditional updates (see {@link IssueMapper#updateIfBeforeSelectedDate(IssueDto)}), then
+ * resolved issue per issue. Drivers which do not return update counts of batches do not detect conflicts.
+ */
+class BulkIssuePersister {
+
+  // BatchSession commits automatically when this size is reached, so the update counts of
+  // conditional updates would be lost.
+  static final int FLUSH_SIZE = BatchSession.MAX_BATCH_SIZE - 1;
+
+  private final DbSession session;
+  private final IssueMapper mapper;
+  private final IssueChangeMapper changeMapper;
+  private final System2 system2;
+  private final UpdateConflictResolver conflictResolver;
+  private final boolean multiRowInserts;
+
+  private final List<IssueDto> inserts = new ArrayList<>();
+  private final List<IssueDto> updates = new ArrayList<>();
+  private final Map<String, DefaultIssue> conditionalUpdates = new HashMap<>();
+  private final List<IssueDto> conditionalUpdateDtos = new ArrayList<>();
+  private final List<IssueChangeDto> changes = new ArrayList<>();
+  private final Set<String> conflictingIssueKeys = new HashSet<>();
+
+  private long insertedIssues = 0L;
+  private long updatedIssues = 0L;
+  private long insertedChanges = 0L;
+
+  BulkIssuePersister(DbSession session, System2 system2, UpdateConflictResolver conflictResolver, boolean multiRowInserts) {
+    this.session = session;
+    this.mapper = session.getMapper(IssueMapper.class);
+    this.changeMapper = session.getMapper(IssueChangeMapper.class);
+    this.system2 = system2;
+    this.conflictResolver = conflictResolver;
+    this.multiRowInserts = multiRowInserts;
+  }
+
+  void insert(DefaultIssue issue, Integer ruleId) {
+    inserts.add(IssueDto.toDtoForComputationInsert(issue, ruleId, system2.now()));
+    addChanges(issue);
+    flushIfNeeded();
+  }
+
+  void update(DefaultIssue issue) {
+    IssueDto dto = IssueDto.toDtoForUpdate(issue, system2.now());
+    if (Issue.STATUS_CLOSED.equals(issue.status()) || issue.selectedAt() == null) {
+      // Issue is closed by scan or changed by end-user
+      updates.add(dto);
+    } else {
+      conditionalUpdates.put(dto.getKee(), issue);
+      conditionalUpdateDtos.add(dto);
+    }
+    addChanges(issue);
+    flushIfNeeded();
+  }
+
+  private void addChanges(DefaultIssue issue) {
+    for (IssueComment comment : issue.comments()) {
+      DefaultIssueComment c = (DefaultIssueComment) comment;
+      if (c.isNew()) {
+        changes.add(IssueChangeDto.of(c));
+      }
+    }
+    FieldDiffs diffs = issue.currentChange();
+    if (!issue.isNew() && diffs != null) {
+      changes.add(IssueChangeDto.of(issue.key(), diffs));
+    }
+  }
+
+  private void flushIfNeeded() {
+    if (inserts.size() + updates.size() + conditionalUpdateDtos.size() + changes.size() >= FLUSH_SIZE) {
+      flush();
+    }
+  }
+
+  void flush() {
+    insertIssues();
+    for (IssueDto dto : updates) {
+      mapper.update(dto);
+    }
+    updatedIssues += updates.size();
+    updates.clear();
+    updateIssuesIfBeforeSelectedDate();
+    for (IssueChangeDto change : changes) {
+      changeMapper.insert(change);
+    }
+    insertedChanges += changes.size();
+    changes.clear();
+    session.commit();
+  }
+
+  private void insertIssues() {
+    if (multiRowInserts) {
+      for (List<IssueDto> partition : Lists.partition(inserts, IssueMapper.MAX_ROWS_PER_INSERT)) {
+        mapper.insertMultiple(partition);
+      }
+    } else {
+      for (IssueDto dto : inserts) {
+        mapper.insert(dto);
+      }
+    }
+    insertedIssues += inserts.size();
+    inserts.clear();
+  }
+
+  private void updateIssuesIfBeforeSelectedDate() {
+    if (conditionalUpdateDtos.isEmpty()) {
+      return;
+    }
+    // isolate the conditional updates in their own batch
+    session.flushStatements();
+    for (IssueDto dto : conditionalUpdateDtos) {
+      mapper.updateIfBeforeSelectedDate(dto);
+    }
+    List<DefaultIssue> conflictingIssues = new ArrayList<>();
+    for (BatchResult result : session.flushStatements()) {
+      int[] updateCounts = result.getUpdateCounts();
+      List<Object> parameters = result.getParameterObjects();
+      for (int i = 0; i < updateCounts.length; i++) {
+        if (updateCounts[i] == 0) {
+          // End-user and scan changed the issue at the same time.
+          // See https://jira.codehaus.org/browse/SONAR-4309
+          conflictingIssues.add(conditionalUpdates.get(((IssueDto) parameters.get(i)).getKee()));
+        }
+      }
+    }
+    for (DefaultIssue issue : conflictingIssues) {
+      conflictResolver.resolve(issue, mapper);
+      conflictingIssueKeys.add(issue.key());
+    }
+    updatedIssues += conditionalUpdateDtos.size();
+    conditionalUpdateDtos.clear();
+    conditionalUpdates.clear();
+  }
+
+  long insertedIssues() {
+    return insertedIssues;
+  }
+
+  long updatedIssues() {
+    return updatedIssues;
+  }
+
+  long insertedChanges() {
+    return insertedChanges;
+  }
+
+  long conflicts() {
+    return conflictingIssueKeys.size();
+  }
+
+  /**
+   * The issues merged with the changes of end-users. Their versions in db differ from the ones of the issue cache.
+   */
+  Set<String> conflictingIssueKeys() {
+    return conflictingIssueKeys;
+  }
+}
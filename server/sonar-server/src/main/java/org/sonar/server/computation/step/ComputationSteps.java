@@ -30,43 +30,78 @@ public class ComputationSteps {
 
   /**
    * List of all {@link org.sonar.server.computation.step.ComputationStep},
-   * ordered by execution sequence.
+   * grouped by stage. Stages are executed sequentially. A step reads only the data
+   * persisted or cached by the steps of the previous stages, and the steps of a same
+   * stage do not depend on each other, so they can be executed concurrently.
    */
-  public static List<Class<? extends ComputationStep>> orderedStepClasses() {
-    return Arrays.asList(
-      ParseReportStep.class,
-      PersistIssuesStep.class,
-      SwitchSnapshotStep.class,
-      IndexComponentsStep.class,
-      PurgeDatastoresStep.class,
+  public static List<List<Class<? extends ComputationStep>>> stepClassesByStage() {
+    return Arrays.<List<Class<? extends ComputationStep>>>asList(
+      stage(ParseReportStep.class),
+      stage(PersistIssuesStep.class),
+      stage(SwitchSnapshotStep.class),
+      // writes the db table resource_index, so it is not grouped with the ES indexers
+      stage(IndexComponentsStep.class),
+      stage(PurgeDatastoresStep.class),
 
       // ES indexing is done after all db changes
-      ApplyPermissionsStep.class,
-      IndexIssuesStep.class,
-      IndexSourceLinesStep.class,
-      IndexViewsStep.class,
+      stage(ApplyPermissionsStep.class),
+      // ES indexers only read db and write distinct indices, so they are executed concurrently
+      stage(IndexIssuesStep.class, IndexSourceLinesStep.class, IndexViewsStep.class),
 
       // Purge of removed views has to be done after Views has been indexed
-      PurgeRemovedViewsStep.class,
+      stage(PurgeRemovedViewsStep.class),
 
       // notifications are sent at the end, so that webapp displays up-to-date information
-      SendIssueNotificationsStep.class);
+      stage(SendIssueNotificationsStep.class));
   }
 
+  /**
+   * List of all {@link org.sonar.server.computation.step.ComputationStep},
+   * ordered by execution sequence.
+   */
+  public static List<Class<? extends ComputationStep>> orderedStepClasses() {
+    List<Class<? extends ComputationStep>> result = Lists.newArrayList();
+    for (List<Class<? extends ComputationStep>> stage : stepClassesByStage()) {
+      result.addAll(stage);
+    }
+    return result;
+  }
+
+  @SafeVarargs
+  private static List<Class<? extends ComputationStep>> stage(Class<? extends ComputationStep>... stepClasses) {
+    return Arrays.asList(stepClasses);
+  }
+
+  private final List<List<ComputationStep>> stages;
   private final List<ComputationStep> orderedSteps;
 
   public ComputationSteps(ComputationStep... s) {
-    this.orderedSteps = order(s);
+    this.stages = groupByStage(s);
+    this.orderedSteps = Lists.newArrayList();
+    for (List<ComputationStep> stage : stages) {
+      orderedSteps.addAll(stage);
+    }
   }
 
   public List<ComputationStep> orderedSteps() {
     return orderedSteps;
   }
 
-  private static List<ComputationStep> order(ComputationStep[] steps) {
-    List<ComputationStep> result = Lists.newArrayList();
-    for (Class<? extends ComputationStep> clazz : orderedStepClasses()) {
-      result.add(find(steps, clazz));
+  /**
+   * Steps grouped by stage, see {@link #stepClassesByStage()}
+   */
+  public List<List<ComputationStep>> stages() {
+    return stages;
+  }
+
+  private static List<List<ComputationStep>> groupByStage(ComputationStep[] steps) {
+    List<List<ComputationStep>> result = Lists.newArrayList();
+    for (List<Class<? extends ComputationStep>> stageClasses : stepClassesByStage()) {
+      List<ComputationStep> stage = Lists.newArrayList();
+      for (Class<? extends ComputationStep> clazz : stageClasses) {
+        stage.add(find(steps, clazz));
+      }
+      result.add(stage);
     }
     return result;
   }
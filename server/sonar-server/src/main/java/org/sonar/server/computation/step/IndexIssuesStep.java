@@ -17,22 +17,64 @@
  * along with this program; if not, write to the Free Software Foundation,
  * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
  */
-
 package org.sonar.server.computation.step;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Maps;
+import org.sonar.api.issue.internal.DefaultIssue;
 import org.sonar.api.resources.Qualifiers;
+import org.sonar.api.utils.KeyValueFormat;
+import org.sonar.api.utils.System2;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
+import org.sonar.core.component.ComponentDto;
+import org.sonar.core.issue.db.IssueDto;
+import org.sonar.core.persistence.DaoUtils;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.persistence.MyBatis;
 import org.sonar.server.computation.ComputationContext;
+import org.sonar.server.computation.issue.IssueCache;
+import org.sonar.server.computation.issue.RuleCache;
+import org.sonar.server.db.DbClient;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
+import org.sonar.server.issue.index.IssueDoc;
 import org.sonar.server.issue.index.IssueIndexer;
+import org.sonar.server.util.CloseableIterator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
+/**
+ * Indexes the issues created or updated by the analysis, as they are available in {@link IssueCache}.
+ * The issues in conflict with changes of end-users are read from db, as only db contains the merged versions.
+ * The table ISSUES is scanned only to recover from a failure.
+ */
 public class IndexIssuesStep implements ComputationStep {
 
+  private static final Logger LOG = Loggers.get(IndexIssuesStep.class);
+
   private final IssueAuthorizationIndexer authorizationIndexer;
   private final IssueIndexer indexer;
+  private final DbClient dbClient;
+  private final IssueCache issueCache;
+  private final RuleCache ruleCache;
+  private final System2 system2;
 
-  public IndexIssuesStep(IssueAuthorizationIndexer authorizationIndexer, IssueIndexer indexer) {
+  public IndexIssuesStep(IssueAuthorizationIndexer authorizationIndexer, IssueIndexer indexer, DbClient dbClient, IssueCache issueCache,
+    RuleCache ruleCache, System2 system2) {
     this.authorizationIndexer = authorizationIndexer;
     this.indexer = indexer;
+    this.dbClient = dbClient;
+    this.issueCache = issueCache;
+    this.ruleCache = ruleCache;
+    this.system2 = system2;
   }
 
   @Override
@@ -43,7 +85,158 @@ public class IndexIssuesStep implements ComputationStep {
   @Override
   public void execute(ComputationContext context) {
     authorizationIndexer.index();
-    indexer.index();
+    try {
+      indexChangedIssues(context.getConflictingIssueKeys());
+    } catch (RuntimeException e) {
+      LOG.warn("Fail to index the issues of analysis. Issues updated since last indexation are read from db.", e);
+      indexer.index();
+    }
+  }
+
+  private void indexChangedIssues(Set<String> conflictingIssueKeys) {
+    Map<String, ComponentDto> componentsByUuid = loadComponentsOfChangedIssues();
+    // date of indexation is after date of persistence, so it can be used as technical update date
+    final Date technicalUpdateDate = new Date(system2.now());
+    CloseableIterator<DefaultIssue> issues = issueCache.traverse();
+    try {
+      indexer.index(new ChangedIssueDocIterator(issues, componentsByUuid, technicalUpdateDate, conflictingIssueKeys));
+    } finally {
+      issues.close();
+    }
+    if (!conflictingIssueKeys.isEmpty()) {
+      List<IssueDoc> docs = new ArrayList<>(conflictingIssueKeys.size());
+      for (IssueDto dto : loadIssues(conflictingIssueKeys)) {
+        docs.add(toDoc(dto.toDefaultIssue(), componentsByUuid, technicalUpdateDate));
+      }
+      indexer.index(docs.iterator());
+    }
+  }
+
+  private List<IssueDto> loadIssues(Collection<String> issueKeys) {
+    final DbSession session = dbClient.openSession(false);
+    try {
+      return DaoUtils.executeLargeInputs(issueKeys, new Function<List<String>, List<IssueDto>>() {
+        @Override
+        public List<IssueDto> apply(List<String> partition) {
+          return dbClient.issueDao().selectByKeys(session, partition);
+        }
+      });
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
+  }
+
+  private Map<String, ComponentDto> loadComponentsOfChangedIssues() {
+    Set<String> componentUuids = new HashSet<>();
+    CloseableIterator<DefaultIssue> issues = issueCache.traverse();
+    try {
+      while (issues.hasNext()) {
+        DefaultIssue issue = issues.next();
+        if (isChanged(issue)) {
+          componentUuids.add(issue.componentUuid());
+        }
+      }
+    } finally {
+      issues.close();
+    }
+
+    Map<String, ComponentDto> componentsByUuid = Maps.newHashMapWithExpectedSize(componentUuids.size());
+    DbSession session = dbClient.openSession(false);
+    try {
+      for (ComponentDto component : dbClient.componentDao().getByUuids(session, componentUuids)) {
+        componentsByUuid.put(component.uuid(), component);
+      }
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
+    return componentsByUuid;
+  }
+
+  /**
+   * Same issues as the ones persisted by {@link PersistIssuesStep}
+   */
+  private static boolean isChanged(DefaultIssue issue) {
+    return issue.isNew() || issue.isChanged();
+  }
+
+  private IssueDoc toDoc(DefaultIssue issue, Map<String, ComponentDto> componentsByUuid, Date technicalUpdateDate) {
+    ComponentDto component = componentsByUuid.get(issue.componentUuid());
+    if (component == null) {
+      throw new IllegalStateException(String.format("Component of issue %s does not exist: %s", issue.key(), issue.componentUuid()));
+    }
+    IssueDoc doc = new IssueDoc(Maps.<String, Object>newHashMapWithExpectedSize(30));
+    // all the keys must be present, even if value is null
+    doc.setKey(issue.key());
+    doc.setProjectUuid(issue.projectUuid());
+    doc.setTechnicalUpdateDate(technicalUpdateDate);
+    doc.setActionPlanKey(issue.actionPlanKey());
+    doc.setAssignee(issue.assignee());
+    doc.setEffortToFix(issue.effortToFix());
+    doc.setAttributes(KeyValueFormat.format(issue.attributes()));
+    doc.setLine(issue.line());
+    doc.setMessage(issue.message());
+    doc.setResolution(issue.resolution());
+    doc.setSeverity(issue.severity());
+    doc.setManualSeverity(issue.manualSeverity());
+    doc.setChecksum(issue.checksum());
+    doc.setStatus(issue.status());
+    doc.setDebt(issue.debtInMinutes());
+    doc.setReporter(issue.reporter());
+    doc.setAuthorLogin(issue.authorLogin());
+    doc.setFuncCloseDate(issue.closeDate());
+    doc.setFuncCreationDate(issue.creationDate());
+    doc.setFuncUpdateDate(issue.updateDate());
+    doc.setRuleKey(issue.ruleKey().toString());
+    doc.setLanguage(ruleCache.get(issue.ruleKey()).getLanguage());
+    doc.setComponentUuid(issue.componentUuid());
+    doc.setComponentPaths(component.moduleUuidPath(), component.path(), component.scope());
+    doc.setTags(issue.tags());
+    return doc;
+  }
+
+  /**
+   * Documents are built on the fly while the cache is traversed, so that they are not loaded all together in memory
+   */
+  private class ChangedIssueDocIterator implements Iterator<IssueDoc> {
+    private final Iterator<DefaultIssue> issues;
+    private final Map<String, ComponentDto> componentsByUuid;
+    private final Date technicalUpdateDate;
+    private final Set<String> excludedIssueKeys;
+    private DefaultIssue nextIssue = null;
+
+    ChangedIssueDocIterator(Iterator<DefaultIssue> issues, Map<String, ComponentDto> componentsByUuid, Date technicalUpdateDate,
+      Set<String> excludedIssueKeys) {
+      this.issues = issues;
+      this.componentsByUuid = componentsByUuid;
+      this.technicalUpdateDate = technicalUpdateDate;
+      this.excludedIssueKeys = excludedIssueKeys;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (nextIssue == null && issues.hasNext()) {
+        DefaultIssue issue = issues.next();
+        if (isChanged(issue) && !excludedIssueKeys.contains(issue.key())) {
+          nextIssue = issue;
+        }
+      }
+      return nextIssue != null;
+    }
+
+    @Override
+    public IssueDoc next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      IssueDoc doc = toDoc(nextIssue, componentsByUuid, technicalUpdateDate);
+      nextIssue = null;
+      return doc;
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
   }
 
   @Override
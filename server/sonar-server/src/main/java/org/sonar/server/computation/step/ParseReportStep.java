@@ -20,11 +20,18 @@
 
 package org.sonar.server.computation.step;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import org.apache.commons.io.FileUtils;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
+import org.sonar.api.config.Settings;
 import org.sonar.api.resources.Qualifiers;
 import org.sonar.api.utils.TempFolder;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
+import org.sonar.batch.protocol.CloseableIterator;
 import org.sonar.batch.protocol.output.BatchOutputReader;
 import org.sonar.batch.protocol.output.BatchReport;
 import org.sonar.core.computation.db.AnalysisReportDto;
@@ -35,19 +42,65 @@ import org.sonar.server.computation.issue.IssueComputation;
 import org.sonar.server.db.DbClient;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+@Properties({
+  @Property(
+    key = ParseReportStep.THREADS_PROPERTY,
+    defaultValue = "" + ParseReportStep.DEFAULT_THREADS,
+    name = "Number of threads processing the components of an analysis report",
+    type = PropertyType.INTEGER,
+    project = false,
+    global = false)
+})
 public class ParseReportStep implements ComputationStep {
 
+  public static final String THREADS_PROPERTY = "sonar.computation.parseReport.threads";
+  public static final int DEFAULT_THREADS = 1;
+
+  /**
+   * Each thread gets approximately this number of partitions of components, so that
+   * threads which process small files can steal work from the others.
+   */
+  private static final int PARTITIONS_PER_THREAD = 4;
+
+  /**
+   * Maximum number of files whose SCM data is loaded by a single db request
+   */
+  private static final int PREFETCH_SIZE = 100;
+
   private static final Logger LOG = Loggers.get(ParseReportStep.class);
 
   private final IssueComputation issueComputation;
   private final DbClient dbClient;
   private final TempFolder tempFolder;
+  private final int threads;
+
+  public ParseReportStep(IssueComputation issueComputation, DbClient dbClient, TempFolder tempFolder, Settings settings) {
+    this(issueComputation, dbClient, tempFolder, numberOfThreads(settings));
+  }
 
-  public ParseReportStep(IssueComputation issueComputation, DbClient dbClient, TempFolder tempFolder) {
+  @VisibleForTesting
+  ParseReportStep(IssueComputation issueComputation, DbClient dbClient, TempFolder tempFolder, int threads) {
     this.issueComputation = issueComputation;
     this.dbClient = dbClient;
     this.tempFolder = tempFolder;
+    this.threads = threads;
+  }
+
+  @VisibleForTesting
+  static int numberOfThreads(Settings settings) {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    return threads;
   }
 
   @Override
@@ -59,17 +112,24 @@ public class ParseReportStep implements ComputationStep {
   public void execute(ComputationContext context) {
     File reportDir = tempFolder.newDir();
     try {
-      // extract compressed report from database and uncompress it in temporary directory
+      // uncompress report from the database stream into temporary directory, in a single pass. A packed report
+      // is a single container file, whose entries are then read by ranges on demand without being unpacked.
       extractReport(context.getReportDto(), reportDir);
 
       // prepare parsing of report
-      BatchOutputReader reader = new BatchOutputReader(reportDir);
-      BatchReport.Metadata reportMetadata = reader.readMetadata();
-      context.setReportMetadata(reportMetadata);
+      try (BatchOutputReader reader = new BatchOutputReader(reportDir)) {
+        BatchReport.Metadata reportMetadata = reader.readMetadata();
+        context.setReportMetadata(reportMetadata);
 
-      // and parse!
-      int rootComponentRef = reportMetadata.getRootComponentRef();
-      recursivelyProcessComponent(reader, context, rootComponentRef);
+        // and parse!
+        List<BatchReport.Component> components = new ArrayList<>();
+        recursivelyCollectComponents(reader, reportMetadata.getRootComponentRef(), components);
+        if (threads > 1) {
+          processComponentsInParallel(reader, context, components);
+        } else {
+          processComponents(reader, context, components);
+        }
+      }
       issueComputation.afterReportProcessing();
 
     } finally {
@@ -90,12 +150,80 @@ public class ParseReportStep implements ComputationStep {
       stopTime - startTime, FileUtils.byteCountToDisplaySize(FileUtils.sizeOf(toDir)), report.getProjectKey()));
   }
 
-  private void recursivelyProcessComponent(BatchOutputReader reportReader, ComputationContext context, int componentRef) {
+  private void processComponents(BatchOutputReader reportReader, ComputationContext context, List<BatchReport.Component> components) {
+    for (List<BatchReport.Component> batch : Lists.partition(components, PREFETCH_SIZE)) {
+      issueComputation.prefetchLines(uuids(batch));
+      for (BatchReport.Component component : batch) {
+        try (CloseableIterator<BatchReport.Issue> issues = reportReader.readComponentIssues(component.getRef())) {
+          issueComputation.processComponentIssues(context, component.getUuid(), issues);
+        }
+      }
+    }
+  }
+
+  private static List<String> uuids(List<BatchReport.Component> components) {
+    List<String> uuids = new ArrayList<>(components.size());
+    for (BatchReport.Component component : components) {
+      uuids.add(component.getUuid());
+    }
+    return uuids;
+  }
+
+  private void processComponentsInParallel(BatchOutputReader reportReader, ComputationContext context, List<BatchReport.Component> components) {
+    int partitionSize = Math.max(1, components.size() / (threads * PARTITIONS_PER_THREAD));
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    try {
+      pool.invoke(new ProcessComponentsTask(reportReader, context, components, partitionSize));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static void recursivelyCollectComponents(BatchOutputReader reportReader, int componentRef, List<BatchReport.Component> components) {
     BatchReport.Component component = reportReader.readComponent(componentRef);
     if (component != null) {
-      issueComputation.processComponentIssues(context, component.getUuid(), reportReader.readComponentIssues(componentRef));
+      components.add(component);
       for (Integer childRef : component.getChildRefsList()) {
-        recursivelyProcessComponent(reportReader, context, childRef);
+        recursivelyCollectComponents(reportReader, childRef, components);
+      }
+    }
+  }
+
+  /**
+   * Splits the list of components until partitions are small enough to be processed by
+   * a single {@link IssueComputation.ConcurrentProcessor}
+   */
+  private class ProcessComponentsTask extends RecursiveAction {
+    private final BatchOutputReader reportReader;
+    private final ComputationContext context;
+    private final List<BatchReport.Component> components;
+    private final int partitionSize;
+
+    ProcessComponentsTask(BatchOutputReader reportReader, ComputationContext context, List<BatchReport.Component> components, int partitionSize) {
+      this.reportReader = reportReader;
+      this.context = context;
+      this.components = components;
+      this.partitionSize = partitionSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (components.size() <= partitionSize) {
+        try (IssueComputation.ConcurrentProcessor processor = issueComputation.newConcurrentProcessor()) {
+          for (List<BatchReport.Component> batch : Lists.partition(components, PREFETCH_SIZE)) {
+            processor.prefetchLines(uuids(batch));
+            for (BatchReport.Component component : batch) {
+              try (CloseableIterator<BatchReport.Issue> issues = reportReader.readComponentIssues(component.getRef())) {
+                processor.processComponentIssues(context, component.getUuid(), issues);
+              }
+            }
+          }
+        }
+      } else {
+        int middle = components.size() / 2;
+        invokeAll(
+          new ProcessComponentsTask(reportReader, context, components.subList(0, middle), partitionSize),
+          new ProcessComponentsTask(reportReader, context, components.subList(middle, components.size()), partitionSize));
       }
     }
   }
@@ -19,21 +19,15 @@
  */
 package org.sonar.server.computation.step;
 
-import org.sonar.api.issue.Issue;
-import org.sonar.api.issue.IssueComment;
 import org.sonar.api.issue.internal.DefaultIssue;
-import org.sonar.api.issue.internal.DefaultIssueComment;
-import org.sonar.api.issue.internal.FieldDiffs;
 import org.sonar.api.resources.Qualifiers;
 import org.sonar.api.utils.System2;
-import org.sonar.core.issue.db.IssueChangeDto;
-import org.sonar.core.issue.db.IssueChangeMapper;
-import org.sonar.core.issue.db.IssueDto;
-import org.sonar.core.issue.db.IssueMapper;
+import org.sonar.api.utils.log.Logger;
+import org.sonar.api.utils.log.Loggers;
 import org.sonar.core.issue.db.UpdateConflictResolver;
-import org.sonar.core.persistence.BatchSession;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
+import org.sonar.core.persistence.dialect.Oracle;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.computation.issue.IssueCache;
 import org.sonar.server.computation.issue.RuleCache;
@@ -42,6 +36,8 @@ import org.sonar.server.util.CloseableIterator;
 
 public class PersistIssuesStep implements ComputationStep {
 
+  private static final Logger LOG = Loggers.get(PersistIssuesStep.class);
+
   private final DbClient dbClient;
   private final System2 system2;
   private final UpdateConflictResolver conflictResolver;
@@ -64,72 +60,35 @@ public class PersistIssuesStep implements ComputationStep {
 
   @Override
   public void execute(ComputationContext context) {
+    long startTime = System.currentTimeMillis();
     DbSession session = dbClient.openSession(true);
-    IssueMapper mapper = session.getMapper(IssueMapper.class);
-    IssueChangeMapper changeMapper = session.getMapper(IssueChangeMapper.class);
-    int count = 0;
+    BulkIssuePersister persister = new BulkIssuePersister(session, system2, conflictResolver,
+      !Oracle.ID.equals(dbClient.database().getDialect().getId()));
 
     CloseableIterator<DefaultIssue> issues = issueCache.traverse();
     try {
       while (issues.hasNext()) {
         DefaultIssue issue = issues.next();
-        boolean saved = false;
         if (issue.isNew()) {
-          Integer ruleId = ruleCache.get(issue.ruleKey()).getId();
-          mapper.insert(IssueDto.toDtoForComputationInsert(issue, ruleId, system2.now()));
-          count++;
-          saved = true;
+          persister.insert(issue, ruleCache.get(issue.ruleKey()).getId());
         } else if (issue.isChanged()) {
-          IssueDto dto = IssueDto.toDtoForUpdate(issue, system2.now());
-          if (Issue.STATUS_CLOSED.equals(issue.status()) || issue.selectedAt() == null) {
-            // Issue is closed by scan or changed by end-user
-            mapper.update(dto);
-            count++;
-          } else {
-            int updateCount = mapper.updateIfBeforeSelectedDate(dto);
-            count++;
-            if (updateCount == 0) {
-              // End-user and scan changed the issue at the same time.
-              // See https://jira.codehaus.org/browse/SONAR-4309
-              conflictResolver.resolve(issue, mapper);
-            }
-          }
-          saved = true;
-        }
-        if (saved) {
-          count += insertChanges(changeMapper, issue);
-          if (count > BatchSession.MAX_BATCH_SIZE) {
-            session.flushStatements();
-            session.commit();
-            count = 0;
-          }
+          persister.update(issue);
         }
       }
-      session.flushStatements();
-      session.commit();
+      persister.flush();
+      context.addConflictingIssueKeys(persister.conflictingIssueKeys());
     } finally {
       MyBatis.closeQuietly(session);
       issues.close();
     }
+    logStatistics(persister, System.currentTimeMillis() - startTime);
   }
 
-  private int insertChanges(IssueChangeMapper mapper, DefaultIssue issue) {
-    int count = 0;
-    for (IssueComment comment : issue.comments()) {
-      DefaultIssueComment c = (DefaultIssueComment) comment;
-      if (c.isNew()) {
-        IssueChangeDto changeDto = IssueChangeDto.of(c);
-        mapper.insert(changeDto);
-        count++;
-      }
-    }
-    FieldDiffs diffs = issue.currentChange();
-    if (!issue.isNew() && diffs != null) {
-      IssueChangeDto changeDto = IssueChangeDto.of(issue.key(), diffs);
-      mapper.insert(changeDto);
-      count++;
-    }
-    return count;
+  private static void logStatistics(BulkIssuePersister persister, long durationMs) {
+    long rows = persister.insertedIssues() + persister.updatedIssues() + persister.insertedChanges();
+    LOG.info(String.format("%d issues inserted, %d issues updated (%d conflicts), %d changes inserted in %dms | %d rows/s",
+      persister.insertedIssues(), persister.updatedIssues(), persister.conflicts(), persister.insertedChanges(), durationMs,
+      rows * 1000L / Math.max(1L, durationMs)));
   }
 
   @Override
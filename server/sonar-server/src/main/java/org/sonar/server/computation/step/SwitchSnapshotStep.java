@@ -28,15 +28,18 @@ import org.sonar.core.persistence.MyBatis;
 import org.sonar.server.component.db.SnapshotDao;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.db.DbClient;
+import org.sonar.server.measure.MeasureFilterCache;
 
 import java.util.List;
 
 public class SwitchSnapshotStep implements ComputationStep {
 
   private final DbClient dbClient;
+  private final MeasureFilterCache measureFilterCache;
 
-  public SwitchSnapshotStep(DbClient dbClient) {
+  public SwitchSnapshotStep(DbClient dbClient, MeasureFilterCache measureFilterCache) {
     this.dbClient = dbClient;
+    this.measureFilterCache = measureFilterCache;
   }
 
   @Override
@@ -52,6 +55,8 @@ public class SwitchSnapshotStep implements ComputationStep {
       enableCurrentSnapshot(session, context.getReportDto());
     } finally {
       MyBatis.closeQuietly(session);
+      // measures of last snapshots changed
+      measureFilterCache.invalidate();
     }
   }
 
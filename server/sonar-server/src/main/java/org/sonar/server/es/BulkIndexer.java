@@ -22,6 +22,7 @@ package org.sonar.server.es;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.elasticsearch.action.ActionRequest;
 import org.elasticsearch.action.admin.indices.settings.get.GetSettingsResponse;
 import org.elasticsearch.action.admin.indices.settings.put.UpdateSettingsRequestBuilder;
@@ -38,12 +39,18 @@ import org.sonar.server.util.ProgressLogger;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Helper to bulk requests in an efficient way :
  * <ul>
- *   <li>bulk request is sent on the wire when its size is higher than 5Mb</li>
+ *   <li>bulk request is sent on the wire when its size is higher than 2Mb</li>
+ *   <li>bulk requests can be sent asynchronously, see {@link #setConcurrentRequests(int)}</li>
+ *   <li>failed requests are retried with exponential backoff</li>
  *   <li>on large table indexing, replicas and automatic refresh can be temporarily disabled</li>
  *   <li>index refresh is optional (enabled by default)</li>
  * </ul>
@@ -54,14 +61,29 @@ public class BulkIndexer implements Startable {
   private static final String REFRESH_INTERVAL_SETTING = "index.refresh_interval";
   private static final String ALREADY_STARTED_MESSAGE = "Bulk indexing is already started";
 
+  /**
+   * Number of in-flight bulk requests used by indexers on large indexing
+   */
+  public static final int LARGE_CONCURRENT_REQUESTS = 2;
+
+  // failed requests are retried 3 times, after 100ms, 200ms and 400ms
+  private static final int MAX_ATTEMPTS = 4;
+  private static final long INITIAL_RETRY_DELAY_MS = 100L;
+
   private final EsClient client;
   private final String indexName;
   private boolean large = false;
   private boolean refresh = true;
   private long flushByteSize = FLUSH_BYTE_SIZE;
+  private int concurrentRequests = 0;
   private BulkRequestBuilder bulkRequest = null;
   private Map<String, Object> largeInitialSettings = null;
 
+  // async mode
+  private ExecutorService executor = null;
+  private Semaphore inFlightRequests = null;
+  private final AtomicReference<RuntimeException> asyncFailure = new AtomicReference<>();
+
   private final AtomicLong counter = new AtomicLong(0L);
   private final ProgressLogger progress;
 
@@ -69,7 +91,8 @@ public class BulkIndexer implements Startable {
     this.client = client;
     this.indexName = indexName;
     this.progress = new ProgressLogger(String.format("Progress[BulkIndexer[%s]]", indexName), counter, LOGGER)
-      .setPluralLabel("requests");
+      .setPluralLabel("requests")
+      .setLogThroughput(true);
   }
 
   /**
@@ -98,6 +121,19 @@ public class BulkIndexer implements Startable {
     return this;
   }
 
+  /**
+   * Maximum number of bulk requests that are sent to Elasticsearch while new requests
+   * are being added. When this number is reached, {@link #add(org.elasticsearch.action.ActionRequest)}
+   * blocks until a bulk request completes, so memory stays bounded.
+   * Default value is 0: bulk requests are executed synchronously by {@link #add(org.elasticsearch.action.ActionRequest)}.
+   */
+  public BulkIndexer setConcurrentRequests(int i) {
+    Preconditions.checkState(bulkRequest == null, ALREADY_STARTED_MESSAGE);
+    Preconditions.checkArgument(i >= 0, "Number of concurrent requests must be positive or zero: %s", i);
+    this.concurrentRequests = i;
+    return this;
+  }
+
   @Override
   public void start() {
     Preconditions.checkState(bulkRequest == null, ALREADY_STARTED_MESSAGE);
@@ -120,6 +156,14 @@ public class BulkIndexer implements Startable {
 
       updateSettings(bulkSettings);
     }
+    if (concurrentRequests > 0) {
+      executor = Executors.newFixedThreadPool(concurrentRequests, new ThreadFactoryBuilder()
+        .setNameFormat(String.format("BulkIndexer[%s]-%%d", indexName))
+        .setDaemon(true)
+        .build());
+      inFlightRequests = new Semaphore(concurrentRequests);
+      asyncFailure.set(null);
+    }
     bulkRequest = client.prepareBulk();
     counter.set(0L);
     progress.start();
@@ -129,7 +173,7 @@ public class BulkIndexer implements Startable {
     bulkRequest.request().add(request);
     counter.getAndIncrement();
     if (bulkRequest.request().estimatedSizeInBytes() >= flushByteSize) {
-      executeBulk(bulkRequest);
+      flush(bulkRequest);
       bulkRequest = client.prepareBulk();
     }
   }
@@ -138,11 +182,17 @@ public class BulkIndexer implements Startable {
   public void stop() {
     try {
       if (bulkRequest.numberOfActions() > 0) {
-        executeBulk(bulkRequest);
+        flush(bulkRequest);
       }
     } finally {
+      // in-flight requests are awaited and executor is released even if the last flush fails
+      awaitAsyncRequests();
       progress.stop();
     }
+    throwAsyncFailure();
+    if (large) {
+      progress.log();
+    }
 
     if (refresh) {
       client.prepareRefresh(indexName).get();
@@ -164,39 +214,105 @@ public class BulkIndexer implements Startable {
     req.get();
   }
 
-  private void executeBulk(BulkRequestBuilder bulkRequest) {
-    List<ActionRequest> retries = Lists.newArrayList();
-    BulkResponse response = bulkRequest.get();
+  private void flush(final BulkRequestBuilder request) {
+    if (executor == null) {
+      executeBulk(request);
+      return;
+    }
+    throwAsyncFailure();
+    // back-pressure: wait for a request to complete when the maximum number of in-flight requests is reached
+    inFlightRequests.acquireUninterruptibly();
+    try {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            executeBulk(request);
+          } catch (RuntimeException e) {
+            asyncFailure.compareAndSet(null, e);
+          } finally {
+            inFlightRequests.release();
+          }
+        }
+      });
+    } catch (RuntimeException e) {
+      inFlightRequests.release();
+      throw e;
+    }
+  }
 
-    for (BulkItemResponse item : response.getItems()) {
-      if (item.isFailed()) {
-        ActionRequest retry = bulkRequest.request().requests().get(item.getItemId());
-        retries.add(retry);
+  private void awaitAsyncRequests() {
+    if (executor != null) {
+      try {
+        inFlightRequests.acquireUninterruptibly(concurrentRequests);
+        inFlightRequests.release(concurrentRequests);
+      } finally {
+        executor.shutdown();
+        executor = null;
       }
     }
+  }
 
-    if (!retries.isEmpty()) {
-      LOGGER.warn(String.format("%d index requests failed. Trying again.", retries.size()));
-      BulkRequestBuilder retryBulk = client.prepareBulk();
-      for (ActionRequest retry : retries) {
-        retryBulk.request().add(retry);
+  private void throwAsyncFailure() {
+    RuntimeException failure = asyncFailure.getAndSet(null);
+    if (failure != null) {
+      throw new IllegalStateException(String.format("Fail to execute bulk request on index %s", indexName), failure);
+    }
+  }
+
+  private void executeBulk(BulkRequestBuilder bulkRequest) {
+    BulkRequestBuilder request = bulkRequest;
+    long retryDelayMs = INITIAL_RETRY_DELAY_MS;
+    for (int attempt = 1;; attempt++) {
+      BulkResponse response = request.get();
+      if (!response.hasFailures()) {
+        if (attempt > 1) {
+          LOGGER.info("New index attempt succeeded");
+        }
+        return;
       }
-      BulkResponse retryBulkResponse = retryBulk.get();
-      if (retryBulkResponse.hasFailures()) {
-        LOGGER.error("New attempt to index documents failed");
-        for (int index = 0; index < retryBulkResponse.getItems().length; index++) {
-          BulkItemResponse item = retryBulkResponse.getItems()[index];
-          if (item.isFailed()) {
-            StringBuilder sb = new StringBuilder();
-            String msg = sb.append("\n[").append(index)
-              .append("]: index [").append(item.getIndex()).append("], type [").append(item.getType()).append("], id [").append(item.getId())
-              .append("], message [").append(item.getFailureMessage()).append("]").toString();
-            LOGGER.error(msg);
-          }
+      if (attempt == MAX_ATTEMPTS) {
+        logFailures(response, attempt);
+        return;
+      }
+
+      List<ActionRequest> retries = Lists.newArrayList();
+      for (BulkItemResponse item : response.getItems()) {
+        if (item.isFailed()) {
+          retries.add(request.request().requests().get(item.getItemId()));
         }
-      } else {
-        LOGGER.info("New index attempt succeeded");
       }
+      LOGGER.warn(String.format("%d index requests failed. Trying again in %d ms.", retries.size(), retryDelayMs));
+      sleep(retryDelayMs);
+      retryDelayMs *= 2;
+
+      request = client.prepareBulk();
+      for (ActionRequest retry : retries) {
+        request.request().add(retry);
+      }
+    }
+  }
+
+  private static void logFailures(BulkResponse response, int attempts) {
+    LOGGER.error(String.format("Fail to index documents after %d attempts", attempts));
+    for (int index = 0; index < response.getItems().length; index++) {
+      BulkItemResponse item = response.getItems()[index];
+      if (item.isFailed()) {
+        StringBuilder sb = new StringBuilder();
+        String msg = sb.append("\n[").append(index)
+          .append("]: index [").append(item.getIndex()).append("], type [").append(item.getType()).append("], id [").append(item.getId())
+          .append("], message [").append(item.getFailureMessage()).append("]").toString();
+        LOGGER.error(msg);
+      }
+    }
+  }
+
+  private static void sleep(long ms) {
+    try {
+      Thread.sleep(ms);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for new attempt of bulk request", e);
     }
   }
 }
@@ -39,6 +39,7 @@ import org.elasticsearch.action.deletebyquery.DeleteByQueryRequestBuilder;
 import org.elasticsearch.action.get.GetRequestBuilder;
 import org.elasticsearch.action.get.MultiGetRequestBuilder;
 import org.elasticsearch.action.index.IndexRequestBuilder;
+import org.elasticsearch.action.search.ClearScrollRequestBuilder;
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchScrollRequestBuilder;
 import org.elasticsearch.client.Client;
@@ -51,6 +52,7 @@ import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
 import org.sonar.server.es.request.ProxyBulkRequestBuilder;
 import org.sonar.server.es.request.ProxyClearCacheRequestBuilder;
+import org.sonar.server.es.request.ProxyClearScrollRequestBuilder;
 import org.sonar.server.es.request.ProxyClusterHealthRequestBuilder;
 import org.sonar.server.es.request.ProxyClusterStateRequestBuilder;
 import org.sonar.server.es.request.ProxyClusterStatsRequestBuilder;
@@ -71,6 +73,8 @@ import org.sonar.server.es.request.ProxySearchRequestBuilder;
 import org.sonar.server.es.request.ProxySearchScrollRequestBuilder;
 import org.sonar.server.search.SearchClient;
 
+import java.util.Arrays;
+
 /**
  * Facade to connect to Elasticsearch node. Handles correctly errors (logging + exceptions
  * with context) and profiling of requests.
@@ -79,13 +83,16 @@ public class EsClient implements Startable {
 
   public static final Logger LOGGER = Loggers.get("es");
   private final Client client;
+  private final EsRequestStats requestStats;
 
   public EsClient(SearchClient deprecatedClient) {
     this.client = deprecatedClient;
+    this.requestStats = deprecatedClient.getRequestStats();
   }
 
   EsClient(Client client) {
     this.client = client;
+    this.requestStats = new EsRequestStats();
   }
 
   public RefreshRequestBuilder prepareRefresh(String... indices) {
@@ -133,11 +140,15 @@ public class EsClient implements Startable {
   }
 
   public SearchRequestBuilder prepareSearch(String... indices) {
-    return new ProxySearchRequestBuilder(client).setIndices(indices);
+    return new ProxySearchRequestBuilder(client, requestStats).setIndices(indices);
   }
 
   public SearchScrollRequestBuilder prepareSearchScroll(String scrollId) {
-    return new ProxySearchScrollRequestBuilder(scrollId, client);
+    return new ProxySearchScrollRequestBuilder(scrollId, client, requestStats);
+  }
+
+  public ClearScrollRequestBuilder prepareClearScroll(String... scrollIds) {
+    return new ProxyClearScrollRequestBuilder(client).setScrollIds(Arrays.asList(scrollIds));
   }
 
   public GetRequestBuilder prepareGet() {
@@ -153,11 +164,11 @@ public class EsClient implements Startable {
   }
 
   public CountRequestBuilder prepareCount(String... indices) {
-    return new ProxyCountRequestBuilder(client).setIndices(indices);
+    return new ProxyCountRequestBuilder(client, requestStats).setIndices(indices);
   }
 
   public BulkRequestBuilder prepareBulk() {
-    return new ProxyBulkRequestBuilder(client);
+    return new ProxyBulkRequestBuilder(client, requestStats);
   }
 
   public DeleteRequestBuilder prepareDelete(String index, String type, String id) {
@@ -165,7 +176,7 @@ public class EsClient implements Startable {
   }
 
   public DeleteByQueryRequestBuilder prepareDeleteByQuery(String... indices) {
-    return new ProxyDeleteByQueryRequestBuilder(client).setIndices(indices);
+    return new ProxyDeleteByQueryRequestBuilder(client, requestStats).setIndices(indices);
   }
 
   public IndexRequestBuilder prepareIndex(String index, String type) {
@@ -205,6 +216,10 @@ public class EsClient implements Startable {
     // client.close();
   }
 
+  public EsRequestStats getRequestStats() {
+    return requestStats;
+  }
+
   protected Client nativeClient() {
     return client;
   }
@@ -0,0 +1,179 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import com.google.common.base.Joiner;
+import com.google.common.collect.Lists;
+
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency histograms of the requests sent to Elasticsearch, grouped by request type and indices. They are
+ * recorded by the proxies of {@link org.sonar.server.es.request} and are exported by
+ * {@link org.sonar.server.platform.monitoring.EsRequestsMonitor}, so that slow requests can be spotted
+ * without enabling trace logs.
+ */
+public class EsRequestStats {
+
+  public enum RequestType {
+    SEARCH, SCROLL, COUNT, BULK, DELETE_BY_QUERY
+  }
+
+  /**
+   * Label of requests that are not bound to explicit indices, for example scrolls
+   */
+  public static final String ALL_INDICES = "*";
+
+  /**
+   * Upper bounds, in milliseconds, of the buckets of histograms. The last bucket has no bound.
+   */
+  static final long[] BUCKET_BOUNDS_MS = {1L, 2L, 5L, 10L, 20L, 50L, 100L, 200L, 500L, 1000L, 2000L, 5000L, 10000L, 30000L};
+
+  private static final Comparator<Stat> STAT_COMPARATOR = new Comparator<Stat>() {
+    @Override
+    public int compare(Stat s1, Stat s2) {
+      int result = s1.type.compareTo(s2.type);
+      return result != 0 ? result : s1.index.compareTo(s2.index);
+    }
+  };
+
+  private final ConcurrentMap<String, Stat> stats = new ConcurrentHashMap<>();
+
+  public void record(RequestType type, @Nullable String[] indices, long durationMs, boolean success, long hits, long payloadBytes) {
+    String index = indices == null || indices.length == 0 ? ALL_INDICES : Joiner.on(",").join(indices);
+    String key = type.name() + " " + index;
+    Stat stat = stats.get(key);
+    if (stat == null) {
+      Stat newStat = new Stat(type, index);
+      stat = stats.putIfAbsent(key, newStat);
+      if (stat == null) {
+        stat = newStat;
+      }
+    }
+    stat.record(durationMs, success, hits, payloadBytes);
+  }
+
+  public void record(RequestType type, Collection<String> indices, long durationMs, boolean success, long hits, long payloadBytes) {
+    record(type, indices.toArray(new String[indices.size()]), durationMs, success, hits, payloadBytes);
+  }
+
+  /**
+   * Snapshot of statistics, sorted by request type then indices
+   */
+  public List<Stat> all() {
+    List<Stat> result = Lists.newArrayList(stats.values());
+    Collections.sort(result, STAT_COMPARATOR);
+    return result;
+  }
+
+  public static class Stat {
+    private final RequestType type;
+    private final String index;
+    private final long[] buckets = new long[BUCKET_BOUNDS_MS.length + 1];
+    private long requests = 0L;
+    private long failures = 0L;
+    private long totalDurationMs = 0L;
+    private long maxDurationMs = 0L;
+    private long hits = 0L;
+    private long payloadBytes = 0L;
+
+    Stat(RequestType type, String index) {
+      this.type = type;
+      this.index = index;
+    }
+
+    synchronized void record(long durationMs, boolean success, long hits, long payloadBytes) {
+      int bucket = Arrays.binarySearch(BUCKET_BOUNDS_MS, durationMs);
+      buckets[bucket >= 0 ? bucket : (-bucket - 1)]++;
+      requests++;
+      if (!success) {
+        failures++;
+      }
+      totalDurationMs += durationMs;
+      maxDurationMs = Math.max(maxDurationMs, durationMs);
+      this.hits += hits;
+      this.payloadBytes += payloadBytes;
+    }
+
+    public RequestType getType() {
+      return type;
+    }
+
+    public String getIndex() {
+      return index;
+    }
+
+    public synchronized long getRequests() {
+      return requests;
+    }
+
+    public synchronized long getFailures() {
+      return failures;
+    }
+
+    public synchronized long getMeanDurationMs() {
+      return requests == 0L ? 0L : (totalDurationMs / requests);
+    }
+
+    public synchronized long getMaxDurationMs() {
+      return maxDurationMs;
+    }
+
+    /**
+     * Approximated by the upper bound of the bucket that contains the percentile, or by the max duration
+     * if lower.
+     *
+     * @param percentile between 0 (excluded) and 100 (included)
+     */
+    public synchronized long getPercentileDurationMs(double percentile) {
+      long rank = (long) Math.ceil(percentile * requests / 100.0);
+      long cumulated = 0L;
+      for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+        cumulated += buckets[i];
+        if (cumulated >= rank && cumulated > 0L) {
+          return Math.min(BUCKET_BOUNDS_MS[i], maxDurationMs);
+        }
+      }
+      return maxDurationMs;
+    }
+
+    /**
+     * Number of documents returned (search, scroll), counted (count) or sent (bulk)
+     */
+    public synchronized long getHits() {
+      return hits;
+    }
+
+    /**
+     * Size of sources of search requests and of bulk requests
+     */
+    public synchronized long getPayloadBytes() {
+      return payloadBytes;
+    }
+  }
+}
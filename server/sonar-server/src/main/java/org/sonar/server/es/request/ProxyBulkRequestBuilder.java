@@ -23,6 +23,7 @@ package org.sonar.server.es.request;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset.Entry;
 import org.elasticsearch.action.ActionRequest;
+import org.elasticsearch.action.IndicesRequest;
 import org.elasticsearch.action.ListenableActionFuture;
 import org.elasticsearch.action.bulk.BulkRequestBuilder;
 import org.elasticsearch.action.bulk.BulkResponse;
@@ -33,29 +34,51 @@ import org.elasticsearch.client.Client;
 import org.elasticsearch.common.unit.TimeValue;
 import org.sonar.api.utils.log.Profiler;
 import org.sonar.server.es.EsClient;
+import org.sonar.server.es.EsRequestStats;
 
+import javax.annotation.Nullable;
+
+import java.util.Collections;
 import java.util.Set;
+import java.util.TreeSet;
 
 public class ProxyBulkRequestBuilder extends BulkRequestBuilder {
 
-  public ProxyBulkRequestBuilder(Client client) {
+  private final EsRequestStats stats;
+
+  public ProxyBulkRequestBuilder(Client client, EsRequestStats stats) {
     super(client);
+    this.stats = stats;
   }
 
   @Override
   public BulkResponse get() {
     Profiler profiler = Profiler.createIfTrace(EsClient.LOGGER).start();
+    long startedAt = System.currentTimeMillis();
+    BulkResponse response = null;
     try {
-      return super.execute().actionGet();
+      response = super.execute().actionGet();
+      return response;
     } catch (Exception e) {
       throw new IllegalStateException(String.format("Fail to execute %s", toString()), e);
     } finally {
+      record(System.currentTimeMillis() - startedAt, response);
       if (profiler.isTraceEnabled()) {
         profiler.stopTrace(toString());
       }
     }
   }
 
+  private void record(long durationMs, @Nullable BulkResponse response) {
+    Set<String> indices = new TreeSet<>();
+    for (ActionRequest item : request.requests()) {
+      if (item instanceof IndicesRequest) {
+        Collections.addAll(indices, ((IndicesRequest) item).indices());
+      }
+    }
+    stats.record(EsRequestStats.RequestType.BULK, indices, durationMs, response != null, request.numberOfActions(), request.estimatedSizeInBytes());
+  }
+
   @Override
   public BulkResponse get(TimeValue timeout) {
     throw unsupported();
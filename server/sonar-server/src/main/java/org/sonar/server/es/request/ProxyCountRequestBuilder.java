@@ -28,27 +28,42 @@ import org.elasticsearch.client.Client;
 import org.elasticsearch.common.unit.TimeValue;
 import org.sonar.api.utils.log.Profiler;
 import org.sonar.server.es.EsClient;
+import org.sonar.server.es.EsRequestStats;
+
+import javax.annotation.Nullable;
 
 public class ProxyCountRequestBuilder extends CountRequestBuilder {
 
-  public ProxyCountRequestBuilder(Client client) {
+  private final EsRequestStats stats;
+
+  public ProxyCountRequestBuilder(Client client, EsRequestStats stats) {
     super(client);
+    this.stats = stats;
   }
 
   @Override
   public CountResponse get() {
     Profiler profiler = Profiler.createIfTrace(EsClient.LOGGER).start();
+    long startedAt = System.currentTimeMillis();
+    CountResponse response = null;
     try {
-      return super.execute().actionGet();
+      response = super.execute().actionGet();
+      return response;
     } catch (Exception e) {
       throw new IllegalStateException(String.format("Fail to execute %s", toString()), e);
     } finally {
+      record(System.currentTimeMillis() - startedAt, response);
       if (profiler.isTraceEnabled()) {
         profiler.stopTrace(toString());
       }
     }
   }
 
+  private void record(long durationMs, @Nullable CountResponse response) {
+    long hits = response == null ? 0L : response.getCount();
+    stats.record(EsRequestStats.RequestType.COUNT, request.indices(), durationMs, response != null, hits, 0L);
+  }
+
   @Override
   public CountResponse get(TimeValue timeout) {
     throw new IllegalStateException("Not yet implemented");
@@ -32,31 +32,45 @@ import org.elasticsearch.common.xcontent.XContentFactory;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.sonar.api.utils.log.Profiler;
 import org.sonar.server.es.EsClient;
+import org.sonar.server.es.EsRequestStats;
+
+import javax.annotation.Nullable;
 
 import java.io.IOException;
 
 public class ProxyDeleteByQueryRequestBuilder extends DeleteByQueryRequestBuilder {
 
+  private final EsRequestStats stats;
+
   private QueryBuilder internalBuilder;
 
-  public ProxyDeleteByQueryRequestBuilder(Client client) {
+  public ProxyDeleteByQueryRequestBuilder(Client client, EsRequestStats stats) {
     super(client);
+    this.stats = stats;
   }
 
   @Override
   public DeleteByQueryResponse get() {
     Profiler profiler = Profiler.createIfTrace(EsClient.LOGGER).start();
+    long startedAt = System.currentTimeMillis();
+    DeleteByQueryResponse response = null;
     try {
-      return super.execute().actionGet();
+      response = super.execute().actionGet();
+      return response;
     } catch (Exception e) {
       throw new IllegalStateException(String.format("Fail to execute %s", toString()), e);
     } finally {
+      record(System.currentTimeMillis() - startedAt, response);
       if (profiler.isTraceEnabled()) {
         profiler.stopTrace(toString());
       }
     }
   }
 
+  private void record(long durationMs, @Nullable DeleteByQueryResponse response) {
+    stats.record(EsRequestStats.RequestType.DELETE_BY_QUERY, request.indices(), durationMs, response != null, 0L, 0L);
+  }
+
   @Override
   public DeleteByQueryResponse get(TimeValue timeout) {
     throw new UnsupportedOperationException("Not yet implemented");
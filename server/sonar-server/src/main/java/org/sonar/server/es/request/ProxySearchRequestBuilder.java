@@ -30,30 +30,46 @@ import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
 import org.sonar.api.utils.log.Profiler;
 import org.sonar.server.es.EsClient;
+import org.sonar.server.es.EsRequestStats;
+
+import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Arrays;
 
 public class ProxySearchRequestBuilder extends SearchRequestBuilder {
 
-  public ProxySearchRequestBuilder(Client client) {
+  private final EsRequestStats stats;
+
+  public ProxySearchRequestBuilder(Client client, EsRequestStats stats) {
     super(client);
+    this.stats = stats;
   }
 
   @Override
   public SearchResponse get() {
     Profiler profiler = Profiler.createIfTrace(EsClient.LOGGER).start();
+    long startedAt = System.currentTimeMillis();
+    SearchResponse response = null;
     try {
-      return super.execute().actionGet();
+      response = super.execute().actionGet();
+      return response;
     } catch (Exception e) {
       throw new IllegalStateException(String.format("Fail to execute %s", toString()), e);
     } finally {
+      record(System.currentTimeMillis() - startedAt, response);
       if (profiler.isTraceEnabled()) {
         profiler.stopTrace(toString());
       }
     }
   }
 
+  private void record(long durationMs, @Nullable SearchResponse response) {
+    long hits = response == null ? 0L : response.getHits().getHits().length;
+    long payloadBytes = request.source() == null ? 0L : request.source().length();
+    stats.record(EsRequestStats.RequestType.SEARCH, request.indices(), durationMs, response != null, hits, payloadBytes);
+  }
+
   @Override
   public SearchResponse get(TimeValue timeout) {
     throw new IllegalStateException("Not yet implemented");
@@ -27,27 +27,43 @@ import org.elasticsearch.client.Client;
 import org.elasticsearch.common.unit.TimeValue;
 import org.sonar.api.utils.log.Profiler;
 import org.sonar.server.es.EsClient;
+import org.sonar.server.es.EsRequestStats;
+
+import javax.annotation.Nullable;
 
 public class ProxySearchScrollRequestBuilder extends SearchScrollRequestBuilder {
 
-  public ProxySearchScrollRequestBuilder(String scrollId, Client client) {
+  private final EsRequestStats stats;
+
+  public ProxySearchScrollRequestBuilder(String scrollId, Client client, EsRequestStats stats) {
     super(client, scrollId);
+    this.stats = stats;
   }
 
   @Override
   public SearchResponse get() {
     Profiler profiler = Profiler.createIfTrace(EsClient.LOGGER).start();
+    long startedAt = System.currentTimeMillis();
+    SearchResponse response = null;
     try {
-      return super.execute().actionGet();
+      response = super.execute().actionGet();
+      return response;
     } catch (Exception e) {
       throw new IllegalStateException(String.format("Fail to execute %s", toString()), e);
     } finally {
+      record(System.currentTimeMillis() - startedAt, response);
       if (profiler.isTraceEnabled()) {
         profiler.stopTrace(toString());
       }
     }
   }
 
+  private void record(long durationMs, @Nullable SearchResponse response) {
+    // indices are not known by scroll requests
+    long hits = response == null ? 0L : response.getHits().getHits().length;
+    stats.record(EsRequestStats.RequestType.SCROLL, (String[]) null, durationMs, response != null, hits, 0L);
+  }
+
   @Override
   public SearchResponse get(TimeValue timeout) {
     throw new IllegalStateException("Not yet implemented");
@@ -30,6 +30,8 @@ import org.sonar.core.persistence.MyBatis;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.issue.index.IssueIndexer;
 
+import java.util.Collection;
+
 /**
  * @since 3.6
  */
@@ -61,9 +63,13 @@ public class ServerIssueStorage extends IssueStorage implements ServerComponent
     dbClient.issueDao().update(session, dto);
   }
 
+  /**
+   * Only the saved issues are indexed. Table ISSUES is not scanned since the date of last indexation,
+   * which is not maintained by the compute engine.
+   */
   @Override
-  protected void doAfterSave() {
-    indexer.index();
+  protected void doAfterSave(Collection<String> issueKeys) {
+    indexer.index(issueKeys);
   }
 
   protected ComponentDto component(DbSession session, DefaultIssue issue) {
@@ -0,0 +1,141 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.issue.index;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchType;
+import org.elasticsearch.common.unit.TimeValue;
+import org.elasticsearch.index.query.FilterBuilders;
+import org.elasticsearch.index.query.OrFilterBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
+import org.sonar.api.ServerComponent;
+import org.sonar.server.es.EsClient;
+
+import javax.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * UUIDs of the projects that a user is allowed to browse, as defined by the documents of type
+ * {@link IssueIndexDefinition#TYPE_AUTHORIZATION}. Issue searches can then filter on the field
+ * {@link IssueIndexDefinition#FIELD_ISSUE_PROJECT_UUID} instead of joining issues with their parent
+ * authorization documents, which is the most expensive part of requests on large instances.
+ * <p/>
+ * Entries are shared by the users with the same login and groups. The cache is cleared by {@link #invalidate()}
+ * each time the authorization documents are updated by {@link IssueAuthorizationIndexer}.
+ */
+public class IssueAuthorizationCache implements ServerComponent {
+
+  static final int MAX_ENTRIES = 200;
+  private static final int SCROLL_TIME_IN_MINUTES = 1;
+  private static final int SCROLL_SIZE = 1000;
+
+  private final EsClient client;
+  private final Map<List<Object>, Set<String>> entries = new LinkedHashMap<List<Object>, Set<String>>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<List<Object>, Set<String>> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+  private long generation = 0L;
+
+  public IssueAuthorizationCache(EsClient client) {
+    this.client = client;
+  }
+
+  public Set<String> authorizedProjectUuids(@Nullable String userLogin, Set<String> userGroups) {
+    List<Object> key = Arrays.<Object>asList(Strings.nullToEmpty(userLogin), ImmutableSet.copyOf(userGroups));
+    long loadedGeneration;
+    synchronized (this) {
+      Set<String> projectUuids = entries.get(key);
+      if (projectUuids != null) {
+        return projectUuids;
+      }
+      loadedGeneration = generation;
+    }
+
+    // loaded out of the lock, so that a slow request does not block the other users
+    Set<String> projectUuids = load(userLogin, userGroups);
+    synchronized (this) {
+      // authorizations may have changed while loading
+      if (loadedGeneration == generation) {
+        entries.put(key, projectUuids);
+      }
+    }
+    return projectUuids;
+  }
+
+  public synchronized void invalidate() {
+    generation++;
+    entries.clear();
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private Set<String> load(@Nullable String userLogin, Set<String> userGroups) {
+    OrFilterBuilder groupsAndUser = FilterBuilders.orFilter();
+    if (userLogin != null) {
+      groupsAndUser.add(FilterBuilders.termFilter(IssueIndexDefinition.FIELD_AUTHORIZATION_USERS, userLogin));
+    }
+    for (String group : userGroups) {
+      groupsAndUser.add(FilterBuilders.termFilter(IssueIndexDefinition.FIELD_AUTHORIZATION_GROUPS, group));
+    }
+    SearchResponse response = client.prepareSearch(IssueIndexDefinition.INDEX)
+      .setTypes(IssueIndexDefinition.TYPE_AUTHORIZATION)
+      .setSearchType(SearchType.SCAN)
+      .setScroll(TimeValue.timeValueMinutes(SCROLL_TIME_IN_MINUTES))
+      .setSize(SCROLL_SIZE)
+      .setNoFields()
+      .setQuery(QueryBuilders.filteredQuery(QueryBuilders.matchAllQuery(), groupsAndUser))
+      .get();
+
+    // id of authorization document is the project uuid
+    ImmutableSet.Builder<String> projectUuids = ImmutableSet.builder();
+    String scrollId = response.getScrollId();
+    try {
+      while (true) {
+        response = client.prepareSearchScroll(scrollId)
+          .setScroll(TimeValue.timeValueMinutes(SCROLL_TIME_IN_MINUTES))
+          .get();
+        scrollId = response.getScrollId();
+        SearchHit[] hits = response.getHits().getHits();
+        if (hits.length == 0) {
+          break;
+        }
+        for (SearchHit hit : hits) {
+          projectUuids.add(hit.getId());
+        }
+      }
+    } finally {
+      // release the search context immediately instead of waiting for its expiration
+      client.prepareClearScroll(scrollId).get();
+    }
+    return projectUuids.build();
+  }
+}
@@ -45,10 +45,12 @@ import java.util.Map;
 public class IssueAuthorizationIndexer extends BaseIndexer {
 
   private final DbClient dbClient;
+  private final IssueAuthorizationCache authorizationCache;
 
-  public IssueAuthorizationIndexer(DbClient dbClient, EsClient esClient) {
+  public IssueAuthorizationIndexer(DbClient dbClient, EsClient esClient, IssueAuthorizationCache authorizationCache) {
     super(esClient, 0L, IssueIndexDefinition.INDEX, IssueIndexDefinition.TYPE_AUTHORIZATION);
     this.dbClient = dbClient;
+    this.authorizationCache = authorizationCache;
   }
 
   @Override
@@ -84,6 +86,9 @@ public class IssueAuthorizationIndexer extends BaseIndexer {
       maxDate = Math.max(maxDate, authorization.getUpdatedAt());
     }
     bulk.stop();
+    if (!authorizations.isEmpty()) {
+      authorizationCache.invalidate();
+    }
     return maxDate;
   }
 
@@ -92,6 +97,7 @@ public class IssueAuthorizationIndexer extends BaseIndexer {
       .prepareDelete(IssueIndexDefinition.INDEX, IssueIndexDefinition.TYPE_AUTHORIZATION, uuid)
       .setRefresh(refresh)
       .get();
+    authorizationCache.invalidate();
   }
 
   private ActionRequest newUpdateRequest(IssueAuthorizationDao.Dto dto) {
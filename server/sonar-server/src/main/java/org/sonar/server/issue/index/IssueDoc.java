@@ -19,10 +19,14 @@
  */
 package org.sonar.server.issue.index;
 
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang.BooleanUtils;
 import org.sonar.api.issue.Issue;
 import org.sonar.api.issue.IssueComment;
+import org.sonar.api.resources.Scopes;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.api.rule.Severity;
 import org.sonar.api.utils.Duration;
@@ -36,6 +40,8 @@ import java.util.*;
 
 public class IssueDoc extends BaseDoc implements Issue {
 
+  private static final Splitter MODULE_PATH_SPLITTER = Splitter.on('.').trimResults().omitEmptyStrings();
+
   public IssueDoc(Map<String, Object> fields) {
     super(fields);
   }
@@ -159,6 +165,14 @@ public class IssueDoc extends BaseDoc implements Issue {
     return getFieldAsDate(IssueIndexDefinition.FIELD_ISSUE_FUNC_UPDATED_AT);
   }
 
+  /**
+   * Date of last indexed change in db
+   */
+  @CheckForNull
+  public Date technicalUpdateDate() {
+    return getNullableFieldAsDate(IssueIndexDefinition.FIELD_ISSUE_TECHNICAL_UPDATED_AT);
+  }
+
   @Override
   @CheckForNull
   public Date closeDate() {
@@ -356,6 +370,48 @@ public class IssueDoc extends BaseDoc implements Issue {
     return this;
   }
 
+  /**
+   * Sets the fields related to the component of the issue, as stored in table PROJECTS
+   */
+  public IssueDoc setComponentPaths(String moduleUuidPath, @Nullable String path, String scope) {
+    setModuleUuid(extractModule(moduleUuidPath));
+    setModuleUuidPath(moduleUuidPath);
+    String filePath = extractFilePath(path, scope);
+    setFilePath(filePath);
+    setDirectoryPath(extractDirPath(filePath, scope));
+    return this;
+  }
+
+  @CheckForNull
+  private static String extractDirPath(@Nullable String filePath, String scope) {
+    if (filePath != null) {
+      if (Scopes.DIRECTORY.equals(scope)) {
+        return filePath;
+      }
+      int lastSlashIndex = CharMatcher.anyOf("/").lastIndexIn(filePath);
+      if (lastSlashIndex > 0) {
+        return filePath.substring(0, lastSlashIndex);
+      }
+      return "/";
+    }
+    return null;
+  }
+
+  @CheckForNull
+  private static String extractFilePath(@Nullable String filePath, String scope) {
+    // On modules, the path contains the relative path of the module starting from its parent, and in E/S we're only interested in the path
+    // of files and directories.
+    // That's why the file path should be null on modules and projects.
+    if (filePath != null && !Scopes.PROJECT.equals(scope)) {
+      return filePath;
+    }
+    return null;
+  }
+
+  private static String extractModule(String moduleUuidPath) {
+    return Iterators.getLast(MODULE_PATH_SPLITTER.split(moduleUuidPath).iterator());
+  }
+
   @Override
   @CheckForNull
   public Collection<String> tags() {
@@ -118,11 +118,13 @@ public class IssueIndex extends BaseIndex {
 
   private final Sorting sorting;
   private final System2 system;
+  private final IssueAuthorizationCache authorizationCache;
 
-  public IssueIndex(EsClient client, System2 system) {
+  public IssueIndex(EsClient client, System2 system, IssueAuthorizationCache authorizationCache) {
     super(client);
 
     this.system = system;
+    this.authorizationCache = authorizationCache;
     this.sorting = new Sorting();
     this.sorting.add(IssueQuery.SORT_BY_ASSIGNEE, IssueIndexDefinition.FIELD_ISSUE_ASSIGNEE);
     this.sorting.add(IssueQuery.SORT_BY_STATUS, IssueIndexDefinition.FIELD_ISSUE_STATUS);
@@ -304,20 +306,10 @@ public class IssueIndex extends BaseIndex {
 
   private FilterBuilder createAuthorizationFilter(boolean checkAuthorization, @Nullable String userLogin, Set<String> userGroups) {
     if (checkAuthorization) {
-      OrFilterBuilder groupsAndUser = FilterBuilders.orFilter();
-      if (userLogin != null) {
-        groupsAndUser.add(FilterBuilders.termFilter(IssueIndexDefinition.FIELD_AUTHORIZATION_USERS, userLogin));
-      }
-      for (String group : userGroups) {
-        groupsAndUser.add(FilterBuilders.termFilter(IssueIndexDefinition.FIELD_AUTHORIZATION_GROUPS, group));
-      }
-      return FilterBuilders.hasParentFilter(IssueIndexDefinition.TYPE_AUTHORIZATION,
-        QueryBuilders.filteredQuery(
-          QueryBuilders.matchAllQuery(),
-          FilterBuilders.boolFilter()
-            .must(groupsAndUser)
-            .cache(true))
-        );
+      // terms filter is cached as a bitset by Elasticsearch. It is much cheaper than a has_parent join
+      // on the authorization documents.
+      return FilterBuilders.termsFilter(IssueIndexDefinition.FIELD_ISSUE_PROJECT_UUID,
+        authorizationCache.authorizedProjectUuids(userLogin, userGroups));
     } else {
       return FilterBuilders.matchAllFilter();
     }
@@ -688,9 +680,21 @@ public class IssueIndex extends BaseIndex {
    * Only fields needed for the batch are returned.
    */
   public Iterator<IssueDoc> selectIssuesForBatch(ComponentDto component) {
+    return selectIssuesForBatch(component, null);
+  }
+
+  /**
+   * When {@code changedSince} is set, only the issues updated since this date are returned,
+   * including the closed ones so that the batch can remove them from its copy.
+   */
+  public Iterator<IssueDoc> selectIssuesForBatch(ComponentDto component, @Nullable Date changedSince) {
     BoolFilterBuilder filter = FilterBuilders.boolFilter()
-      .must(createAuthorizationFilter(true, UserSession.get().login(), UserSession.get().userGroups()))
-      .mustNot(FilterBuilders.termsFilter(IssueIndexDefinition.FIELD_ISSUE_STATUS, Issue.STATUS_CLOSED));
+      .must(createAuthorizationFilter(true, UserSession.get().login(), UserSession.get().userGroups()));
+    if (changedSince == null) {
+      filter.mustNot(FilterBuilders.termsFilter(IssueIndexDefinition.FIELD_ISSUE_STATUS, Issue.STATUS_CLOSED));
+    } else {
+      filter.must(FilterBuilders.rangeFilter(IssueIndexDefinition.FIELD_ISSUE_TECHNICAL_UPDATED_AT).gte(changedSince.getTime()));
+    }
 
     switch (component.scope()) {
       case Scopes.PROJECT:
@@ -714,7 +718,7 @@ public class IssueIndex extends BaseIndex {
           IssueIndexDefinition.FIELD_ISSUE_FILE_PATH, IssueIndexDefinition.FIELD_ISSUE_SEVERITY, IssueIndexDefinition.FIELD_ISSUE_MANUAL_SEVERITY,
           IssueIndexDefinition.FIELD_ISSUE_RESOLUTION, IssueIndexDefinition.FIELD_ISSUE_STATUS, IssueIndexDefinition.FIELD_ISSUE_ASSIGNEE,
           IssueIndexDefinition.FIELD_ISSUE_LINE, IssueIndexDefinition.FIELD_ISSUE_MESSAGE, IssueIndexDefinition.FIELD_ISSUE_CHECKSUM,
-          IssueIndexDefinition.FIELD_ISSUE_FUNC_CREATED_AT},
+          IssueIndexDefinition.FIELD_ISSUE_FUNC_CREATED_AT, IssueIndexDefinition.FIELD_ISSUE_TECHNICAL_UPDATED_AT},
         null)
       .setQuery(QueryBuilders.filteredQuery(QueryBuilders.matchAllQuery(), filter));
     SearchResponse response = requestBuilder.get();
@@ -19,6 +19,7 @@
  */
 package org.sonar.server.issue.index;
 
+import com.google.common.collect.Iterables;
 import org.apache.commons.dbutils.DbUtils;
 import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.index.query.FilterBuilders;
@@ -31,10 +32,15 @@ import org.sonar.server.es.BulkIndexer;
 import org.sonar.server.es.EsClient;
 
 import java.sql.Connection;
+import java.util.Collection;
+import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 
 public class IssueIndexer extends BaseIndexer {
 
+  private static final int KEYS_PARTITION_SIZE = 1000;
+
   private final DbClient dbClient;
 
   public IssueIndexer(DbClient dbClient, EsClient esClient) {
@@ -52,12 +58,45 @@ public class IssueIndexer extends BaseIndexer {
   }
 
   /**
-   * For benchmarks
+   * Indexes the given documents without reading db, for example the issues of an analysis
+   * that are built by the compute engine. Also used by benchmarks.
    */
   public void index(Iterator<IssueDoc> issues) {
     doIndex(createBulkIndexer(false), issues);
   }
 
+  /**
+   * Indexes the issues of the given keys, as they are stored in db. Used after the
+   * changes of end-users, so that table ISSUES is not scanned since the date of last indexation.
+   * This date is not changed.
+   */
+  public void index(Collection<String> issueKeys) {
+    if (issueKeys.isEmpty()) {
+      return;
+    }
+    BulkIndexer bulk = createBulkIndexer(false);
+    DbSession dbSession = dbClient.openSession(false);
+    Connection dbConnection = dbSession.getConnection();
+    try {
+      bulk.start();
+      for (List<String> partition : Iterables.partition(issueKeys, KEYS_PARTITION_SIZE)) {
+        IssueResultSetIterator rowIt = IssueResultSetIterator.createForKeys(dbClient, dbConnection, partition);
+        try {
+          while (rowIt.hasNext()) {
+            bulk.add(newUpsertRequest(rowIt.next()));
+          }
+        } finally {
+          rowIt.close();
+        }
+      }
+      bulk.stop();
+
+    } finally {
+      DbUtils.closeQuietly(dbConnection);
+      dbSession.close();
+    }
+  }
+
   private long doIndex(BulkIndexer bulk, long lastUpdatedAt) {
     DbSession dbSession = dbClient.openSession(false);
     Connection dbConnection = dbSession.getConnection();
@@ -82,7 +121,10 @@ public class IssueIndexer extends BaseIndexer {
       bulk.add(newUpsertRequest(issue));
 
       // it's more efficient to sort programmatically than in SQL on some databases (MySQL for instance)
-      maxDate = Math.max(maxDate, issue.updateDate().getTime());
+      Date updateDate = issue.getNullableFieldAsDate(IssueIndexDefinition.FIELD_ISSUE_FUNC_UPDATED_AT);
+      if (updateDate != null) {
+        maxDate = Math.max(maxDate, updateDate.getTime());
+      }
     }
     bulk.stop();
     return maxDate;
@@ -102,6 +144,10 @@ public class IssueIndexer extends BaseIndexer {
   BulkIndexer createBulkIndexer(boolean large) {
     BulkIndexer bulk = new BulkIndexer(esClient, IssueIndexDefinition.INDEX);
     bulk.setLarge(large);
+    if (large) {
+      // overlap reading of db with indexing
+      bulk.setConcurrentRequests(BulkIndexer.LARGE_CONCURRENT_REQUESTS);
+    }
     return bulk;
   }
 
@@ -19,26 +19,21 @@
  */
 package org.sonar.server.issue.index;
 
-import com.google.common.base.CharMatcher;
 import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang.StringUtils;
-import org.sonar.api.resources.Scopes;
 import org.sonar.api.rule.RuleKey;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.db.ResultSetIterator;
 import org.sonar.server.db.migrations.SqlUtil;
 
-import javax.annotation.CheckForNull;
-import javax.annotation.Nullable;
-
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.List;
 
 import static org.sonar.api.utils.DateUtils.longToDate;
 import static org.sonar.server.db.migrations.SqlUtil.getLong;
@@ -92,9 +87,9 @@ class IssueResultSetIterator extends ResultSetIterator<IssueDoc> {
 
   private static final String SQL_AFTER_DATE = SQL_ALL + " where i.updated_at>?";
 
-  private static final Splitter TAGS_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+  private static final String SQL_BY_KEYS = SQL_ALL + " where i.kee in (%s)";
 
-  private static final Splitter MODULE_PATH_SPLITTER = Splitter.on('.').trimResults().omitEmptyStrings();
+  private static final Splitter TAGS_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
 
   private IssueResultSetIterator(PreparedStatement stmt) throws SQLException {
     super(stmt);
@@ -113,34 +108,20 @@ class IssueResultSetIterator extends ResultSetIterator<IssueDoc> {
     }
   }
 
-  @CheckForNull
-  private static String extractDirPath(@Nullable String filePath, String scope) {
-    if (filePath != null) {
-      if (Scopes.DIRECTORY.equals(scope)) {
-        return filePath;
-      }
-      int lastSlashIndex = CharMatcher.anyOf("/").lastIndexIn(filePath);
-      if (lastSlashIndex > 0) {
-        return filePath.substring(0, lastSlashIndex);
+  /**
+   * @param issueKeys must not contain more than 1'000 keys, the maximum size of SQL IN clauses on Oracle
+   */
+  static IssueResultSetIterator createForKeys(DbClient dbClient, Connection connection, List<String> issueKeys) {
+    try {
+      String sql = String.format(SQL_BY_KEYS, StringUtils.repeat("?", ",", issueKeys.size()));
+      PreparedStatement stmt = dbClient.newScrollingSelectStatement(connection, sql);
+      for (int i = 0; i < issueKeys.size(); i++) {
+        stmt.setString(i + 1, issueKeys.get(i));
       }
-      return "/";
-    }
-    return null;
-  }
-
-  @CheckForNull
-  private static String extractFilePath(@Nullable String filePath, String scope) {
-    // On modules, the path contains the relative path of the module starting from its parent, and in E/S we're only interested in the path
-    // of files and directories.
-    // That's why the file path should be null on modules and projects.
-    if (filePath != null && !Scopes.PROJECT.equals(scope)) {
-      return filePath;
+      return new IssueResultSetIterator(stmt);
+    } catch (SQLException e) {
+      throw new IllegalStateException("Fail to prepare SQL request to select issues by keys", e);
     }
-    return null;
-  }
-
-  private static String extractModule(String moduleUuidPath) {
-    return Iterators.getLast(MODULE_PATH_SPLITTER.split(moduleUuidPath).iterator());
   }
 
   @Override
@@ -176,13 +157,7 @@ class IssueResultSetIterator extends ResultSetIterator<IssueDoc> {
     doc.setRuleKey(RuleKey.of(ruleRepo, ruleKey).toString());
     doc.setLanguage(rs.getString(23));
     doc.setComponentUuid(rs.getString(24));
-    String moduleUuidPath = rs.getString(25);
-    doc.setModuleUuid(extractModule(moduleUuidPath));
-    doc.setModuleUuidPath(moduleUuidPath);
-    String scope = rs.getString(27);
-    String filePath = extractFilePath(rs.getString(26), scope);
-    doc.setFilePath(filePath);
-    doc.setDirectoryPath(extractDirPath(doc.filePath(), scope));
+    doc.setComponentPaths(rs.getString(25), rs.getString(26), rs.getString(27));
     String tags = rs.getString(28);
     doc.setTags(ImmutableList.copyOf(TAGS_SPLITTER.split(tags == null ? "" : tags)));
     return doc;
@@ -0,0 +1,128 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.measure;
+
+import org.sonar.api.ServerComponent;
+import org.sonar.api.utils.System2;
+
+import javax.annotation.CheckForNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rows returned by the execution of measure filters, so that dashboards do not execute the same SQL
+ * requests until a new analysis is published. Rows are not filtered by permissions (that is done later
+ * by the caller), so they can be shared by all users.
+ * <p/>
+ * The cache is cleared by {@link #invalidate()} when a snapshot becomes the last one of its project. Other changes
+ * of data, for example deletion of projects, are taken into account after {@link #MAX_AGE_MS}.
+ * <p/>
+ * Memory is bounded by the total number of cached rows. Least recently used entries are evicted first, and
+ * results bigger than {@link #MAX_ROWS} are never cached.
+ */
+public class MeasureFilterCache implements ServerComponent {
+
+  static final int MAX_ENTRIES = 500;
+  static final int MAX_ROWS = 100000;
+  static final long MAX_AGE_MS = 10L * 60 * 1000;
+
+  private final System2 system;
+
+  /**
+   * In access order, so the first entry is the least recently used
+   */
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private int rowCount = 0;
+  private long generation = 0L;
+
+  public MeasureFilterCache(System2 system) {
+    this.system = system;
+  }
+
+  /**
+   * To be read before executing a filter and to be passed to {@link #put(String, long, java.util.List)}, so that
+   * the rows computed concurrently with {@link #invalidate()} are not cached.
+   */
+  synchronized long generation() {
+    return generation;
+  }
+
+  @CheckForNull
+  synchronized List<MeasureFilterRow> get(String key) {
+    Entry entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (system.now() - entry.createdAt > MAX_AGE_MS) {
+      remove(key);
+      return null;
+    }
+    return entry.rows;
+  }
+
+  synchronized void put(String key, long generation, List<MeasureFilterRow> rows) {
+    if (generation != this.generation || rows.size() > MAX_ROWS) {
+      return;
+    }
+    remove(key);
+    Iterator<Entry> eldestEntries = entries.values().iterator();
+    while (eldestEntries.hasNext() && (entries.size() >= MAX_ENTRIES || rowCount + rows.size() > MAX_ROWS)) {
+      rowCount -= eldestEntries.next().rows.size();
+      eldestEntries.remove();
+    }
+    entries.put(key, new Entry(Collections.unmodifiableList(rows), system.now()));
+    rowCount += rows.size();
+  }
+
+  public synchronized void invalidate() {
+    generation++;
+    entries.clear();
+    rowCount = 0;
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  synchronized int rowCount() {
+    return rowCount;
+  }
+
+  private void remove(String key) {
+    Entry entry = entries.remove(key);
+    if (entry != null) {
+      rowCount -= entry.rows.size();
+    }
+  }
+
+  private static class Entry {
+    private final List<MeasureFilterRow> rows;
+    private final long createdAt;
+
+    Entry(List<MeasureFilterRow> rows, long createdAt) {
+      this.rows = rows;
+      this.createdAt = createdAt;
+    }
+  }
+}
@@ -26,8 +26,11 @@ import org.sonar.api.utils.log.Loggers;
 import org.sonar.api.utils.log.Profiler;
 
 import javax.annotation.Nullable;
+
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 public class MeasureFilterEngine implements ServerComponent {
 
@@ -35,10 +38,12 @@ public class MeasureFilterEngine implements ServerComponent {
 
   private final MeasureFilterFactory factory;
   private final MeasureFilterExecutor executor;
+  private final MeasureFilterCache cache;
 
-  public MeasureFilterEngine(MeasureFilterFactory factory, MeasureFilterExecutor executor) {
+  public MeasureFilterEngine(MeasureFilterFactory factory, MeasureFilterExecutor executor, MeasureFilterCache cache) {
     this.executor = executor;
     this.factory = factory;
+    this.cache = cache;
   }
 
   public MeasureFilterResult execute(Map<String, Object> filterMap, @Nullable Long userId) {
@@ -50,8 +55,7 @@ public class MeasureFilterEngine implements ServerComponent {
     try {
       profiler.addContext("request", context.getData());
       MeasureFilter filter = factory.create(filterMap);
-      List<MeasureFilterRow> rows = executor.execute(filter, context);
-      result.setRows(rows);
+      result.setRows(execute(filter, filterMap, context, profiler));
 
     } catch (NumberFormatException e) {
       result.setError(MeasureFilterResult.Error.VALUE_SHOULD_BE_A_NUMBER);
@@ -65,4 +69,28 @@ public class MeasureFilterEngine implements ServerComponent {
     }
     return result;
   }
+
+  private List<MeasureFilterRow> execute(MeasureFilter filter, Map<String, Object> filterMap, MeasureFilterContext context, Profiler profiler)
+    throws SQLException {
+    if (filter.isOnFavourites()) {
+      // favourites are specific to users and can change at any time
+      return executor.execute(filter, context);
+    }
+    String cacheKey = cacheKey(filterMap);
+    List<MeasureFilterRow> rows = cache.get(cacheKey);
+    profiler.addContext("cached", rows != null);
+    if (rows == null) {
+      long generation = cache.generation();
+      rows = executor.execute(filter, context);
+      cache.put(cacheKey, generation, rows);
+    }
+    return rows;
+  }
+
+  /**
+   * Criteria sorted by name, so that the order of parameters does not matter
+   */
+  static String cacheKey(Map<String, Object> filterMap) {
+    return Joiner.on('|').withKeyValueSeparator("=").useForNull("").join(new TreeMap<String, Object>(filterMap));
+  }
 }
@@ -118,6 +118,7 @@ import org.sonar.server.issue.db.IssueDao;
 import org.sonar.server.issue.filter.IssueFilterService;
 import org.sonar.server.issue.filter.IssueFilterWriter;
 import org.sonar.server.issue.filter.IssueFilterWs;
+import org.sonar.server.issue.index.IssueAuthorizationCache;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
 import org.sonar.server.issue.index.IssueIndex;
 import org.sonar.server.issue.index.IssueIndexDefinition;
@@ -126,6 +127,7 @@ import org.sonar.server.issue.notification.*;
 import org.sonar.server.issue.ws.*;
 import org.sonar.server.language.ws.LanguageWs;
 import org.sonar.server.language.ws.ListAction;
+import org.sonar.server.measure.MeasureFilterCache;
 import org.sonar.server.measure.MeasureFilterEngine;
 import org.sonar.server.measure.MeasureFilterExecutor;
 import org.sonar.server.measure.MeasureFilterFactory;
@@ -270,6 +272,7 @@ class ServerComponents {
 
       // issues
       IssueIndex.class,
+      IssueAuthorizationCache.class,
       IssueDao.class,
 
       // Activity
@@ -419,6 +422,7 @@ class ServerComponents {
     pico.addComponent(MeasuresDao.class, false);
     pico.addSingleton(MeasureFilterFactory.class);
     pico.addSingleton(MeasureFilterExecutor.class);
+    pico.addSingleton(MeasureFilterCache.class);
     pico.addSingleton(MeasureFilterEngine.class);
     pico.addSingleton(DefaultMetricFinder.class);
     pico.addSingleton(ServerLifecycleNotifier.class);
@@ -639,9 +643,12 @@ class ServerComponents {
       SystemMonitor.class,
       SonarQubeMonitor.class,
       EsMonitor.class,
+      EsRequestsMonitor.class,
       PluginsMonitor.class,
       JvmPropertiesMonitor.class,
-      DatabaseMonitor.class
+      DatabaseMonitor.class,
+      IndexQueueMonitor.class,
+      ComputationQueueMonitor.class
     ));
 
     // Compute engine
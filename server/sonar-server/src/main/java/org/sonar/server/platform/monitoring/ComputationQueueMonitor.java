@@ -0,0 +1,61 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.sonar.core.computation.db.AnalysisReportDto;
+import org.sonar.server.computation.AnalysisReportQueue;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Size of the queue of analysis reports. The JMX attribute "PendingReports" is also published to the
+ * monitor process by {@link org.sonar.process.MetricsPublisher}.
+ */
+public class ComputationQueueMonitor extends BaseMonitorMBean implements ComputationQueueMonitorMBean {
+
+  private final AnalysisReportQueue queue;
+
+  public ComputationQueueMonitor(AnalysisReportQueue queue) {
+    this.queue = queue;
+  }
+
+  @Override
+  public String name() {
+    return "ComputationQueue";
+  }
+
+  @Override
+  public long getPendingReports() {
+    return queue.count(AnalysisReportDto.Status.PENDING);
+  }
+
+  @Override
+  public long getWorkingReports() {
+    return queue.count(AnalysisReportDto.Status.WORKING);
+  }
+
+  @Override
+  public LinkedHashMap<String, Object> attributes() {
+    LinkedHashMap<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("Pending Reports", getPendingReports());
+    attributes.put("Working Reports", getWorkingReports());
+    return attributes;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.sonar.server.es.EsClient;
+import org.sonar.server.es.EsRequestStats;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.apache.commons.io.FileUtils.byteCountToDisplaySize;
+
+/**
+ * Latencies of the requests sent by the web server to Elasticsearch since startup
+ */
+public class EsRequestsMonitor extends BaseMonitorMBean implements EsRequestsMonitorMBean {
+
+  private final EsClient esClient;
+
+  public EsRequestsMonitor(EsClient esClient) {
+    this.esClient = esClient;
+  }
+
+  @Override
+  public String name() {
+    return "ElasticSearchRequests";
+  }
+
+  @Override
+  public long getRequests() {
+    long requests = 0L;
+    for (EsRequestStats.Stat stat : stats()) {
+      requests += stat.getRequests();
+    }
+    return requests;
+  }
+
+  @Override
+  public long getFailures() {
+    long failures = 0L;
+    for (EsRequestStats.Stat stat : stats()) {
+      failures += stat.getFailures();
+    }
+    return failures;
+  }
+
+  @Override
+  public String[] getLatencies() {
+    List<EsRequestStats.Stat> stats = stats();
+    String[] lines = new String[stats.size()];
+    for (int i = 0; i < lines.length; i++) {
+      EsRequestStats.Stat stat = stats.get(i);
+      lines[i] = String.format("%s: requests=%d failures=%d mean=%dms p50=%dms p95=%dms p99=%dms max=%dms hits=%d payload=%s",
+        label(stat), stat.getRequests(), stat.getFailures(), stat.getMeanDurationMs(), stat.getPercentileDurationMs(50),
+        stat.getPercentileDurationMs(95), stat.getPercentileDurationMs(99), stat.getMaxDurationMs(), stat.getHits(),
+        byteCountToDisplaySize(stat.getPayloadBytes()));
+    }
+    return lines;
+  }
+
+  @Override
+  public LinkedHashMap<String, Object> attributes() {
+    LinkedHashMap<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("Requests", getRequests());
+    attributes.put("Failures", getFailures());
+    for (EsRequestStats.Stat stat : stats()) {
+      LinkedHashMap<String, Object> statAttributes = new LinkedHashMap<>();
+      statAttributes.put("Requests", stat.getRequests());
+      statAttributes.put("Failures", stat.getFailures());
+      statAttributes.put("Mean (ms)", stat.getMeanDurationMs());
+      statAttributes.put("50th Percentile (ms)", stat.getPercentileDurationMs(50));
+      statAttributes.put("95th Percentile (ms)", stat.getPercentileDurationMs(95));
+      statAttributes.put("99th Percentile (ms)", stat.getPercentileDurationMs(99));
+      statAttributes.put("Max (ms)", stat.getMaxDurationMs());
+      statAttributes.put("Hits", stat.getHits());
+      statAttributes.put("Payload", byteCountToDisplaySize(stat.getPayloadBytes()));
+      attributes.put(label(stat), statAttributes);
+    }
+    return attributes;
+  }
+
+  private List<EsRequestStats.Stat> stats() {
+    return esClient.getRequestStats().all();
+  }
+
+  private static String label(EsRequestStats.Stat stat) {
+    return String.format("%s %s", stat.getType(), stat.getIndex());
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.sonar.server.search.IndexQueue;
+
+import java.util.LinkedHashMap;
+
+/**
+ * Activity of the queue of index actions
+ */
+public class IndexQueueMonitor extends BaseMonitorMBean implements IndexQueueMonitorMBean {
+
+  private final IndexQueue indexQueue;
+
+  public IndexQueueMonitor(IndexQueue indexQueue) {
+    this.indexQueue = indexQueue;
+  }
+
+  @Override
+  public String name() {
+    return "IndexQueue";
+  }
+
+  @Override
+  public int getNormalizationThreads() {
+    return indexQueue.getNormalizationThreads();
+  }
+
+  @Override
+  public int getPendingActions() {
+    return indexQueue.getPendingActions();
+  }
+
+  @Override
+  public long getProcessedActions() {
+    return indexQueue.getProcessedActions();
+  }
+
+  @Override
+  public long getBulkRequests() {
+    return indexQueue.getBulkRequests();
+  }
+
+  @Override
+  public long getAverageLatencyMs() {
+    return indexQueue.getAverageLatencyMs();
+  }
+
+  @Override
+  public long getMaxLatencyMs() {
+    return indexQueue.getMaxLatencyMs();
+  }
+
+  @Override
+  public LinkedHashMap<String, Object> attributes() {
+    LinkedHashMap<String, Object> attributes = new LinkedHashMap<>();
+    attributes.put("Normalization Threads", getNormalizationThreads());
+    attributes.put("Pending Actions", getPendingActions());
+    attributes.put("Processed Actions", getProcessedActions());
+    attributes.put("Bulk Requests", getBulkRequests());
+    attributes.put("Average Latency (ms)", getAverageLatencyMs());
+    attributes.put("Max Latency (ms)", getMaxLatencyMs());
+    return attributes;
+  }
+}
@@ -19,6 +19,8 @@
  */
 package org.sonar.server.search;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.elasticsearch.action.ActionRequest;
 import org.elasticsearch.action.admin.indices.refresh.RefreshRequest;
 import org.elasticsearch.action.admin.indices.refresh.RefreshRequestBuilder;
@@ -28,13 +30,24 @@ import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.update.UpdateRequest;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.picocontainer.Startable;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
 import org.sonar.api.ServerComponent;
+import org.sonar.api.config.Settings;
 import org.sonar.api.platform.ComponentContainer;
+import org.sonar.api.utils.System2;
 import org.sonar.api.utils.log.Logger;
 import org.sonar.api.utils.log.Loggers;
 import org.sonar.core.cluster.WorkQueue;
 import org.sonar.server.search.action.IndexAction;
 
+import javax.annotation.CheckForNull;
+
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -44,19 +57,87 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Properties({
+  @Property(
+    key = IndexQueue.THREADS_PROPERTY,
+    defaultValue = "" + IndexQueue.DEFAULT_THREADS,
+    name = "Number of threads normalizing the documents to be indexed",
+    type = PropertyType.INTEGER,
+    project = false,
+    global = false)
+})
+public class IndexQueue implements ServerComponent, WorkQueue<IndexAction<?>>, Startable {
+
+  public static final String THREADS_PROPERTY = "sonar.search.normalization.threads";
+  public static final int DEFAULT_THREADS = 2;
 
-public class IndexQueue implements ServerComponent, WorkQueue<IndexAction<?>> {
+  /**
+   * Bulk request is sent as soon as its size reaches 2Mb, while the next actions are still being normalized
+   */
+  private static final long FLUSH_BYTE_SIZE = new ByteSizeValue(2, ByteSizeUnit.MB).bytes();
+
+  private static final long NORMALIZATION_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(20);
+
+  private static final Logger LOGGER = Loggers.get(IndexQueue.class);
 
   private final SearchClient searchClient;
   private final ComponentContainer container;
+  private final System2 system;
+  private final int threads;
+  private final long flushByteSize;
 
-  private static final Logger LOGGER = Loggers.get(IndexQueue.class);
+  /**
+   * Shared by all the calls to {@link #enqueue(java.util.List)}
+   */
+  private final ExecutorService normalizationExecutor;
 
-  private static final Integer CONCURRENT_NORMALIZATION_FACTOR = 1;
+  private final AtomicInteger pendingActions = new AtomicInteger();
+  private final AtomicLong processedActions = new AtomicLong();
+  private final AtomicLong bulkRequests = new AtomicLong();
+  private final AtomicLong enqueueCalls = new AtomicLong();
+  private final AtomicLong totalLatencyMs = new AtomicLong();
+  private final AtomicLong maxLatencyMs = new AtomicLong();
+
+  public IndexQueue(SearchClient searchClient, ComponentContainer container, Settings settings, System2 system) {
+    this(searchClient, container, system, numberOfThreads(settings), FLUSH_BYTE_SIZE);
+  }
 
-  public IndexQueue(SearchClient searchClient, ComponentContainer container) {
+  @VisibleForTesting
+  IndexQueue(SearchClient searchClient, ComponentContainer container, System2 system, int threads, long flushByteSize) {
     this.searchClient = searchClient;
     this.container = container;
+    this.system = system;
+    this.threads = threads;
+    this.flushByteSize = flushByteSize;
+    this.normalizationExecutor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+      .setNameFormat("IndexQueue-%d")
+      .setDaemon(true)
+      .build());
+  }
+
+  @VisibleForTesting
+  static int numberOfThreads(Settings settings) {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    return threads;
+  }
+
+  @Override
+  public void start() {
+    // nothing to do, threads are created on demand
+  }
+
+  @Override
+  public void stop() {
+    normalizationExecutor.shutdownNow();
   }
 
   @Override
@@ -64,34 +145,117 @@ public class IndexQueue implements ServerComponent, WorkQueue<IndexAction<?>> {
     if (actions.isEmpty()) {
       return;
     }
-    boolean refreshRequired = false;
+    long start = system.now();
+    pendingActions.addAndGet(actions.size());
+    try {
+      doEnqueue(actions);
+      processedActions.addAndGet(actions.size());
+    } finally {
+      pendingActions.addAndGet(-actions.size());
+      recordLatency(system.now() - start);
+    }
+  }
 
+  private void doEnqueue(List<IndexAction<?>> actions) {
     Map<String, Index> indexes = getIndexMap();
-    Set<String> indices = new HashSet<String>();
+    Set<String> requiredIndices = new HashSet<String>();
+    Set<String> allIndices = new HashSet<String>();
     for (IndexAction action : actions) {
       Index index = indexes.get(action.getIndexType());
       action.setIndex(index);
+      if (index != null) {
+        allIndices.add(index.getIndexName());
+      }
       if (action.needsRefresh()) {
-        refreshRequired = true;
-        indices.add(index.getIndexName());
+        requiredIndices.add(index.getIndexName());
       }
     }
 
-    BulkRequestBuilder bulkRequestBuilder = searchClient.prepareBulk();
-
-    processActionsIntoQueries(bulkRequestBuilder, actions);
+    List<Future<List<? extends ActionRequest>>> normalizations = new ArrayList<Future<List<? extends ActionRequest>>>(actions.size());
+    try {
+      for (IndexAction<?> action : actions) {
+        normalizations.add(normalizationExecutor.submit((IndexAction) action));
+      }
+      Set<String> indicesToRefresh = processNormalizations(normalizations, allIndices);
+      if (indicesToRefresh != null) {
+        indicesToRefresh.addAll(requiredIndices);
+        refreshRequiredIndex(indicesToRefresh);
+      }
+    } finally {
+      // does nothing on completed tasks
+      for (Future<?> normalization : normalizations) {
+        normalization.cancel(true);
+      }
+    }
+  }
 
+  /**
+   * Actions are normalized in parallel by the shared executor. Each normalizer opens its own DbSession.
+   * Normalized requests are added to bulk requests in the order of actions. A bulk request is
+   * sent as soon as it is big enough, so large lists of actions are streamed to Elasticsearch.
+   * Bulk requests are never refreshed by themselves, as a refresh would cover only the indices of the last one.
+   *
+   * @return the indices to be refreshed because of an inline refresh request, or null if nothing was indexed
+   */
+  @CheckForNull
+  private Set<String> processNormalizations(List<Future<List<? extends ActionRequest>>> normalizations, Set<String> allIndices) {
+    long deadline = system.now() + NORMALIZATION_TIMEOUT_MS;
+    boolean hasInlineRefreshRequest = false;
+    boolean executed = false;
+    BulkRequestBuilder bulkRequestBuilder = searchClient.prepareBulk();
+    for (Future<List<? extends ActionRequest>> normalization : normalizations) {
+      for (ActionRequest update : normalizedRequests(normalization, deadline)) {
+        if (RefreshRequest.class.isAssignableFrom(update.getClass())) {
+          hasInlineRefreshRequest = true;
+        } else {
+          addToBulk(bulkRequestBuilder, update);
+        }
+      }
+      if (bulkRequestBuilder.numberOfActions() > 0 && bulkRequestBuilder.request().estimatedSizeInBytes() >= flushByteSize) {
+        executeBulk(bulkRequestBuilder);
+        executed = true;
+        bulkRequestBuilder = searchClient.prepareBulk();
+      }
+    }
     if (bulkRequestBuilder.numberOfActions() > 0) {
-      // execute the request
-      BulkResponse response = bulkRequestBuilder.setRefresh(false).get();
+      executeBulk(bulkRequestBuilder);
+      executed = true;
+    }
+    if (!executed) {
+      return null;
+    }
+    Set<String> indicesToRefresh = new HashSet<String>();
+    if (hasInlineRefreshRequest) {
+      indicesToRefresh.addAll(allIndices);
+    }
+    return indicesToRefresh;
+  }
 
-      if (refreshRequired) {
-        this.refreshRequiredIndex(indices);
-      }
+  private List<? extends ActionRequest> normalizedRequests(Future<List<? extends ActionRequest>> normalization, long deadline) {
+    try {
+      return normalization.get(Math.max(0L, deadline - system.now()), TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not execute normalization for stack", e);
+    }
+  }
 
-      if (response.hasFailures()) {
-        throw new IllegalStateException("Errors while indexing stack: " + response.buildFailureMessage());
-      }
+  private static void addToBulk(BulkRequestBuilder bulkRequestBuilder, ActionRequest update) {
+    if (IndexRequest.class.isAssignableFrom(update.getClass())) {
+      bulkRequestBuilder.add((IndexRequest) update);
+    } else if (UpdateRequest.class.isAssignableFrom(update.getClass())) {
+      bulkRequestBuilder.add((UpdateRequest) update);
+    } else if (DeleteRequest.class.isAssignableFrom(update.getClass())) {
+      bulkRequestBuilder.add((DeleteRequest) update);
+    } else {
+      throw new IllegalStateException("Un-managed request type: " + update.getClass());
+    }
+  }
+
+  private void executeBulk(BulkRequestBuilder bulkRequestBuilder) {
+    BulkResponse response = bulkRequestBuilder.setRefresh(false).get();
+    bulkRequests.incrementAndGet();
+    if (response.hasFailures()) {
+      throw new IllegalStateException("Errors while indexing stack: " + response.buildFailureMessage());
     }
   }
 
@@ -108,32 +272,12 @@ public class IndexQueue implements ServerComponent, WorkQueue<IndexAction<?>> {
     }
   }
 
-  private void processActionsIntoQueries(BulkRequestBuilder bulkRequestBuilder, List<IndexAction<?>> actions) {
-    try {
-      boolean hasInlineRefreshRequest = false;
-      ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_NORMALIZATION_FACTOR);
-      // invokeAll() blocks until ALL tasks submitted to executor complete
-      List<Future<List<? extends ActionRequest>>> requests = (List) executorService.invokeAll(actions, 20, TimeUnit.MINUTES);
-      for (Future<List<? extends ActionRequest>> updates : requests) {
-        for (ActionRequest update : updates.get()) {
-
-          if (IndexRequest.class.isAssignableFrom(update.getClass())) {
-            bulkRequestBuilder.add((IndexRequest) update);
-          } else if (UpdateRequest.class.isAssignableFrom(update.getClass())) {
-            bulkRequestBuilder.add((UpdateRequest) update);
-          } else if (DeleteRequest.class.isAssignableFrom(update.getClass())) {
-            bulkRequestBuilder.add((DeleteRequest) update);
-          } else if (RefreshRequest.class.isAssignableFrom(update.getClass())) {
-            hasInlineRefreshRequest = true;
-          } else {
-            throw new IllegalStateException("Un-managed request type: " + update.getClass());
-          }
-        }
-      }
-      executorService.shutdown();
-      bulkRequestBuilder.setRefresh(hasInlineRefreshRequest);
-    } catch (Exception e) {
-      throw new IllegalStateException("Could not execute normalization for stack", e);
+  private void recordLatency(long latencyMs) {
+    enqueueCalls.incrementAndGet();
+    totalLatencyMs.addAndGet(latencyMs);
+    long max = maxLatencyMs.get();
+    while (latencyMs > max && !maxLatencyMs.compareAndSet(max, latencyMs)) {
+      max = maxLatencyMs.get();
     }
   }
 
@@ -144,4 +288,32 @@ public class IndexQueue implements ServerComponent, WorkQueue<IndexAction<?>> {
     }
     return indexes;
   }
+
+  public int getNormalizationThreads() {
+    return threads;
+  }
+
+  /**
+   * Number of actions that are being normalized or indexed
+   */
+  public int getPendingActions() {
+    return pendingActions.get();
+  }
+
+  public long getProcessedActions() {
+    return processedActions.get();
+  }
+
+  public long getBulkRequests() {
+    return bulkRequests.get();
+  }
+
+  public long getAverageLatencyMs() {
+    long calls = enqueueCalls.get();
+    return calls == 0L ? 0L : (totalLatencyMs.get() / calls);
+  }
+
+  public long getMaxLatencyMs() {
+    return maxLatencyMs.get();
+  }
 }
@@ -54,6 +54,7 @@ import org.picocontainer.Startable;
 import org.sonar.api.config.Settings;
 import org.sonar.process.LoopbackAddress;
 import org.sonar.process.ProcessConstants;
+import org.sonar.server.es.EsRequestStats;
 import org.sonar.server.es.request.ProxyBulkRequestBuilder;
 import org.sonar.server.es.request.ProxyCountRequestBuilder;
 import org.sonar.server.es.request.ProxyCreateIndexRequestBuilder;
@@ -72,6 +73,8 @@ import org.sonar.server.es.request.ProxySearchScrollRequestBuilder;
  */
 public class SearchClient extends TransportClient implements Startable {
 
+  private final EsRequestStats requestStats = new EsRequestStats();
+
   public SearchClient(Settings settings) {
     super(ImmutableSettings.settingsBuilder()
       .put("node.name", StringUtils.defaultIfEmpty(settings.getString(ProcessConstants.CLUSTER_NODE_NAME), "sq_local_client"))
@@ -84,6 +87,13 @@ public class SearchClient extends TransportClient implements Startable {
       settings.getInt(ProcessConstants.SEARCH_PORT)));
   }
 
+  /**
+   * Shared with {@link org.sonar.server.es.EsClient}
+   */
+  public EsRequestStats getRequestStats() {
+    return requestStats;
+  }
+
   private void initLogging() {
     ESLoggerFactory.setDefaultFactory(new Slf4jESLoggerFactory());
   }
@@ -106,12 +116,12 @@ public class SearchClient extends TransportClient implements Startable {
 
   @Override
   public SearchRequestBuilder prepareSearch(String... indices) {
-    return new ProxySearchRequestBuilder(this).setIndices(indices);
+    return new ProxySearchRequestBuilder(this, requestStats).setIndices(indices);
   }
 
   @Override
   public SearchScrollRequestBuilder prepareSearchScroll(String scrollId) {
-    return new ProxySearchScrollRequestBuilder(scrollId, this);
+    return new ProxySearchScrollRequestBuilder(scrollId, this, requestStats);
   }
 
   @Override
@@ -126,17 +136,17 @@ public class SearchClient extends TransportClient implements Startable {
 
   @Override
   public CountRequestBuilder prepareCount(String... indices) {
-    return new ProxyCountRequestBuilder(this).setIndices(indices);
+    return new ProxyCountRequestBuilder(this, requestStats).setIndices(indices);
   }
 
   @Override
   public BulkRequestBuilder prepareBulk() {
-    return new ProxyBulkRequestBuilder(this);
+    return new ProxyBulkRequestBuilder(this, requestStats);
   }
 
   @Override
   public DeleteByQueryRequestBuilder prepareDeleteByQuery(String... indices) {
-    return new ProxyDeleteByQueryRequestBuilder(this).setIndices(indices);
+    return new ProxyDeleteByQueryRequestBuilder(this, requestStats).setIndices(indices);
   }
 
   // ****************************************************************************************************************
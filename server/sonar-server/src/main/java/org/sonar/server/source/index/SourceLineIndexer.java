@@ -50,7 +50,10 @@ public class SourceLineIndexer extends BaseIndexer {
   @Override
   protected long doIndex(long lastUpdatedAt) {
     final BulkIndexer bulk = new BulkIndexer(esClient, SourceLineIndexDefinition.INDEX);
-    bulk.setLarge(lastUpdatedAt == 0L);
+    if (lastUpdatedAt == 0L) {
+      // overlap reading of db with indexing
+      bulk.setLarge(true).setConcurrentRequests(BulkIndexer.LARGE_CONCURRENT_REQUESTS);
+    }
 
     DbSession dbSession = dbClient.openSession(false);
     Connection dbConnection = dbSession.getConnection();
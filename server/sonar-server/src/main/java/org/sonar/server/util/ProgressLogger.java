@@ -53,6 +53,7 @@ public class ProgressLogger {
    * Warning, does not check if already started.
    */
   public void start() {
+    task.resetThroughput();
     // first log after {periodMs} milliseconds
     timer.schedule(task, periodMs, periodMs);
   }
@@ -86,6 +87,19 @@ public class ProgressLogger {
     return task.pluralLabel;
   }
 
+  /**
+   * Adds to logs the number of processed items per second since the previous log, for example
+   * "4500 rows processed (75 rows/s)". Default is false.
+   */
+  public ProgressLogger setLogThroughput(boolean b) {
+    task.logThroughput = b;
+    return this;
+  }
+
+  public boolean isLogThroughput() {
+    return task.logThroughput;
+  }
+
   public void log() {
     task.log();
   }
@@ -94,6 +108,9 @@ public class ProgressLogger {
     private final AtomicLong counter;
     private final Logger logger;
     private String pluralLabel = "rows";
+    private boolean logThroughput = false;
+    private long previousCount = 0L;
+    private long previousTime = System.currentTimeMillis();
 
     private LoggerTimerTask(AtomicLong counter, Logger logger) {
       this.counter = counter;
@@ -105,8 +122,22 @@ public class ProgressLogger {
       log();
     }
 
-    private void log() {
-      logger.info(String.format("%d %s processed", counter.get(), pluralLabel));
+    private synchronized void resetThroughput() {
+      previousCount = counter.get();
+      previousTime = System.currentTimeMillis();
+    }
+
+    private synchronized void log() {
+      long count = counter.get();
+      if (logThroughput) {
+        long now = System.currentTimeMillis();
+        long throughput = now > previousTime ? (count - previousCount) * 1000L / (now - previousTime) : 0L;
+        previousCount = count;
+        previousTime = now;
+        logger.info(String.format("%d %s processed (%d %s/s)", count, pluralLabel, throughput, pluralLabel));
+      } else {
+        logger.info(String.format("%d %s processed", count, pluralLabel));
+      }
     }
   }
 }
@@ -23,32 +23,57 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.sonar.api.utils.System2;
 import org.sonar.server.util.CloseableIterator;
-import org.sonar.server.util.ObjectInputStreamIterator;
 
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
-import java.io.Serializable;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 /**
  * Serialize and deserialize objects on disk. No search capabilities, only traversal (full scan).
+ * <p/>
+ * Objects are encoded by a {@link org.sonar.server.util.cache.DiskCacheCodec} and grouped in blocks, which
+ * are optionally compressed with deflate. A block is stored as its stored size and its uncompressed size, followed
+ * by its content.
  */
-public class DiskCache<O extends Serializable> {
+public class DiskCache<O> {
+
+  /**
+   * Approximate size in bytes of the uncompressed blocks
+   */
+  static final int BLOCK_SIZE = 64 * 1024;
 
   private final File file;
   private final System2 system2;
+  private final DiskCacheCodec<O> codec;
+  private final boolean compressed;
 
+  /**
+   * Objects are serialized with Java serialization, without compression
+   */
   public DiskCache(File file, System2 system2) {
+    this(file, system2, new JavaSerializationCodec<O>(), false);
+  }
+
+  public DiskCache(File file, System2 system2, DiskCacheCodec<O> codec, boolean compressed) {
     this.system2 = system2;
     this.file = file;
+    this.codec = codec;
+    this.compressed = compressed;
     OutputStream output = null;
     try {
-      // writes the serialization stream header required when calling "traverse()"
-      // on empty stream. Moreover it allows to call multiple times "newAppender()"
-      output = new ObjectOutputStream(new FileOutputStream(file));
-      output.flush();
+      // truncates the file, if it already exists. It allows to call multiple times "newAppender()"
+      output = new FileOutputStream(file);
 
       // raise an exception if can't close
       system2.close(output);
@@ -63,25 +88,57 @@ public class DiskCache<O extends Serializable> {
     return new DiskAppender();
   }
 
+  /**
+   * Creates an empty cache, stored in the same directory and encoded the same way than this cache. It allows
+   * to append objects concurrently, each thread having its own segment. Segments are
+   * then added to this cache with {@link #merge(DiskCache)}.
+   */
+  public DiskCache<O> newSegment() {
+    try {
+      return new DiskCache<>(File.createTempFile(file.getName(), ".segment", file.getParentFile()), system2, codec, compressed);
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to create segment of file: " + file, e);
+    }
+  }
+
+  /**
+   * Appends the objects of a segment created by {@link #newSegment()}, then deletes the segment. As blocks are
+   * self-contained, they are copied without being decoded. Appenders of both caches must be closed.
+   */
+  public void merge(DiskCache<O> segment) {
+    if (segment.codec != codec || segment.compressed != compressed) {
+      throw new IllegalArgumentException("Segment is not encoded the same way than " + file + ": " + segment.file);
+    }
+    OutputStream output = null;
+    try {
+      output = new FileOutputStream(file, true);
+      FileUtils.copyFile(segment.file, output);
+      system2.close(output);
+    } catch (IOException e) {
+      IOUtils.closeQuietly(output);
+      throw new IllegalStateException(String.format("Fail to merge %s into %s", segment.file, file), e);
+    }
+    FileUtils.deleteQuietly(segment.file);
+  }
+
   public CloseableIterator<O> traverse() {
     try {
-      return new ObjectInputStreamIterator<>(FileUtils.openInputStream(file));
+      return new DiskIterator(new DataInputStream(FileUtils.openInputStream(file)));
     } catch (IOException e) {
       throw new IllegalStateException("Fail to traverse file: " + file, e);
     }
   }
 
   public class DiskAppender implements AutoCloseable {
-    private final ObjectOutputStream output;
+    private final DataOutputStream output;
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE);
+    private final DataOutputStream blockOutput = new DataOutputStream(block);
+    private final Deflater deflater;
 
     private DiskAppender() {
       try {
-        this.output = new ObjectOutputStream(new FileOutputStream(file, true)) {
-          @Override
-          protected void writeStreamHeader() throws IOException {
-            // do not write stream headers as it's already done in constructor of DiskCache
-          }
-        };
+        this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        this.deflater = compressed ? new Deflater(Deflater.BEST_SPEED) : null;
       } catch (IOException e) {
         throw new IllegalStateException("Fail to open file " + file, e);
       }
@@ -89,16 +146,110 @@ public class DiskCache<O extends Serializable> {
 
     public DiskAppender append(O object) {
       try {
-        output.writeObject(object);
+        codec.encode(object, blockOutput);
+        if (block.size() >= BLOCK_SIZE) {
+          writeBlock();
+        }
         return this;
       } catch (IOException e) {
         throw new IllegalStateException("Fail to write into file " + file, e);
       }
     }
 
+    private void writeBlock() throws IOException {
+      byte[] bytes = block.toByteArray();
+      block.reset();
+      if (deflater == null) {
+        output.writeInt(bytes.length);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+      } else {
+        deflater.reset();
+        deflater.setInput(bytes);
+        deflater.finish();
+        byte[] buffer = new byte[bytes.length + 64];
+        int storedSize = 0;
+        while (!deflater.finished()) {
+          if (storedSize == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+          }
+          storedSize += deflater.deflate(buffer, storedSize, buffer.length - storedSize);
+        }
+        output.writeInt(storedSize);
+        output.writeInt(bytes.length);
+        output.write(buffer, 0, storedSize);
+      }
+    }
+
     @Override
     public void close() {
+      try {
+        if (block.size() > 0) {
+          writeBlock();
+        }
+      } catch (IOException e) {
+        IOUtils.closeQuietly(output);
+        throw new IllegalStateException("Fail to write into file " + file, e);
+      } finally {
+        if (deflater != null) {
+          deflater.end();
+        }
+      }
       system2.close(output);
     }
   }
+
+  private class DiskIterator extends CloseableIterator<O> {
+    private final DataInputStream input;
+    private final Inflater inflater;
+    private DataInputStream blockInput = null;
+    private ByteArrayInputStream block = null;
+
+    private DiskIterator(DataInputStream input) {
+      this.input = input;
+      this.inflater = compressed ? new Inflater() : null;
+    }
+
+    @Override
+    protected O doNext() {
+      try {
+        if ((block == null || block.available() == 0) && !readBlock()) {
+          return null;
+        }
+        return codec.decode(blockInput);
+      } catch (IOException | DataFormatException e) {
+        throw new IllegalStateException("Fail to read file " + file, e);
+      }
+    }
+
+    private boolean readBlock() throws IOException, DataFormatException {
+      int storedSize;
+      try {
+        storedSize = input.readInt();
+      } catch (EOFException e) {
+        return false;
+      }
+      int rawSize = input.readInt();
+      byte[] stored = new byte[storedSize];
+      input.readFully(stored);
+      byte[] raw = stored;
+      if (inflater != null) {
+        raw = new byte[rawSize];
+        inflater.reset();
+        inflater.setInput(stored);
+        inflater.inflate(raw);
+      }
+      block = new ByteArrayInputStream(raw);
+      blockInput = new DataInputStream(block);
+      return true;
+    }
+
+    @Override
+    protected void doClose() {
+      IOUtils.closeQuietly(input);
+      if (inflater != null) {
+        inflater.end();
+      }
+    }
+  }
 }
@@ -0,0 +1,62 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.util.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Default codec, based on Java serialization. It is slow and verbose, as class descriptors are
+ * written for each object, so a dedicated codec should be preferred for large caches.
+ */
+public class JavaSerializationCodec<O> implements DiskCacheCodec<O> {
+
+  @Override
+  public void encode(O object, DataOutput output) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(bytes);
+    objectOutput.writeObject(object);
+    objectOutput.close();
+    output.writeInt(bytes.size());
+    output.write(bytes.toByteArray());
+  }
+
+  @Override
+  public O decode(DataInput input) throws IOException {
+    byte[] bytes = new byte[input.readInt()];
+    input.readFully(bytes);
+    ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(bytes));
+    try {
+      // objects are written only by encode(O), so the type of the deserialized object is O
+      @SuppressWarnings("unchecked")
+      O object = (O) objectInput.readObject();
+      return object;
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("Fail to deserialize object", e);
+    } finally {
+      objectInput.close();
+    }
+  }
+}
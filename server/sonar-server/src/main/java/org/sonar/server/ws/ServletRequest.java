@@ -47,6 +47,11 @@ public class ServletRequest extends ValidatingRequest {
     return source.getParameterMap().containsKey(key) || params.keySet().contains(key);
   }
 
+  @Override
+  public String header(String name) {
+    return source.getHeader(name);
+  }
+
   @Override
   protected String readParam(String key) {
     String value = source.getParameter(key);
@@ -30,12 +30,15 @@ import javax.annotation.CheckForNull;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 public class ServletResponse implements Response {
 
-  public static class ServletStream implements Stream {
+  public static class ServletStream implements HeaderAwareStream {
     private String mediaType;
     private int httpStatus = 200;
+    private final Map<String, String> headers = new LinkedHashMap<>();
     private final ByteArrayOutputStream output = new ByteArrayOutputStream();
 
     @CheckForNull
@@ -59,6 +62,16 @@ public class ServletResponse implements Response {
       return this;
     }
 
+    @Override
+    public ServletStream setHeader(String name, String value) {
+      headers.put(name, value);
+      return this;
+    }
+
+    public Map<String, String> headers() {
+      return headers;
+    }
+
     @Override
     public OutputStream output() {
       return output;
@@ -26,6 +26,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.sonar.api.config.Settings;
+import org.sonar.api.issue.Issue;
 import org.sonar.api.platform.Server;
 import org.sonar.api.security.DefaultGroups;
 import org.sonar.api.utils.System2;
@@ -52,6 +53,8 @@ import javax.annotation.Nullable;
 
 import java.io.ByteArrayInputStream;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -88,9 +91,10 @@ public class IssuesActionTest {
     this.session = db.myBatis().openSession(false);
 
     DbClient dbClient = new DbClient(db.database(), db.myBatis(), new IssueDao(db.myBatis()), new ComponentDao());
-    issueIndex = new IssueIndex(es.client(), System2.INSTANCE);
+    IssueAuthorizationCache authorizationCache = new IssueAuthorizationCache(es.client());
+    issueIndex = new IssueIndex(es.client(), System2.INSTANCE, authorizationCache);
     issueIndexer = new IssueIndexer(null, es.client());
-    issueAuthorizationIndexer = new IssueAuthorizationIndexer(null, es.client());
+    issueAuthorizationIndexer = new IssueAuthorizationIndexer(null, es.client(), authorizationCache);
     issuesAction = new IssuesAction(dbClient, issueIndex);
     componentDao = new ComponentDao();
 
@@ -298,6 +302,35 @@ public class IssuesActionTest {
     assertThat(previousIssue.getAssigneeLogin()).isEqualTo("john");
   }
 
+  @Test
+  public void issues_changed_since_date() throws Exception {
+    ComponentDto project = ComponentTesting.newProjectDto("ABCD").setKey(PROJECT_KEY);
+    ComponentDto module = ComponentTesting.newModuleDto("BCDE", project).setKey(MODULE_KEY);
+    ComponentDto file = ComponentTesting.newFileDto(module, "CDEF").setKey(FILE_KEY).setPath("src/org/struts/Action.java");
+    componentDao.insert(session, project, module, file);
+    session.commit();
+
+    indexIssues(
+      IssueTesting.newDoc("OLD", file).setTechnicalUpdateDate(new Date(1000000000L)),
+      IssueTesting.newDoc("OPEN", file).setTechnicalUpdateDate(new Date(2000000000L)),
+      IssueTesting.newDoc("CLOSED", file).setTechnicalUpdateDate(new Date(2000000000L)).setStatus(Issue.STATUS_CLOSED).setResolution(Issue.RESOLUTION_FIXED));
+
+    MockUserSession.set().setLogin("henry").setGlobalPermissions(GlobalPermissions.PREVIEW_EXECUTION);
+
+    WsTester.TestRequest request = tester.newGetRequest("batch", "issues").setParam("key", PROJECT_KEY).setParam("changedSince", "1500000000");
+    ByteArrayInputStream input = new ByteArrayInputStream(request.execute().output());
+    List<String> keys = newArrayList();
+    ServerIssue serverIssue = ServerIssue.parseDelimitedFrom(input);
+    while (serverIssue != null) {
+      // cursor of next synchronization
+      assertThat(serverIssue.getUpdateDate()).isEqualTo(2000000000L);
+      keys.add(serverIssue.getKey());
+      serverIssue = ServerIssue.parseDelimitedFrom(input);
+    }
+    // closed issues are returned so that batch can remove them
+    assertThat(keys).containsOnly("OPEN", "CLOSED");
+  }
+
   @Test(expected = ForbiddenException.class)
   public void fail_without_preview_permission() throws Exception {
     MockUserSession.set().setLogin("henry").setGlobalPermissions(GlobalPermissions.PROVISIONING);
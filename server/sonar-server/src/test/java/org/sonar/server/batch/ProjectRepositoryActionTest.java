@@ -20,6 +20,7 @@
 
 package org.sonar.server.batch;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -30,6 +31,7 @@ import org.sonar.batch.protocol.input.ProjectRepositories;
 import org.sonar.server.ws.WsTester;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -68,4 +70,49 @@ public class ProjectRepositoryActionTest {
     assertThat(queryArgumentCaptor.getValue().isPreview()).isFalse();
   }
 
+  @Test
+  public void project_referentials_in_protobuf() throws Exception {
+    ProjectRepositories projectReferentials = new ProjectRepositories();
+    projectReferentials.addSettings("foo", ImmutableMap.of("prop", "value"));
+    when(projectRepositoryLoader.load(any(ProjectRepositoryQuery.class))).thenReturn(projectReferentials);
+
+    WsTester.Result result = tester.newGetRequest("batch", "project")
+      .setParam("key", "foo")
+      .setParam("format", "protobuf")
+      .execute();
+
+    assertThat(ProjectRepositories.fromProtobuf(result.output()).settings("foo")).containsEntry("prop", "value");
+    assertThat(result.header("ETag")).isEqualTo(ProjectRepositoryAction.etag(projectReferentials.toProtobuf()));
+  }
+
+  @Test
+  public void not_modified_if_etag_matches() throws Exception {
+    ProjectRepositories projectReferentials = new ProjectRepositories();
+    projectReferentials.addSettings("foo", ImmutableMap.of("prop", "value"));
+    when(projectRepositoryLoader.load(any(ProjectRepositoryQuery.class))).thenReturn(projectReferentials);
+
+    WsTester.Result result = tester.newGetRequest("batch", "project")
+      .setParam("key", "foo")
+      .setParam("format", "protobuf")
+      .setHeader("If-None-Match", ProjectRepositoryAction.etag(projectReferentials.toProtobuf()))
+      .execute();
+
+    result.assertNotModified();
+    assertThat(result.output()).isEmpty();
+  }
+
+  @Test
+  public void modified_if_etag_does_not_match() throws Exception {
+    ProjectRepositories projectReferentials = new ProjectRepositories();
+    projectReferentials.addSettings("foo", ImmutableMap.of("prop", "value"));
+    when(projectRepositoryLoader.load(any(ProjectRepositoryQuery.class))).thenReturn(projectReferentials);
+
+    WsTester.Result result = tester.newGetRequest("batch", "project")
+      .setParam("key", "foo")
+      .setHeader("If-None-Match", "\"outdated\"")
+      .execute();
+
+    result.assertJson("{settingsByModule: {foo: {prop: \"value\"}}}", false);
+  }
+
 }
@@ -44,6 +44,7 @@ import org.sonar.core.rule.RuleParamDto;
 import org.sonar.core.source.db.FileSourceDao;
 import org.sonar.core.source.db.FileSourceDto;
 import org.sonar.server.component.ComponentTesting;
+import org.sonar.server.component.SnapshotTesting;
 import org.sonar.server.db.DbClient;
 import org.sonar.server.exceptions.ForbiddenException;
 import org.sonar.server.qualityprofile.QProfileName;
@@ -53,6 +54,7 @@ import org.sonar.server.qualityprofile.RuleActivator;
 import org.sonar.server.rule.RuleTesting;
 import org.sonar.server.tester.ServerTester;
 import org.sonar.server.user.MockUserSession;
+import org.sonar.server.ws.WsTester;
 
 import java.util.Date;
 import java.util.List;
@@ -107,6 +109,50 @@ public class ProjectRepositoryLoaderMediumTest {
     ));
   }
 
+  @Test
+  public void return_date_of_last_snapshot() throws Exception {
+    ComponentDto project = ComponentTesting.newProjectDto();
+    MockUserSession.set().setLogin("john").setGlobalPermissions(GlobalPermissions.SCAN_EXECUTION);
+    tester.get(DbClient.class).componentDao().insert(dbSession, project);
+    addDefaultProfile();
+    dbSession.commit();
+
+    // provisioned project
+    assertThat(loader.load(ProjectRepositoryQuery.create().setModuleKey(project.key())).lastAnalysisDate()).isNull();
+
+    tester.get(DbClient.class).snapshotDao().insert(dbSession, SnapshotTesting.createForProject(project).setCreatedAt(1500000000000L));
+    dbSession.commit();
+
+    assertThat(loader.load(ProjectRepositoryQuery.create().setModuleKey(project.key())).lastAnalysisDate()).isEqualTo(new Date(1500000000000L));
+  }
+
+  @Test
+  public void not_modified_if_project_did_not_change() throws Exception {
+    ComponentDto project = ComponentTesting.newProjectDto();
+    MockUserSession.set().setLogin("john").setGlobalPermissions(GlobalPermissions.SCAN_EXECUTION);
+    tester.get(DbClient.class).componentDao().insert(dbSession, project);
+    tester.get(DbClient.class).snapshotDao().insert(dbSession, SnapshotTesting.createForProject(project));
+    addDefaultProfile();
+    tester.get(DbClient.class).propertiesDao().setProperty(
+      new PropertyDto().setKey("sonar.jira.project.key").setValue("SONAR").setResourceId(project.getId()), dbSession);
+    dbSession.commit();
+
+    WsTester.Result first = tester.wsTester().newGetRequest("batch", "project")
+      .setParam("key", project.key())
+      .setParam("format", "protobuf")
+      .execute();
+    String etag = first.header("ETag");
+    assertThat(etag).isNotNull();
+
+    WsTester.Result second = tester.wsTester().newGetRequest("batch", "project")
+      .setParam("key", project.key())
+      .setParam("format", "protobuf")
+      .setHeader("If-None-Match", etag)
+      .execute();
+    second.assertNotModified();
+    assertThat(second.header("ETag")).isEqualTo(etag);
+  }
+
   @Test
   public void not_returned_secured_settings_with_only_preview_permission() throws Exception {
     ComponentDto project = ComponentTesting.newProjectDto();
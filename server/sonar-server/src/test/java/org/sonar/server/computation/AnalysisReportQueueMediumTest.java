@@ -43,6 +43,7 @@ import java.io.InputStream;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.sonar.core.computation.db.AnalysisReportDto.Status.PENDING;
 import static org.sonar.core.computation.db.AnalysisReportDto.Status.SUCCESS;
 import static org.sonar.core.computation.db.AnalysisReportDto.Status.WORKING;
 
@@ -149,6 +150,18 @@ public class AnalysisReportQueueMediumTest {
     assertThat(reports).hasSize(3);
   }
 
+  @Test
+  public void count_by_status() {
+    insertPermissionsForProject(DEFAULT_PROJECT_KEY);
+
+    sut.add(DEFAULT_PROJECT_KEY, 123L, defaultReportData());
+    sut.add(DEFAULT_PROJECT_KEY, 123L, defaultReportData());
+    sut.pop();
+
+    assertThat(sut.count(PENDING)).isEqualTo(1L);
+    assertThat(sut.count(WORKING)).isEqualTo(1L);
+  }
+
   @Test
   public void remove_remove_from_queue() {
     insertPermissionsForProject(DEFAULT_PROJECT_KEY);
@@ -23,7 +23,10 @@ import org.apache.commons.lang.RandomStringUtils;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.sonar.api.resources.Qualifiers;
+import org.sonar.api.utils.System2;
 import org.sonar.core.activity.Activity;
 import org.sonar.core.computation.db.AnalysisReportDto;
 import org.sonar.core.persistence.DbSession;
@@ -35,6 +38,9 @@ import org.sonar.server.computation.step.ComputationSteps;
 import org.sonar.server.db.DbClient;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
@@ -51,6 +57,7 @@ public class ComputationServiceTest {
   ComputationStep viewStep = mockStep(Qualifiers.VIEW);
   ComputationSteps steps = mock(ComputationSteps.class);
   ActivityService activityService = mock(ActivityService.class);
+  System2 system = mock(System2.class);
 
   @Before
   public void setUp() throws Exception {
@@ -63,10 +70,11 @@ public class ComputationServiceTest {
     dbTester.prepareDbUnit(getClass(), "shared.xml");
     DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new ComponentDao());
 
-    when(steps.orderedSteps()).thenReturn(Arrays.asList(projectStep1, projectStep2, viewStep));
+    when(steps.stages()).thenReturn(Arrays.asList(Arrays.asList(projectStep1), Arrays.asList(projectStep2, viewStep)));
+    when(system.now()).thenReturn(1500000000000L);
 
     // load report from db and parse it
-    ComputationService sut = new ComputationService(dbClient, steps, activityService);
+    ComputationService sut = new ComputationService(dbClient, steps, activityService, system);
     AnalysisReportDto report = AnalysisReportDto.newForTests(1L);
     report.setProjectKey("PROJECT_KEY");
     assertThat(report.getStatus()).isNull();
@@ -74,6 +82,7 @@ public class ComputationServiceTest {
 
     // status of report is set
     assertThat(report.getStatus()).isEqualTo(AnalysisReportDto.Status.SUCCESS);
+    assertThat(report.getFinishedAt()).isEqualTo(1500000000000L);
 
     // execute only the steps supporting the project qualifier
     verify(projectStep1).execute(any(ComputationContext.class));
@@ -88,11 +97,11 @@ public class ComputationServiceTest {
     dbTester.prepareDbUnit(getClass(), "shared.xml");
     DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new ComponentDao());
 
-    when(steps.orderedSteps()).thenReturn(Arrays.asList(projectStep1));
+    when(steps.stages()).thenReturn(Arrays.<List<ComputationStep>>asList(Arrays.asList(projectStep1)));
     doThrow(new UnsupportedOperationException()).when(projectStep1).execute(any(ComputationContext.class));
 
     // load report from db and parse it
-    ComputationService sut = new ComputationService(dbClient, steps, activityService);
+    ComputationService sut = new ComputationService(dbClient, steps, activityService, system);
     AnalysisReportDto report = AnalysisReportDto.newForTests(1L);
     report.setProjectKey("PROJECT_KEY");
     try {
@@ -105,6 +114,56 @@ public class ComputationServiceTest {
     }
   }
 
+  @Test
+  public void execute_concurrently_the_steps_of_a_stage() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "shared.xml");
+    DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new ComponentDao());
+
+    // both steps wait for each other, so they must be executed concurrently
+    final CountDownLatch latch = new CountDownLatch(2);
+    Answer waitForOtherStep = new Answer() {
+      @Override
+      public Object answer(InvocationOnMock invocation) throws Throwable {
+        latch.countDown();
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        return null;
+      }
+    };
+    doAnswer(waitForOtherStep).when(projectStep1).execute(any(ComputationContext.class));
+    doAnswer(waitForOtherStep).when(projectStep2).execute(any(ComputationContext.class));
+    when(steps.stages()).thenReturn(Arrays.<List<ComputationStep>>asList(Arrays.asList(projectStep1, projectStep2)));
+
+    ComputationService sut = new ComputationService(dbClient, steps, activityService, system);
+    AnalysisReportDto report = AnalysisReportDto.newForTests(1L);
+    report.setProjectKey("PROJECT_KEY");
+    sut.process(report);
+
+    assertThat(report.getStatus()).isEqualTo(AnalysisReportDto.Status.SUCCESS);
+    verify(projectStep1).execute(any(ComputationContext.class));
+    verify(projectStep2).execute(any(ComputationContext.class));
+  }
+
+  @Test
+  public void fail_if_a_concurrent_step_fails() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "shared.xml");
+    DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new ComponentDao());
+
+    when(steps.stages()).thenReturn(Arrays.<List<ComputationStep>>asList(Arrays.asList(projectStep1, projectStep2)));
+    doThrow(new UnsupportedOperationException()).when(projectStep2).execute(any(ComputationContext.class));
+
+    ComputationService sut = new ComputationService(dbClient, steps, activityService, system);
+    AnalysisReportDto report = AnalysisReportDto.newForTests(1L);
+    report.setProjectKey("PROJECT_KEY");
+    try {
+      sut.process(report);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      assertThat(report.getStatus()).isEqualTo(AnalysisReportDto.Status.FAILED);
+      // the other step of the stage is not interrupted
+      verify(projectStep1).execute(any(ComputationContext.class));
+    }
+  }
+
   private ComputationStep mockStep(String... qualifiers) {
     ComputationStep step = mock(ComputationStep.class);
     when(step.supportedProjectQualifiers()).thenReturn(qualifiers);
@@ -27,10 +27,12 @@ import org.junit.Test;
 import org.junit.rules.DisableOnDebug;
 import org.junit.rules.TestRule;
 import org.junit.rules.Timeout;
+import org.sonar.api.config.Settings;
 import org.sonar.api.platform.Server;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 public class ComputationThreadLauncherTest {
@@ -48,7 +50,9 @@ public class ComputationThreadLauncherTest {
 
   @After
   public void after() {
-    sut.stop();
+    if (sut != null) {
+      sut.stop();
+    }
   }
 
   @Test
@@ -74,6 +78,34 @@ public class ComputationThreadLauncherTest {
     verify(queue, atLeastOnce()).pop();
   }
 
+  @Test
+  public void call_findAndBook_from_each_worker() throws Exception {
+    sut = new ComputationThreadLauncher(queue, 3, 0, 1, TimeUnit.HOURS);
+
+    sut.onServerStart(mock(Server.class));
+
+    sleep();
+
+    verify(queue, times(3)).pop();
+  }
+
+  @Test
+  public void number_of_workers() throws Exception {
+    Settings settings = new Settings();
+    assertThat(ComputationThreadLauncher.numberOfWorkers(settings)).isEqualTo(ComputationThreadLauncher.DEFAULT_WORKERS);
+
+    settings.setProperty(ComputationThreadLauncher.WORKERS_PROPERTY, 4);
+    assertThat(ComputationThreadLauncher.numberOfWorkers(settings)).isEqualTo(4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void fail_if_negative_number_of_workers() throws Exception {
+    Settings settings = new Settings();
+    settings.setProperty(ComputationThreadLauncher.WORKERS_PROPERTY, -1);
+
+    ComputationThreadLauncher.numberOfWorkers(settings);
+  }
+
   private void sleep() throws InterruptedException {
     TimeUnit.MILLISECONDS.sleep(500L);
   }
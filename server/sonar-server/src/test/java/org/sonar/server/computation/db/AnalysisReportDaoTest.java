@@ -221,6 +221,14 @@ public class AnalysisReportDaoTest {
     assertThat(reports).hasSize(3);
   }
 
+  @Test
+  public void count_by_status() {
+    db.prepareDbUnit(getClass(), "select.xml");
+
+    assertThat(sut.countByStatus(session, PENDING)).isEqualTo(1L);
+    assertThat(sut.countByStatus(session, WORKING)).isEqualTo(2L);
+  }
+
   @Test
   public void insert_and_then_retrieve_report_data_with_decompressed_files_medium_test() throws Exception {
     // ARRANGE
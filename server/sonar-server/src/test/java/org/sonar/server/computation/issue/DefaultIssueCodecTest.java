@@ -0,0 +1,178 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation.issue;
+
+import org.junit.Test;
+import org.sonar.api.issue.internal.DefaultIssue;
+import org.sonar.api.issue.internal.DefaultIssueComment;
+import org.sonar.api.issue.internal.FieldDiffs;
+import org.sonar.api.issue.internal.IssueChangeContext;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.api.rule.Severity;
+import org.sonar.api.utils.Duration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class DefaultIssueCodecTest {
+
+  DefaultIssueCodec codec = new DefaultIssueCodec();
+
+  @Test
+  public void encode_and_decode_all_fields() throws Exception {
+    Date date = new Date(1_500_000_000_000L);
+    DefaultIssue issue = new DefaultIssue()
+      .setKey("ISSUE")
+      .setComponentUuid("FILE_UUID")
+      .setComponentKey("FILE_KEY")
+      .setModuleUuid("MODULE_UUID")
+      .setModuleUuidPath(".MODULE_UUID.")
+      .setProjectUuid("PROJECT_UUID")
+      .setProjectKey("PROJECT_KEY")
+      .setRuleKey(RuleKey.of("squid", "AvoidCycle"))
+      .setLanguage("java")
+      .setSeverity(Severity.BLOCKER)
+      .setManualSeverity(true)
+      .setMessage("the message")
+      .setLine(42)
+      .setEffortToFix(3.14)
+      .setDebt(Duration.create(10L))
+      .setStatus("OPEN")
+      .setResolution("FIXED")
+      .setReporter("reporter")
+      .setAssignee("assignee")
+      .setChecksum("checksum")
+      .setAttribute("JIRA", "FOO-123")
+      .setAuthorLogin("author")
+      .setActionPlanKey("PLAN")
+      .setTags(Arrays.asList("tag1", "tag2"))
+      .setCreationDate(date)
+      .setUpdateDate(date)
+      .setCloseDate(date)
+      .setNew(false)
+      .setEndOfLife(true)
+      .setOnDisabledRule(true)
+      .setChanged(true)
+      .setSendNotifications(true)
+      .setSelectedAt(123L);
+    DefaultIssueComment comment = DefaultIssueComment.create("ISSUE", "john", "the comment");
+    issue.addComment(comment);
+    issue.addChange(new FieldDiffs().setUserLogin("john").setCreationDate(date).setDiff("severity", "MINOR", "MAJOR"));
+    IssueChangeContext context = IssueChangeContext.createUser(date, "emmerik");
+    issue.setFieldChange(context, "technicalDebt", 10L, 20L);
+    issue.setFieldChange(context, "line", 40, 42);
+
+    DefaultIssue decoded = encodeAndDecode(issue);
+
+    assertThat(decoded.key()).isEqualTo("ISSUE");
+    assertThat(decoded.componentUuid()).isEqualTo("FILE_UUID");
+    assertThat(decoded.componentKey()).isEqualTo("FILE_KEY");
+    assertThat(decoded.moduleUuid()).isEqualTo("MODULE_UUID");
+    assertThat(decoded.moduleUuidPath()).isEqualTo(".MODULE_UUID.");
+    assertThat(decoded.projectUuid()).isEqualTo("PROJECT_UUID");
+    assertThat(decoded.projectKey()).isEqualTo("PROJECT_KEY");
+    assertThat(decoded.ruleKey()).isEqualTo(RuleKey.of("squid", "AvoidCycle"));
+    assertThat(decoded.language()).isEqualTo("java");
+    assertThat(decoded.severity()).isEqualTo(Severity.BLOCKER);
+    assertThat(decoded.manualSeverity()).isTrue();
+    assertThat(decoded.message()).isEqualTo("the message");
+    assertThat(decoded.line()).isEqualTo(42);
+    assertThat(decoded.effortToFix()).isEqualTo(3.14);
+    assertThat(decoded.debtInMinutes()).isEqualTo(10L);
+    assertThat(decoded.status()).isEqualTo("OPEN");
+    assertThat(decoded.resolution()).isEqualTo("FIXED");
+    assertThat(decoded.reporter()).isEqualTo("reporter");
+    assertThat(decoded.assignee()).isEqualTo("assignee");
+    assertThat(decoded.checksum()).isEqualTo("checksum");
+    assertThat(decoded.attributes()).containsOnly(entry("JIRA", "FOO-123"));
+    assertThat(decoded.authorLogin()).isEqualTo("author");
+    assertThat(decoded.actionPlanKey()).isEqualTo("PLAN");
+    assertThat(decoded.tags()).containsExactly("tag1", "tag2");
+    assertThat(decoded.creationDate()).isEqualTo(date);
+    assertThat(decoded.updateDate()).isEqualTo(date);
+    assertThat(decoded.closeDate()).isEqualTo(date);
+    assertThat(decoded.isNew()).isFalse();
+    assertThat(decoded.isEndOfLife()).isTrue();
+    assertThat(decoded.isOnDisabledRule()).isTrue();
+    assertThat(decoded.isChanged()).isTrue();
+    assertThat(decoded.mustSendNotifications()).isTrue();
+    assertThat(decoded.selectedAt()).isEqualTo(123L);
+
+    assertThat(decoded.comments()).hasSize(1);
+    DefaultIssueComment decodedComment = (DefaultIssueComment) decoded.comments().get(0);
+    assertThat(decodedComment.key()).isEqualTo(comment.key());
+    assertThat(decodedComment.issueKey()).isEqualTo("ISSUE");
+    assertThat(decodedComment.userLogin()).isEqualTo("john");
+    assertThat(decodedComment.markdownText()).isEqualTo("the comment");
+    assertThat(decodedComment.createdAt()).isEqualTo(comment.createdAt());
+    assertThat(decodedComment.isNew()).isTrue();
+
+    // the current change is referenced twice, as in the original issue
+    assertThat(decoded.changes()).hasSize(3);
+    assertThat(decoded.changes().get(0).toString()).isEqualTo("severity=MINOR|MAJOR");
+    assertThat(decoded.changes().get(0).userLogin()).isEqualTo("john");
+    assertThat(decoded.changes().get(1)).isSameAs(decoded.currentChange());
+    assertThat(decoded.changes().get(2)).isSameAs(decoded.currentChange());
+    assertThat(decoded.currentChange().userLogin()).isEqualTo("emmerik");
+    assertThat(decoded.currentChange().creationDate()).isEqualTo(date);
+    assertThat(decoded.currentChange().get("technicalDebt").newValue()).isEqualTo(20L);
+    assertThat(decoded.currentChange().get("line").oldValue()).isEqualTo(40);
+  }
+
+  @Test
+  public void encode_and_decode_empty_issue() throws Exception {
+    DefaultIssue decoded = encodeAndDecode(new DefaultIssue());
+
+    assertThat(decoded.key()).isNull();
+    assertThat(decoded.ruleKey()).isNull();
+    assertThat(decoded.line()).isNull();
+    assertThat(decoded.effortToFix()).isNull();
+    assertThat(decoded.debt()).isNull();
+    assertThat(decoded.status()).isNull();
+    assertThat(decoded.attributes()).isEmpty();
+    assertThat(decoded.tags()).isEmpty();
+    assertThat(decoded.comments()).isEmpty();
+    assertThat(decoded.changes()).isEmpty();
+    assertThat(decoded.currentChange()).isNull();
+    assertThat(decoded.creationDate()).isNull();
+    assertThat(decoded.selectedAt()).isNull();
+    assertThat(decoded.isNew()).isTrue();
+  }
+
+  private DefaultIssue encodeAndDecode(DefaultIssue issue) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    codec.encode(issue, output);
+    output.close();
+
+    DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    DefaultIssue decoded = codec.decode(input);
+    assertThat(input.available()).isZero();
+    return decoded;
+  }
+}
@@ -21,6 +21,7 @@ package org.sonar.server.computation.issue;
 
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -36,6 +37,7 @@ import org.sonar.server.computation.ComputationContext;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -172,8 +174,43 @@ public class IssueComputationTest {
     verifyZeroInteractions(scmAccountCache);
   }
 
+  @Test
+  public void merge_issues_of_concurrent_processors() throws Exception {
+    SourceLinesCache otherLineCache = mock(SourceLinesCache.class);
+    when(lineCache.newCache()).thenReturn(otherLineCache);
+    when(otherLineCache.lineAuthor(3)).thenReturn("charlie");
+    inputIssue.setIsNew(true);
+    inputIssue.setLine(3);
+    ComputationContext context = mock(ComputationContext.class, Mockito.RETURNS_DEEP_STUBS);
+
+    IssueComputation.ConcurrentProcessor processor1 = sut.newConcurrentProcessor();
+    IssueComputation.ConcurrentProcessor processor2 = sut.newConcurrentProcessor();
+    sut.processComponentIssues(context, "FILE_A", Arrays.asList(inputIssue.setUuid("ISSUE_A").build()).iterator());
+    processor1.processComponentIssues(context, "FILE_B", Arrays.asList(inputIssue.setUuid("ISSUE_B").build()).iterator());
+    processor2.processComponentIssues(context, "FILE_C", Arrays.asList(inputIssue.setUuid("ISSUE_C").build()).iterator());
+    processor1.close();
+    processor2.close();
+    sut.afterReportProcessing();
+
+    List<DefaultIssue> issues = Lists.newArrayList(outputIssues.traverse());
+    assertThat(issues).extracting("key").containsExactly("ISSUE_A", "ISSUE_B", "ISSUE_C");
+    assertThat(issues).extracting("componentUuid").containsExactly("FILE_A", "FILE_B", "FILE_C");
+    // each processor has its own cache of lines
+    verify(lineCache).init("FILE_A");
+    verify(otherLineCache).init("FILE_B");
+    verify(otherLineCache).init("FILE_C");
+    assertThat(issues.get(1).authorLogin()).isEqualTo("charlie");
+  }
+
+  @Test
+  public void prefetch_lines() throws Exception {
+    sut.prefetchLines(Arrays.asList("FILE_A", "FILE_B"));
+
+    verify(lineCache).prefetch(Arrays.asList("FILE_A", "FILE_B"));
+  }
+
   private void process() {
-    sut.processComponentIssues(mock(ComputationContext.class, Mockito.RETURNS_DEEP_STUBS), "FILE_A", Arrays.asList(inputIssue.build()));
+    sut.processComponentIssues(mock(ComputationContext.class, Mockito.RETURNS_DEEP_STUBS), "FILE_A", Arrays.asList(inputIssue.build()).iterator());
     sut.afterReportProcessing();
   }
 }
@@ -19,6 +19,7 @@
  */
 package org.sonar.server.computation.issue;
 
+import com.google.common.base.Function;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
@@ -31,8 +32,18 @@ import org.sonar.server.source.db.FileSourceTesting;
 import org.sonar.test.DbTests;
 
 import java.sql.Connection;
+import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 @Category(DbTests.class)
 public class SourceLinesCacheTest {
@@ -80,4 +91,58 @@ public class SourceLinesCacheTest {
     assertThat(cache.countLines()).isEqualTo(0);
   }
 
+  @Test
+  public void skip_fields_other_than_scm_author_and_date() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "load_data.xml");
+    try (Connection connection = dbTester.openConnection()) {
+      FileSourceTesting.updateDataColumn(connection, "FILE_A", FileSourceTesting.newFakeData(3).build());
+    }
+
+    SourceLinesCache cache = new SourceLinesCache(newDbClient());
+    cache.init("FILE_A");
+
+    assertThat(cache.lineAuthor(1)).isEqualTo("AUTHOR_1");
+    assertThat(cache.lineAuthor(3)).isEqualTo("AUTHOR_3");
+    // latest commit
+    assertThat(cache.lineAuthor(null)).isEqualTo("AUTHOR_3");
+    assertThat(cache.countLines()).isEqualTo(3);
+  }
+
+  @Test
+  public void prefetch_lines_of_batch_of_files_on_demand() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "load_data.xml");
+    FileSourceDb.Data.Builder data = FileSourceDb.Data.newBuilder();
+    data.addLinesBuilder().setLine(1).setScmAuthor("charb").setScmDate(1_400_000_000_000L);
+    try (Connection connection = dbTester.openConnection()) {
+      FileSourceTesting.updateDataColumn(connection, "FILE_A", data.build());
+    }
+    FileSourceDao dao = spy(new FileSourceDao(dbTester.myBatis()));
+    DbClient dbClient = mock(DbClient.class);
+    when(dbClient.fileSourceDao()).thenReturn(dao);
+
+    SourceLinesCache cache = new SourceLinesCache(dbClient);
+    cache.prefetch(Arrays.asList("FILE_WITHOUT_NEW_ISSUES", "FILE_A", "UNKNOWN_FILE"));
+
+    // nothing is loaded as long as SCM data is not needed
+    cache.init("FILE_WITHOUT_NEW_ISSUES");
+    cache.clear();
+    verifyZeroInteractions(dao);
+
+    // data of the files of the batch which are not processed yet is loaded by a single request
+    cache.init("FILE_A");
+    assertThat(cache.lineAuthor(1)).isEqualTo("charb");
+    cache.clear();
+    verify(dao).readDataStreams(eq(Arrays.asList("FILE_A", "UNKNOWN_FILE")), any(Function.class));
+
+    cache.init("UNKNOWN_FILE");
+    assertThat(cache.lineAuthor(1)).isNull();
+    assertThat(cache.lineAuthor(null)).isNull();
+    assertThat(cache.countLines()).isEqualTo(0);
+    cache.clear();
+    verify(dao, times(1)).readDataStreams(anyCollection(), any(Function.class));
+  }
+
+  private DbClient newDbClient() {
+    return new DbClient(dbTester.database(), dbTester.myBatis(), new FileSourceDao(dbTester.myBatis()));
+  }
 }
@@ -47,6 +47,12 @@ public class ComputationStepsTest {
     assertThat(registry.orderedSteps()).hasSize(11);
     assertThat(registry.orderedSteps().get(0)).isInstanceOf(ParseReportStep.class);
     assertThat(registry.orderedSteps().get(10)).isInstanceOf(SendIssueNotificationsStep.class);
+
+    assertThat(registry.stages()).hasSize(9);
+    assertThat(registry.stages().get(0)).hasSize(1);
+    assertThat(registry.stages().get(0).get(0)).isInstanceOf(ParseReportStep.class);
+    assertThat(registry.stages().get(3).get(0)).isInstanceOf(IndexComponentsStep.class);
+    assertThat(registry.stages().get(6)).hasSize(3);
   }
 
   @Test
@@ -20,27 +20,170 @@
 
 package org.sonar.server.computation.step;
 
+import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.api.issue.Issue;
+import org.sonar.api.issue.internal.DefaultIssue;
+import org.sonar.api.resources.Scopes;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.api.rule.Severity;
+import org.sonar.api.utils.System2;
+import org.sonar.core.component.ComponentDto;
+import org.sonar.core.computation.db.AnalysisReportDto;
+import org.sonar.core.issue.db.IssueDto;
+import org.sonar.core.persistence.DbSession;
+import org.sonar.core.rule.RuleDto;
+import org.sonar.server.component.db.ComponentDao;
 import org.sonar.server.computation.ComputationContext;
+import org.sonar.server.computation.issue.IssueCache;
+import org.sonar.server.computation.issue.RuleCache;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.issue.db.IssueDao;
 import org.sonar.server.issue.index.IssueAuthorizationIndexer;
+import org.sonar.server.issue.index.IssueDoc;
 import org.sonar.server.issue.index.IssueIndexer;
+import org.sonar.server.util.cache.DiskCache;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class IndexIssuesStepTest {
 
+  static final RuleKey RULE_KEY = RuleKey.of("squid", "S001");
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  IssueAuthorizationIndexer authorizationIndexer = mock(IssueAuthorizationIndexer.class);
+  IssueIndexer issueIndexer = mock(IssueIndexer.class);
+  DbClient dbClient = mock(DbClient.class);
+  ComponentDao componentDao = mock(ComponentDao.class);
+  IssueDao issueDao = mock(IssueDao.class);
+  RuleCache ruleCache = mock(RuleCache.class);
+  System2 system2 = mock(System2.class);
+  IssueCache issueCache;
+  List<IssueDoc> indexedDocs = new ArrayList<>();
+
   IndexIssuesStep sut;
 
+  @Before
+  public void setUp() throws Exception {
+    issueCache = new IssueCache(temp.newFile(), System2.INSTANCE);
+    when(dbClient.componentDao()).thenReturn(componentDao);
+    when(dbClient.issueDao()).thenReturn(issueDao);
+    when(ruleCache.get(RULE_KEY)).thenReturn(new RuleDto().setLanguage("java"));
+    when(system2.now()).thenReturn(3000L);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) throws Throwable {
+        Iterator<IssueDoc> docs = (Iterator<IssueDoc>) invocation.getArguments()[0];
+        while (docs.hasNext()) {
+          indexedDocs.add(docs.next());
+        }
+        return null;
+      }
+    }).when(issueIndexer).index(any(Iterator.class));
+    sut = new IndexIssuesStep(authorizationIndexer, issueIndexer, dbClient, issueCache, ruleCache, system2);
+  }
+
+  @Test
+  public void index_only_new_and_changed_issues_of_cache() throws Exception {
+    when(componentDao.getByUuids(any(DbSession.class), anyCollectionOf(String.class))).thenReturn(Arrays.asList(
+      new ComponentDto().setUuid("FILE_A").setModuleUuidPath(".PROJECT_A.MODULE_A.").setPath("src/main/java/Foo.java").setScope(Scopes.FILE)));
+    DiskCache<DefaultIssue>.DiskAppender appender = issueCache.newAppender();
+    appender.append(newIssue("NEW").setNew(true));
+    appender.append(newIssue("CHANGED").setChanged(true).setSeverity(Severity.BLOCKER));
+    appender.append(newIssue("UNCHANGED"));
+    appender.close();
+
+    sut.execute(mock(ComputationContext.class));
+
+    verify(authorizationIndexer).index();
+    verify(issueIndexer, never()).index();
+    assertThat(indexedDocs).hasSize(2);
+    IssueDoc doc = indexedDocs.get(1);
+    assertThat(doc.key()).isEqualTo("CHANGED");
+    assertThat(doc.severity()).isEqualTo(Severity.BLOCKER);
+    assertThat(doc.ruleKey()).isEqualTo(RULE_KEY);
+    assertThat(doc.language()).isEqualTo("java");
+    assertThat(doc.componentUuid()).isEqualTo("FILE_A");
+    assertThat(doc.projectUuid()).isEqualTo("PROJECT_A");
+    assertThat(doc.moduleUuid()).isEqualTo("MODULE_A");
+    assertThat(doc.filePath()).isEqualTo("src/main/java/Foo.java");
+    assertThat(doc.directoryPath()).isEqualTo("src/main/java");
+    assertThat(doc.technicalUpdateDate()).isEqualTo(new Date(3000L));
+    assertThat(indexedDocs.get(0).key()).isEqualTo("NEW");
+  }
+
+  @Test
+  public void index_issues_in_conflict_from_db() throws Exception {
+    when(componentDao.getByUuids(any(DbSession.class), anyCollectionOf(String.class))).thenReturn(Arrays.asList(
+      new ComponentDto().setUuid("FILE_A").setModuleUuidPath(".PROJECT_A.MODULE_A.").setPath("src/main/java/Foo.java").setScope(Scopes.FILE)));
+    DiskCache<DefaultIssue>.DiskAppender appender = issueCache.newAppender();
+    appender.append(newIssue("CHANGED").setChanged(true));
+    appender.append(newIssue("CONFLICT").setChanged(true).setAssignee(null));
+    appender.close();
+    // assignee has been merged with the change of end-user
+    when(issueDao.selectByKeys(any(DbSession.class), eq(Arrays.asList("CONFLICT")))).thenReturn(Arrays.asList(
+      new IssueDto().setKee("CONFLICT").setRuleKey(RULE_KEY.repository(), RULE_KEY.rule()).setComponentUuid("FILE_A").setProjectUuid("PROJECT_A")
+        .setSeverity(Severity.MAJOR).setStatus(Issue.STATUS_OPEN).setAssignee("john")));
+    ComputationContext context = new ComputationContext(new AnalysisReportDto(), new ComponentDto());
+    context.addConflictingIssueKeys(Arrays.asList("CONFLICT"));
+
+    sut.execute(context);
+
+    verify(issueIndexer, never()).index();
+    assertThat(indexedDocs).hasSize(2);
+    assertThat(indexedDocs.get(0).key()).isEqualTo("CHANGED");
+    IssueDoc doc = indexedDocs.get(1);
+    assertThat(doc.key()).isEqualTo("CONFLICT");
+    assertThat(doc.assignee()).isEqualTo("john");
+    assertThat(doc.filePath()).isEqualTo("src/main/java/Foo.java");
+    assertThat(doc.technicalUpdateDate()).isEqualTo(new Date(3000L));
+  }
+
   @Test
-  public void call_indexers() throws Exception {
-    IssueAuthorizationIndexer authorizationIndexer = mock(IssueAuthorizationIndexer.class);
-    IssueIndexer issueIndexer = mock(IssueIndexer.class);
-    sut = new IndexIssuesStep(authorizationIndexer, issueIndexer);
+  public void fallback_to_db_scan_if_indexing_from_cache_fails() throws Exception {
+    // component of issue is missing
+    when(componentDao.getByUuids(any(DbSession.class), anyCollectionOf(String.class))).thenReturn(Collections.<ComponentDto>emptyList());
+    DiskCache<DefaultIssue>.DiskAppender appender = issueCache.newAppender();
+    appender.append(newIssue("NEW").setNew(true));
+    appender.close();
 
     sut.execute(mock(ComputationContext.class));
 
     verify(authorizationIndexer).index();
     verify(issueIndexer).index();
   }
+
+  private static DefaultIssue newIssue(String key) {
+    return new DefaultIssue()
+      .setKey(key)
+      .setNew(false)
+      .setRuleKey(RULE_KEY)
+      .setComponentUuid("FILE_A")
+      .setProjectUuid("PROJECT_A")
+      .setSeverity(Severity.MAJOR)
+      .setStatus(Issue.STATUS_OPEN)
+      .setCreationDate(new Date(1000L))
+      .setUpdateDate(new Date(2000L));
+  }
 }
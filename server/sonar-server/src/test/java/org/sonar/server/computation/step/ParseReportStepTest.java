@@ -24,11 +24,17 @@ import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.mockito.Matchers;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.api.config.Settings;
 import org.sonar.api.utils.ZipUtils;
 import org.sonar.api.utils.internal.DefaultTempFolder;
 import org.sonar.batch.protocol.Constants;
 import org.sonar.batch.protocol.output.BatchOutputWriter;
 import org.sonar.batch.protocol.output.BatchReport;
+import org.sonar.batch.protocol.output.FileStructure;
+import org.sonar.batch.protocol.output.ReportContainer;
 import org.sonar.core.component.ComponentDto;
 import org.sonar.core.computation.db.AnalysisReportDto;
 import org.sonar.core.persistence.DbSession;
@@ -41,11 +47,24 @@ import org.sonar.server.db.DbClient;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class ParseReportStepTest {
 
@@ -62,24 +81,112 @@ public class ParseReportStepTest {
 
   @Test
   public void extract_report_from_db_and_browse_components() throws Exception {
-    AnalysisReportDto reportDto = prepareAnalysisReportInDb();
+    AnalysisReportDto reportDto = prepareAnalysisReportInDb(false, false);
 
 
     IssueComputation issueComputation = mock(IssueComputation.class);
     DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new AnalysisReportDao());
-    ParseReportStep step = new ParseReportStep(issueComputation, dbClient, new DefaultTempFolder(temp.newFolder()));
+    ParseReportStep step = new ParseReportStep(issueComputation, dbClient, new DefaultTempFolder(temp.newFolder()), new Settings());
     ComputationContext context = new ComputationContext(reportDto, mock(ComponentDto.class));
     step.execute(context);
 
     // verify that all components are processed (currently only for issues)
-    verify(issueComputation).processComponentIssues(context, "PROJECT_UUID", Collections.<BatchReport.Issue>emptyList());
-    verify(issueComputation).processComponentIssues(context, "FILE1_UUID", Collections.<BatchReport.Issue>emptyList());
-    verify(issueComputation).processComponentIssues(context, "FILE2_UUID", Collections.<BatchReport.Issue>emptyList());
+    verify(issueComputation).processComponentIssues(eq(context), eq("PROJECT_UUID"), anyIssues());
+    verify(issueComputation).processComponentIssues(eq(context), eq("FILE1_UUID"), anyIssues());
+    verify(issueComputation).processComponentIssues(eq(context), eq("FILE2_UUID"), anyIssues());
     verify(issueComputation).afterReportProcessing();
     assertThat(context.getReportMetadata().getRootComponentRef()).isEqualTo(1);
   }
 
-  private AnalysisReportDto prepareAnalysisReportInDb() throws IOException {
+  @Test
+  public void stream_issues_and_prefetch_scm_data_by_batch_of_files() throws Exception {
+    AnalysisReportDto reportDto = prepareAnalysisReportInDb(false, true);
+
+    IssueComputation issueComputation = mock(IssueComputation.class);
+    final Map<String, List<String>> issueKeysByComponent = new HashMap<>();
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        Iterator<BatchReport.Issue> issues = (Iterator<BatchReport.Issue>) invocation.getArguments()[2];
+        List<String> keys = new ArrayList<>();
+        while (issues.hasNext()) {
+          keys.add(issues.next().getUuid());
+        }
+        issueKeysByComponent.put((String) invocation.getArguments()[1], keys);
+        return null;
+      }
+    }).when(issueComputation).processComponentIssues(any(ComputationContext.class), anyString(), anyIssues());
+    DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new AnalysisReportDao());
+    ParseReportStep step = new ParseReportStep(issueComputation, dbClient, new DefaultTempFolder(temp.newFolder()), new Settings());
+    step.execute(new ComputationContext(reportDto, mock(ComponentDto.class)));
+
+    // SCM data is loaded lazily for the whole batch of components
+    verify(issueComputation).prefetchLines(Arrays.asList("PROJECT_UUID", "FILE1_UUID", "FILE2_UUID"));
+    assertThat(issueKeysByComponent.get("PROJECT_UUID")).isEmpty();
+    assertThat(issueKeysByComponent.get("FILE1_UUID")).containsExactly("ISSUE_A");
+    assertThat(issueKeysByComponent.get("FILE2_UUID")).containsExactly("ISSUE_B");
+  }
+
+  @Test
+  public void extract_packed_report_from_db_and_browse_components() throws Exception {
+    AnalysisReportDto reportDto = prepareAnalysisReportInDb(true, false);
+
+    IssueComputation issueComputation = mock(IssueComputation.class);
+    DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new AnalysisReportDao());
+    ParseReportStep step = new ParseReportStep(issueComputation, dbClient, new DefaultTempFolder(temp.newFolder()), new Settings());
+    ComputationContext context = new ComputationContext(reportDto, mock(ComponentDto.class));
+    step.execute(context);
+
+    verify(issueComputation).processComponentIssues(eq(context), eq("PROJECT_UUID"), anyIssues());
+    verify(issueComputation).processComponentIssues(eq(context), eq("FILE1_UUID"), anyIssues());
+    verify(issueComputation).processComponentIssues(eq(context), eq("FILE2_UUID"), anyIssues());
+    verify(issueComputation).afterReportProcessing();
+    assertThat(context.getReportMetadata().getRootComponentRef()).isEqualTo(1);
+  }
+
+  @Test
+  public void process_components_in_parallel() throws Exception {
+    AnalysisReportDto reportDto = prepareAnalysisReportInDb(false, false);
+
+    IssueComputation issueComputation = mock(IssueComputation.class);
+    IssueComputation.ConcurrentProcessor processor = mock(IssueComputation.ConcurrentProcessor.class);
+    when(issueComputation.newConcurrentProcessor()).thenReturn(processor);
+    DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis(), new AnalysisReportDao());
+    ParseReportStep step = new ParseReportStep(issueComputation, dbClient, new DefaultTempFolder(temp.newFolder()), 2);
+    ComputationContext context = new ComputationContext(reportDto, mock(ComponentDto.class));
+    step.execute(context);
+
+    verify(processor).processComponentIssues(eq(context), eq("PROJECT_UUID"), anyIssues());
+    verify(processor).processComponentIssues(eq(context), eq("FILE1_UUID"), anyIssues());
+    verify(processor).processComponentIssues(eq(context), eq("FILE2_UUID"), anyIssues());
+    // one processor per partition of 1 component
+    verify(issueComputation, times(3)).newConcurrentProcessor();
+    verify(processor, times(3)).close();
+    verify(issueComputation, never()).processComponentIssues(any(ComputationContext.class), anyString(), anyIssues());
+    verify(issueComputation).afterReportProcessing();
+  }
+
+  @Test
+  public void number_of_threads() throws Exception {
+    Settings settings = new Settings();
+    assertThat(ParseReportStep.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(ParseReportStep.THREADS_PROPERTY, 0);
+    assertThat(ParseReportStep.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(ParseReportStep.THREADS_PROPERTY, 4);
+    assertThat(ParseReportStep.numberOfThreads(settings)).isEqualTo(4);
+
+    settings.setProperty(ParseReportStep.THREADS_PROPERTY, -1);
+    try {
+      ParseReportStep.numberOfThreads(settings);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Bad value of sonar.computation.parseReport.threads: -1");
+    }
+  }
+
+  private AnalysisReportDto prepareAnalysisReportInDb(boolean packed, boolean withIssues) throws IOException {
     File dir = temp.newFolder();
     // project and 2 files
     BatchOutputWriter writer = new BatchOutputWriter(dir);
@@ -105,6 +212,15 @@ public class ParseReportStepTest {
       .setType(Constants.ComponentType.FILE)
       .setUuid("FILE2_UUID")
       .build());
+    if (withIssues) {
+      writer.writeComponentIssues(2, Arrays.asList(BatchReport.Issue.newBuilder().setUuid("ISSUE_A").setIsNew(false).build()));
+      writer.writeComponentIssues(3, Arrays.asList(BatchReport.Issue.newBuilder().setUuid("ISSUE_B").setIsNew(true).build()));
+    }
+    if (packed) {
+      File packedDir = temp.newFolder();
+      ReportContainer.pack(dir, new File(packedDir, FileStructure.CONTAINER_FILENAME));
+      dir = packedDir;
+    }
     File zipFile = temp.newFile();
     ZipUtils.zipDir(dir, zipFile);
 
@@ -129,4 +245,8 @@ public class ParseReportStepTest {
       dbSession.close();
     }
   }
+
+  private static Iterator<BatchReport.Issue> anyIssues() {
+    return Matchers.any();
+  }
 }
@@ -0,0 +1,139 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.computation.step;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.sonar.api.issue.Issue;
+import org.sonar.api.issue.internal.DefaultIssue;
+import org.sonar.api.issue.internal.DefaultIssueComment;
+import org.sonar.api.rule.RuleKey;
+import org.sonar.api.rule.Severity;
+import org.sonar.api.utils.System2;
+import org.sonar.core.component.ComponentDto;
+import org.sonar.core.computation.db.AnalysisReportDto;
+import org.sonar.core.issue.db.IssueMapper;
+import org.sonar.core.issue.db.UpdateConflictResolver;
+import org.sonar.core.persistence.DbTester;
+import org.sonar.core.rule.RuleDto;
+import org.sonar.server.computation.ComputationContext;
+import org.sonar.server.computation.issue.IssueCache;
+import org.sonar.server.computation.issue.RuleCache;
+import org.sonar.server.db.DbClient;
+import org.sonar.server.util.cache.DiskCache;
+import org.sonar.test.DbTests;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Category(DbTests.class)
+public class PersistIssuesStepTest {
+
+  static final RuleKey RULE_KEY = RuleKey.of("squid", "S001");
+
+  @ClassRule
+  public static DbTester dbTester = new DbTester();
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  System2 system2 = mock(System2.class);
+  UpdateConflictResolver conflictResolver = mock(UpdateConflictResolver.class);
+  RuleCache ruleCache = mock(RuleCache.class);
+  IssueCache issueCache;
+  PersistIssuesStep step;
+
+  @Before
+  public void setUp() throws Exception {
+    dbTester.truncateTables();
+    when(system2.now()).thenReturn(2500L);
+    when(ruleCache.get(RULE_KEY)).thenReturn(new RuleDto().setId(10));
+    issueCache = new IssueCache(temp.newFile(), System2.INSTANCE);
+    DbClient dbClient = new DbClient(dbTester.database(), dbTester.myBatis());
+    step = new PersistIssuesStep(dbClient, system2, conflictResolver, ruleCache, issueCache);
+  }
+
+  @Test
+  public void insert_new_issues_in_several_batches() throws Exception {
+    int count = BulkIssuePersister.FLUSH_SIZE * 2 + IssueMapper.MAX_ROWS_PER_INSERT + 3;
+    DiskCache<DefaultIssue>.DiskAppender appender = issueCache.newAppender();
+    for (int i = 0; i < count; i++) {
+      appender.append(newIssue("NEW_" + i).setNew(true));
+    }
+    appender.close();
+
+    step.execute(mock(ComputationContext.class));
+
+    assertThat(dbTester.countRowsOfTable("issues")).isEqualTo(count);
+    Map<String, Object> row = dbTester.selectFirst("select rule_id as \"ruleId\", created_at as \"createdAt\", component_uuid as \"component\" from issues where kee='NEW_42'");
+    assertThat(row.get("ruleId")).isEqualTo(10);
+    assertThat(row.get("createdAt")).isEqualTo(2500L);
+    assertThat(row.get("component")).isEqualTo("FILE_A");
+  }
+
+  @Test
+  public void update_changed_issues_and_resolve_conflicts() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "shared.xml");
+    DiskCache<DefaultIssue>.DiskAppender appender = issueCache.newAppender();
+    appender.append(newIssue("UPDATED").setChanged(true).setSelectedAt(2000L).setSeverity(Severity.BLOCKER));
+    appender.append(newIssue("CONFLICT").setChanged(true).setSelectedAt(2000L).setSeverity(Severity.BLOCKER));
+    appender.append(newIssue("NEW").setNew(true)
+      .addComment(new DefaultIssueComment().setKey("COMMENT").setIssueKey("NEW").setMarkdownText("the comment").setNew(true)));
+    // neither new nor changed
+    appender.append(newIssue("UNCHANGED"));
+    appender.close();
+
+    ComputationContext context = new ComputationContext(new AnalysisReportDto(), new ComponentDto());
+    step.execute(context);
+
+    assertThat(dbTester.countRowsOfTable("issues")).isEqualTo(3);
+    assertThat(dbTester.selectFirst("select severity as \"severity\" from issues where kee='UPDATED'").get("severity")).isEqualTo(Severity.BLOCKER);
+    // not updated because of conflict
+    assertThat(dbTester.selectFirst("select severity as \"severity\" from issues where kee='CONFLICT'").get("severity")).isEqualTo(Severity.MAJOR);
+    ArgumentCaptor<DefaultIssue> conflictingIssue = ArgumentCaptor.forClass(DefaultIssue.class);
+    verify(conflictResolver).resolve(conflictingIssue.capture(), any(IssueMapper.class));
+    assertThat(conflictingIssue.getValue().key()).isEqualTo("CONFLICT");
+    assertThat(context.getConflictingIssueKeys()).containsOnly("CONFLICT");
+    assertThat(dbTester.countSql("select count(*) from issue_changes where kee='COMMENT' and issue_key='NEW'")).isEqualTo(1);
+  }
+
+  private static DefaultIssue newIssue(String key) {
+    return new DefaultIssue()
+      .setKey(key)
+      .setNew(false)
+      .setRuleKey(RULE_KEY)
+      .setComponentUuid("FILE_A")
+      .setProjectUuid("PROJECT_A")
+      .setSeverity(Severity.MAJOR)
+      .setStatus(Issue.STATUS_OPEN)
+      .setCreationDate(new Date(1000L));
+  }
+}
@@ -32,11 +32,13 @@ import org.sonar.server.component.ComponentTesting;
 import org.sonar.server.component.db.SnapshotDao;
 import org.sonar.server.computation.ComputationContext;
 import org.sonar.server.db.DbClient;
+import org.sonar.server.measure.MeasureFilterCache;
 import org.sonar.test.DbTests;
 
 import java.io.IOException;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Category(DbTests.class)
@@ -45,6 +47,8 @@ public class SwitchSnapshotStepTest {
   @ClassRule
   public static DbTester db = new DbTester();
 
+  MeasureFilterCache measureFilterCache = mock(MeasureFilterCache.class);
+
   SwitchSnapshotStep sut;
 
   @Before
@@ -52,7 +56,7 @@ public class SwitchSnapshotStepTest {
     db.truncateTables();
     System2 system2 = mock(System2.class);
     when(system2.now()).thenReturn(DateUtils.parseDate("2011-09-29").getTime());
-    this.sut = new SwitchSnapshotStep(new DbClient(db.database(), db.myBatis(), new SnapshotDao(system2)));
+    this.sut = new SwitchSnapshotStep(new DbClient(db.database(), db.myBatis(), new SnapshotDao(system2)), measureFilterCache);
   }
 
   @Test
@@ -64,6 +68,7 @@ public class SwitchSnapshotStepTest {
     sut.execute(context);
 
     db.assertDbUnit(getClass(), "snapshots-result.xml", "snapshots");
+    verify(measureFilterCache).invalidate();
   }
 
   @Test(expected = IllegalStateException.class)
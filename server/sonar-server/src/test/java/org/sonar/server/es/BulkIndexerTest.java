@@ -29,6 +29,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 public class BulkIndexerTest {
 
@@ -86,6 +87,33 @@ public class BulkIndexerTest {
     assertThat(replicas()).isEqualTo(1);
   }
 
+  @Test
+  public void index_documents_asynchronously() throws Exception {
+    esTester.truncateIndices();
+
+    BulkIndexer indexer = new BulkIndexer(esTester.client(), FakeIndexDefinition.INDEX)
+      .setConcurrentRequests(2)
+      .setFlushByteSize(new ByteSizeValue(1, ByteSizeUnit.BYTES).bytes());
+    indexer.start();
+    for (int i = 0; i < 100; i++) {
+      indexer.add(newIndexRequest(i));
+    }
+
+    // wait for in-flight requests
+    indexer.stop();
+    assertThat(count()).isEqualTo(100);
+  }
+
+  @Test
+  public void fail_if_negative_concurrent_requests() throws Exception {
+    try {
+      new BulkIndexer(esTester.client(), FakeIndexDefinition.INDEX).setConcurrentRequests(-1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Number of concurrent requests must be positive or zero: -1");
+    }
+  }
+
   private long count() {
     return esTester.countDocuments("fakes", "fake");
   }
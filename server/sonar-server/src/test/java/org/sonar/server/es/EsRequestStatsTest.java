@@ -0,0 +1,84 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.es;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EsRequestStatsTest {
+
+  EsRequestStats stats = new EsRequestStats();
+
+  @Test
+  public void group_by_request_type_and_indices() {
+    stats.record(EsRequestStats.RequestType.SEARCH, new String[] {"issues"}, 10L, true, 5L, 100L);
+    stats.record(EsRequestStats.RequestType.SEARCH, new String[] {"issues"}, 30L, false, 0L, 200L);
+    stats.record(EsRequestStats.RequestType.BULK, Arrays.asList("issues", "rules"), 3L, true, 1000L, 5000L);
+    stats.record(EsRequestStats.RequestType.SCROLL, (String[]) null, 3L, true, 10L, 0L);
+
+    List<EsRequestStats.Stat> all = stats.all();
+    assertThat(all).hasSize(3);
+    EsRequestStats.Stat search = all.get(0);
+    assertThat(search.getType()).isEqualTo(EsRequestStats.RequestType.SEARCH);
+    assertThat(search.getIndex()).isEqualTo("issues");
+    assertThat(search.getRequests()).isEqualTo(2L);
+    assertThat(search.getFailures()).isEqualTo(1L);
+    assertThat(search.getMeanDurationMs()).isEqualTo(20L);
+    assertThat(search.getMaxDurationMs()).isEqualTo(30L);
+    assertThat(search.getHits()).isEqualTo(5L);
+    assertThat(search.getPayloadBytes()).isEqualTo(300L);
+
+    assertThat(all.get(1).getType()).isEqualTo(EsRequestStats.RequestType.SCROLL);
+    assertThat(all.get(1).getIndex()).isEqualTo(EsRequestStats.ALL_INDICES);
+    assertThat(all.get(2).getType()).isEqualTo(EsRequestStats.RequestType.BULK);
+    assertThat(all.get(2).getIndex()).isEqualTo("issues,rules");
+  }
+
+  @Test
+  public void percentiles() {
+    // 90 fast requests, 9 slow requests and a very slow one
+    for (int i = 0; i < 90; i++) {
+      stats.record(EsRequestStats.RequestType.COUNT, new String[] {"rules"}, 4L, true, 1L, 0L);
+    }
+    for (int i = 0; i < 9; i++) {
+      stats.record(EsRequestStats.RequestType.COUNT, new String[] {"rules"}, 150L, true, 1L, 0L);
+    }
+    stats.record(EsRequestStats.RequestType.COUNT, new String[] {"rules"}, 42000L, true, 1L, 0L);
+
+    EsRequestStats.Stat stat = stats.all().get(0);
+    assertThat(stat.getPercentileDurationMs(50)).isEqualTo(5L);
+    assertThat(stat.getPercentileDurationMs(95)).isEqualTo(200L);
+    assertThat(stat.getPercentileDurationMs(99)).isEqualTo(200L);
+    assertThat(stat.getPercentileDurationMs(100)).isEqualTo(42000L);
+    assertThat(stat.getMaxDurationMs()).isEqualTo(42000L);
+  }
+
+  @Test
+  public void percentile_does_not_exceed_max_duration() {
+    stats.record(EsRequestStats.RequestType.SEARCH, new String[] {"issues"}, 120L, true, 1L, 0L);
+
+    EsRequestStats.Stat stat = stats.all().get(0);
+    assertThat(stat.getPercentileDurationMs(50)).isEqualTo(120L);
+  }
+}
@@ -26,6 +26,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.sonar.api.utils.log.LogTester;
 import org.sonar.api.utils.log.LoggerLevel;
+import org.sonar.server.es.EsRequestStats;
 import org.sonar.server.es.EsTester;
 import org.sonar.server.es.FakeIndexDefinition;
 
@@ -45,6 +46,16 @@ public class ProxySearchRequestBuilderTest {
     esTester.client().prepareSearch(FakeIndexDefinition.INDEX).get();
   }
 
+  @Test
+  public void record_stats() {
+    EsRequestStats stats = esTester.client().getRequestStats();
+    long requests = requestsOf(stats, FakeIndexDefinition.INDEX);
+
+    esTester.client().prepareSearch(FakeIndexDefinition.INDEX).get();
+
+    assertThat(requestsOf(stats, FakeIndexDefinition.INDEX)).isEqualTo(requests + 1);
+  }
+
   @Test
   public void to_string() {
     assertThat(esTester.client().prepareSearch(FakeIndexDefinition.INDEX).setTypes(FakeIndexDefinition.TYPE).toString()).contains("ES search request '").contains(
@@ -101,4 +112,13 @@ public class ProxySearchRequestBuilderTest {
       assertThat(e).isInstanceOf(UnsupportedOperationException.class).hasMessage("execute() should not be called as it's used for asynchronous");
     }
   }
+
+  private static long requestsOf(EsRequestStats stats, String index) {
+    for (EsRequestStats.Stat stat : stats.all()) {
+      if (stat.getType() == EsRequestStats.RequestType.SEARCH && stat.getIndex().equals(index)) {
+        return stat.getRequests();
+      }
+    }
+    return 0L;
+  }
 }
@@ -41,17 +41,21 @@ import org.sonar.server.db.DbClient;
 import org.sonar.server.issue.db.IssueDao;
 import org.sonar.server.issue.index.IssueIndexer;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ServerIssueStorageTest extends AbstractDaoTestCase {
 
   DbClient dbClient;
   DbSession session;
+  IssueIndexer indexer = mock(IssueIndexer.class);
 
   ServerIssueStorage storage;
 
@@ -65,7 +69,7 @@ public class ServerIssueStorageTest extends AbstractDaoTestCase {
       new ResourceDao(getMyBatis(), system));
     session = dbClient.openSession(false);
 
-    storage = new ServerIssueStorage(getMyBatis(), new FakeRuleFinder(), dbClient, mock(IssueIndexer.class));
+    storage = new ServerIssueStorage(getMyBatis(), new FakeRuleFinder(), dbClient, indexer);
   }
 
   @After
@@ -125,6 +129,9 @@ public class ServerIssueStorageTest extends AbstractDaoTestCase {
     storage.save(issue);
 
     checkTables("should_insert_new_issues", new String[] {"id", "created_at", "updated_at", "issue_change_creation_date"}, "issues", "issue_changes");
+    // only the saved issue is indexed
+    verify(indexer).index(Arrays.asList("ABCDE"));
+    verify(indexer, never()).index();
   }
 
   @Test
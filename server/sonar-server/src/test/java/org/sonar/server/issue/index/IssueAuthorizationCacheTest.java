@@ -0,0 +1,105 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.issue.index;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.sonar.api.config.Settings;
+import org.sonar.api.security.DefaultGroups;
+import org.sonar.server.es.EsTester;
+
+import java.util.Collections;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IssueAuthorizationCacheTest {
+
+  @ClassRule
+  public static EsTester tester = new EsTester().addDefinitions(new IssueIndexDefinition(new Settings()));
+
+  IssueAuthorizationCache cache;
+  IssueAuthorizationIndexer indexer;
+
+  @Before
+  public void setUp() throws Exception {
+    tester.truncateIndices();
+    cache = new IssueAuthorizationCache(tester.client());
+    indexer = new IssueAuthorizationIndexer(null, tester.client(), cache);
+  }
+
+  @Test
+  public void authorized_projects_of_user_and_groups() throws Exception {
+    authorize("P1", "sonar-users", null);
+    authorize("P2", null, "john");
+    authorize("P3", DefaultGroups.ANYONE, null);
+    authorize("P4", "sonar-administrators", "max");
+
+    assertThat(cache.authorizedProjectUuids("john", ImmutableSet.of("sonar-users", DefaultGroups.ANYONE))).containsOnly("P1", "P2", "P3");
+    assertThat(cache.authorizedProjectUuids(null, ImmutableSet.of(DefaultGroups.ANYONE))).containsOnly("P3");
+    assertThat(cache.authorizedProjectUuids("unknown", Collections.<String>emptySet())).isEmpty();
+  }
+
+  @Test
+  public void share_entries_between_requests_with_same_login_and_groups() throws Exception {
+    authorize("P1", "sonar-users", null);
+
+    assertThat(cache.authorizedProjectUuids("john", ImmutableSet.of("sonar-users", DefaultGroups.ANYONE))).containsOnly("P1");
+    assertThat(cache.authorizedProjectUuids("john", ImmutableSet.of(DefaultGroups.ANYONE, "sonar-users"))).containsOnly("P1");
+    assertThat(cache.size()).isEqualTo(1);
+
+    assertThat(cache.authorizedProjectUuids("max", ImmutableSet.of("sonar-users", DefaultGroups.ANYONE))).containsOnly("P1");
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void invalidate_when_authorizations_are_indexed() throws Exception {
+    authorize("P1", "sonar-users", null);
+    assertThat(cache.authorizedProjectUuids("john", ImmutableSet.of("sonar-users"))).containsOnly("P1");
+
+    authorize("P2", "sonar-users", null);
+    assertThat(cache.size()).isZero();
+    assertThat(cache.authorizedProjectUuids("john", ImmutableSet.of("sonar-users"))).containsOnly("P1", "P2");
+
+    indexer.deleteProject("P1", true);
+    assertThat(cache.authorizedProjectUuids("john", ImmutableSet.of("sonar-users"))).containsOnly("P2");
+  }
+
+  @Test
+  public void keep_a_limited_number_of_entries() throws Exception {
+    for (int i = 0; i < IssueAuthorizationCache.MAX_ENTRIES + 10; i++) {
+      cache.authorizedProjectUuids("user" + i, ImmutableSet.of(DefaultGroups.ANYONE));
+    }
+    assertThat(cache.size()).isEqualTo(IssueAuthorizationCache.MAX_ENTRIES);
+  }
+
+  private void authorize(String projectUuid, String group, String user) {
+    IssueAuthorizationDao.Dto authorization = new IssueAuthorizationDao.Dto(projectUuid, 1);
+    if (group != null) {
+      authorization.addGroup(group);
+    }
+    if (user != null) {
+      authorization.addUser(user);
+    }
+    indexer.index(newArrayList(authorization));
+  }
+}
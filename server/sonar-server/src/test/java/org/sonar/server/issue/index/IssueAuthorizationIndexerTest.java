@@ -35,6 +35,10 @@ import java.util.Collection;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @Category(DbTests.class)
 public class IssueAuthorizationIndexerTest {
@@ -45,6 +49,8 @@ public class IssueAuthorizationIndexerTest {
   @ClassRule
   public static EsTester esTester = new EsTester().addDefinitions(new IssueIndexDefinition(new Settings()));
 
+  IssueAuthorizationCache authorizationCache = mock(IssueAuthorizationCache.class);
+
   @Before
   public void setUp() throws Exception {
     dbTester.truncateTables();
@@ -57,6 +63,7 @@ public class IssueAuthorizationIndexerTest {
     indexer.doIndex(0L);
 
     assertThat(esTester.countDocuments("issues", "authorization")).isZero();
+    verifyZeroInteractions(authorizationCache);
   }
 
   @Test
@@ -72,11 +79,13 @@ public class IssueAuthorizationIndexerTest {
     assertThat(doc.getSource().get("project")).isEqualTo("ABC");
     assertThat((Collection) doc.getSource().get("groups")).containsOnly("devs", "Anyone");
     assertThat((Collection) doc.getSource().get("users")).containsOnly("user1");
+    verify(authorizationCache).invalidate();
 
     // delete project
     indexer.deleteProject("ABC", true);
 
     assertThat(esTester.countDocuments("issues", "issueAuthorization")).isZero();
+    verify(authorizationCache, times(2)).invalidate();
   }
 
   @Test
@@ -108,6 +117,6 @@ public class IssueAuthorizationIndexerTest {
   }
 
   private IssueAuthorizationIndexer createIndexer() {
-    return new IssueAuthorizationIndexer(new DbClient(dbTester.database(), dbTester.myBatis()), esTester.client());
+    return new IssueAuthorizationIndexer(new DbClient(dbTester.database(), dbTester.myBatis()), esTester.client(), authorizationCache);
   }
 }
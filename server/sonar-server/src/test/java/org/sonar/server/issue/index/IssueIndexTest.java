@@ -70,9 +70,10 @@ public class IssueIndexTest {
   public void setUp() throws Exception {
     tester.truncateIndices();
     issueIndexer = new IssueIndexer(null, tester.client());
-    issueAuthorizationIndexer = new IssueAuthorizationIndexer(null, tester.client());
+    IssueAuthorizationCache authorizationCache = new IssueAuthorizationCache(tester.client());
+    issueAuthorizationIndexer = new IssueAuthorizationIndexer(null, tester.client(), authorizationCache);
     viewIndexer = new ViewIndexer(null, tester.client());
-    index = new IssueIndex(tester.client(), System2.INSTANCE);
+    index = new IssueIndex(tester.client(), System2.INSTANCE, authorizationCache);
   }
 
   @Test
@@ -1264,6 +1265,27 @@ public class IssueIndexTest {
     assertThat(Lists.newArrayList(index.selectIssuesForBatch(ComponentTesting.newProjectDto()))).isEmpty();
   }
 
+  @Test
+  public void search_issues_for_batch_changed_since_date() throws Exception {
+    ComponentDto project = ComponentTesting.newProjectDto();
+    ComponentDto file = ComponentTesting.newFileDto(project);
+
+    indexIssues(
+      IssueTesting.newDoc("OLD", file).setTechnicalUpdateDate(DateUtils.parseDateTime("2014-09-04T00:00:00+0100")),
+      IssueTesting.newDoc("RECENT", file).setTechnicalUpdateDate(DateUtils.parseDateTime("2014-09-05T00:00:00+0100")),
+      // closed issues are returned, so that batch can remove them
+      IssueTesting.newDoc("CLOSED", file).setTechnicalUpdateDate(DateUtils.parseDateTime("2014-09-06T00:00:00+0100"))
+        .setStatus(Issue.STATUS_CLOSED).setResolution(Issue.RESOLUTION_FIXED));
+
+    List<IssueDoc> issues = Lists.newArrayList(index.selectIssuesForBatch(project, DateUtils.parseDateTime("2014-09-05T00:00:00+0100")));
+    assertThat(issues).hasSize(2);
+    for (IssueDoc issue : issues) {
+      assertThat(issue.key()).isIn("RECENT", "CLOSED");
+      assertThat(issue.technicalUpdateDate()).isNotNull();
+    }
+    assertThat(Lists.newArrayList(index.selectIssuesForBatch(project, DateUtils.parseDateTime("2014-09-07T00:00:00+0100")))).isEmpty();
+  }
+
   @Test
   public void fail_to_search_issues_for_batch_on_not_allowed_scope() throws Exception {
     try {
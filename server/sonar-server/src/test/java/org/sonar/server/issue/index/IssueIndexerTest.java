@@ -31,6 +31,7 @@ import org.sonar.server.db.DbClient;
 import org.sonar.server.es.EsTester;
 import org.sonar.test.DbTests;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -81,6 +82,20 @@ public class IssueIndexerTest {
     assertThat(esTester.countDocuments("issues", "issue")).isZero();
   }
 
+  @Test
+  public void index_issues_by_keys() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "index.xml");
+
+    IssueIndexer indexer = createIndexer();
+    indexer.index(Arrays.asList("UNKNOWN"));
+    assertThat(esTester.countDocuments("issues", "issue")).isZero();
+
+    indexer.index(Arrays.asList("ABCDE"));
+    List<IssueDoc> docs = esTester.getDocuments("issues", "issue", IssueDoc.class);
+    assertThat(docs).hasSize(1);
+    assertThat(docs.get(0).key()).isEqualTo("ABCDE");
+  }
+
   private IssueIndexer createIndexer() {
     return new IssueIndexer(new DbClient(dbTester.database(), dbTester.myBatis()), esTester.client());
   }
@@ -33,6 +33,7 @@ import org.sonar.server.db.DbClient;
 import org.sonar.test.DbTests;
 
 import java.sql.Connection;
+import java.util.Arrays;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -207,6 +208,17 @@ public class IssueResultSetIteratorTest {
     it.close();
   }
 
+  @Test
+  public void select_by_keys() throws Exception {
+    dbTester.prepareDbUnit(getClass(), "shared.xml");
+    IssueResultSetIterator it = IssueResultSetIterator.createForKeys(client, connection, Arrays.asList("ABC", "EFG", "UNKNOWN"));
+
+    Map<String, IssueDoc> issuesByKey = issuesByKey(it);
+
+    assertThat(issuesByKey.keySet()).containsOnly("ABC", "EFG");
+    it.close();
+  }
+
   private static Map<String, IssueDoc> issuesByKey(IssueResultSetIterator it) {
     return Maps.uniqueIndex(it, new Function<IssueDoc, String>() {
       @Override
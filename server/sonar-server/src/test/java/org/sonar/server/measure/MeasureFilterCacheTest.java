@@ -0,0 +1,128 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.measure;
+
+import org.junit.Test;
+import org.sonar.api.utils.System2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class MeasureFilterCacheTest {
+
+  System2 system = mock(System2.class);
+  MeasureFilterCache cache = new MeasureFilterCache(system);
+  List<MeasureFilterRow> rows = Arrays.asList(new MeasureFilterRow(1L, 2L, 3L));
+
+  @Test
+  public void get_and_invalidate() throws Exception {
+    cache.put("foo", cache.generation(), rows);
+    assertThat(cache.get("foo")).isEqualTo(rows);
+    assertThat(cache.get("bar")).isNull();
+
+    cache.invalidate();
+    assertThat(cache.get("foo")).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void do_not_cache_rows_computed_before_invalidation() throws Exception {
+    long generation = cache.generation();
+    cache.invalidate();
+    cache.put("foo", generation, rows);
+
+    assertThat(cache.get("foo")).isNull();
+  }
+
+  @Test
+  public void expire_old_entries() throws Exception {
+    when(system.now()).thenReturn(1000L);
+    cache.put("foo", cache.generation(), rows);
+
+    when(system.now()).thenReturn(1000L + MeasureFilterCache.MAX_AGE_MS);
+    assertThat(cache.get("foo")).isNotNull();
+
+    when(system.now()).thenReturn(1001L + MeasureFilterCache.MAX_AGE_MS);
+    assertThat(cache.get("foo")).isNull();
+  }
+
+  @Test
+  public void evict_least_recently_used_entries() throws Exception {
+    for (int i = 0; i < MeasureFilterCache.MAX_ENTRIES; i++) {
+      cache.put("key" + i, cache.generation(), rows);
+    }
+    cache.get("key0");
+    cache.put("another", cache.generation(), rows);
+
+    assertThat(cache.size()).isEqualTo(MeasureFilterCache.MAX_ENTRIES);
+    assertThat(cache.get("key0")).isNotNull();
+    assertThat(cache.get("key1")).isNull();
+  }
+
+  @Test
+  public void evict_least_recently_used_entries_when_too_many_rows() throws Exception {
+    List<MeasureFilterRow> halfRows = newRows(MeasureFilterCache.MAX_ROWS / 2);
+    cache.put("key0", cache.generation(), halfRows);
+    cache.put("key1", cache.generation(), halfRows);
+    cache.get("key0");
+    assertThat(cache.rowCount()).isEqualTo(MeasureFilterCache.MAX_ROWS);
+
+    cache.put("another", cache.generation(), rows);
+
+    assertThat(cache.get("key0")).isNotNull();
+    assertThat(cache.get("key1")).isNull();
+    assertThat(cache.rowCount()).isEqualTo(halfRows.size() + 1);
+  }
+
+  @Test
+  public void do_not_cache_too_many_rows() throws Exception {
+    cache.put("foo", cache.generation(), rows);
+    cache.put("bar", cache.generation(), newRows(MeasureFilterCache.MAX_ROWS + 1));
+
+    assertThat(cache.get("bar")).isNull();
+    assertThat(cache.get("foo")).isNotNull();
+    assertThat(cache.rowCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void count_rows_of_replaced_and_expired_entries() throws Exception {
+    when(system.now()).thenReturn(1000L);
+    cache.put("foo", cache.generation(), newRows(10));
+    cache.put("foo", cache.generation(), newRows(5));
+    assertThat(cache.rowCount()).isEqualTo(5);
+
+    when(system.now()).thenReturn(1001L + MeasureFilterCache.MAX_AGE_MS);
+    assertThat(cache.get("foo")).isNull();
+    assertThat(cache.rowCount()).isZero();
+  }
+
+  private static List<MeasureFilterRow> newRows(int count) {
+    List<MeasureFilterRow> result = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      result.add(new MeasureFilterRow(i, i, i));
+    }
+    return result;
+  }
+}
@@ -23,10 +23,15 @@ import com.google.common.collect.ImmutableMap;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.junit.Test;
+import org.sonar.api.utils.System2;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMap;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.refEq;
 import static org.mockito.Mockito.*;
@@ -41,7 +46,7 @@ public class MeasureFilterEngineTest {
     when(factory.create(filterMap)).thenReturn(filter);
     MeasureFilterExecutor executor = mock(MeasureFilterExecutor.class);
 
-    MeasureFilterEngine engine = new MeasureFilterEngine(factory, executor);
+    MeasureFilterEngine engine = new MeasureFilterEngine(factory, executor, new MeasureFilterCache(System2.INSTANCE));
 
     final long userId = 50L;
     engine.execute(filterMap, userId);
@@ -56,6 +61,41 @@ public class MeasureFilterEngineTest {
     }));
   }
 
+  @Test
+  public void cache_rows() throws Exception {
+    MeasureFilterFactory factory = mock(MeasureFilterFactory.class);
+    when(factory.create(anyMap())).thenReturn(new MeasureFilter());
+    MeasureFilterExecutor executor = mock(MeasureFilterExecutor.class);
+    List<MeasureFilterRow> rows = Arrays.asList(new MeasureFilterRow(1L, 2L, 3L));
+    when(executor.execute(any(MeasureFilter.class), any(MeasureFilterContext.class))).thenReturn(rows);
+    MeasureFilterCache cache = new MeasureFilterCache(System2.INSTANCE);
+    MeasureFilterEngine engine = new MeasureFilterEngine(factory, executor, cache);
+
+    assertThat(engine.execute(ImmutableMap.<String, Object>of("qualifiers", "TRK", "sort", "name"), 50L).getRows()).isEqualTo(rows);
+    // same criteria in another order, another user
+    assertThat(engine.execute(ImmutableMap.<String, Object>of("sort", "name", "qualifiers", "TRK"), 51L).getRows()).isEqualTo(rows);
+    verify(executor, times(1)).execute(any(MeasureFilter.class), any(MeasureFilterContext.class));
+
+    cache.invalidate();
+    engine.execute(ImmutableMap.<String, Object>of("qualifiers", "TRK", "sort", "name"), 50L);
+    verify(executor, times(2)).execute(any(MeasureFilter.class), any(MeasureFilterContext.class));
+  }
+
+  @Test
+  public void do_not_cache_favourites() throws Exception {
+    MeasureFilterFactory factory = mock(MeasureFilterFactory.class);
+    when(factory.create(anyMap())).thenReturn(new MeasureFilter().setUserFavourites(true));
+    MeasureFilterExecutor executor = mock(MeasureFilterExecutor.class);
+    MeasureFilterCache cache = new MeasureFilterCache(System2.INSTANCE);
+    MeasureFilterEngine engine = new MeasureFilterEngine(factory, executor, cache);
+
+    engine.execute(ImmutableMap.<String, Object>of("onFavourites", "true"), 50L);
+    engine.execute(ImmutableMap.<String, Object>of("onFavourites", "true"), 50L);
+
+    verify(executor, times(2)).execute(any(MeasureFilter.class), any(MeasureFilterContext.class));
+    assertThat(cache.size()).isZero();
+  }
+
   @Test
   public void keep_error_but_do_not_fail() throws Exception {
     Map<String, Object> filterMap = ImmutableMap.of("qualifiers", (Object) "TRK");
@@ -63,7 +103,7 @@ public class MeasureFilterEngineTest {
     when(factory.create(filterMap)).thenThrow(new IllegalArgumentException());
     MeasureFilterExecutor executor = mock(MeasureFilterExecutor.class);
 
-    MeasureFilterEngine engine = new MeasureFilterEngine(factory, executor);
+    MeasureFilterEngine engine = new MeasureFilterEngine(factory, executor, new MeasureFilterCache(System2.INSTANCE));
     MeasureFilterResult result = engine.execute(filterMap, 50L);
 
     assertThat(result.isSuccess()).isFalse();
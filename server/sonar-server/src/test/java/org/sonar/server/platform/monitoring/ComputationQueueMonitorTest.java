@@ -0,0 +1,53 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.junit.Test;
+import org.sonar.core.computation.db.AnalysisReportDto;
+import org.sonar.server.computation.AnalysisReportQueue;
+
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ComputationQueueMonitorTest {
+
+  AnalysisReportQueue queue = mock(AnalysisReportQueue.class);
+  ComputationQueueMonitor sut = new ComputationQueueMonitor(queue);
+
+  @Test
+  public void name() {
+    assertThat(sut.name()).isEqualTo("ComputationQueue");
+  }
+
+  @Test
+  public void attributes() {
+    when(queue.count(AnalysisReportDto.Status.PENDING)).thenReturn(2L);
+    when(queue.count(AnalysisReportDto.Status.WORKING)).thenReturn(1L);
+
+    assertThat(sut.getPendingReports()).isEqualTo(2L);
+    assertThat(sut.getWorkingReports()).isEqualTo(1L);
+    LinkedHashMap<String, Object> attributes = sut.attributes();
+    assertThat(attributes).containsEntry("Pending Reports", 2L);
+    assertThat(attributes).containsEntry("Working Reports", 1L);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.junit.Test;
+import org.sonar.server.es.EsClient;
+import org.sonar.server.es.EsRequestStats;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class EsRequestsMonitorTest {
+
+  EsRequestStats stats = new EsRequestStats();
+  EsClient esClient = mock(EsClient.class);
+  EsRequestsMonitor sut = new EsRequestsMonitor(esClient);
+
+  @Test
+  public void name() {
+    assertThat(sut.name()).isEqualTo("ElasticSearchRequests");
+  }
+
+  @Test
+  public void attributes() {
+    when(esClient.getRequestStats()).thenReturn(stats);
+    stats.record(EsRequestStats.RequestType.SEARCH, new String[] {"issues"}, 10L, true, 5L, 2048L);
+    stats.record(EsRequestStats.RequestType.SEARCH, new String[] {"issues"}, 30L, false, 0L, 0L);
+    stats.record(EsRequestStats.RequestType.BULK, new String[] {"rules"}, 300L, true, 100L, 0L);
+
+    assertThat(sut.getRequests()).isEqualTo(3L);
+    assertThat(sut.getFailures()).isEqualTo(1L);
+    assertThat(sut.getLatencies()).containsExactly(
+      "SEARCH issues: requests=2 failures=1 mean=20ms p50=10ms p95=30ms p99=30ms max=30ms hits=5 payload=2 KB",
+      "BULK rules: requests=1 failures=0 mean=300ms p50=300ms p95=300ms p99=300ms max=300ms hits=100 payload=0 bytes");
+
+    Map<String, Object> attributes = sut.attributes();
+    assertThat(attributes).containsEntry("Requests", 3L);
+    assertThat(attributes).containsEntry("Failures", 1L);
+    assertThat(attributes).containsKeys("SEARCH issues", "BULK rules");
+    Map<String, Object> search = (Map<String, Object>) attributes.get("SEARCH issues");
+    assertThat(search).containsEntry("Requests", 2L);
+    assertThat(search).containsEntry("95th Percentile (ms)", 30L);
+    assertThat(search).containsEntry("Payload", "2 KB");
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.platform.monitoring;
+
+import org.junit.Test;
+import org.sonar.server.search.IndexQueue;
+
+import java.util.LinkedHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IndexQueueMonitorTest {
+
+  IndexQueue indexQueue = mock(IndexQueue.class);
+  IndexQueueMonitor sut = new IndexQueueMonitor(indexQueue);
+
+  @Test
+  public void name() {
+    assertThat(sut.name()).isEqualTo("IndexQueue");
+  }
+
+  @Test
+  public void attributes() {
+    when(indexQueue.getNormalizationThreads()).thenReturn(2);
+    when(indexQueue.getPendingActions()).thenReturn(10);
+    when(indexQueue.getProcessedActions()).thenReturn(500L);
+    when(indexQueue.getBulkRequests()).thenReturn(3L);
+    when(indexQueue.getAverageLatencyMs()).thenReturn(40L);
+    when(indexQueue.getMaxLatencyMs()).thenReturn(120L);
+
+    LinkedHashMap<String, Object> attributes = sut.attributes();
+    assertThat(attributes).containsEntry("Normalization Threads", 2);
+    assertThat(attributes).containsEntry("Pending Actions", 10);
+    assertThat(attributes).containsEntry("Processed Actions", 500L);
+    assertThat(attributes).containsEntry("Bulk Requests", 3L);
+    assertThat(attributes).containsEntry("Average Latency (ms)", 40L);
+    assertThat(attributes).containsEntry("Max Latency (ms)", 120L);
+  }
+}
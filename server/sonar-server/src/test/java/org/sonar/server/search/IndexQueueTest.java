@@ -0,0 +1,242 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.server.search;
+
+import com.google.common.collect.ImmutableList;
+import org.elasticsearch.action.ActionRequest;
+import org.elasticsearch.action.admin.indices.refresh.RefreshRequestBuilder;
+import org.elasticsearch.action.admin.indices.refresh.RefreshResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.sonar.api.config.Settings;
+import org.sonar.api.platform.ComponentContainer;
+import org.sonar.api.utils.System2;
+import org.sonar.server.search.action.IndexAction;
+import org.sonar.server.search.action.RefreshIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class IndexQueueTest {
+
+  SearchClient searchClient = mock(SearchClient.class);
+  ComponentContainer container = mock(ComponentContainer.class);
+  System2 system = mock(System2.class);
+  Settings settings = new Settings();
+  BulkRequestBuilder bulk = mock(BulkRequestBuilder.class);
+  RefreshRequestBuilder refresh = mock(RefreshRequestBuilder.class, RETURNS_DEEP_STUBS);
+
+  @Before
+  public void setUp() {
+    Index rules = mockIndex("rules");
+    Index activeRules = mockIndex("activeRules");
+    when(container.getComponentsByType(Index.class)).thenReturn(Arrays.asList(rules, activeRules));
+
+    BulkResponse response = mock(BulkResponse.class);
+    when(searchClient.prepareBulk()).thenReturn(bulk);
+    when(bulk.request()).thenReturn(new BulkRequest());
+    when(bulk.setRefresh(anyBoolean())).thenReturn(bulk);
+    when(bulk.get()).thenReturn(response);
+    when(searchClient.prepareRefresh(anyString(), anyString())).thenReturn(refresh);
+    when(searchClient.prepareRefresh(anyString())).thenReturn(refresh);
+    when(refresh.setForce(anyBoolean())).thenReturn(refresh);
+    when(refresh.get()).thenReturn(mock(RefreshResponse.class));
+  }
+
+  @Test
+  public void inline_refresh_covers_all_the_indices_of_flushed_bulk_requests() {
+    // every action is flushed in its own bulk request
+    IndexQueue sut = new IndexQueue(searchClient, container, system, 2, 0L);
+    when(bulk.numberOfActions()).thenReturn(1, 1, 0);
+
+    List<IndexAction<?>> actions = ImmutableList.<IndexAction<?>>of(
+      new FakeIndexAction("rules", false), new FakeIndexAction("activeRules", false), new RefreshIndex("activeRules"));
+    sut.enqueue(actions);
+
+    // bulk requests are never refreshed by themselves
+    verify(bulk, times(2)).setRefresh(false);
+    verify(bulk, never()).setRefresh(true);
+    ArgumentCaptor<String> indices = ArgumentCaptor.forClass(String.class);
+    verify(searchClient).prepareRefresh(indices.capture(), indices.capture());
+    assertThat(indices.getAllValues()).containsOnly("rules", "activeRules");
+    assertThat(sut.getProcessedActions()).isEqualTo(3L);
+  }
+
+  @Test
+  public void do_not_refresh_if_not_required() {
+    IndexQueue sut = new IndexQueue(searchClient, container, settings, system);
+    when(bulk.numberOfActions()).thenReturn(1);
+
+    sut.enqueue(ImmutableList.<IndexAction<?>>of(new FakeIndexAction("rules", false)));
+
+    verify(bulk).setRefresh(false);
+    verify(searchClient, never()).prepareRefresh(anyString());
+    verify(searchClient, never()).prepareRefresh(anyString(), anyString());
+  }
+
+  @Test
+  public void measure_latency_with_system_clock() {
+    IndexQueue sut = new IndexQueue(searchClient, container, settings, system);
+    when(bulk.numberOfActions()).thenReturn(1);
+    // start, normalization deadline, wait for normalization, end
+    when(system.now()).thenReturn(1000L, 1000L, 1000L, 1300L, 2000L, 2000L, 2000L, 2100L);
+
+    sut.enqueue(ImmutableList.<IndexAction<?>>of(new FakeIndexAction("rules", false)));
+    sut.enqueue(ImmutableList.<IndexAction<?>>of(new FakeIndexAction("rules", false)));
+
+    assertThat(sut.getMaxLatencyMs()).isEqualTo(300L);
+    assertThat(sut.getAverageLatencyMs()).isEqualTo(200L);
+    assertThat(sut.getBulkRequests()).isEqualTo(2L);
+    assertThat(sut.getPendingActions()).isEqualTo(0);
+  }
+
+  @Test
+  public void do_not_refresh_required_indices_if_nothing_indexed() {
+    IndexQueue sut = new IndexQueue(searchClient, container, settings, system);
+    when(bulk.numberOfActions()).thenReturn(0);
+
+    sut.enqueue(ImmutableList.<IndexAction<?>>of(new FakeIndexAction("rules", true, 0)));
+
+    verify(bulk, never()).get();
+    verify(searchClient, never()).prepareRefresh(anyString());
+    assertThat(sut.getProcessedActions()).isEqualTo(1L);
+  }
+
+  @Test
+  public void refresh_required_indices_after_indexing() {
+    IndexQueue sut = new IndexQueue(searchClient, container, settings, system);
+    when(bulk.numberOfActions()).thenReturn(1);
+
+    sut.enqueue(ImmutableList.<IndexAction<?>>of(new FakeIndexAction("rules", true)));
+
+    verify(searchClient).prepareRefresh("rules");
+  }
+
+  @Test
+  public void normalize_actions_in_parallel() throws Exception {
+    IndexQueue sut = new IndexQueue(searchClient, container, system, 2, 0L);
+    when(bulk.numberOfActions()).thenReturn(1, 1, 0);
+    // each normalization waits for the other one, so they can't succeed if executed sequentially
+    final CountDownLatch latch = new CountDownLatch(2);
+    List<IndexAction<?>> actions = ImmutableList.<IndexAction<?>>of(new WaitingIndexAction(latch), new WaitingIndexAction(latch));
+
+    sut.enqueue(actions);
+
+    assertThat(latch.getCount()).isEqualTo(0L);
+    verify(bulk, times(2)).get();
+    assertThat(sut.getNormalizationThreads()).isEqualTo(2);
+    sut.stop();
+  }
+
+  @Test
+  public void number_of_threads() {
+    assertThat(IndexQueue.numberOfThreads(settings)).isEqualTo(IndexQueue.DEFAULT_THREADS);
+
+    settings.setProperty(IndexQueue.THREADS_PROPERTY, 0);
+    assertThat(IndexQueue.numberOfThreads(settings)).isEqualTo(IndexQueue.DEFAULT_THREADS);
+
+    settings.setProperty(IndexQueue.THREADS_PROPERTY, 4);
+    assertThat(IndexQueue.numberOfThreads(settings)).isEqualTo(4);
+
+    settings.setProperty(IndexQueue.THREADS_PROPERTY, -1);
+    try {
+      IndexQueue.numberOfThreads(settings);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Bad value of sonar.search.normalization.threads: -1");
+    }
+  }
+
+  private static Index mockIndex(String name) {
+    Index index = mock(Index.class);
+    when(index.getIndexType()).thenReturn(name);
+    when(index.getIndexName()).thenReturn(name);
+    return index;
+  }
+
+  private static class FakeIndexAction extends IndexAction<ActionRequest> {
+
+    private final int documents;
+
+    FakeIndexAction(String indexType, boolean requiresRefresh) {
+      this(indexType, requiresRefresh, 1);
+    }
+
+    FakeIndexAction(String indexType, boolean requiresRefresh, int documents) {
+      super(indexType, requiresRefresh);
+      this.documents = documents;
+    }
+
+    @Override
+    public String getKey() {
+      return indexType;
+    }
+
+    @Override
+    public List<ActionRequest> doCall(Index index) {
+      List<ActionRequest> requests = new ArrayList<ActionRequest>();
+      for (int i = 0; i < documents; i++) {
+        requests.add(new IndexRequest(index.getIndexName(), "doc", String.valueOf(i)).source("{}"));
+      }
+      return requests;
+    }
+  }
+
+  private static class WaitingIndexAction extends FakeIndexAction {
+    private final CountDownLatch latch;
+
+    WaitingIndexAction(CountDownLatch latch) {
+      super("rules", false);
+      this.latch = latch;
+    }
+
+    @Override
+    public List<ActionRequest> doCall(Index index) {
+      latch.countDown();
+      try {
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+          throw new IllegalStateException("Normalizations are not executed in parallel");
+        }
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return super.doCall(index);
+    }
+  }
+}
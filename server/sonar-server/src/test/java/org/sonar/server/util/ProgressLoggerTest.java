@@ -25,6 +25,8 @@ import org.sonar.api.utils.log.Logger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.endsWith;
+import static org.mockito.Matchers.startsWith;
 import static org.mockito.Mockito.*;
 
 public class ProgressLoggerTest {
@@ -46,6 +48,20 @@ public class ProgressLoggerTest {
     verify(logger).info("43 rows processed");
   }
 
+  @Test
+  public void log_throughput() throws Exception {
+    Logger logger = mock(Logger.class);
+    AtomicLong counter = new AtomicLong(0L);
+    ProgressLogger progress = new ProgressLogger("ProgressLoggerTest", counter, logger).setLogThroughput(true);
+    assertThat(progress.isLogThroughput()).isTrue();
+
+    counter.set(10L);
+    Thread.sleep(10L);
+    progress.log();
+    verify(logger).info(startsWith("10 rows processed ("));
+    verify(logger).info(endsWith(" rows/s)"));
+  }
+
   @Test
   public void create() throws Exception {
     ProgressLogger progress = ProgressLogger.create(getClass(), new AtomicLong());
@@ -53,6 +69,7 @@ public class ProgressLoggerTest {
     // default values
     assertThat(progress.getPeriodMs()).isEqualTo(60000L);
     assertThat(progress.getPluralLabel()).isEqualTo("rows");
+    assertThat(progress.isLogThroughput()).isFalse();
 
     // override values
     progress.setPeriodMs(10L);
@@ -19,15 +19,19 @@
  */
 package org.sonar.server.util.cache;
 
+import com.google.common.collect.Lists;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.sonar.api.utils.System2;
 import org.sonar.server.util.CloseableIterator;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
@@ -53,6 +57,68 @@ public class DiskCacheTest {
     }
   }
 
+  @Test
+  public void write_and_read_compressed_blocks() throws Exception {
+    DiskCache<String> cache = new DiskCache<>(temp.newFile(), System2.INSTANCE, new StringCodec(), true);
+    try (CloseableIterator<String> traverse = cache.traverse()) {
+      assertThat(traverse).isEmpty();
+    }
+
+    // large enough to be stored in several blocks
+    List<String> expected = Lists.newArrayList();
+    DiskCache<String>.DiskAppender appender = cache.newAppender();
+    for (int i = 0; i < 50000; i++) {
+      String s = "value " + i;
+      appender.append(s);
+      expected.add(s);
+    }
+    appender.close();
+    cache.newAppender().append("other appender").close();
+    expected.add("other appender");
+
+    try (CloseableIterator<String> traverse = cache.traverse()) {
+      assertThat(Lists.newArrayList(traverse)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  public void merge_segments() throws Exception {
+    DiskCache<String> cache = new DiskCache<>(temp.newFile(), System2.INSTANCE, new StringCodec(), true);
+    cache.newAppender().append("foo").close();
+
+    DiskCache<String> segment1 = cache.newSegment();
+    DiskCache<String> segment2 = cache.newSegment();
+    DiskCache<String>.DiskAppender appender1 = segment1.newAppender();
+    DiskCache<String>.DiskAppender appender2 = segment2.newAppender();
+    appender2.append("bar");
+    appender1.append("baz");
+    appender2.append("qux");
+    appender1.close();
+    appender2.close();
+
+    cache.merge(segment1);
+    cache.merge(segment2);
+
+    try (CloseableIterator<String> traverse = cache.traverse()) {
+      assertThat(Lists.newArrayList(traverse)).containsExactly("foo", "baz", "bar", "qux");
+    }
+    // segments are deleted
+    assertThat(temp.getRoot().list()).hasSize(1);
+  }
+
+  @Test
+  public void fail_to_merge_segment_with_different_encoding() throws Exception {
+    DiskCache<String> cache = new DiskCache<>(temp.newFile(), System2.INSTANCE, new StringCodec(), true);
+    DiskCache<String> other = new DiskCache<>(temp.newFile(), System2.INSTANCE, new StringCodec(), false);
+
+    try {
+      cache.merge(other);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage()).startsWith("Segment is not encoded the same way");
+    }
+  }
+
   @Test
   public void fail_if_file_is_not_writable() throws Exception {
     try {
@@ -63,6 +129,22 @@ public class DiskCacheTest {
     }
   }
 
+  @Test
+  public void fail_to_encode() throws Exception {
+    DiskCache<String> cache = new DiskCache<>(temp.newFile(), System2.INSTANCE, new StringCodec() {
+      @Override
+      public void encode(String object, DataOutput output) throws IOException {
+        throw new IOException("expected error");
+      }
+    }, false);
+    try {
+      cache.newAppender().append("foo");
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessageContaining("Fail to write into file");
+    }
+  }
+
   @Test
   public void fail_to_serialize() throws Exception {
     class Unserializable implements Serializable {
@@ -78,4 +160,16 @@ public class DiskCacheTest {
       assertThat(e).hasMessage("expected error");
     }
   }
+
+  private static class StringCodec implements DiskCacheCodec<String> {
+    @Override
+    public void encode(String object, DataOutput output) throws IOException {
+      output.writeUTF(object);
+    }
+
+    @Override
+    public String decode(DataInput input) throws IOException {
+      return input.readUTF();
+    }
+  }
 }
@@ -70,6 +70,14 @@ public class ServletRequestTest {
     assertThat(request.readParam("param3")).isNull();
   }
 
+  @Test
+  public void read_header() throws Exception {
+    when(source.getHeader("If-None-Match")).thenReturn("\"abc\"");
+    ServletRequest request = new ServletRequest(source, Collections.<String, Object>emptyMap());
+    assertThat(request.header("If-None-Match")).isEqualTo("\"abc\"");
+    assertThat(request.header("unknown")).isNull();
+  }
+
   @Test
   public void read_input_stream() throws Exception {
     RubyFile file = mock(RubyFile.class);
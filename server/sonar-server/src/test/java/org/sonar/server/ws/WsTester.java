@@ -52,6 +52,7 @@ public class WsTester {
 
     private final String method;
     private Map<String, String> params = Maps.newHashMap();
+    private final Map<String, String> headers = Maps.newHashMap();
 
     private TestRequest(String method) {
       this.method = method;
@@ -79,6 +80,18 @@ public class WsTester {
       return this;
     }
 
+    public TestRequest setHeader(String name, @Nullable String value) {
+      if (value != null) {
+        headers.put(name, value);
+      }
+      return this;
+    }
+
+    @Override
+    public String header(String name) {
+      return headers.get(name);
+    }
+
     @Override
     protected String readParam(String key) {
       return params.get(key);
@@ -102,9 +115,10 @@ public class WsTester {
 
     private TestStream stream;
 
-    public class TestStream implements Response.Stream {
+    public class TestStream implements HeaderAwareStream {
       private String mediaType;
       private int status;
+      private final Map<String, String> headers = Maps.newHashMap();
 
       @CheckForNull
       public String mediaType() {
@@ -127,6 +141,17 @@ public class WsTester {
         return this;
       }
 
+      @CheckForNull
+      public String header(String name) {
+        return headers.get(name);
+      }
+
+      @Override
+      public HeaderAwareStream setHeader(String name, String value) {
+        headers.put(name, value);
+        return this;
+      }
+
       @Override
       public OutputStream output() {
         return output;
@@ -184,6 +209,11 @@ public class WsTester {
       return response.output.toByteArray();
     }
 
+    @CheckForNull
+    public String header(String name) {
+      return ((TestResponse.TestStream) response.stream()).header(name);
+    }
+
     public Result assertJson(String expectedJson) throws Exception {
       return assertJson(expectedJson, true);
     }
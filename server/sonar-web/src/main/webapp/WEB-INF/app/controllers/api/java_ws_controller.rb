@@ -29,6 +29,10 @@ class Api::JavaWsController < Api::ApiController
     engine = Java::OrgSonarServerPlatform::Platform.component(Java::OrgSonarServerWs::WebServiceEngine.java_class)
     engine.execute(ws_request, ws_response, params[:wspath], params[:wsaction])
 
+    ws_response.stream().headers().each do |name, value|
+      response.headers[name] = value
+    end
+
     # response is already written to HttpServletResponse
     render :text => ws_response.stream().output().toByteArray(),
            :status => ws_response.stream().httpStatus(),
@@ -4,102 +4,88 @@
 package org.sonar.batch.protocol.input;
 
 public final class BatchInput {
-  private BatchInput() {
-  }
-
+  private BatchInput() {}
   public static void registerAllExtensions(
-    com.google.protobuf.ExtensionRegistry registry) {
+      com.google.protobuf.ExtensionRegistry registry) {
   }
-
   public interface ServerIssueOrBuilder extends
-    // @@protoc_insertion_point(interface_extends:ServerIssue)
-    com.google.protobuf.MessageOrBuilder {
+      // @@protoc_insertion_point(interface_extends:ServerIssue)
+      com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional string key = 1;</code>
      */
     boolean hasKey();
-
     /**
      * <code>optional string key = 1;</code>
      */
     java.lang.String getKey();
-
     /**
      * <code>optional string key = 1;</code>
      */
     com.google.protobuf.ByteString
-      getKeyBytes();
+        getKeyBytes();
 
     /**
      * <code>optional string module_key = 2;</code>
      */
     boolean hasModuleKey();
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     java.lang.String getModuleKey();
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     com.google.protobuf.ByteString
-      getModuleKeyBytes();
+        getModuleKeyBytes();
 
     /**
      * <code>optional string path = 3;</code>
      */
     boolean hasPath();
-
     /**
      * <code>optional string path = 3;</code>
      */
     java.lang.String getPath();
-
     /**
      * <code>optional string path = 3;</code>
      */
     com.google.protobuf.ByteString
-      getPathBytes();
+        getPathBytes();
 
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     boolean hasRuleRepository();
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     java.lang.String getRuleRepository();
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     com.google.protobuf.ByteString
-      getRuleRepositoryBytes();
+        getRuleRepositoryBytes();
 
     /**
      * <code>optional string rule_key = 5;</code>
      */
     boolean hasRuleKey();
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     java.lang.String getRuleKey();
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     com.google.protobuf.ByteString
-      getRuleKeyBytes();
+        getRuleKeyBytes();
 
     /**
      * <code>optional int32 line = 6;</code>
      */
     boolean hasLine();
-
     /**
      * <code>optional int32 line = 6;</code>
      */
@@ -109,23 +95,20 @@ public final class BatchInput {
      * <code>optional string msg = 7;</code>
      */
     boolean hasMsg();
-
     /**
      * <code>optional string msg = 7;</code>
      */
     java.lang.String getMsg();
-
     /**
      * <code>optional string msg = 7;</code>
      */
     com.google.protobuf.ByteString
-      getMsgBytes();
+        getMsgBytes();
 
     /**
      * <code>optional .Severity severity = 8;</code>
      */
     boolean hasSeverity();
-
     /**
      * <code>optional .Severity severity = 8;</code>
      */
@@ -135,7 +118,6 @@ public final class BatchInput {
      * <code>optional bool manual_severity = 9;</code>
      */
     boolean hasManualSeverity();
-
     /**
      * <code>optional bool manual_severity = 9;</code>
      */
@@ -145,95 +127,99 @@ public final class BatchInput {
      * <code>optional string resolution = 10;</code>
      */
     boolean hasResolution();
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     java.lang.String getResolution();
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     com.google.protobuf.ByteString
-      getResolutionBytes();
+        getResolutionBytes();
 
     /**
      * <code>optional string status = 11;</code>
      */
     boolean hasStatus();
-
     /**
      * <code>optional string status = 11;</code>
      */
     java.lang.String getStatus();
-
     /**
      * <code>optional string status = 11;</code>
      */
     com.google.protobuf.ByteString
-      getStatusBytes();
+        getStatusBytes();
 
     /**
      * <code>optional string checksum = 12;</code>
      */
     boolean hasChecksum();
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     java.lang.String getChecksum();
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     com.google.protobuf.ByteString
-      getChecksumBytes();
+        getChecksumBytes();
 
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     boolean hasAssigneeLogin();
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     java.lang.String getAssigneeLogin();
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     com.google.protobuf.ByteString
-      getAssigneeLoginBytes();
+        getAssigneeLoginBytes();
 
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
     boolean hasCreationDate();
-
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
     long getCreationDate();
+
+    /**
+     * <code>optional int64 update_date = 15;</code>
+     *
+     * <pre>
+     * technical date of last change on server, used as cursor of incremental synchronization
+     * </pre>
+     */
+    boolean hasUpdateDate();
+    /**
+     * <code>optional int64 update_date = 15;</code>
+     *
+     * <pre>
+     * technical date of last change on server, used as cursor of incremental synchronization
+     * </pre>
+     */
+    long getUpdateDate();
   }
   /**
    * Protobuf type {@code ServerIssue}
    */
   public static final class ServerIssue extends
-    com.google.protobuf.GeneratedMessage implements
-    // @@protoc_insertion_point(message_implements:ServerIssue)
-    ServerIssueOrBuilder {
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ServerIssue)
+      ServerIssueOrBuilder {
     // Use ServerIssue.newBuilder() to construct.
     private ServerIssue(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-
-    private ServerIssue(boolean noInit) {
-      this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance();
-    }
+    private ServerIssue(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
     private static final ServerIssue defaultInstance;
-
     public static ServerIssue getDefaultInstance() {
       return defaultInstance;
     }
@@ -243,21 +229,19 @@ public final class BatchInput {
     }
 
     private final com.google.protobuf.UnknownFieldSet unknownFields;
-
     @java.lang.Override
     public final com.google.protobuf.UnknownFieldSet
-      getUnknownFields() {
+        getUnknownFields() {
       return this.unknownFields;
     }
-
     private ServerIssue(
-      com.google.protobuf.CodedInputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       initFields();
       int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-        com.google.protobuf.UnknownFieldSet.newBuilder();
+          com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
         boolean done = false;
         while (!done) {
@@ -268,7 +252,7 @@ public final class BatchInput {
               break;
             default: {
               if (!parseUnknownField(input, unknownFields,
-                extensionRegistry, tag)) {
+                                     extensionRegistry, tag)) {
                 done = true;
               }
               break;
@@ -359,40 +343,44 @@ public final class BatchInput {
               creationDate_ = input.readInt64();
               break;
             }
+            case 120: {
+              bitField0_ |= 0x00004000;
+              updateDate_ = input.readInt64();
+              break;
+            }
           }
         }
       } catch (com.google.protobuf.InvalidProtocolBufferException e) {
         throw e.setUnfinishedMessage(this);
       } catch (java.io.IOException e) {
         throw new com.google.protobuf.InvalidProtocolBufferException(
-          e.getMessage()).setUnfinishedMessage(this);
+            e.getMessage()).setUnfinishedMessage(this);
       } finally {
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
-
     public static final com.google.protobuf.Descriptors.Descriptor
-      getDescriptor() {
+        getDescriptor() {
       return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-      internalGetFieldAccessorTable() {
+        internalGetFieldAccessorTable() {
       return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_fieldAccessorTable
-        .ensureFieldAccessorsInitialized(
-          org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
+          .ensureFieldAccessorsInitialized(
+              org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
     }
 
     public static com.google.protobuf.Parser<ServerIssue> PARSER =
-      new com.google.protobuf.AbstractParser<ServerIssue>() {
-        public ServerIssue parsePartialFrom(
+        new com.google.protobuf.AbstractParser<ServerIssue>() {
+      public ServerIssue parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-          return new ServerIssue(input, extensionRegistry);
-        }
-      };
+        return new ServerIssue(input, extensionRegistry);
+      }
+    };
 
     @java.lang.Override
     public com.google.protobuf.Parser<ServerIssue> getParserForType() {
@@ -402,14 +390,12 @@ public final class BatchInput {
     private int bitField0_;
     public static final int KEY_FIELD_NUMBER = 1;
     private java.lang.Object key_;
-
     /**
      * <code>optional string key = 1;</code>
      */
     public boolean hasKey() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
-
     /**
      * <code>optional string key = 1;</code>
      */
@@ -418,8 +404,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           key_ = s;
@@ -427,17 +413,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string key = 1;</code>
      */
     public com.google.protobuf.ByteString
-      getKeyBytes() {
+        getKeyBytes() {
       java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         key_ = b;
         return b;
       } else {
@@ -447,14 +432,12 @@ public final class BatchInput {
 
     public static final int MODULE_KEY_FIELD_NUMBER = 2;
     private java.lang.Object moduleKey_;
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     public boolean hasModuleKey() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
-
     /**
      * <code>optional string module_key = 2;</code>
      */
@@ -463,8 +446,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           moduleKey_ = s;
@@ -472,17 +455,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string module_key = 2;</code>
      */
     public com.google.protobuf.ByteString
-      getModuleKeyBytes() {
+        getModuleKeyBytes() {
       java.lang.Object ref = moduleKey_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         moduleKey_ = b;
         return b;
       } else {
@@ -492,14 +474,12 @@ public final class BatchInput {
 
     public static final int PATH_FIELD_NUMBER = 3;
     private java.lang.Object path_;
-
     /**
      * <code>optional string path = 3;</code>
      */
     public boolean hasPath() {
       return ((bitField0_ & 0x00000004) == 0x00000004);
     }
-
     /**
      * <code>optional string path = 3;</code>
      */
@@ -508,8 +488,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           path_ = s;
@@ -517,17 +497,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string path = 3;</code>
      */
     public com.google.protobuf.ByteString
-      getPathBytes() {
+        getPathBytes() {
       java.lang.Object ref = path_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         path_ = b;
         return b;
       } else {
@@ -537,14 +516,12 @@ public final class BatchInput {
 
     public static final int RULE_REPOSITORY_FIELD_NUMBER = 4;
     private java.lang.Object ruleRepository_;
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     public boolean hasRuleRepository() {
       return ((bitField0_ & 0x00000008) == 0x00000008);
     }
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
@@ -553,8 +530,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           ruleRepository_ = s;
@@ -562,17 +539,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string rule_repository = 4;</code>
      */
     public com.google.protobuf.ByteString
-      getRuleRepositoryBytes() {
+        getRuleRepositoryBytes() {
       java.lang.Object ref = ruleRepository_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         ruleRepository_ = b;
         return b;
       } else {
@@ -582,14 +558,12 @@ public final class BatchInput {
 
     public static final int RULE_KEY_FIELD_NUMBER = 5;
     private java.lang.Object ruleKey_;
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     public boolean hasRuleKey() {
       return ((bitField0_ & 0x00000010) == 0x00000010);
     }
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
@@ -598,8 +572,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           ruleKey_ = s;
@@ -607,17 +581,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string rule_key = 5;</code>
      */
     public com.google.protobuf.ByteString
-      getRuleKeyBytes() {
+        getRuleKeyBytes() {
       java.lang.Object ref = ruleKey_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         ruleKey_ = b;
         return b;
       } else {
@@ -627,14 +600,12 @@ public final class BatchInput {
 
     public static final int LINE_FIELD_NUMBER = 6;
     private int line_;
-
     /**
      * <code>optional int32 line = 6;</code>
      */
     public boolean hasLine() {
       return ((bitField0_ & 0x00000020) == 0x00000020);
     }
-
     /**
      * <code>optional int32 line = 6;</code>
      */
@@ -644,14 +615,12 @@ public final class BatchInput {
 
     public static final int MSG_FIELD_NUMBER = 7;
     private java.lang.Object msg_;
-
     /**
      * <code>optional string msg = 7;</code>
      */
     public boolean hasMsg() {
       return ((bitField0_ & 0x00000040) == 0x00000040);
     }
-
     /**
      * <code>optional string msg = 7;</code>
      */
@@ -660,8 +629,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           msg_ = s;
@@ -669,17 +638,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string msg = 7;</code>
      */
     public com.google.protobuf.ByteString
-      getMsgBytes() {
+        getMsgBytes() {
       java.lang.Object ref = msg_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         msg_ = b;
         return b;
       } else {
@@ -689,14 +657,12 @@ public final class BatchInput {
 
     public static final int SEVERITY_FIELD_NUMBER = 8;
     private org.sonar.batch.protocol.Constants.Severity severity_;
-
     /**
      * <code>optional .Severity severity = 8;</code>
      */
     public boolean hasSeverity() {
       return ((bitField0_ & 0x00000080) == 0x00000080);
     }
-
     /**
      * <code>optional .Severity severity = 8;</code>
      */
@@ -706,14 +672,12 @@ public final class BatchInput {
 
     public static final int MANUAL_SEVERITY_FIELD_NUMBER = 9;
     private boolean manualSeverity_;
-
     /**
      * <code>optional bool manual_severity = 9;</code>
      */
     public boolean hasManualSeverity() {
       return ((bitField0_ & 0x00000100) == 0x00000100);
     }
-
     /**
      * <code>optional bool manual_severity = 9;</code>
      */
@@ -723,14 +687,12 @@ public final class BatchInput {
 
     public static final int RESOLUTION_FIELD_NUMBER = 10;
     private java.lang.Object resolution_;
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     public boolean hasResolution() {
       return ((bitField0_ & 0x00000200) == 0x00000200);
     }
-
     /**
      * <code>optional string resolution = 10;</code>
      */
@@ -739,8 +701,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           resolution_ = s;
@@ -748,17 +710,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string resolution = 10;</code>
      */
     public com.google.protobuf.ByteString
-      getResolutionBytes() {
+        getResolutionBytes() {
       java.lang.Object ref = resolution_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         resolution_ = b;
         return b;
       } else {
@@ -768,14 +729,12 @@ public final class BatchInput {
 
     public static final int STATUS_FIELD_NUMBER = 11;
     private java.lang.Object status_;
-
     /**
      * <code>optional string status = 11;</code>
      */
     public boolean hasStatus() {
       return ((bitField0_ & 0x00000400) == 0x00000400);
     }
-
     /**
      * <code>optional string status = 11;</code>
      */
@@ -784,8 +743,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           status_ = s;
@@ -793,17 +752,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string status = 11;</code>
      */
     public com.google.protobuf.ByteString
-      getStatusBytes() {
+        getStatusBytes() {
       java.lang.Object ref = status_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         status_ = b;
         return b;
       } else {
@@ -813,14 +771,12 @@ public final class BatchInput {
 
     public static final int CHECKSUM_FIELD_NUMBER = 12;
     private java.lang.Object checksum_;
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     public boolean hasChecksum() {
       return ((bitField0_ & 0x00000800) == 0x00000800);
     }
-
     /**
      * <code>optional string checksum = 12;</code>
      */
@@ -829,8 +785,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           checksum_ = s;
@@ -838,17 +794,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string checksum = 12;</code>
      */
     public com.google.protobuf.ByteString
-      getChecksumBytes() {
+        getChecksumBytes() {
       java.lang.Object ref = checksum_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         checksum_ = b;
         return b;
       } else {
@@ -858,14 +813,12 @@ public final class BatchInput {
 
     public static final int ASSIGNEE_LOGIN_FIELD_NUMBER = 13;
     private java.lang.Object assigneeLogin_;
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     public boolean hasAssigneeLogin() {
       return ((bitField0_ & 0x00001000) == 0x00001000);
     }
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
@@ -874,8 +827,8 @@ public final class BatchInput {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs =
-          (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           assigneeLogin_ = s;
@@ -883,17 +836,16 @@ public final class BatchInput {
         return s;
       }
     }
-
     /**
      * <code>optional string assignee_login = 13;</code>
      */
     public com.google.protobuf.ByteString
-      getAssigneeLoginBytes() {
+        getAssigneeLoginBytes() {
       java.lang.Object ref = assigneeLogin_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-          com.google.protobuf.ByteString.copyFromUtf8(
-            (java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         assigneeLogin_ = b;
         return b;
       } else {
@@ -903,14 +855,12 @@ public final class BatchInput {
 
     public static final int CREATION_DATE_FIELD_NUMBER = 14;
     private long creationDate_;
-
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
     public boolean hasCreationDate() {
       return ((bitField0_ & 0x00002000) == 0x00002000);
     }
-
     /**
      * <code>optional int64 creation_date = 14;</code>
      */
@@ -918,6 +868,29 @@ public final class BatchInput {
       return creationDate_;
     }
 
+    public static final int UPDATE_DATE_FIELD_NUMBER = 15;
+    private long updateDate_;
+    /**
+     * <code>optional int64 update_date = 15;</code>
+     *
+     * <pre>
+     * technical date of last change on server, used as cursor of incremental synchronization
+     * </pre>
+     */
+    public boolean hasUpdateDate() {
+      return ((bitField0_ & 0x00004000) == 0x00004000);
+    }
+    /**
+     * <code>optional int64 update_date = 15;</code>
+     *
+     * <pre>
+     * technical date of last change on server, used as cursor of incremental synchronization
+     * </pre>
+     */
+    public long getUpdateDate() {
+      return updateDate_;
+    }
+
     private void initFields() {
       key_ = "";
       moduleKey_ = "";
@@ -933,23 +906,20 @@ public final class BatchInput {
       checksum_ = "";
       assigneeLogin_ = "";
       creationDate_ = 0L;
+      updateDate_ = 0L;
     }
-
     private byte memoizedIsInitialized = -1;
-
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1)
-        return true;
-      if (isInitialized == 0)
-        return false;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
 
       memoizedIsInitialized = 1;
       return true;
     }
 
     public void writeTo(com.google.protobuf.CodedOutputStream output)
-      throws java.io.IOException {
+                        throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         output.writeBytes(1, getKeyBytes());
@@ -993,15 +963,16 @@ public final class BatchInput {
       if (((bitField0_ & 0x00002000) == 0x00002000)) {
         output.writeInt64(14, creationDate_);
       }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        output.writeInt64(15, updateDate_);
+      }
       getUnknownFields().writeTo(output);
     }
 
     private int memoizedSerializedSize = -1;
-
     public int getSerializedSize() {
       int size = memoizedSerializedSize;
-      if (size != -1)
-        return size;
+      if (size != -1) return size;
 
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
@@ -1060,121 +1031,105 @@ public final class BatchInput {
         size += com.google.protobuf.CodedOutputStream
           .computeInt64Size(14, creationDate_);
       }
+      if (((bitField0_ & 0x00004000) == 0x00004000)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(15, updateDate_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
       return size;
     }
 
     private static final long serialVersionUID = 0L;
-
     @java.lang.Override
     protected java.lang.Object writeReplace()
-      throws java.io.ObjectStreamException {
+        throws java.io.ObjectStreamException {
       return super.writeReplace();
     }
 
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.ByteString data)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.ByteString data,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(byte[] data)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      byte[] data,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws com.google.protobuf.InvalidProtocolBufferException {
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(java.io.InputStream input)
-      throws java.io.IOException {
+        throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      java.io.InputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseDelimitedFrom(java.io.InputStream input)
-      throws java.io.IOException {
+        throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseDelimitedFrom(
-      java.io.InputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.CodedInputStream input)
-      throws java.io.IOException {
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-
     public static org.sonar.batch.protocol.input.BatchInput.ServerIssue parseFrom(
-      com.google.protobuf.CodedInputStream input,
-      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-      throws java.io.IOException {
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
 
-    public static Builder newBuilder() {
-      return Builder.create();
-    }
-
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ServerIssue prototype) {
       return newBuilder().mergeFrom(prototype);
     }
-
-    public Builder toBuilder() {
-      return newBuilder(this);
-    }
+    public Builder toBuilder() { return newBuilder(this); }
 
     @java.lang.Override
     protected Builder newBuilderForType(
-      com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
     /**
      * Protobuf type {@code ServerIssue}
      */
     public static final class Builder extends
-      com.google.protobuf.GeneratedMessage.Builder<Builder> implements
-      // @@protoc_insertion_point(builder_implements:ServerIssue)
-      org.sonar.batch.protocol.input.BatchInput.ServerIssueOrBuilder {
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ServerIssue)
+        org.sonar.batch.protocol.input.BatchInput.ServerIssueOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
+          getDescriptor() {
         return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
+          internalGetFieldAccessorTable() {
         return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-            org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ServerIssue.class, org.sonar.batch.protocol.input.BatchInput.ServerIssue.Builder.class);
       }
 
       // Construct using org.sonar.batch.protocol.input.BatchInput.ServerIssue.newBuilder()
@@ -1183,16 +1138,14 @@ public final class BatchInput {
       }
 
       private Builder(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
         maybeForceBuilderInitialization();
       }
-
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
         }
       }
-
       private static Builder create() {
         return new Builder();
       }
@@ -1227,6 +1180,8 @@ public final class BatchInput {
         bitField0_ = (bitField0_ & ~0x00001000);
         creationDate_ = 0L;
         bitField0_ = (bitField0_ & ~0x00002000);
+        updateDate_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00004000);
         return this;
       }
 
@@ -1235,7 +1190,7 @@ public final class BatchInput {
       }
 
       public com.google.protobuf.Descriptors.Descriptor
-        getDescriptorForType() {
+          getDescriptorForType() {
         return org.sonar.batch.protocol.input.BatchInput.internal_static_ServerIssue_descriptor;
       }
 
@@ -1311,6 +1266,10 @@ public final class BatchInput {
           to_bitField0_ |= 0x00002000;
         }
         result.creationDate_ = creationDate_;
+        if (((from_bitField0_ & 0x00004000) == 0x00004000)) {
+          to_bitField0_ |= 0x00004000;
+        }
+        result.updateDate_ = updateDate_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -1318,7 +1277,7 @@ public final class BatchInput {
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
         if (other instanceof org.sonar.batch.protocol.input.BatchInput.ServerIssue) {
-          return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ServerIssue) other);
+          return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ServerIssue)other);
         } else {
           super.mergeFrom(other);
           return this;
@@ -1326,8 +1285,7 @@ public final class BatchInput {
       }
 
       public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ServerIssue other) {
-        if (other == org.sonar.batch.protocol.input.BatchInput.ServerIssue.getDefaultInstance())
-          return this;
+        if (other == org.sonar.batch.protocol.input.BatchInput.ServerIssue.getDefaultInstance()) return this;
         if (other.hasKey()) {
           bitField0_ |= 0x00000001;
           key_ = other.key_;
@@ -1390,6 +1348,9 @@ public final class BatchInput {
         if (other.hasCreationDate()) {
           setCreationDate(other.getCreationDate());
         }
+        if (other.hasUpdateDate()) {
+          setUpdateDate(other.getUpdateDate());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1399,9 +1360,9 @@ public final class BatchInput {
       }
 
       public Builder mergeFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
         org.sonar.batch.protocol.input.BatchInput.ServerIssue parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
@@ -1415,18 +1376,15 @@ public final class BatchInput {
         }
         return this;
       }
-
       private int bitField0_;
 
       private java.lang.Object key_ = "";
-
       /**
        * <code>optional string key = 1;</code>
        */
       public boolean hasKey() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
@@ -1434,7 +1392,7 @@ public final class BatchInput {
         java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             key_ = s;
@@ -1444,38 +1402,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
       public com.google.protobuf.ByteString
-        getKeyBytes() {
+          getKeyBytes() {
         java.lang.Object ref = key_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
       public Builder setKey(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000001;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
         key_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
@@ -1485,30 +1440,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string key = 1;</code>
        */
       public Builder setKeyBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000001;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
         key_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object moduleKey_ = "";
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public boolean hasModuleKey() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
@@ -1516,7 +1468,7 @@ public final class BatchInput {
         java.lang.Object ref = moduleKey_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             moduleKey_ = s;
@@ -1526,38 +1478,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public com.google.protobuf.ByteString
-        getModuleKeyBytes() {
+          getModuleKeyBytes() {
         java.lang.Object ref = moduleKey_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           moduleKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public Builder setModuleKey(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000002;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
         moduleKey_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
@@ -1567,30 +1516,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string module_key = 2;</code>
        */
       public Builder setModuleKeyBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000002;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
         moduleKey_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object path_ = "";
-
       /**
        * <code>optional string path = 3;</code>
        */
       public boolean hasPath() {
         return ((bitField0_ & 0x00000004) == 0x00000004);
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
@@ -1598,7 +1544,7 @@ public final class BatchInput {
         java.lang.Object ref = path_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             path_ = s;
@@ -1608,38 +1554,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
       public com.google.protobuf.ByteString
-        getPathBytes() {
+          getPathBytes() {
         java.lang.Object ref = path_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           path_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
       public Builder setPath(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000004;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
         path_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
@@ -1649,30 +1592,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string path = 3;</code>
        */
       public Builder setPathBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000004;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
         path_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object ruleRepository_ = "";
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public boolean hasRuleRepository() {
         return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
@@ -1680,7 +1620,7 @@ public final class BatchInput {
         java.lang.Object ref = ruleRepository_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             ruleRepository_ = s;
@@ -1690,38 +1630,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public com.google.protobuf.ByteString
-        getRuleRepositoryBytes() {
+          getRuleRepositoryBytes() {
         java.lang.Object ref = ruleRepository_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           ruleRepository_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public Builder setRuleRepository(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000008;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
         ruleRepository_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
@@ -1731,30 +1668,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_repository = 4;</code>
        */
       public Builder setRuleRepositoryBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000008;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
         ruleRepository_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object ruleKey_ = "";
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public boolean hasRuleKey() {
         return ((bitField0_ & 0x00000010) == 0x00000010);
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
@@ -1762,7 +1696,7 @@ public final class BatchInput {
         java.lang.Object ref = ruleKey_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             ruleKey_ = s;
@@ -1772,38 +1706,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public com.google.protobuf.ByteString
-        getRuleKeyBytes() {
+          getRuleKeyBytes() {
         java.lang.Object ref = ruleKey_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           ruleKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public Builder setRuleKey(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000010;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
         ruleKey_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
@@ -1813,37 +1744,33 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string rule_key = 5;</code>
        */
       public Builder setRuleKeyBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000010;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
         ruleKey_ = value;
         onChanged();
         return this;
       }
 
-      private int line_;
-
+      private int line_ ;
       /**
        * <code>optional int32 line = 6;</code>
        */
       public boolean hasLine() {
         return ((bitField0_ & 0x00000020) == 0x00000020);
       }
-
       /**
        * <code>optional int32 line = 6;</code>
        */
       public int getLine() {
         return line_;
       }
-
       /**
        * <code>optional int32 line = 6;</code>
        */
@@ -1853,7 +1780,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 line = 6;</code>
        */
@@ -1865,14 +1791,12 @@ public final class BatchInput {
       }
 
       private java.lang.Object msg_ = "";
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public boolean hasMsg() {
         return ((bitField0_ & 0x00000040) == 0x00000040);
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
@@ -1880,7 +1804,7 @@ public final class BatchInput {
         java.lang.Object ref = msg_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             msg_ = s;
@@ -1890,38 +1814,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public com.google.protobuf.ByteString
-        getMsgBytes() {
+          getMsgBytes() {
         java.lang.Object ref = msg_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           msg_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public Builder setMsg(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000040;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
         msg_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
@@ -1931,37 +1852,33 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string msg = 7;</code>
        */
       public Builder setMsgBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000040;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
         msg_ = value;
         onChanged();
         return this;
       }
 
       private org.sonar.batch.protocol.Constants.Severity severity_ = org.sonar.batch.protocol.Constants.Severity.INFO;
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
       public boolean hasSeverity() {
         return ((bitField0_ & 0x00000080) == 0x00000080);
       }
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
       public org.sonar.batch.protocol.Constants.Severity getSeverity() {
         return severity_;
       }
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
@@ -1974,7 +1891,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional .Severity severity = 8;</code>
        */
@@ -1985,22 +1901,19 @@ public final class BatchInput {
         return this;
       }
 
-      private boolean manualSeverity_;
-
+      private boolean manualSeverity_ ;
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
       public boolean hasManualSeverity() {
         return ((bitField0_ & 0x00000100) == 0x00000100);
       }
-
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
       public boolean getManualSeverity() {
         return manualSeverity_;
       }
-
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
@@ -2010,7 +1923,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool manual_severity = 9;</code>
        */
@@ -2022,14 +1934,12 @@ public final class BatchInput {
       }
 
       private java.lang.Object resolution_ = "";
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public boolean hasResolution() {
         return ((bitField0_ & 0x00000200) == 0x00000200);
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
@@ -2037,7 +1947,7 @@ public final class BatchInput {
         java.lang.Object ref = resolution_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             resolution_ = s;
@@ -2047,38 +1957,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public com.google.protobuf.ByteString
-        getResolutionBytes() {
+          getResolutionBytes() {
         java.lang.Object ref = resolution_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           resolution_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public Builder setResolution(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000200;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
         resolution_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
@@ -2088,30 +1995,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string resolution = 10;</code>
        */
       public Builder setResolutionBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000200;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000200;
         resolution_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object status_ = "";
-
       /**
        * <code>optional string status = 11;</code>
        */
       public boolean hasStatus() {
         return ((bitField0_ & 0x00000400) == 0x00000400);
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
@@ -2119,7 +2023,7 @@ public final class BatchInput {
         java.lang.Object ref = status_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             status_ = s;
@@ -2129,38 +2033,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
       public com.google.protobuf.ByteString
-        getStatusBytes() {
+          getStatusBytes() {
         java.lang.Object ref = status_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           status_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
       public Builder setStatus(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000400;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
         status_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
@@ -2170,30 +2071,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string status = 11;</code>
        */
       public Builder setStatusBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000400;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000400;
         status_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object checksum_ = "";
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public boolean hasChecksum() {
         return ((bitField0_ & 0x00000800) == 0x00000800);
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
@@ -2201,7 +2099,7 @@ public final class BatchInput {
         java.lang.Object ref = checksum_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             checksum_ = s;
@@ -2211,38 +2109,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public com.google.protobuf.ByteString
-        getChecksumBytes() {
+          getChecksumBytes() {
         java.lang.Object ref = checksum_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           checksum_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public Builder setChecksum(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000800;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
         checksum_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
@@ -2252,30 +2147,27 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string checksum = 12;</code>
        */
       public Builder setChecksumBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00000800;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000800;
         checksum_ = value;
         onChanged();
         return this;
       }
 
       private java.lang.Object assigneeLogin_ = "";
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public boolean hasAssigneeLogin() {
         return ((bitField0_ & 0x00001000) == 0x00001000);
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
@@ -2283,7 +2175,7 @@ public final class BatchInput {
         java.lang.Object ref = assigneeLogin_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
-            (com.google.protobuf.ByteString) ref;
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             assigneeLogin_ = s;
@@ -2293,38 +2185,35 @@ public final class BatchInput {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public com.google.protobuf.ByteString
-        getAssigneeLoginBytes() {
+          getAssigneeLoginBytes() {
         java.lang.Object ref = assigneeLogin_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8(
-              (java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           assigneeLogin_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public Builder setAssigneeLogin(
-        java.lang.String value) {
+          java.lang.String value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00001000;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
         assigneeLogin_ = value;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
@@ -2334,37 +2223,33 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string assignee_login = 13;</code>
        */
       public Builder setAssigneeLoginBytes(
-        com.google.protobuf.ByteString value) {
+          com.google.protobuf.ByteString value) {
         if (value == null) {
-          throw new NullPointerException();
-        }
-        bitField0_ |= 0x00001000;
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00001000;
         assigneeLogin_ = value;
         onChanged();
         return this;
       }
 
-      private long creationDate_;
-
+      private long creationDate_ ;
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
       public boolean hasCreationDate() {
         return ((bitField0_ & 0x00002000) == 0x00002000);
       }
-
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
       public long getCreationDate() {
         return creationDate_;
       }
-
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
@@ -2374,7 +2259,6 @@ public final class BatchInput {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int64 creation_date = 14;</code>
        */
@@ -2385,6 +2269,54 @@ public final class BatchInput {
         return this;
       }
 
+      private long updateDate_ ;
+      /**
+       * <code>optional int64 update_date = 15;</code>
+       *
+       * <pre>
+       * technical date of last change on server, used as cursor of incremental synchronization
+       * </pre>
+       */
+      public boolean hasUpdateDate() {
+        return ((bitField0_ & 0x00004000) == 0x00004000);
+      }
+      /**
+       * <code>optional int64 update_date = 15;</code>
+       *
+       * <pre>
+       * technical date of last change on server, used as cursor of incremental synchronization
+       * </pre>
+       */
+      public long getUpdateDate() {
+        return updateDate_;
+      }
+      /**
+       * <code>optional int64 update_date = 15;</code>
+       *
+       * <pre>
+       * technical date of last change on server, used as cursor of incremental synchronization
+       * </pre>
+       */
+      public Builder setUpdateDate(long value) {
+        bitField0_ |= 0x00004000;
+        updateDate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 update_date = 15;</code>
+       *
+       * <pre>
+       * technical date of last change on server, used as cursor of incremental synchronization
+       * </pre>
+       */
+      public Builder clearUpdateDate() {
+        bitField0_ = (bitField0_ & ~0x00004000);
+        updateDate_ = 0L;
+        onChanged();
+        return this;
+      }
+
       // @@protoc_insertion_point(builder_scope:ServerIssue)
     }
 
@@ -2396,47 +2328,8207 @@ public final class BatchInput {
     // @@protoc_insertion_point(class_scope:ServerIssue)
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor internal_static_ServerIssue_descriptor;
-  private static com.google.protobuf.GeneratedMessage.FieldAccessorTable internal_static_ServerIssue_fieldAccessorTable;
+  public interface ProjectRepositoriesOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ProjectRepositories)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-    getDescriptor() {
-    return descriptor;
+    /**
+     * <code>optional int64 timestamp = 1;</code>
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional int64 timestamp = 1;</code>
+     */
+    long getTimestamp();
+
+    /**
+     * <code>optional int64 last_analysis_date = 2;</code>
+     */
+    boolean hasLastAnalysisDate();
+    /**
+     * <code>optional int64 last_analysis_date = 2;</code>
+     */
+    long getLastAnalysisDate();
+
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile> 
+        getQprofileList();
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile getQprofile(int index);
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    int getQprofileCount();
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder> 
+        getQprofileOrBuilderList();
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder getQprofileOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule> 
+        getActiveRuleList();
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule getActiveRule(int index);
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    int getActiveRuleCount();
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder> 
+        getActiveRuleOrBuilderList();
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder getActiveRuleOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings> 
+        getModuleSettingsList();
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings getModuleSettings(int index);
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    int getModuleSettingsCount();
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder> 
+        getModuleSettingsOrBuilderList();
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder getModuleSettingsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData> 
+        getModuleFileDataList();
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData getModuleFileData(int index);
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    int getModuleFileDataCount();
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder> 
+        getModuleFileDataOrBuilderList();
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder getModuleFileDataOrBuilder(
+        int index);
   }
+  /**
+   * Protobuf type {@code ProjectRepositories}
+   *
+   * <pre>
+   * Binary encoding of org.sonar.batch.protocol.input.ProjectRepositories
+   * </pre>
+   */
+  public static final class ProjectRepositories extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:ProjectRepositories)
+      ProjectRepositoriesOrBuilder {
+    // Use ProjectRepositories.newBuilder() to construct.
+    private ProjectRepositories(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ProjectRepositories(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-  private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\n\021batch_input.proto\032\017constants.proto\"\235\002\n" +
-        "\013ServerIssue\022\013\n\003key\030\001 \001(\t\022\022\n\nmodule_key\030" +
-        "\002 \001(\t\022\014\n\004path\030\003 \001(\t\022\027\n\017rule_repository\030\004" +
-        " \001(\t\022\020\n\010rule_key\030\005 \001(\t\022\014\n\004line\030\006 \001(\005\022\013\n\003" +
-        "msg\030\007 \001(\t\022\033\n\010severity\030\010 \001(\0162\t.Severity\022\027" +
-        "\n\017manual_severity\030\t \001(\010\022\022\n\nresolution\030\n " +
-        "\001(\t\022\016\n\006status\030\013 \001(\t\022\020\n\010checksum\030\014 \001(\t\022\026\n" +
-        "\016assignee_login\030\r \001(\t\022\025\n\rcreation_date\030\016" +
-        " \001(\003B\"\n\036org.sonar.batch.protocol.inputH\001"
-    };
-    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
-      new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
-        public com.google.protobuf.ExtensionRegistry assignDescriptors(
-          com.google.protobuf.Descriptors.FileDescriptor root) {
-          descriptor = root;
-          return null;
+    private static final ProjectRepositories defaultInstance;
+    public static ProjectRepositories getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ProjectRepositories getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ProjectRepositories(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              timestamp_ = input.readInt64();
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              lastAnalysisDate_ = input.readInt64();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                qprofile_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              qprofile_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.PARSER, extensionRegistry));
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                activeRule_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              activeRule_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.PARSER, extensionRegistry));
+              break;
+            }
+            case 42: {
+              if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                moduleSettings_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings>();
+                mutable_bitField0_ |= 0x00000010;
+              }
+              moduleSettings_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.PARSER, extensionRegistry));
+              break;
+            }
+            case 50: {
+              if (!((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+                moduleFileData_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData>();
+                mutable_bitField0_ |= 0x00000020;
+              }
+              moduleFileData_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.PARSER, extensionRegistry));
+              break;
+            }
+          }
         }
-      };
-    com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        org.sonar.batch.protocol.Constants.getDescriptor(),
-        }, assigner);
-    internal_static_ServerIssue_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_ServerIssue_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-        internal_static_ServerIssue_descriptor,
-        new java.lang.String[] {"Key", "ModuleKey", "Path", "RuleRepository", "RuleKey", "Line", "Msg", "Severity", "ManualSeverity", "Resolution", "Status", "Checksum",
-          "AssigneeLogin", "CreationDate",});
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          qprofile_ = java.util.Collections.unmodifiableList(qprofile_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          activeRule_ = java.util.Collections.unmodifiableList(activeRule_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          moduleSettings_ = java.util.Collections.unmodifiableList(moduleSettings_);
+        }
+        if (((mutable_bitField0_ & 0x00000020) == 0x00000020)) {
+          moduleFileData_ = java.util.Collections.unmodifiableList(moduleFileData_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ProjectRepositories> PARSER =
+        new com.google.protobuf.AbstractParser<ProjectRepositories>() {
+      public ProjectRepositories parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ProjectRepositories(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ProjectRepositories> getParserForType() {
+      return PARSER;
+    }
+
+    public interface QProfileOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositories.QProfile)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      boolean hasKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      java.lang.String getKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getKeyBytes();
+
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      boolean hasLanguage();
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      java.lang.String getLanguage();
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getLanguageBytes();
+
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      boolean hasRulesUpdatedAt();
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      long getRulesUpdatedAt();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositories.QProfile}
+     */
+    public static final class QProfile extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositories.QProfile)
+        QProfileOrBuilder {
+      // Use QProfile.newBuilder() to construct.
+      private QProfile(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private QProfile(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final QProfile defaultInstance;
+      public static QProfile getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public QProfile getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private QProfile(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                key_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                name_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                language_ = bs;
+                break;
+              }
+              case 32: {
+                bitField0_ |= 0x00000008;
+                rulesUpdatedAt_ = input.readInt64();
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_QProfile_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_QProfile_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<QProfile> PARSER =
+          new com.google.protobuf.AbstractParser<QProfile>() {
+        public QProfile parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new QProfile(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<QProfile> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int KEY_FIELD_NUMBER = 1;
+      private java.lang.Object key_;
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            key_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NAME_FIELD_NUMBER = 2;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int LANGUAGE_FIELD_NUMBER = 3;
+      private java.lang.Object language_;
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string language = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RULES_UPDATED_AT_FIELD_NUMBER = 4;
+      private long rulesUpdatedAt_;
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      public boolean hasRulesUpdatedAt() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 rules_updated_at = 4;</code>
+       */
+      public long getRulesUpdatedAt() {
+        return rulesUpdatedAt_;
+      }
+
+      private void initFields() {
+        key_ = "";
+        name_ = "";
+        language_ = "";
+        rulesUpdatedAt_ = 0L;
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getLanguageBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeInt64(4, rulesUpdatedAt_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getLanguageBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(4, rulesUpdatedAt_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositories.QProfile}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositories.QProfile)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_QProfile_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_QProfile_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          key_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          language_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          rulesUpdatedAt_ = 0L;
+          bitField0_ = (bitField0_ & ~0x00000008);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_QProfile_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.key_ = key_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.language_ = language_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.rulesUpdatedAt_ = rulesUpdatedAt_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.getDefaultInstance()) return this;
+          if (other.hasKey()) {
+            bitField0_ |= 0x00000001;
+            key_ = other.key_;
+            onChanged();
+          }
+          if (other.hasName()) {
+            bitField0_ |= 0x00000002;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasLanguage()) {
+            bitField0_ |= 0x00000004;
+            language_ = other.language_;
+            onChanged();
+          }
+          if (other.hasRulesUpdatedAt()) {
+            setRulesUpdatedAt(other.getRulesUpdatedAt());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object key_ = "";
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public boolean hasKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public java.lang.String getKey() {
+          java.lang.Object ref = key_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              key_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getKeyBytes() {
+          java.lang.Object ref = key_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            key_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder clearKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          key_ = getDefaultInstance().getKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 2;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object language_ = "";
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public boolean hasLanguage() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public java.lang.String getLanguage() {
+          java.lang.Object ref = language_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              language_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLanguageBytes() {
+          java.lang.Object ref = language_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            language_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder setLanguage(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder clearLanguage() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          language_ = getDefaultInstance().getLanguage();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 3;</code>
+         */
+        public Builder setLanguageBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+
+        private long rulesUpdatedAt_ ;
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public boolean hasRulesUpdatedAt() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public long getRulesUpdatedAt() {
+          return rulesUpdatedAt_;
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public Builder setRulesUpdatedAt(long value) {
+          bitField0_ |= 0x00000008;
+          rulesUpdatedAt_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 rules_updated_at = 4;</code>
+         */
+        public Builder clearRulesUpdatedAt() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          rulesUpdatedAt_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositories.QProfile)
+      }
+
+      static {
+        defaultInstance = new QProfile(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositories.QProfile)
+    }
+
+    public interface ActiveRuleOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositories.ActiveRule)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      boolean hasRepositoryKey();
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      java.lang.String getRepositoryKey();
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getRepositoryKeyBytes();
+
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      boolean hasRuleKey();
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      java.lang.String getRuleKey();
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getRuleKeyBytes();
+
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      boolean hasTemplateRuleKey();
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      java.lang.String getTemplateRuleKey();
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      com.google.protobuf.ByteString
+          getTemplateRuleKeyBytes();
+
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      boolean hasName();
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      java.lang.String getName();
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      com.google.protobuf.ByteString
+          getNameBytes();
+
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      boolean hasSeverity();
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      java.lang.String getSeverity();
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      com.google.protobuf.ByteString
+          getSeverityBytes();
+
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      boolean hasInternalKey();
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      java.lang.String getInternalKey();
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      com.google.protobuf.ByteString
+          getInternalKeyBytes();
+
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      boolean hasLanguage();
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      java.lang.String getLanguage();
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      com.google.protobuf.ByteString
+          getLanguageBytes();
+
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> 
+          getParamList();
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue getParam(int index);
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      int getParamCount();
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+          getParamOrBuilderList();
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder getParamOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ProjectRepositories.ActiveRule}
+     */
+    public static final class ActiveRule extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositories.ActiveRule)
+        ActiveRuleOrBuilder {
+      // Use ActiveRule.newBuilder() to construct.
+      private ActiveRule(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ActiveRule(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ActiveRule defaultInstance;
+      public static ActiveRule getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ActiveRule getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ActiveRule(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                repositoryKey_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                ruleKey_ = bs;
+                break;
+              }
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                templateRuleKey_ = bs;
+                break;
+              }
+              case 34: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000008;
+                name_ = bs;
+                break;
+              }
+              case 42: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000010;
+                severity_ = bs;
+                break;
+              }
+              case 50: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000020;
+                internalKey_ = bs;
+                break;
+              }
+              case 58: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000040;
+                language_ = bs;
+                break;
+              }
+              case 66: {
+                if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                  param_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue>();
+                  mutable_bitField0_ |= 0x00000080;
+                }
+                param_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+            param_ = java.util.Collections.unmodifiableList(param_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ActiveRule_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ActiveRule_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ActiveRule> PARSER =
+          new com.google.protobuf.AbstractParser<ActiveRule>() {
+        public ActiveRule parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ActiveRule(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ActiveRule> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int REPOSITORY_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object repositoryKey_;
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public boolean hasRepositoryKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public java.lang.String getRepositoryKey() {
+        java.lang.Object ref = repositoryKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            repositoryKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string repository_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRepositoryKeyBytes() {
+        java.lang.Object ref = repositoryKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          repositoryKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int RULE_KEY_FIELD_NUMBER = 2;
+      private java.lang.Object ruleKey_;
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public boolean hasRuleKey() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public java.lang.String getRuleKey() {
+        java.lang.Object ref = ruleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            ruleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string rule_key = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getRuleKeyBytes() {
+        java.lang.Object ref = ruleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          ruleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int TEMPLATE_RULE_KEY_FIELD_NUMBER = 3;
+      private java.lang.Object templateRuleKey_;
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public boolean hasTemplateRuleKey() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public java.lang.String getTemplateRuleKey() {
+        java.lang.Object ref = templateRuleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            templateRuleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string template_rule_key = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getTemplateRuleKeyBytes() {
+        java.lang.Object ref = templateRuleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          templateRuleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NAME_FIELD_NUMBER = 4;
+      private java.lang.Object name_;
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string name = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SEVERITY_FIELD_NUMBER = 5;
+      private java.lang.Object severity_;
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public boolean hasSeverity() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public java.lang.String getSeverity() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            severity_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string severity = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getSeverityBytes() {
+        java.lang.Object ref = severity_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          severity_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int INTERNAL_KEY_FIELD_NUMBER = 6;
+      private java.lang.Object internalKey_;
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public boolean hasInternalKey() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public java.lang.String getInternalKey() {
+        java.lang.Object ref = internalKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            internalKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string internal_key = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getInternalKeyBytes() {
+        java.lang.Object ref = internalKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          internalKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int LANGUAGE_FIELD_NUMBER = 7;
+      private java.lang.Object language_;
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string language = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PARAM_FIELD_NUMBER = 8;
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> param_;
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> getParamList() {
+        return param_;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+          getParamOrBuilderList() {
+        return param_;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      public int getParamCount() {
+        return param_.size();
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue getParam(int index) {
+        return param_.get(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder getParamOrBuilder(
+          int index) {
+        return param_.get(index);
+      }
+
+      private void initFields() {
+        repositoryKey_ = "";
+        ruleKey_ = "";
+        templateRuleKey_ = "";
+        name_ = "";
+        severity_ = "";
+        internalKey_ = "";
+        language_ = "";
+        param_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getRepositoryKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBytes(3, getTemplateRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeBytes(4, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeBytes(5, getSeverityBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeBytes(6, getInternalKeyBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          output.writeBytes(7, getLanguageBytes());
+        }
+        for (int i = 0; i < param_.size(); i++) {
+          output.writeMessage(8, param_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getRepositoryKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(3, getTemplateRuleKeyBytes());
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(4, getNameBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(5, getSeverityBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(6, getInternalKeyBytes());
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(7, getLanguageBytes());
+        }
+        for (int i = 0; i < param_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(8, param_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositories.ActiveRule}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositories.ActiveRule)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ActiveRule_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ActiveRule_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getParamFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          repositoryKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          ruleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          templateRuleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          name_ = "";
+          bitField0_ = (bitField0_ & ~0x00000008);
+          severity_ = "";
+          bitField0_ = (bitField0_ & ~0x00000010);
+          internalKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000020);
+          language_ = "";
+          bitField0_ = (bitField0_ & ~0x00000040);
+          if (paramBuilder_ == null) {
+            param_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            paramBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ActiveRule_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.repositoryKey_ = repositoryKey_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.ruleKey_ = ruleKey_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.templateRuleKey_ = templateRuleKey_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.name_ = name_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.severity_ = severity_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.internalKey_ = internalKey_;
+          if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+            to_bitField0_ |= 0x00000040;
+          }
+          result.language_ = language_;
+          if (paramBuilder_ == null) {
+            if (((bitField0_ & 0x00000080) == 0x00000080)) {
+              param_ = java.util.Collections.unmodifiableList(param_);
+              bitField0_ = (bitField0_ & ~0x00000080);
+            }
+            result.param_ = param_;
+          } else {
+            result.param_ = paramBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.getDefaultInstance()) return this;
+          if (other.hasRepositoryKey()) {
+            bitField0_ |= 0x00000001;
+            repositoryKey_ = other.repositoryKey_;
+            onChanged();
+          }
+          if (other.hasRuleKey()) {
+            bitField0_ |= 0x00000002;
+            ruleKey_ = other.ruleKey_;
+            onChanged();
+          }
+          if (other.hasTemplateRuleKey()) {
+            bitField0_ |= 0x00000004;
+            templateRuleKey_ = other.templateRuleKey_;
+            onChanged();
+          }
+          if (other.hasName()) {
+            bitField0_ |= 0x00000008;
+            name_ = other.name_;
+            onChanged();
+          }
+          if (other.hasSeverity()) {
+            bitField0_ |= 0x00000010;
+            severity_ = other.severity_;
+            onChanged();
+          }
+          if (other.hasInternalKey()) {
+            bitField0_ |= 0x00000020;
+            internalKey_ = other.internalKey_;
+            onChanged();
+          }
+          if (other.hasLanguage()) {
+            bitField0_ |= 0x00000040;
+            language_ = other.language_;
+            onChanged();
+          }
+          if (paramBuilder_ == null) {
+            if (!other.param_.isEmpty()) {
+              if (param_.isEmpty()) {
+                param_ = other.param_;
+                bitField0_ = (bitField0_ & ~0x00000080);
+              } else {
+                ensureParamIsMutable();
+                param_.addAll(other.param_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.param_.isEmpty()) {
+              if (paramBuilder_.isEmpty()) {
+                paramBuilder_.dispose();
+                paramBuilder_ = null;
+                param_ = other.param_;
+                bitField0_ = (bitField0_ & ~0x00000080);
+                paramBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getParamFieldBuilder() : null;
+              } else {
+                paramBuilder_.addAllMessages(other.param_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object repositoryKey_ = "";
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public boolean hasRepositoryKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public java.lang.String getRepositoryKey() {
+          java.lang.Object ref = repositoryKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              repositoryKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getRepositoryKeyBytes() {
+          java.lang.Object ref = repositoryKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            repositoryKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder setRepositoryKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          repositoryKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder clearRepositoryKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          repositoryKey_ = getDefaultInstance().getRepositoryKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string repository_key = 1;</code>
+         */
+        public Builder setRepositoryKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          repositoryKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object ruleKey_ = "";
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public boolean hasRuleKey() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public java.lang.String getRuleKey() {
+          java.lang.Object ref = ruleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              ruleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getRuleKeyBytes() {
+          java.lang.Object ref = ruleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            ruleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder setRuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          ruleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder clearRuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          ruleKey_ = getDefaultInstance().getRuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string rule_key = 2;</code>
+         */
+        public Builder setRuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          ruleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object templateRuleKey_ = "";
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public boolean hasTemplateRuleKey() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public java.lang.String getTemplateRuleKey() {
+          java.lang.Object ref = templateRuleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              templateRuleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public com.google.protobuf.ByteString
+            getTemplateRuleKeyBytes() {
+          java.lang.Object ref = templateRuleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            templateRuleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder setTemplateRuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          templateRuleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder clearTemplateRuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          templateRuleKey_ = getDefaultInstance().getTemplateRuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string template_rule_key = 3;</code>
+         */
+        public Builder setTemplateRuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          templateRuleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object name_ = "";
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public boolean hasName() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public java.lang.String getName() {
+          java.lang.Object ref = name_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              name_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public com.google.protobuf.ByteString
+            getNameBytes() {
+          java.lang.Object ref = name_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            name_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder setName(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder clearName() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          name_ = getDefaultInstance().getName();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string name = 4;</code>
+         */
+        public Builder setNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          name_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object severity_ = "";
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public boolean hasSeverity() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public java.lang.String getSeverity() {
+          java.lang.Object ref = severity_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              severity_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public com.google.protobuf.ByteString
+            getSeverityBytes() {
+          java.lang.Object ref = severity_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            severity_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder setSeverity(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          severity_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder clearSeverity() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          severity_ = getDefaultInstance().getSeverity();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string severity = 5;</code>
+         */
+        public Builder setSeverityBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          severity_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object internalKey_ = "";
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public boolean hasInternalKey() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public java.lang.String getInternalKey() {
+          java.lang.Object ref = internalKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              internalKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public com.google.protobuf.ByteString
+            getInternalKeyBytes() {
+          java.lang.Object ref = internalKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            internalKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder setInternalKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          internalKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder clearInternalKey() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          internalKey_ = getDefaultInstance().getInternalKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string internal_key = 6;</code>
+         */
+        public Builder setInternalKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          internalKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object language_ = "";
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public boolean hasLanguage() {
+          return ((bitField0_ & 0x00000040) == 0x00000040);
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public java.lang.String getLanguage() {
+          java.lang.Object ref = language_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              language_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public com.google.protobuf.ByteString
+            getLanguageBytes() {
+          java.lang.Object ref = language_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            language_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder setLanguage(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder clearLanguage() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          language_ = getDefaultInstance().getLanguage();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string language = 7;</code>
+         */
+        public Builder setLanguageBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+          language_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> param_ =
+          java.util.Collections.emptyList();
+        private void ensureParamIsMutable() {
+          if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+            param_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue>(param_);
+            bitField0_ |= 0x00000080;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> paramBuilder_;
+
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> getParamList() {
+          if (paramBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(param_);
+          } else {
+            return paramBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public int getParamCount() {
+          if (paramBuilder_ == null) {
+            return param_.size();
+          } else {
+            return paramBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue getParam(int index) {
+          if (paramBuilder_ == null) {
+            return param_.get(index);
+          } else {
+            return paramBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder setParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.set(index, value);
+            onChanged();
+          } else {
+            paramBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder setParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder addParam(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.add(value);
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder addParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue value) {
+          if (paramBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureParamIsMutable();
+            param_.add(index, value);
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder addParam(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.add(builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder addParam(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder builderForValue) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            paramBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder addAllParam(
+            java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> values) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, param_);
+            onChanged();
+          } else {
+            paramBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder clearParam() {
+          if (paramBuilder_ == null) {
+            param_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000080);
+            onChanged();
+          } else {
+            paramBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public Builder removeParam(int index) {
+          if (paramBuilder_ == null) {
+            ensureParamIsMutable();
+            param_.remove(index);
+            onChanged();
+          } else {
+            paramBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder getParamBuilder(
+            int index) {
+          return getParamFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder getParamOrBuilder(
+            int index) {
+          if (paramBuilder_ == null) {
+            return param_.get(index);  } else {
+            return paramBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+             getParamOrBuilderList() {
+          if (paramBuilder_ != null) {
+            return paramBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(param_);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder addParamBuilder() {
+          return getParamFieldBuilder().addBuilder(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder addParamBuilder(
+            int index) {
+          return getParamFieldBuilder().addBuilder(
+              index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue param = 8;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder> 
+             getParamBuilderList() {
+          return getParamFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+            getParamFieldBuilder() {
+          if (paramBuilder_ == null) {
+            paramBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder>(
+                    param_,
+                    ((bitField0_ & 0x00000080) == 0x00000080),
+                    getParentForChildren(),
+                    isClean());
+            param_ = null;
+          }
+          return paramBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositories.ActiveRule)
+      }
+
+      static {
+        defaultInstance = new ActiveRule(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositories.ActiveRule)
+    }
+
+    public interface ModuleSettingsOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositories.ModuleSettings)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      boolean hasModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      java.lang.String getModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getModuleKeyBytes();
+
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> 
+          getSettingList();
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue getSetting(int index);
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      int getSettingCount();
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+          getSettingOrBuilderList();
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder getSettingOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ProjectRepositories.ModuleSettings}
+     */
+    public static final class ModuleSettings extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositories.ModuleSettings)
+        ModuleSettingsOrBuilder {
+      // Use ModuleSettings.newBuilder() to construct.
+      private ModuleSettings(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ModuleSettings(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ModuleSettings defaultInstance;
+      public static ModuleSettings getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ModuleSettings getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ModuleSettings(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                moduleKey_ = bs;
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  setting_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                setting_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+            setting_ = java.util.Collections.unmodifiableList(setting_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleSettings_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleSettings_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ModuleSettings> PARSER =
+          new com.google.protobuf.AbstractParser<ModuleSettings>() {
+        public ModuleSettings parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ModuleSettings(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ModuleSettings> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int MODULE_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object moduleKey_;
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public boolean hasModuleKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public java.lang.String getModuleKey() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getModuleKeyBytes() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SETTING_FIELD_NUMBER = 2;
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> setting_;
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> getSettingList() {
+        return setting_;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+          getSettingOrBuilderList() {
+        return setting_;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      public int getSettingCount() {
+        return setting_.size();
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue getSetting(int index) {
+        return setting_.get(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder getSettingOrBuilder(
+          int index) {
+        return setting_.get(index);
+      }
+
+      private void initFields() {
+        moduleKey_ = "";
+        setting_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < setting_.size(); i++) {
+          output.writeMessage(2, setting_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < setting_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, setting_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositories.ModuleSettings}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositories.ModuleSettings)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleSettings_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleSettings_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getSettingFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          moduleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (settingBuilder_ == null) {
+            setting_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            settingBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleSettings_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.moduleKey_ = moduleKey_;
+          if (settingBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002)) {
+              setting_ = java.util.Collections.unmodifiableList(setting_);
+              bitField0_ = (bitField0_ & ~0x00000002);
+            }
+            result.setting_ = setting_;
+          } else {
+            result.setting_ = settingBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.getDefaultInstance()) return this;
+          if (other.hasModuleKey()) {
+            bitField0_ |= 0x00000001;
+            moduleKey_ = other.moduleKey_;
+            onChanged();
+          }
+          if (settingBuilder_ == null) {
+            if (!other.setting_.isEmpty()) {
+              if (setting_.isEmpty()) {
+                setting_ = other.setting_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+              } else {
+                ensureSettingIsMutable();
+                setting_.addAll(other.setting_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.setting_.isEmpty()) {
+              if (settingBuilder_.isEmpty()) {
+                settingBuilder_.dispose();
+                settingBuilder_ = null;
+                setting_ = other.setting_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+                settingBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getSettingFieldBuilder() : null;
+              } else {
+                settingBuilder_.addAllMessages(other.setting_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object moduleKey_ = "";
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public boolean hasModuleKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public java.lang.String getModuleKey() {
+          java.lang.Object ref = moduleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              moduleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getModuleKeyBytes() {
+          java.lang.Object ref = moduleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            moduleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder clearModuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          moduleKey_ = getDefaultInstance().getModuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> setting_ =
+          java.util.Collections.emptyList();
+        private void ensureSettingIsMutable() {
+          if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+            setting_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue>(setting_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> settingBuilder_;
+
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> getSettingList() {
+          if (settingBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(setting_);
+          } else {
+            return settingBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public int getSettingCount() {
+          if (settingBuilder_ == null) {
+            return setting_.size();
+          } else {
+            return settingBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue getSetting(int index) {
+          if (settingBuilder_ == null) {
+            return setting_.get(index);
+          } else {
+            return settingBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder setSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue value) {
+          if (settingBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSettingIsMutable();
+            setting_.set(index, value);
+            onChanged();
+          } else {
+            settingBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder setSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder builderForValue) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            settingBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder addSetting(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue value) {
+          if (settingBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSettingIsMutable();
+            setting_.add(value);
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder addSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue value) {
+          if (settingBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureSettingIsMutable();
+            setting_.add(index, value);
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder addSetting(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder builderForValue) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.add(builderForValue.build());
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder addSetting(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder builderForValue) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            settingBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder addAllSetting(
+            java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue> values) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, setting_);
+            onChanged();
+          } else {
+            settingBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder clearSetting() {
+          if (settingBuilder_ == null) {
+            setting_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+            onChanged();
+          } else {
+            settingBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public Builder removeSetting(int index) {
+          if (settingBuilder_ == null) {
+            ensureSettingIsMutable();
+            setting_.remove(index);
+            onChanged();
+          } else {
+            settingBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder getSettingBuilder(
+            int index) {
+          return getSettingFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder getSettingOrBuilder(
+            int index) {
+          if (settingBuilder_ == null) {
+            return setting_.get(index);  } else {
+            return settingBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+             getSettingOrBuilderList() {
+          if (settingBuilder_ != null) {
+            return settingBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(setting_);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder addSettingBuilder() {
+          return getSettingFieldBuilder().addBuilder(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder addSettingBuilder(
+            int index) {
+          return getSettingFieldBuilder().addBuilder(
+              index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositories.KeyValue setting = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder> 
+             getSettingBuilderList() {
+          return getSettingFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder> 
+            getSettingFieldBuilder() {
+          if (settingBuilder_ == null) {
+            settingBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder>(
+                    setting_,
+                    ((bitField0_ & 0x00000002) == 0x00000002),
+                    getParentForChildren(),
+                    isClean());
+            setting_ = null;
+          }
+          return settingBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositories.ModuleSettings)
+      }
+
+      static {
+        defaultInstance = new ModuleSettings(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositories.ModuleSettings)
+    }
+
+    public interface ModuleFileDataOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositories.ModuleFileData)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      boolean hasModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      java.lang.String getModuleKey();
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getModuleKeyBytes();
+
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData> 
+          getFileDataList();
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData getFileData(int index);
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      int getFileDataCount();
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder> 
+          getFileDataOrBuilderList();
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder getFileDataOrBuilder(
+          int index);
+    }
+    /**
+     * Protobuf type {@code ProjectRepositories.ModuleFileData}
+     */
+    public static final class ModuleFileData extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositories.ModuleFileData)
+        ModuleFileDataOrBuilder {
+      // Use ModuleFileData.newBuilder() to construct.
+      private ModuleFileData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private ModuleFileData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final ModuleFileData defaultInstance;
+      public static ModuleFileData getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public ModuleFileData getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private ModuleFileData(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                moduleKey_ = bs;
+                break;
+              }
+              case 18: {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  fileData_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                fileData_.add(input.readMessage(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.PARSER, extensionRegistry));
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+            fileData_ = java.util.Collections.unmodifiableList(fileData_);
+          }
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleFileData_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleFileData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<ModuleFileData> PARSER =
+          new com.google.protobuf.AbstractParser<ModuleFileData>() {
+        public ModuleFileData parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new ModuleFileData(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ModuleFileData> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int MODULE_KEY_FIELD_NUMBER = 1;
+      private java.lang.Object moduleKey_;
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public boolean hasModuleKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public java.lang.String getModuleKey() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            moduleKey_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string module_key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getModuleKeyBytes() {
+        java.lang.Object ref = moduleKey_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          moduleKey_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int FILE_DATA_FIELD_NUMBER = 2;
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData> fileData_;
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData> getFileDataList() {
+        return fileData_;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder> 
+          getFileDataOrBuilderList() {
+        return fileData_;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      public int getFileDataCount() {
+        return fileData_.size();
+      }
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData getFileData(int index) {
+        return fileData_.get(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder getFileDataOrBuilder(
+          int index) {
+        return fileData_.get(index);
+      }
+
+      private void initFields() {
+        moduleKey_ = "";
+        fileData_ = java.util.Collections.emptyList();
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < fileData_.size(); i++) {
+          output.writeMessage(2, fileData_.get(i));
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getModuleKeyBytes());
+        }
+        for (int i = 0; i < fileData_.size(); i++) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(2, fileData_.get(i));
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositories.ModuleFileData}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositories.ModuleFileData)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleFileData_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleFileData_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+            getFileDataFieldBuilder();
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          moduleKey_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (fileDataBuilder_ == null) {
+            fileData_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            fileDataBuilder_.clear();
+          }
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_ModuleFileData_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.moduleKey_ = moduleKey_;
+          if (fileDataBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) == 0x00000002)) {
+              fileData_ = java.util.Collections.unmodifiableList(fileData_);
+              bitField0_ = (bitField0_ & ~0x00000002);
+            }
+            result.fileData_ = fileData_;
+          } else {
+            result.fileData_ = fileDataBuilder_.build();
+          }
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.getDefaultInstance()) return this;
+          if (other.hasModuleKey()) {
+            bitField0_ |= 0x00000001;
+            moduleKey_ = other.moduleKey_;
+            onChanged();
+          }
+          if (fileDataBuilder_ == null) {
+            if (!other.fileData_.isEmpty()) {
+              if (fileData_.isEmpty()) {
+                fileData_ = other.fileData_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+              } else {
+                ensureFileDataIsMutable();
+                fileData_.addAll(other.fileData_);
+              }
+              onChanged();
+            }
+          } else {
+            if (!other.fileData_.isEmpty()) {
+              if (fileDataBuilder_.isEmpty()) {
+                fileDataBuilder_.dispose();
+                fileDataBuilder_ = null;
+                fileData_ = other.fileData_;
+                bitField0_ = (bitField0_ & ~0x00000002);
+                fileDataBuilder_ = 
+                  com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                     getFileDataFieldBuilder() : null;
+              } else {
+                fileDataBuilder_.addAllMessages(other.fileData_);
+              }
+            }
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object moduleKey_ = "";
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public boolean hasModuleKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public java.lang.String getModuleKey() {
+          java.lang.Object ref = moduleKey_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              moduleKey_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getModuleKeyBytes() {
+          java.lang.Object ref = moduleKey_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            moduleKey_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder clearModuleKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          moduleKey_ = getDefaultInstance().getModuleKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string module_key = 1;</code>
+         */
+        public Builder setModuleKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          moduleKey_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData> fileData_ =
+          java.util.Collections.emptyList();
+        private void ensureFileDataIsMutable() {
+          if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+            fileData_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData>(fileData_);
+            bitField0_ |= 0x00000002;
+           }
+        }
+
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder> fileDataBuilder_;
+
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData> getFileDataList() {
+          if (fileDataBuilder_ == null) {
+            return java.util.Collections.unmodifiableList(fileData_);
+          } else {
+            return fileDataBuilder_.getMessageList();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public int getFileDataCount() {
+          if (fileDataBuilder_ == null) {
+            return fileData_.size();
+          } else {
+            return fileDataBuilder_.getCount();
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData getFileData(int index) {
+          if (fileDataBuilder_ == null) {
+            return fileData_.get(index);
+          } else {
+            return fileDataBuilder_.getMessage(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder setFileData(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData value) {
+          if (fileDataBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureFileDataIsMutable();
+            fileData_.set(index, value);
+            onChanged();
+          } else {
+            fileDataBuilder_.setMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder setFileData(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder builderForValue) {
+          if (fileDataBuilder_ == null) {
+            ensureFileDataIsMutable();
+            fileData_.set(index, builderForValue.build());
+            onChanged();
+          } else {
+            fileDataBuilder_.setMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder addFileData(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData value) {
+          if (fileDataBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureFileDataIsMutable();
+            fileData_.add(value);
+            onChanged();
+          } else {
+            fileDataBuilder_.addMessage(value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder addFileData(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData value) {
+          if (fileDataBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            ensureFileDataIsMutable();
+            fileData_.add(index, value);
+            onChanged();
+          } else {
+            fileDataBuilder_.addMessage(index, value);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder addFileData(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder builderForValue) {
+          if (fileDataBuilder_ == null) {
+            ensureFileDataIsMutable();
+            fileData_.add(builderForValue.build());
+            onChanged();
+          } else {
+            fileDataBuilder_.addMessage(builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder addFileData(
+            int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder builderForValue) {
+          if (fileDataBuilder_ == null) {
+            ensureFileDataIsMutable();
+            fileData_.add(index, builderForValue.build());
+            onChanged();
+          } else {
+            fileDataBuilder_.addMessage(index, builderForValue.build());
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder addAllFileData(
+            java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData> values) {
+          if (fileDataBuilder_ == null) {
+            ensureFileDataIsMutable();
+            com.google.protobuf.AbstractMessageLite.Builder.addAll(
+                values, fileData_);
+            onChanged();
+          } else {
+            fileDataBuilder_.addAllMessages(values);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder clearFileData() {
+          if (fileDataBuilder_ == null) {
+            fileData_ = java.util.Collections.emptyList();
+            bitField0_ = (bitField0_ & ~0x00000002);
+            onChanged();
+          } else {
+            fileDataBuilder_.clear();
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public Builder removeFileData(int index) {
+          if (fileDataBuilder_ == null) {
+            ensureFileDataIsMutable();
+            fileData_.remove(index);
+            onChanged();
+          } else {
+            fileDataBuilder_.remove(index);
+          }
+          return this;
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder getFileDataBuilder(
+            int index) {
+          return getFileDataFieldBuilder().getBuilder(index);
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder getFileDataOrBuilder(
+            int index) {
+          if (fileDataBuilder_ == null) {
+            return fileData_.get(index);  } else {
+            return fileDataBuilder_.getMessageOrBuilder(index);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder> 
+             getFileDataOrBuilderList() {
+          if (fileDataBuilder_ != null) {
+            return fileDataBuilder_.getMessageOrBuilderList();
+          } else {
+            return java.util.Collections.unmodifiableList(fileData_);
+          }
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder addFileDataBuilder() {
+          return getFileDataFieldBuilder().addBuilder(
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder addFileDataBuilder(
+            int index) {
+          return getFileDataFieldBuilder().addBuilder(
+              index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.getDefaultInstance());
+        }
+        /**
+         * <code>repeated .ProjectRepositories.FileData file_data = 2;</code>
+         */
+        public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder> 
+             getFileDataBuilderList() {
+          return getFileDataFieldBuilder().getBuilderList();
+        }
+        private com.google.protobuf.RepeatedFieldBuilder<
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder> 
+            getFileDataFieldBuilder() {
+          if (fileDataBuilder_ == null) {
+            fileDataBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder>(
+                    fileData_,
+                    ((bitField0_ & 0x00000002) == 0x00000002),
+                    getParentForChildren(),
+                    isClean());
+            fileData_ = null;
+          }
+          return fileDataBuilder_;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositories.ModuleFileData)
+      }
+
+      static {
+        defaultInstance = new ModuleFileData(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositories.ModuleFileData)
+    }
+
+    public interface FileDataOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositories.FileData)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string path = 1;</code>
+       */
+      boolean hasPath();
+      /**
+       * <code>optional string path = 1;</code>
+       */
+      java.lang.String getPath();
+      /**
+       * <code>optional string path = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getPathBytes();
+
+      /**
+       * <code>optional string hash = 2;</code>
+       */
+      boolean hasHash();
+      /**
+       * <code>optional string hash = 2;</code>
+       */
+      java.lang.String getHash();
+      /**
+       * <code>optional string hash = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getHashBytes();
+
+      /**
+       * <code>optional bool need_blame = 3;</code>
+       */
+      boolean hasNeedBlame();
+      /**
+       * <code>optional bool need_blame = 3;</code>
+       */
+      boolean getNeedBlame();
+
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+       */
+      boolean hasScmLastCommitDatetimesByLine();
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+       */
+      java.lang.String getScmLastCommitDatetimesByLine();
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+       */
+      com.google.protobuf.ByteString
+          getScmLastCommitDatetimesByLineBytes();
+
+      /**
+       * <code>optional string scm_revisions_by_line = 5;</code>
+       */
+      boolean hasScmRevisionsByLine();
+      /**
+       * <code>optional string scm_revisions_by_line = 5;</code>
+       */
+      java.lang.String getScmRevisionsByLine();
+      /**
+       * <code>optional string scm_revisions_by_line = 5;</code>
+       */
+      com.google.protobuf.ByteString
+          getScmRevisionsByLineBytes();
+
+      /**
+       * <code>optional string scm_authors_by_line = 6;</code>
+       */
+      boolean hasScmAuthorsByLine();
+      /**
+       * <code>optional string scm_authors_by_line = 6;</code>
+       */
+      java.lang.String getScmAuthorsByLine();
+      /**
+       * <code>optional string scm_authors_by_line = 6;</code>
+       */
+      com.google.protobuf.ByteString
+          getScmAuthorsByLineBytes();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositories.FileData}
+     */
+    public static final class FileData extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositories.FileData)
+        FileDataOrBuilder {
+      // Use FileData.newBuilder() to construct.
+      private FileData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private FileData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final FileData defaultInstance;
+      public static FileData getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public FileData getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private FileData(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                path_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                hash_ = bs;
+                break;
+              }
+              case 24: {
+                bitField0_ |= 0x00000004;
+                needBlame_ = input.readBool();
+                break;
+              }
+              case 34: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000008;
+                scmLastCommitDatetimesByLine_ = bs;
+                break;
+              }
+              case 42: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000010;
+                scmRevisionsByLine_ = bs;
+                break;
+              }
+              case 50: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000020;
+                scmAuthorsByLine_ = bs;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_FileData_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_FileData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<FileData> PARSER =
+          new com.google.protobuf.AbstractParser<FileData>() {
+        public FileData parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new FileData(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<FileData> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int PATH_FIELD_NUMBER = 1;
+      private java.lang.Object path_;
+      /**
+       * <code>optional string path = 1;</code>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            path_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string path = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int HASH_FIELD_NUMBER = 2;
+      private java.lang.Object hash_;
+      /**
+       * <code>optional string hash = 2;</code>
+       */
+      public boolean hasHash() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string hash = 2;</code>
+       */
+      public java.lang.String getHash() {
+        java.lang.Object ref = hash_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            hash_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string hash = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getHashBytes() {
+        java.lang.Object ref = hash_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          hash_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int NEED_BLAME_FIELD_NUMBER = 3;
+      private boolean needBlame_;
+      /**
+       * <code>optional bool need_blame = 3;</code>
+       */
+      public boolean hasNeedBlame() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional bool need_blame = 3;</code>
+       */
+      public boolean getNeedBlame() {
+        return needBlame_;
+      }
+
+      public static final int SCM_LAST_COMMIT_DATETIMES_BY_LINE_FIELD_NUMBER = 4;
+      private java.lang.Object scmLastCommitDatetimesByLine_;
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+       */
+      public boolean hasScmLastCommitDatetimesByLine() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+       */
+      public java.lang.String getScmLastCommitDatetimesByLine() {
+        java.lang.Object ref = scmLastCommitDatetimesByLine_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            scmLastCommitDatetimesByLine_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getScmLastCommitDatetimesByLineBytes() {
+        java.lang.Object ref = scmLastCommitDatetimesByLine_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scmLastCommitDatetimesByLine_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SCM_REVISIONS_BY_LINE_FIELD_NUMBER = 5;
+      private java.lang.Object scmRevisionsByLine_;
+      /**
+       * <code>optional string scm_revisions_by_line = 5;</code>
+       */
+      public boolean hasScmRevisionsByLine() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional string scm_revisions_by_line = 5;</code>
+       */
+      public java.lang.String getScmRevisionsByLine() {
+        java.lang.Object ref = scmRevisionsByLine_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            scmRevisionsByLine_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string scm_revisions_by_line = 5;</code>
+       */
+      public com.google.protobuf.ByteString
+          getScmRevisionsByLineBytes() {
+        java.lang.Object ref = scmRevisionsByLine_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scmRevisionsByLine_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int SCM_AUTHORS_BY_LINE_FIELD_NUMBER = 6;
+      private java.lang.Object scmAuthorsByLine_;
+      /**
+       * <code>optional string scm_authors_by_line = 6;</code>
+       */
+      public boolean hasScmAuthorsByLine() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional string scm_authors_by_line = 6;</code>
+       */
+      public java.lang.String getScmAuthorsByLine() {
+        java.lang.Object ref = scmAuthorsByLine_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            scmAuthorsByLine_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string scm_authors_by_line = 6;</code>
+       */
+      public com.google.protobuf.ByteString
+          getScmAuthorsByLineBytes() {
+        java.lang.Object ref = scmAuthorsByLine_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          scmAuthorsByLine_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private void initFields() {
+        path_ = "";
+        hash_ = "";
+        needBlame_ = false;
+        scmLastCommitDatetimesByLine_ = "";
+        scmRevisionsByLine_ = "";
+        scmAuthorsByLine_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getPathBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getHashBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          output.writeBool(3, needBlame_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          output.writeBytes(4, getScmLastCommitDatetimesByLineBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          output.writeBytes(5, getScmRevisionsByLineBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          output.writeBytes(6, getScmAuthorsByLineBytes());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getPathBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getHashBytes());
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(3, needBlame_);
+        }
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(4, getScmLastCommitDatetimesByLineBytes());
+        }
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(5, getScmRevisionsByLineBytes());
+        }
+        if (((bitField0_ & 0x00000020) == 0x00000020)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(6, getScmAuthorsByLineBytes());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositories.FileData}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositories.FileData)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileDataOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_FileData_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_FileData_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          path_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          hash_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          needBlame_ = false;
+          bitField0_ = (bitField0_ & ~0x00000004);
+          scmLastCommitDatetimesByLine_ = "";
+          bitField0_ = (bitField0_ & ~0x00000008);
+          scmRevisionsByLine_ = "";
+          bitField0_ = (bitField0_ & ~0x00000010);
+          scmAuthorsByLine_ = "";
+          bitField0_ = (bitField0_ & ~0x00000020);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_FileData_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.path_ = path_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.hash_ = hash_;
+          if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.needBlame_ = needBlame_;
+          if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+            to_bitField0_ |= 0x00000008;
+          }
+          result.scmLastCommitDatetimesByLine_ = scmLastCommitDatetimesByLine_;
+          if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+            to_bitField0_ |= 0x00000010;
+          }
+          result.scmRevisionsByLine_ = scmRevisionsByLine_;
+          if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+            to_bitField0_ |= 0x00000020;
+          }
+          result.scmAuthorsByLine_ = scmAuthorsByLine_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData.getDefaultInstance()) return this;
+          if (other.hasPath()) {
+            bitField0_ |= 0x00000001;
+            path_ = other.path_;
+            onChanged();
+          }
+          if (other.hasHash()) {
+            bitField0_ |= 0x00000002;
+            hash_ = other.hash_;
+            onChanged();
+          }
+          if (other.hasNeedBlame()) {
+            setNeedBlame(other.getNeedBlame());
+          }
+          if (other.hasScmLastCommitDatetimesByLine()) {
+            bitField0_ |= 0x00000008;
+            scmLastCommitDatetimesByLine_ = other.scmLastCommitDatetimesByLine_;
+            onChanged();
+          }
+          if (other.hasScmRevisionsByLine()) {
+            bitField0_ |= 0x00000010;
+            scmRevisionsByLine_ = other.scmRevisionsByLine_;
+            onChanged();
+          }
+          if (other.hasScmAuthorsByLine()) {
+            bitField0_ |= 0x00000020;
+            scmAuthorsByLine_ = other.scmAuthorsByLine_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.FileData) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object path_ = "";
+        /**
+         * <code>optional string path = 1;</code>
+         */
+        public boolean hasPath() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string path = 1;</code>
+         */
+        public java.lang.String getPath() {
+          java.lang.Object ref = path_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              path_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string path = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getPathBytes() {
+          java.lang.Object ref = path_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            path_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string path = 1;</code>
+         */
+        public Builder setPath(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string path = 1;</code>
+         */
+        public Builder clearPath() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          path_ = getDefaultInstance().getPath();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string path = 1;</code>
+         */
+        public Builder setPathBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object hash_ = "";
+        /**
+         * <code>optional string hash = 2;</code>
+         */
+        public boolean hasHash() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string hash = 2;</code>
+         */
+        public java.lang.String getHash() {
+          java.lang.Object ref = hash_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              hash_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string hash = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getHashBytes() {
+          java.lang.Object ref = hash_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            hash_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string hash = 2;</code>
+         */
+        public Builder setHash(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          hash_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hash = 2;</code>
+         */
+        public Builder clearHash() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          hash_ = getDefaultInstance().getHash();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string hash = 2;</code>
+         */
+        public Builder setHashBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          hash_ = value;
+          onChanged();
+          return this;
+        }
+
+        private boolean needBlame_ ;
+        /**
+         * <code>optional bool need_blame = 3;</code>
+         */
+        public boolean hasNeedBlame() {
+          return ((bitField0_ & 0x00000004) == 0x00000004);
+        }
+        /**
+         * <code>optional bool need_blame = 3;</code>
+         */
+        public boolean getNeedBlame() {
+          return needBlame_;
+        }
+        /**
+         * <code>optional bool need_blame = 3;</code>
+         */
+        public Builder setNeedBlame(boolean value) {
+          bitField0_ |= 0x00000004;
+          needBlame_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool need_blame = 3;</code>
+         */
+        public Builder clearNeedBlame() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          needBlame_ = false;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object scmLastCommitDatetimesByLine_ = "";
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+         */
+        public boolean hasScmLastCommitDatetimesByLine() {
+          return ((bitField0_ & 0x00000008) == 0x00000008);
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+         */
+        public java.lang.String getScmLastCommitDatetimesByLine() {
+          java.lang.Object ref = scmLastCommitDatetimesByLine_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              scmLastCommitDatetimesByLine_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+         */
+        public com.google.protobuf.ByteString
+            getScmLastCommitDatetimesByLineBytes() {
+          java.lang.Object ref = scmLastCommitDatetimesByLine_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            scmLastCommitDatetimesByLine_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+         */
+        public Builder setScmLastCommitDatetimesByLine(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          scmLastCommitDatetimesByLine_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+         */
+        public Builder clearScmLastCommitDatetimesByLine() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          scmLastCommitDatetimesByLine_ = getDefaultInstance().getScmLastCommitDatetimesByLine();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_last_commit_datetimes_by_line = 4;</code>
+         */
+        public Builder setScmLastCommitDatetimesByLineBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+          scmLastCommitDatetimesByLine_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object scmRevisionsByLine_ = "";
+        /**
+         * <code>optional string scm_revisions_by_line = 5;</code>
+         */
+        public boolean hasScmRevisionsByLine() {
+          return ((bitField0_ & 0x00000010) == 0x00000010);
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 5;</code>
+         */
+        public java.lang.String getScmRevisionsByLine() {
+          java.lang.Object ref = scmRevisionsByLine_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              scmRevisionsByLine_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 5;</code>
+         */
+        public com.google.protobuf.ByteString
+            getScmRevisionsByLineBytes() {
+          java.lang.Object ref = scmRevisionsByLine_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            scmRevisionsByLine_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 5;</code>
+         */
+        public Builder setScmRevisionsByLine(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          scmRevisionsByLine_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 5;</code>
+         */
+        public Builder clearScmRevisionsByLine() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          scmRevisionsByLine_ = getDefaultInstance().getScmRevisionsByLine();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_revisions_by_line = 5;</code>
+         */
+        public Builder setScmRevisionsByLineBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000010;
+          scmRevisionsByLine_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object scmAuthorsByLine_ = "";
+        /**
+         * <code>optional string scm_authors_by_line = 6;</code>
+         */
+        public boolean hasScmAuthorsByLine() {
+          return ((bitField0_ & 0x00000020) == 0x00000020);
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 6;</code>
+         */
+        public java.lang.String getScmAuthorsByLine() {
+          java.lang.Object ref = scmAuthorsByLine_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              scmAuthorsByLine_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 6;</code>
+         */
+        public com.google.protobuf.ByteString
+            getScmAuthorsByLineBytes() {
+          java.lang.Object ref = scmAuthorsByLine_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            scmAuthorsByLine_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 6;</code>
+         */
+        public Builder setScmAuthorsByLine(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          scmAuthorsByLine_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 6;</code>
+         */
+        public Builder clearScmAuthorsByLine() {
+          bitField0_ = (bitField0_ & ~0x00000020);
+          scmAuthorsByLine_ = getDefaultInstance().getScmAuthorsByLine();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string scm_authors_by_line = 6;</code>
+         */
+        public Builder setScmAuthorsByLineBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000020;
+          scmAuthorsByLine_ = value;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositories.FileData)
+      }
+
+      static {
+        defaultInstance = new FileData(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositories.FileData)
+    }
+
+    public interface KeyValueOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:ProjectRepositories.KeyValue)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      boolean hasKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      java.lang.String getKey();
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      com.google.protobuf.ByteString
+          getKeyBytes();
+
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      boolean hasValue();
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      java.lang.String getValue();
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      com.google.protobuf.ByteString
+          getValueBytes();
+    }
+    /**
+     * Protobuf type {@code ProjectRepositories.KeyValue}
+     */
+    public static final class KeyValue extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:ProjectRepositories.KeyValue)
+        KeyValueOrBuilder {
+      // Use KeyValue.newBuilder() to construct.
+      private KeyValue(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+        this.unknownFields = builder.getUnknownFields();
+      }
+      private KeyValue(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+      private static final KeyValue defaultInstance;
+      public static KeyValue getDefaultInstance() {
+        return defaultInstance;
+      }
+
+      public KeyValue getDefaultInstanceForType() {
+        return defaultInstance;
+      }
+
+      private final com.google.protobuf.UnknownFieldSet unknownFields;
+      @java.lang.Override
+      public final com.google.protobuf.UnknownFieldSet
+          getUnknownFields() {
+        return this.unknownFields;
+      }
+      private KeyValue(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        initFields();
+        int mutable_bitField0_ = 0;
+        com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+            com.google.protobuf.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!parseUnknownField(input, unknownFields,
+                                       extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+              case 10: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                key_ = bs;
+                break;
+              }
+              case 18: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000002;
+                value_ = bs;
+                break;
+              }
+            }
+          }
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(
+              e.getMessage()).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_KeyValue_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_KeyValue_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder.class);
+      }
+
+      public static com.google.protobuf.Parser<KeyValue> PARSER =
+          new com.google.protobuf.AbstractParser<KeyValue>() {
+        public KeyValue parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          return new KeyValue(input, extensionRegistry);
+        }
+      };
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<KeyValue> getParserForType() {
+        return PARSER;
+      }
+
+      private int bitField0_;
+      public static final int KEY_FIELD_NUMBER = 1;
+      private java.lang.Object key_;
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            key_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string key = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int VALUE_FIELD_NUMBER = 2;
+      private java.lang.Object value_;
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            value_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      private void initFields() {
+        key_ = "";
+        value_ = "";
+      }
+      private byte memoizedIsInitialized = -1;
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        getSerializedSize();
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          output.writeBytes(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          output.writeBytes(2, getValueBytes());
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      private int memoizedSerializedSize = -1;
+      public int getSerializedSize() {
+        int size = memoizedSerializedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(1, getKeyBytes());
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBytesSize(2, getValueBytes());
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSerializedSize = size;
+        return size;
+      }
+
+      private static final long serialVersionUID = 0L;
+      @java.lang.Override
+      protected java.lang.Object writeReplace()
+          throws java.io.ObjectStreamException {
+        return super.writeReplace();
+      }
+
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseDelimitedFrom(input, extensionRegistry);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input);
+      }
+      public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return PARSER.parseFrom(input, extensionRegistry);
+      }
+
+      public static Builder newBuilder() { return Builder.create(); }
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue prototype) {
+        return newBuilder().mergeFrom(prototype);
+      }
+      public Builder toBuilder() { return newBuilder(this); }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code ProjectRepositories.KeyValue}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:ProjectRepositories.KeyValue)
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValueOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_KeyValue_descriptor;
+        }
+
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_KeyValue_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.Builder.class);
+        }
+
+        // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          }
+        }
+        private static Builder create() {
+          return new Builder();
+        }
+
+        public Builder clear() {
+          super.clear();
+          key_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          value_ = "";
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+
+        public Builder clone() {
+          return create().mergeFrom(buildPartial());
+        }
+
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_KeyValue_descriptor;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue getDefaultInstanceForType() {
+          return org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.getDefaultInstance();
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue build() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue buildPartial() {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.key_ = key_;
+          if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+            to_bitField0_ |= 0x00000002;
+          }
+          result.value_ = value_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue) {
+            return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue other) {
+          if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue.getDefaultInstance()) return this;
+          if (other.hasKey()) {
+            bitField0_ |= 0x00000001;
+            key_ = other.key_;
+            onChanged();
+          }
+          if (other.hasValue()) {
+            bitField0_ |= 0x00000002;
+            value_ = other.value_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          return this;
+        }
+
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.KeyValue) e.getUnfinishedMessage();
+            throw e;
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object key_ = "";
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public boolean hasKey() {
+          return ((bitField0_ & 0x00000001) == 0x00000001);
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public java.lang.String getKey() {
+          java.lang.Object ref = key_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              key_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public com.google.protobuf.ByteString
+            getKeyBytes() {
+          java.lang.Object ref = key_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            key_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKey(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder clearKey() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          key_ = getDefaultInstance().getKey();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string key = 1;</code>
+         */
+        public Builder setKeyBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          key_ = value;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object value_ = "";
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public boolean hasValue() {
+          return ((bitField0_ & 0x00000002) == 0x00000002);
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public java.lang.String getValue() {
+          java.lang.Object ref = value_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              value_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public com.google.protobuf.ByteString
+            getValueBytes() {
+          java.lang.Object ref = value_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            value_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder setValue(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          value_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder clearValue() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          value_ = getDefaultInstance().getValue();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string value = 2;</code>
+         */
+        public Builder setValueBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+          value_ = value;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:ProjectRepositories.KeyValue)
+      }
+
+      static {
+        defaultInstance = new KeyValue(true);
+        defaultInstance.initFields();
+      }
+
+      // @@protoc_insertion_point(class_scope:ProjectRepositories.KeyValue)
+    }
+
+    private int bitField0_;
+    public static final int TIMESTAMP_FIELD_NUMBER = 1;
+    private long timestamp_;
+    /**
+     * <code>optional int64 timestamp = 1;</code>
+     */
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int64 timestamp = 1;</code>
+     */
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int LAST_ANALYSIS_DATE_FIELD_NUMBER = 2;
+    private long lastAnalysisDate_;
+    /**
+     * <code>optional int64 last_analysis_date = 2;</code>
+     */
+    public boolean hasLastAnalysisDate() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional int64 last_analysis_date = 2;</code>
+     */
+    public long getLastAnalysisDate() {
+      return lastAnalysisDate_;
+    }
+
+    public static final int QPROFILE_FIELD_NUMBER = 3;
+    private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile> qprofile_;
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile> getQprofileList() {
+      return qprofile_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder> 
+        getQprofileOrBuilderList() {
+      return qprofile_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    public int getQprofileCount() {
+      return qprofile_.size();
+    }
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile getQprofile(int index) {
+      return qprofile_.get(index);
+    }
+    /**
+     * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder getQprofileOrBuilder(
+        int index) {
+      return qprofile_.get(index);
+    }
+
+    public static final int ACTIVE_RULE_FIELD_NUMBER = 4;
+    private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule> activeRule_;
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule> getActiveRuleList() {
+      return activeRule_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder> 
+        getActiveRuleOrBuilderList() {
+      return activeRule_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    public int getActiveRuleCount() {
+      return activeRule_.size();
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule getActiveRule(int index) {
+      return activeRule_.get(index);
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder getActiveRuleOrBuilder(
+        int index) {
+      return activeRule_.get(index);
+    }
+
+    public static final int MODULE_SETTINGS_FIELD_NUMBER = 5;
+    private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings> moduleSettings_;
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings> getModuleSettingsList() {
+      return moduleSettings_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder> 
+        getModuleSettingsOrBuilderList() {
+      return moduleSettings_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    public int getModuleSettingsCount() {
+      return moduleSettings_.size();
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings getModuleSettings(int index) {
+      return moduleSettings_.get(index);
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder getModuleSettingsOrBuilder(
+        int index) {
+      return moduleSettings_.get(index);
+    }
+
+    public static final int MODULE_FILE_DATA_FIELD_NUMBER = 6;
+    private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData> moduleFileData_;
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData> getModuleFileDataList() {
+      return moduleFileData_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder> 
+        getModuleFileDataOrBuilderList() {
+      return moduleFileData_;
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    public int getModuleFileDataCount() {
+      return moduleFileData_.size();
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData getModuleFileData(int index) {
+      return moduleFileData_.get(index);
+    }
+    /**
+     * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+     */
+    public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder getModuleFileDataOrBuilder(
+        int index) {
+      return moduleFileData_.get(index);
+    }
+
+    private void initFields() {
+      timestamp_ = 0L;
+      lastAnalysisDate_ = 0L;
+      qprofile_ = java.util.Collections.emptyList();
+      activeRule_ = java.util.Collections.emptyList();
+      moduleSettings_ = java.util.Collections.emptyList();
+      moduleFileData_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt64(1, timestamp_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeInt64(2, lastAnalysisDate_);
+      }
+      for (int i = 0; i < qprofile_.size(); i++) {
+        output.writeMessage(3, qprofile_.get(i));
+      }
+      for (int i = 0; i < activeRule_.size(); i++) {
+        output.writeMessage(4, activeRule_.get(i));
+      }
+      for (int i = 0; i < moduleSettings_.size(); i++) {
+        output.writeMessage(5, moduleSettings_.get(i));
+      }
+      for (int i = 0; i < moduleFileData_.size(); i++) {
+        output.writeMessage(6, moduleFileData_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, timestamp_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, lastAnalysisDate_);
+      }
+      for (int i = 0; i < qprofile_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, qprofile_.get(i));
+      }
+      for (int i = 0; i < activeRule_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, activeRule_.get(i));
+      }
+      for (int i = 0; i < moduleSettings_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(5, moduleSettings_.get(i));
+      }
+      for (int i = 0; i < moduleFileData_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, moduleFileData_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ProjectRepositories}
+     *
+     * <pre>
+     * Binary encoding of org.sonar.batch.protocol.input.ProjectRepositories
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ProjectRepositories)
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositoriesOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.class, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.Builder.class);
+      }
+
+      // Construct using org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getQprofileFieldBuilder();
+          getActiveRuleFieldBuilder();
+          getModuleSettingsFieldBuilder();
+          getModuleFileDataFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        lastAnalysisDate_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (qprofileBuilder_ == null) {
+          qprofile_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          qprofileBuilder_.clear();
+        }
+        if (activeRuleBuilder_ == null) {
+          activeRule_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          activeRuleBuilder_.clear();
+        }
+        if (moduleSettingsBuilder_ == null) {
+          moduleSettings_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+        } else {
+          moduleSettingsBuilder_.clear();
+        }
+        if (moduleFileDataBuilder_ == null) {
+          moduleFileData_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+        } else {
+          moduleFileDataBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.sonar.batch.protocol.input.BatchInput.internal_static_ProjectRepositories_descriptor;
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories getDefaultInstanceForType() {
+        return org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.getDefaultInstance();
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories build() {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositories result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories buildPartial() {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositories result = new org.sonar.batch.protocol.input.BatchInput.ProjectRepositories(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.timestamp_ = timestamp_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.lastAnalysisDate_ = lastAnalysisDate_;
+        if (qprofileBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            qprofile_ = java.util.Collections.unmodifiableList(qprofile_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.qprofile_ = qprofile_;
+        } else {
+          result.qprofile_ = qprofileBuilder_.build();
+        }
+        if (activeRuleBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            activeRule_ = java.util.Collections.unmodifiableList(activeRule_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.activeRule_ = activeRule_;
+        } else {
+          result.activeRule_ = activeRuleBuilder_.build();
+        }
+        if (moduleSettingsBuilder_ == null) {
+          if (((bitField0_ & 0x00000010) == 0x00000010)) {
+            moduleSettings_ = java.util.Collections.unmodifiableList(moduleSettings_);
+            bitField0_ = (bitField0_ & ~0x00000010);
+          }
+          result.moduleSettings_ = moduleSettings_;
+        } else {
+          result.moduleSettings_ = moduleSettingsBuilder_.build();
+        }
+        if (moduleFileDataBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020)) {
+            moduleFileData_ = java.util.Collections.unmodifiableList(moduleFileData_);
+            bitField0_ = (bitField0_ & ~0x00000020);
+          }
+          result.moduleFileData_ = moduleFileData_;
+        } else {
+          result.moduleFileData_ = moduleFileDataBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.sonar.batch.protocol.input.BatchInput.ProjectRepositories) {
+          return mergeFrom((org.sonar.batch.protocol.input.BatchInput.ProjectRepositories)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories other) {
+        if (other == org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.getDefaultInstance()) return this;
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.hasLastAnalysisDate()) {
+          setLastAnalysisDate(other.getLastAnalysisDate());
+        }
+        if (qprofileBuilder_ == null) {
+          if (!other.qprofile_.isEmpty()) {
+            if (qprofile_.isEmpty()) {
+              qprofile_ = other.qprofile_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureQprofileIsMutable();
+              qprofile_.addAll(other.qprofile_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.qprofile_.isEmpty()) {
+            if (qprofileBuilder_.isEmpty()) {
+              qprofileBuilder_.dispose();
+              qprofileBuilder_ = null;
+              qprofile_ = other.qprofile_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              qprofileBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getQprofileFieldBuilder() : null;
+            } else {
+              qprofileBuilder_.addAllMessages(other.qprofile_);
+            }
+          }
+        }
+        if (activeRuleBuilder_ == null) {
+          if (!other.activeRule_.isEmpty()) {
+            if (activeRule_.isEmpty()) {
+              activeRule_ = other.activeRule_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureActiveRuleIsMutable();
+              activeRule_.addAll(other.activeRule_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.activeRule_.isEmpty()) {
+            if (activeRuleBuilder_.isEmpty()) {
+              activeRuleBuilder_.dispose();
+              activeRuleBuilder_ = null;
+              activeRule_ = other.activeRule_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              activeRuleBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getActiveRuleFieldBuilder() : null;
+            } else {
+              activeRuleBuilder_.addAllMessages(other.activeRule_);
+            }
+          }
+        }
+        if (moduleSettingsBuilder_ == null) {
+          if (!other.moduleSettings_.isEmpty()) {
+            if (moduleSettings_.isEmpty()) {
+              moduleSettings_ = other.moduleSettings_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+            } else {
+              ensureModuleSettingsIsMutable();
+              moduleSettings_.addAll(other.moduleSettings_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.moduleSettings_.isEmpty()) {
+            if (moduleSettingsBuilder_.isEmpty()) {
+              moduleSettingsBuilder_.dispose();
+              moduleSettingsBuilder_ = null;
+              moduleSettings_ = other.moduleSettings_;
+              bitField0_ = (bitField0_ & ~0x00000010);
+              moduleSettingsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getModuleSettingsFieldBuilder() : null;
+            } else {
+              moduleSettingsBuilder_.addAllMessages(other.moduleSettings_);
+            }
+          }
+        }
+        if (moduleFileDataBuilder_ == null) {
+          if (!other.moduleFileData_.isEmpty()) {
+            if (moduleFileData_.isEmpty()) {
+              moduleFileData_ = other.moduleFileData_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+            } else {
+              ensureModuleFileDataIsMutable();
+              moduleFileData_.addAll(other.moduleFileData_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.moduleFileData_.isEmpty()) {
+            if (moduleFileDataBuilder_.isEmpty()) {
+              moduleFileDataBuilder_.dispose();
+              moduleFileDataBuilder_ = null;
+              moduleFileData_ = other.moduleFileData_;
+              bitField0_ = (bitField0_ & ~0x00000020);
+              moduleFileDataBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getModuleFileDataFieldBuilder() : null;
+            } else {
+              moduleFileDataBuilder_.addAllMessages(other.moduleFileData_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.sonar.batch.protocol.input.BatchInput.ProjectRepositories parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.sonar.batch.protocol.input.BatchInput.ProjectRepositories) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long timestamp_ ;
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000001;
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long lastAnalysisDate_ ;
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public boolean hasLastAnalysisDate() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public long getLastAnalysisDate() {
+        return lastAnalysisDate_;
+      }
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public Builder setLastAnalysisDate(long value) {
+        bitField0_ |= 0x00000002;
+        lastAnalysisDate_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 last_analysis_date = 2;</code>
+       */
+      public Builder clearLastAnalysisDate() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        lastAnalysisDate_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile> qprofile_ =
+        java.util.Collections.emptyList();
+      private void ensureQprofileIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          qprofile_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile>(qprofile_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder> qprofileBuilder_;
+
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile> getQprofileList() {
+        if (qprofileBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(qprofile_);
+        } else {
+          return qprofileBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public int getQprofileCount() {
+        if (qprofileBuilder_ == null) {
+          return qprofile_.size();
+        } else {
+          return qprofileBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile getQprofile(int index) {
+        if (qprofileBuilder_ == null) {
+          return qprofile_.get(index);
+        } else {
+          return qprofileBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder setQprofile(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile value) {
+        if (qprofileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureQprofileIsMutable();
+          qprofile_.set(index, value);
+          onChanged();
+        } else {
+          qprofileBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder setQprofile(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder builderForValue) {
+        if (qprofileBuilder_ == null) {
+          ensureQprofileIsMutable();
+          qprofile_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          qprofileBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder addQprofile(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile value) {
+        if (qprofileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureQprofileIsMutable();
+          qprofile_.add(value);
+          onChanged();
+        } else {
+          qprofileBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder addQprofile(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile value) {
+        if (qprofileBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureQprofileIsMutable();
+          qprofile_.add(index, value);
+          onChanged();
+        } else {
+          qprofileBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder addQprofile(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder builderForValue) {
+        if (qprofileBuilder_ == null) {
+          ensureQprofileIsMutable();
+          qprofile_.add(builderForValue.build());
+          onChanged();
+        } else {
+          qprofileBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder addQprofile(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder builderForValue) {
+        if (qprofileBuilder_ == null) {
+          ensureQprofileIsMutable();
+          qprofile_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          qprofileBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder addAllQprofile(
+          java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile> values) {
+        if (qprofileBuilder_ == null) {
+          ensureQprofileIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, qprofile_);
+          onChanged();
+        } else {
+          qprofileBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder clearQprofile() {
+        if (qprofileBuilder_ == null) {
+          qprofile_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          qprofileBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public Builder removeQprofile(int index) {
+        if (qprofileBuilder_ == null) {
+          ensureQprofileIsMutable();
+          qprofile_.remove(index);
+          onChanged();
+        } else {
+          qprofileBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder getQprofileBuilder(
+          int index) {
+        return getQprofileFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder getQprofileOrBuilder(
+          int index) {
+        if (qprofileBuilder_ == null) {
+          return qprofile_.get(index);  } else {
+          return qprofileBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder> 
+           getQprofileOrBuilderList() {
+        if (qprofileBuilder_ != null) {
+          return qprofileBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(qprofile_);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder addQprofileBuilder() {
+        return getQprofileFieldBuilder().addBuilder(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder addQprofileBuilder(
+          int index) {
+        return getQprofileFieldBuilder().addBuilder(
+            index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.QProfile qprofile = 3;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder> 
+           getQprofileBuilderList() {
+        return getQprofileFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder> 
+          getQprofileFieldBuilder() {
+        if (qprofileBuilder_ == null) {
+          qprofileBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfile.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.QProfileOrBuilder>(
+                  qprofile_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          qprofile_ = null;
+        }
+        return qprofileBuilder_;
+      }
+
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule> activeRule_ =
+        java.util.Collections.emptyList();
+      private void ensureActiveRuleIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          activeRule_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule>(activeRule_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder> activeRuleBuilder_;
+
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule> getActiveRuleList() {
+        if (activeRuleBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(activeRule_);
+        } else {
+          return activeRuleBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public int getActiveRuleCount() {
+        if (activeRuleBuilder_ == null) {
+          return activeRule_.size();
+        } else {
+          return activeRuleBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule getActiveRule(int index) {
+        if (activeRuleBuilder_ == null) {
+          return activeRule_.get(index);
+        } else {
+          return activeRuleBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder setActiveRule(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule value) {
+        if (activeRuleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActiveRuleIsMutable();
+          activeRule_.set(index, value);
+          onChanged();
+        } else {
+          activeRuleBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder setActiveRule(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder builderForValue) {
+        if (activeRuleBuilder_ == null) {
+          ensureActiveRuleIsMutable();
+          activeRule_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          activeRuleBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder addActiveRule(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule value) {
+        if (activeRuleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActiveRuleIsMutable();
+          activeRule_.add(value);
+          onChanged();
+        } else {
+          activeRuleBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder addActiveRule(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule value) {
+        if (activeRuleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActiveRuleIsMutable();
+          activeRule_.add(index, value);
+          onChanged();
+        } else {
+          activeRuleBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder addActiveRule(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder builderForValue) {
+        if (activeRuleBuilder_ == null) {
+          ensureActiveRuleIsMutable();
+          activeRule_.add(builderForValue.build());
+          onChanged();
+        } else {
+          activeRuleBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder addActiveRule(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder builderForValue) {
+        if (activeRuleBuilder_ == null) {
+          ensureActiveRuleIsMutable();
+          activeRule_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          activeRuleBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder addAllActiveRule(
+          java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule> values) {
+        if (activeRuleBuilder_ == null) {
+          ensureActiveRuleIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, activeRule_);
+          onChanged();
+        } else {
+          activeRuleBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder clearActiveRule() {
+        if (activeRuleBuilder_ == null) {
+          activeRule_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          activeRuleBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public Builder removeActiveRule(int index) {
+        if (activeRuleBuilder_ == null) {
+          ensureActiveRuleIsMutable();
+          activeRule_.remove(index);
+          onChanged();
+        } else {
+          activeRuleBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder getActiveRuleBuilder(
+          int index) {
+        return getActiveRuleFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder getActiveRuleOrBuilder(
+          int index) {
+        if (activeRuleBuilder_ == null) {
+          return activeRule_.get(index);  } else {
+          return activeRuleBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder> 
+           getActiveRuleOrBuilderList() {
+        if (activeRuleBuilder_ != null) {
+          return activeRuleBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(activeRule_);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder addActiveRuleBuilder() {
+        return getActiveRuleFieldBuilder().addBuilder(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder addActiveRuleBuilder(
+          int index) {
+        return getActiveRuleFieldBuilder().addBuilder(
+            index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ActiveRule active_rule = 4;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder> 
+           getActiveRuleBuilderList() {
+        return getActiveRuleFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder> 
+          getActiveRuleFieldBuilder() {
+        if (activeRuleBuilder_ == null) {
+          activeRuleBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRule.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ActiveRuleOrBuilder>(
+                  activeRule_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          activeRule_ = null;
+        }
+        return activeRuleBuilder_;
+      }
+
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings> moduleSettings_ =
+        java.util.Collections.emptyList();
+      private void ensureModuleSettingsIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          moduleSettings_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings>(moduleSettings_);
+          bitField0_ |= 0x00000010;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder> moduleSettingsBuilder_;
+
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings> getModuleSettingsList() {
+        if (moduleSettingsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(moduleSettings_);
+        } else {
+          return moduleSettingsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public int getModuleSettingsCount() {
+        if (moduleSettingsBuilder_ == null) {
+          return moduleSettings_.size();
+        } else {
+          return moduleSettingsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings getModuleSettings(int index) {
+        if (moduleSettingsBuilder_ == null) {
+          return moduleSettings_.get(index);
+        } else {
+          return moduleSettingsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder setModuleSettings(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings value) {
+        if (moduleSettingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModuleSettingsIsMutable();
+          moduleSettings_.set(index, value);
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder setModuleSettings(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder builderForValue) {
+        if (moduleSettingsBuilder_ == null) {
+          ensureModuleSettingsIsMutable();
+          moduleSettings_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder addModuleSettings(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings value) {
+        if (moduleSettingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModuleSettingsIsMutable();
+          moduleSettings_.add(value);
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder addModuleSettings(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings value) {
+        if (moduleSettingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModuleSettingsIsMutable();
+          moduleSettings_.add(index, value);
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder addModuleSettings(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder builderForValue) {
+        if (moduleSettingsBuilder_ == null) {
+          ensureModuleSettingsIsMutable();
+          moduleSettings_.add(builderForValue.build());
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder addModuleSettings(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder builderForValue) {
+        if (moduleSettingsBuilder_ == null) {
+          ensureModuleSettingsIsMutable();
+          moduleSettings_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder addAllModuleSettings(
+          java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings> values) {
+        if (moduleSettingsBuilder_ == null) {
+          ensureModuleSettingsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, moduleSettings_);
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder clearModuleSettings() {
+        if (moduleSettingsBuilder_ == null) {
+          moduleSettings_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000010);
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public Builder removeModuleSettings(int index) {
+        if (moduleSettingsBuilder_ == null) {
+          ensureModuleSettingsIsMutable();
+          moduleSettings_.remove(index);
+          onChanged();
+        } else {
+          moduleSettingsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder getModuleSettingsBuilder(
+          int index) {
+        return getModuleSettingsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder getModuleSettingsOrBuilder(
+          int index) {
+        if (moduleSettingsBuilder_ == null) {
+          return moduleSettings_.get(index);  } else {
+          return moduleSettingsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder> 
+           getModuleSettingsOrBuilderList() {
+        if (moduleSettingsBuilder_ != null) {
+          return moduleSettingsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(moduleSettings_);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder addModuleSettingsBuilder() {
+        return getModuleSettingsFieldBuilder().addBuilder(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder addModuleSettingsBuilder(
+          int index) {
+        return getModuleSettingsFieldBuilder().addBuilder(
+            index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleSettings module_settings = 5;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder> 
+           getModuleSettingsBuilderList() {
+        return getModuleSettingsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder> 
+          getModuleSettingsFieldBuilder() {
+        if (moduleSettingsBuilder_ == null) {
+          moduleSettingsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettings.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleSettingsOrBuilder>(
+                  moduleSettings_,
+                  ((bitField0_ & 0x00000010) == 0x00000010),
+                  getParentForChildren(),
+                  isClean());
+          moduleSettings_ = null;
+        }
+        return moduleSettingsBuilder_;
+      }
+
+      private java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData> moduleFileData_ =
+        java.util.Collections.emptyList();
+      private void ensureModuleFileDataIsMutable() {
+        if (!((bitField0_ & 0x00000020) == 0x00000020)) {
+          moduleFileData_ = new java.util.ArrayList<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData>(moduleFileData_);
+          bitField0_ |= 0x00000020;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder> moduleFileDataBuilder_;
+
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData> getModuleFileDataList() {
+        if (moduleFileDataBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(moduleFileData_);
+        } else {
+          return moduleFileDataBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public int getModuleFileDataCount() {
+        if (moduleFileDataBuilder_ == null) {
+          return moduleFileData_.size();
+        } else {
+          return moduleFileDataBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData getModuleFileData(int index) {
+        if (moduleFileDataBuilder_ == null) {
+          return moduleFileData_.get(index);
+        } else {
+          return moduleFileDataBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder setModuleFileData(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData value) {
+        if (moduleFileDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModuleFileDataIsMutable();
+          moduleFileData_.set(index, value);
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder setModuleFileData(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder builderForValue) {
+        if (moduleFileDataBuilder_ == null) {
+          ensureModuleFileDataIsMutable();
+          moduleFileData_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder addModuleFileData(org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData value) {
+        if (moduleFileDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModuleFileDataIsMutable();
+          moduleFileData_.add(value);
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder addModuleFileData(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData value) {
+        if (moduleFileDataBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureModuleFileDataIsMutable();
+          moduleFileData_.add(index, value);
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder addModuleFileData(
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder builderForValue) {
+        if (moduleFileDataBuilder_ == null) {
+          ensureModuleFileDataIsMutable();
+          moduleFileData_.add(builderForValue.build());
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder addModuleFileData(
+          int index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder builderForValue) {
+        if (moduleFileDataBuilder_ == null) {
+          ensureModuleFileDataIsMutable();
+          moduleFileData_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder addAllModuleFileData(
+          java.lang.Iterable<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData> values) {
+        if (moduleFileDataBuilder_ == null) {
+          ensureModuleFileDataIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, moduleFileData_);
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder clearModuleFileData() {
+        if (moduleFileDataBuilder_ == null) {
+          moduleFileData_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public Builder removeModuleFileData(int index) {
+        if (moduleFileDataBuilder_ == null) {
+          ensureModuleFileDataIsMutable();
+          moduleFileData_.remove(index);
+          onChanged();
+        } else {
+          moduleFileDataBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder getModuleFileDataBuilder(
+          int index) {
+        return getModuleFileDataFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder getModuleFileDataOrBuilder(
+          int index) {
+        if (moduleFileDataBuilder_ == null) {
+          return moduleFileData_.get(index);  } else {
+          return moduleFileDataBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public java.util.List<? extends org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder> 
+           getModuleFileDataOrBuilderList() {
+        if (moduleFileDataBuilder_ != null) {
+          return moduleFileDataBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(moduleFileData_);
+        }
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder addModuleFileDataBuilder() {
+        return getModuleFileDataFieldBuilder().addBuilder(
+            org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder addModuleFileDataBuilder(
+          int index) {
+        return getModuleFileDataFieldBuilder().addBuilder(
+            index, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .ProjectRepositories.ModuleFileData module_file_data = 6;</code>
+       */
+      public java.util.List<org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder> 
+           getModuleFileDataBuilderList() {
+        return getModuleFileDataFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder> 
+          getModuleFileDataFieldBuilder() {
+        if (moduleFileDataBuilder_ == null) {
+          moduleFileDataBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileData.Builder, org.sonar.batch.protocol.input.BatchInput.ProjectRepositories.ModuleFileDataOrBuilder>(
+                  moduleFileData_,
+                  ((bitField0_ & 0x00000020) == 0x00000020),
+                  getParentForChildren(),
+                  isClean());
+          moduleFileData_ = null;
+        }
+        return moduleFileDataBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:ProjectRepositories)
+    }
+
+    static {
+      defaultInstance = new ProjectRepositories(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:ProjectRepositories)
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ServerIssue_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ServerIssue_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositories_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositories_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositories_QProfile_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositories_QProfile_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositories_ActiveRule_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositories_ActiveRule_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositories_ModuleSettings_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositories_ModuleSettings_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositories_ModuleFileData_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositories_ModuleFileData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositories_FileData_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositories_FileData_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ProjectRepositories_KeyValue_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_ProjectRepositories_KeyValue_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\021batch_input.proto\032\017constants.proto\"\262\002\n" +
+      "\013ServerIssue\022\013\n\003key\030\001 \001(\t\022\022\n\nmodule_key\030" +
+      "\002 \001(\t\022\014\n\004path\030\003 \001(\t\022\027\n\017rule_repository\030\004" +
+      " \001(\t\022\020\n\010rule_key\030\005 \001(\t\022\014\n\004line\030\006 \001(\005\022\013\n\003" +
+      "msg\030\007 \001(\t\022\033\n\010severity\030\010 \001(\0162\t.Severity\022\027" +
+      "\n\017manual_severity\030\t \001(\010\022\022\n\nresolution\030\n " +
+      "\001(\t\022\016\n\006status\030\013 \001(\t\022\020\n\010checksum\030\014 \001(\t\022\026\n" +
+      "\016assignee_login\030\r \001(\t\022\025\n\rcreation_date\030\016" +
+      " \001(\003\022\023\n\013update_date\030\017 \001(\003\"\277\007\n\023ProjectRep" +
+      "ositories\022\021\n\ttimestamp\030\001 \001(\003\022\032\n\022last_ana",
+      "lysis_date\030\002 \001(\003\022/\n\010qprofile\030\003 \003(\0132\035.Pro" +
+      "jectRepositories.QProfile\0224\n\013active_rule" +
+      "\030\004 \003(\0132\037.ProjectRepositories.ActiveRule\022" +
+      "<\n\017module_settings\030\005 \003(\0132#.ProjectReposi" +
+      "tories.ModuleSettings\022=\n\020module_file_dat" +
+      "a\030\006 \003(\0132#.ProjectRepositories.ModuleFile" +
+      "Data\032Q\n\010QProfile\022\013\n\003key\030\001 \001(\t\022\014\n\004name\030\002 " +
+      "\001(\t\022\020\n\010language\030\003 \001(\t\022\030\n\020rules_updated_a" +
+      "t\030\004 \001(\003\032\307\001\n\nActiveRule\022\026\n\016repository_key" +
+      "\030\001 \001(\t\022\020\n\010rule_key\030\002 \001(\t\022\031\n\021template_rul",
+      "e_key\030\003 \001(\t\022\014\n\004name\030\004 \001(\t\022\020\n\010severity\030\005 " +
+      "\001(\t\022\024\n\014internal_key\030\006 \001(\t\022\020\n\010language\030\007 " +
+      "\001(\t\022,\n\005param\030\010 \003(\0132\035.ProjectRepositories" +
+      ".KeyValue\032T\n\016ModuleSettings\022\022\n\nmodule_ke" +
+      "y\030\001 \001(\t\022.\n\007setting\030\002 \003(\0132\035.ProjectReposi" +
+      "tories.KeyValue\032V\n\016ModuleFileData\022\022\n\nmod" +
+      "ule_key\030\001 \001(\t\0220\n\tfile_data\030\002 \003(\0132\035.Proje" +
+      "ctRepositories.FileData\032\241\001\n\010FileData\022\014\n\004" +
+      "path\030\001 \001(\t\022\014\n\004hash\030\002 \001(\t\022\022\n\nneed_blame\030\003" +
+      " \001(\010\022)\n!scm_last_commit_datetimes_by_lin",
+      "e\030\004 \001(\t\022\035\n\025scm_revisions_by_line\030\005 \001(\t\022\033" +
+      "\n\023scm_authors_by_line\030\006 \001(\t\032&\n\010KeyValue\022" +
+      "\013\n\003key\030\001 \001(\t\022\r\n\005value\030\002 \001(\tB\"\n\036org.sonar" +
+      ".batch.protocol.inputH\001"
+    };
+    com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
+        new com.google.protobuf.Descriptors.FileDescriptor.    InternalDescriptorAssigner() {
+          public com.google.protobuf.ExtensionRegistry assignDescriptors(
+              com.google.protobuf.Descriptors.FileDescriptor root) {
+            descriptor = root;
+            return null;
+          }
+        };
+    com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          org.sonar.batch.protocol.Constants.getDescriptor(),
+        }, assigner);
+    internal_static_ServerIssue_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_ServerIssue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ServerIssue_descriptor,
+        new java.lang.String[] { "Key", "ModuleKey", "Path", "RuleRepository", "RuleKey", "Line", "Msg", "Severity", "ManualSeverity", "Resolution", "Status", "Checksum", "AssigneeLogin", "CreationDate", "UpdateDate", });
+    internal_static_ProjectRepositories_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_ProjectRepositories_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositories_descriptor,
+        new java.lang.String[] { "Timestamp", "LastAnalysisDate", "Qprofile", "ActiveRule", "ModuleSettings", "ModuleFileData", });
+    internal_static_ProjectRepositories_QProfile_descriptor =
+      internal_static_ProjectRepositories_descriptor.getNestedTypes().get(0);
+    internal_static_ProjectRepositories_QProfile_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositories_QProfile_descriptor,
+        new java.lang.String[] { "Key", "Name", "Language", "RulesUpdatedAt", });
+    internal_static_ProjectRepositories_ActiveRule_descriptor =
+      internal_static_ProjectRepositories_descriptor.getNestedTypes().get(1);
+    internal_static_ProjectRepositories_ActiveRule_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositories_ActiveRule_descriptor,
+        new java.lang.String[] { "RepositoryKey", "RuleKey", "TemplateRuleKey", "Name", "Severity", "InternalKey", "Language", "Param", });
+    internal_static_ProjectRepositories_ModuleSettings_descriptor =
+      internal_static_ProjectRepositories_descriptor.getNestedTypes().get(2);
+    internal_static_ProjectRepositories_ModuleSettings_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositories_ModuleSettings_descriptor,
+        new java.lang.String[] { "ModuleKey", "Setting", });
+    internal_static_ProjectRepositories_ModuleFileData_descriptor =
+      internal_static_ProjectRepositories_descriptor.getNestedTypes().get(3);
+    internal_static_ProjectRepositories_ModuleFileData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositories_ModuleFileData_descriptor,
+        new java.lang.String[] { "ModuleKey", "FileData", });
+    internal_static_ProjectRepositories_FileData_descriptor =
+      internal_static_ProjectRepositories_descriptor.getNestedTypes().get(4);
+    internal_static_ProjectRepositories_FileData_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositories_FileData_descriptor,
+        new java.lang.String[] { "Path", "Hash", "NeedBlame", "ScmLastCommitDatetimesByLine", "ScmRevisionsByLine", "ScmAuthorsByLine", });
+    internal_static_ProjectRepositories_KeyValue_descriptor =
+      internal_static_ProjectRepositories_descriptor.getNestedTypes().get(5);
+    internal_static_ProjectRepositories_KeyValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_ProjectRepositories_KeyValue_descriptor,
+        new java.lang.String[] { "Key", "Value", });
     org.sonar.batch.protocol.Constants.getDescriptor();
   }
 
@@ -0,0 +1,119 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.protocol;
+
+import javax.annotation.CheckForNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over a resource, for instance a file of the analysis report. The resource is released
+ * when the iterator is fully traversed, but callers which may stop earlier must call {@link #close()},
+ * ideally with try-with-resources.
+ */
+public abstract class CloseableIterator<O> implements Iterator<O>, AutoCloseable {
+  private O nextObject = null;
+  private boolean closed = false;
+
+  public static <O> CloseableIterator<O> emptyCloseableIterator() {
+    return from(Collections.<O>emptyIterator());
+  }
+
+  /**
+   * Wraps an iterator which does not hold any resource
+   */
+  public static <O> CloseableIterator<O> from(final Iterator<O> iterator) {
+    return new CloseableIterator<O>() {
+      @Override
+      protected O doNext() {
+        return iterator.hasNext() ? iterator.next() : null;
+      }
+
+      @Override
+      protected void doClose() {
+        // nothing to release
+      }
+    };
+  }
+
+  @Override
+  public final boolean hasNext() {
+    boolean hasNext = nextObject != null || bufferNext() != null;
+    if (!hasNext) {
+      close();
+    }
+    return hasNext;
+  }
+
+  @CheckForNull
+  private O bufferNext() {
+    if (closed) {
+      return null;
+    }
+    try {
+      nextObject = doNext();
+      return nextObject;
+    } catch (RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Reads next item and returns null if no more items.
+   */
+  @CheckForNull
+  protected abstract O doNext();
+
+  @Override
+  public final O next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    O result = nextObject;
+    nextObject = null;
+    return result;
+  }
+
+  @Override
+  public final void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Can be called several times. Does not declare "throws IOException".
+   */
+  @Override
+  public final void close() {
+    if (!closed) {
+      closed = true;
+      try {
+        doClose();
+      } catch (Exception e) {
+        throw new IllegalStateException("Fail to close iterator", e);
+      }
+    }
+  }
+
+  protected abstract void doClose() throws Exception;
+
+}
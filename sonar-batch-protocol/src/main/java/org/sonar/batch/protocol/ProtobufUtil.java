@@ -22,6 +22,8 @@ package org.sonar.batch.protocol;
 import com.google.protobuf.Message;
 import com.google.protobuf.Parser;
 
+import javax.annotation.CheckForNull;
+
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
@@ -51,4 +53,64 @@ public class ProtobufUtil {
       throw new IllegalStateException("Unable to write protocol buffer data to file " + toFile, e);
     }
   }
+
+  /**
+   * Writes the messages one after the other, each one being prefixed by its size, so that
+   * they can be read one at a time by {@link #readDelimitedFile(java.io.File, com.google.protobuf.Parser)}.
+   */
+  public static void writeDelimitedToFile(Iterable<? extends Message> messages, File toFile) {
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(toFile, false))) {
+      for (Message message : messages) {
+        message.writeDelimitedTo(out);
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to write protocol buffer data to file " + toFile, e);
+    }
+  }
+
+  /**
+   * Reads lazily the messages written by {@link #writeDelimitedToFile(Iterable, java.io.File)}. Only one message
+   * is loaded in memory at a time. The file is closed when the iterator is fully traversed or closed.
+   */
+  public static <T extends Message> CloseableIterator<T> readDelimitedFile(File file, Parser<T> parser) {
+    try {
+      return readDelimitedStream(new BufferedInputStream(new FileInputStream(file)), parser);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read file: " + file, e);
+    }
+  }
+
+  /**
+   * Reads lazily the length-delimited messages of a stream. The stream is closed when the
+   * iterator is fully traversed or closed.
+   */
+  public static <T extends Message> CloseableIterator<T> readDelimitedStream(InputStream input, Parser<T> parser) {
+    return new DelimitedMessageIterator<>(input, parser);
+  }
+
+  private static class DelimitedMessageIterator<T extends Message> extends CloseableIterator<T> {
+    private final InputStream input;
+    private final Parser<T> parser;
+
+    DelimitedMessageIterator(InputStream input, Parser<T> parser) {
+      this.input = input;
+      this.parser = parser;
+    }
+
+    @Override
+    @CheckForNull
+    protected T doNext() {
+      try {
+        // returns null at end of stream
+        return parser.parseDelimitedFrom(input);
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to read protocol buffer data", e);
+      }
+    }
+
+    @Override
+    protected void doClose() throws IOException {
+      input.close();
+    }
+  }
 }
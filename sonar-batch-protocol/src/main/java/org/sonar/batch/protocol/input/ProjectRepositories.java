@@ -19,6 +19,7 @@
  */
 package org.sonar.batch.protocol.input;
 
+import com.google.protobuf.InvalidProtocolBufferException;
 import org.sonar.batch.protocol.GsonHelper;
 
 import javax.annotation.CheckForNull;
@@ -43,6 +44,10 @@ public class ProjectRepositories {
     return settingsByModule.containsKey(moduleKey) ? settingsByModule.get(moduleKey) : Collections.<String, String>emptyMap();
   }
 
+  public Map<String, Map<String, String>> settingsByModule() {
+    return Collections.unmodifiableMap(settingsByModule);
+  }
+
   public ProjectRepositories addSettings(String moduleKey, Map<String, String> settings) {
     Map<String, String> existingSettings = settingsByModule.get(moduleKey);
     if (existingSettings == null) {
@@ -115,4 +120,146 @@ public class ProjectRepositories {
     return GsonHelper.create().fromJson(json, ProjectRepositories.class);
   }
 
+  /**
+   * Binary encoding, which is smaller and faster to parse than JSON. Settings, files and rule parameters
+   * are sorted, so that the same repositories are always encoded to the same bytes.
+   */
+  public byte[] toProtobuf() {
+    BatchInput.ProjectRepositories.Builder builder = BatchInput.ProjectRepositories.newBuilder()
+      .setTimestamp(timestamp);
+    if (lastAnalysisDate != null) {
+      builder.setLastAnalysisDate(lastAnalysisDate.getTime());
+    }
+    for (QProfile qProfile : new TreeMap<>(qprofilesByLanguage).values()) {
+      builder.addQprofile(toProtobuf(qProfile));
+    }
+    for (ActiveRule activeRule : activeRules) {
+      builder.addActiveRule(toProtobuf(activeRule));
+    }
+    for (Map.Entry<String, Map<String, String>> moduleSettings : new TreeMap<>(settingsByModule).entrySet()) {
+      BatchInput.ProjectRepositories.ModuleSettings.Builder settingsBuilder = BatchInput.ProjectRepositories.ModuleSettings.newBuilder()
+        .setModuleKey(moduleSettings.getKey());
+      for (Map.Entry<String, String> setting : new TreeMap<>(moduleSettings.getValue()).entrySet()) {
+        settingsBuilder.addSetting(toProtobuf(setting));
+      }
+      builder.addModuleSettings(settingsBuilder);
+    }
+    for (Map.Entry<String, Map<String, FileData>> moduleFileData : new TreeMap<>(fileDataByModuleAndPath).entrySet()) {
+      BatchInput.ProjectRepositories.ModuleFileData.Builder fileDataBuilder = BatchInput.ProjectRepositories.ModuleFileData.newBuilder()
+        .setModuleKey(moduleFileData.getKey());
+      for (Map.Entry<String, FileData> fileData : new TreeMap<>(moduleFileData.getValue()).entrySet()) {
+        fileDataBuilder.addFileData(toProtobuf(fileData.getKey(), fileData.getValue()));
+      }
+      builder.addModuleFileData(fileDataBuilder);
+    }
+    return builder.build().toByteArray();
+  }
+
+  public static ProjectRepositories fromProtobuf(byte[] bytes) {
+    BatchInput.ProjectRepositories message;
+    try {
+      message = BatchInput.ProjectRepositories.parseFrom(bytes);
+    } catch (InvalidProtocolBufferException e) {
+      throw new IllegalStateException("Fail to parse project repositories", e);
+    }
+    ProjectRepositories repositories = new ProjectRepositories();
+    repositories.setTimestamp(message.getTimestamp());
+    if (message.hasLastAnalysisDate()) {
+      repositories.setLastAnalysisDate(new Date(message.getLastAnalysisDate()));
+    }
+    for (BatchInput.ProjectRepositories.QProfile qProfile : message.getQprofileList()) {
+      repositories.addQProfile(new QProfile(qProfile.getKey(), qProfile.getName(), qProfile.getLanguage(),
+        qProfile.hasRulesUpdatedAt() ? new Date(qProfile.getRulesUpdatedAt()) : null));
+    }
+    for (BatchInput.ProjectRepositories.ActiveRule rule : message.getActiveRuleList()) {
+      ActiveRule activeRule = new ActiveRule(rule.getRepositoryKey(), rule.getRuleKey(),
+        rule.hasTemplateRuleKey() ? rule.getTemplateRuleKey() : null, rule.getName(),
+        rule.hasSeverity() ? rule.getSeverity() : null,
+        rule.hasInternalKey() ? rule.getInternalKey() : null,
+        rule.hasLanguage() ? rule.getLanguage() : null);
+      for (BatchInput.ProjectRepositories.KeyValue param : rule.getParamList()) {
+        activeRule.addParam(param.getKey(), param.getValue());
+      }
+      repositories.addActiveRule(activeRule);
+    }
+    for (BatchInput.ProjectRepositories.ModuleSettings moduleSettings : message.getModuleSettingsList()) {
+      Map<String, String> settings = new HashMap<>();
+      for (BatchInput.ProjectRepositories.KeyValue setting : moduleSettings.getSettingList()) {
+        settings.put(setting.getKey(), setting.getValue());
+      }
+      repositories.addSettings(moduleSettings.getModuleKey(), settings);
+    }
+    for (BatchInput.ProjectRepositories.ModuleFileData moduleFileData : message.getModuleFileDataList()) {
+      for (BatchInput.ProjectRepositories.FileData fileData : moduleFileData.getFileDataList()) {
+        repositories.addFileData(moduleFileData.getModuleKey(), fileData.getPath(), new FileData(
+          fileData.hasHash() ? fileData.getHash() : null,
+          fileData.getNeedBlame(),
+          fileData.hasScmLastCommitDatetimesByLine() ? fileData.getScmLastCommitDatetimesByLine() : null,
+          fileData.hasScmRevisionsByLine() ? fileData.getScmRevisionsByLine() : null,
+          fileData.hasScmAuthorsByLine() ? fileData.getScmAuthorsByLine() : null));
+      }
+    }
+    return repositories;
+  }
+
+  private static BatchInput.ProjectRepositories.QProfile toProtobuf(QProfile qProfile) {
+    BatchInput.ProjectRepositories.QProfile.Builder builder = BatchInput.ProjectRepositories.QProfile.newBuilder()
+      .setKey(qProfile.key())
+      .setName(qProfile.name())
+      .setLanguage(qProfile.language());
+    if (qProfile.rulesUpdatedAt() != null) {
+      builder.setRulesUpdatedAt(qProfile.rulesUpdatedAt().getTime());
+    }
+    return builder.build();
+  }
+
+  private static BatchInput.ProjectRepositories.ActiveRule toProtobuf(ActiveRule activeRule) {
+    BatchInput.ProjectRepositories.ActiveRule.Builder builder = BatchInput.ProjectRepositories.ActiveRule.newBuilder()
+      .setRepositoryKey(activeRule.repositoryKey())
+      .setRuleKey(activeRule.ruleKey())
+      .setName(activeRule.name());
+    if (activeRule.templateRuleKey() != null) {
+      builder.setTemplateRuleKey(activeRule.templateRuleKey());
+    }
+    if (activeRule.severity() != null) {
+      builder.setSeverity(activeRule.severity());
+    }
+    if (activeRule.internalKey() != null) {
+      builder.setInternalKey(activeRule.internalKey());
+    }
+    if (activeRule.language() != null) {
+      builder.setLanguage(activeRule.language());
+    }
+    for (Map.Entry<String, String> param : new TreeMap<>(activeRule.params()).entrySet()) {
+      builder.addParam(toProtobuf(param));
+    }
+    return builder.build();
+  }
+
+  private static BatchInput.ProjectRepositories.FileData toProtobuf(String path, FileData fileData) {
+    BatchInput.ProjectRepositories.FileData.Builder builder = BatchInput.ProjectRepositories.FileData.newBuilder()
+      .setPath(path)
+      .setNeedBlame(fileData.needBlame());
+    if (fileData.hash() != null) {
+      builder.setHash(fileData.hash());
+    }
+    if (fileData.scmLastCommitDatetimesByLine() != null) {
+      builder.setScmLastCommitDatetimesByLine(fileData.scmLastCommitDatetimesByLine());
+    }
+    if (fileData.scmRevisionsByLine() != null) {
+      builder.setScmRevisionsByLine(fileData.scmRevisionsByLine());
+    }
+    if (fileData.scmAuthorsByLine() != null) {
+      builder.setScmAuthorsByLine(fileData.scmAuthorsByLine());
+    }
+    return builder.build();
+  }
+
+  private static BatchInput.ProjectRepositories.KeyValue toProtobuf(Map.Entry<String, String> entry) {
+    return BatchInput.ProjectRepositories.KeyValue.newBuilder()
+      .setKey(entry.getKey())
+      .setValue(entry.getValue())
+      .build();
+  }
+
 }
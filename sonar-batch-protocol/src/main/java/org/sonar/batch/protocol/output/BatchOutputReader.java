@@ -19,21 +19,37 @@
  */
 package org.sonar.batch.protocol.output;
 
+import org.sonar.batch.protocol.CloseableIterator;
 import org.sonar.batch.protocol.ProtobufUtil;
 
 import javax.annotation.CheckForNull;
+import java.io.Closeable;
 import java.io.File;
-import java.util.Collections;
 
-public class BatchOutputReader {
+/**
+ * Reads a report either from its directory of files, or from the single-file container
+ * {@link FileStructure#CONTAINER_FILENAME} when it exists in the directory. It must be closed
+ * before deleting the directory.
+ */
+public class BatchOutputReader implements Closeable {
 
   private final FileStructure fileStructure;
+  private final ReportContainer container;
 
   public BatchOutputReader(File dir) {
     this.fileStructure = new FileStructure(dir);
+    File containerFile = fileStructure.containerFile();
+    this.container = containerFile.isFile() ? ReportContainer.open(containerFile) : null;
   }
 
   public BatchReport.Metadata readMetadata() {
+    if (container != null) {
+      BatchReport.Metadata metadata = container.readMessage(FileStructure.metadataEntryName(), BatchReport.Metadata.PARSER);
+      if (metadata == null) {
+        throw new IllegalStateException("Metadata is missing in analysis report: " + container.getFile());
+      }
+      return metadata;
+    }
     File file = fileStructure.metadataFile();
     if (!file.exists() || !file.isFile()) {
       throw new IllegalStateException("Metadata file is missing in analysis report: " + file);
@@ -43,6 +59,9 @@ public class BatchOutputReader {
 
   @CheckForNull
   public BatchReport.Component readComponent(int componentRef) {
+    if (container != null) {
+      return container.readMessage(FileStructure.entryNameFor(FileStructure.Domain.COMPONENT, componentRef), BatchReport.Component.PARSER);
+    }
     File file = fileStructure.fileFor(FileStructure.Domain.COMPONENT, componentRef);
     if (file.exists() && file.isFile()) {
       return ProtobufUtil.readFile(file, BatchReport.Component.PARSER);
@@ -50,13 +69,44 @@ public class BatchOutputReader {
     return null;
   }
 
-  public Iterable<BatchReport.Issue> readComponentIssues(int componentRef) {
-    File file = fileStructure.fileFor(FileStructure.Domain.ISSUES, componentRef);
+  /**
+   * Issues are read one at a time, so memory does not depend on the number of issues. The file
+   * is closed when the iterator is fully traversed, otherwise the iterator must be closed.
+   */
+  public CloseableIterator<BatchReport.Issue> readComponentIssues(int componentRef) {
+    if (container != null) {
+      return readComponentIssuesFromContainer(componentRef);
+    }
+    File file = fileStructure.fileFor(FileStructure.Domain.DELIMITED_ISSUES, componentRef);
     if (file.exists() && file.isFile()) {
-      // all the issues are loaded in memory
+      return ProtobufUtil.readDelimitedFile(file, BatchReport.Issue.PARSER);
+    }
+    file = fileStructure.fileFor(FileStructure.Domain.ISSUES, componentRef);
+    if (file.exists() && file.isFile()) {
+      // legacy layout. All the issues are loaded in memory
       BatchReport.Issues issues = ProtobufUtil.readFile(file, BatchReport.Issues.PARSER);
-      return issues.getListList();
+      return CloseableIterator.from(issues.getListList().iterator());
+    }
+    return CloseableIterator.emptyCloseableIterator();
+  }
+
+  private CloseableIterator<BatchReport.Issue> readComponentIssuesFromContainer(int componentRef) {
+    String legacyEntry = FileStructure.entryNameFor(FileStructure.Domain.ISSUES, componentRef);
+    if (container.hasEntry(legacyEntry)) {
+      BatchReport.Issues issues = container.readMessage(legacyEntry, BatchReport.Issues.PARSER);
+      return CloseableIterator.from(issues.getListList().iterator());
+    }
+    String entry = FileStructure.entryNameFor(FileStructure.Domain.DELIMITED_ISSUES, componentRef);
+    if (container.hasEntry(entry)) {
+      return container.readDelimitedMessages(entry, BatchReport.Issue.PARSER);
+    }
+    return CloseableIterator.emptyCloseableIterator();
+  }
+
+  @Override
+  public void close() {
+    if (container != null) {
+      container.close();
     }
-    return Collections.emptyList();
   }
 }
@@ -55,11 +55,11 @@ public class BatchOutputWriter {
     ProtobufUtil.writeToFile(component, file);
   }
 
+  /**
+   * Issues are streamed to file, so they don't need to be loaded all together in memory
+   */
   public void writeComponentIssues(int componentRef, Iterable<BatchReport.Issue> issues) {
-    BatchReport.Issues.Builder issuesBuilder = BatchReport.Issues.newBuilder();
-    issuesBuilder.setComponentRef(componentRef);
-    issuesBuilder.addAllList(issues);
-    File file = fileStructure.fileFor(FileStructure.Domain.ISSUES, componentRef);
-    ProtobufUtil.writeToFile(issuesBuilder.build(), file);
+    File file = fileStructure.fileFor(FileStructure.Domain.DELIMITED_ISSUES, componentRef);
+    ProtobufUtil.writeDelimitedToFile(issues, file);
   }
 }
@@ -27,7 +27,20 @@ import java.io.File;
 public class FileStructure {
 
   public static enum Domain {
-    ISSUES("issues-"), COMPONENT("component-");
+    /**
+     * Legacy layout of issues: a single {@link org.sonar.batch.protocol.output.BatchReport.Issues} message,
+     * fully loaded in memory when read. Replaced by {@link #DELIMITED_ISSUES} but still supported by
+     * {@link org.sonar.batch.protocol.output.BatchOutputReader}.
+     */
+    ISSUES("issues-"),
+
+    /**
+     * Sequence of length-delimited {@link org.sonar.batch.protocol.output.BatchReport.Issue} messages,
+     * read one at a time.
+     */
+    DELIMITED_ISSUES("delimited-issues-"),
+
+    COMPONENT("component-");
 
     private final String filePrefix;
 
@@ -36,6 +49,14 @@ public class FileStructure {
     }
   }
 
+  /**
+   * Name of the file containing all the entries of the report when it is packed by
+   * {@link ReportContainer#pack(java.io.File, java.io.File)}
+   */
+  public static final String CONTAINER_FILENAME = "report.container";
+
+  private static final String METADATA_FILENAME = "metadata.pb";
+
   private final File dir;
 
   FileStructure(File dir) {
@@ -46,11 +67,23 @@ public class FileStructure {
   }
 
   public File metadataFile() {
-    return new File(dir, "metadata.pb");
+    return new File(dir, METADATA_FILENAME);
   }
 
   public File fileFor(Domain domain, int componentRef) {
-    return new File(dir, domain.filePrefix + componentRef + ".pb");
+    return new File(dir, entryNameFor(domain, componentRef));
+  }
+
+  public File containerFile() {
+    return new File(dir, CONTAINER_FILENAME);
+  }
+
+  static String metadataEntryName() {
+    return METADATA_FILENAME;
+  }
+
+  static String entryNameFor(Domain domain, int componentRef) {
+    return domain.filePrefix + componentRef + ".pb";
   }
 
 }
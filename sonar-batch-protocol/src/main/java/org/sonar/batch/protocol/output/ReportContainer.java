@@ -0,0 +1,357 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.protocol.output;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import org.apache.commons.io.IOUtils;
+import org.sonar.batch.protocol.CloseableIterator;
+import org.sonar.batch.protocol.ProtobufUtil;
+
+import javax.annotation.CheckForNull;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Single-file container of the entries of an analysis report (see {@link FileStructure}). Entries are read
+ * on demand through positional reads of the file, without unpacking the thousands of small files of the report.
+ * An entry is streamed through a small buffer, so it is never fully loaded in memory. The file is not
+ * memory-mapped, so it can be deleted as soon as the container is closed, even on Windows.
+ * <p/>
+ * Layout is :
+ * <pre>
+ *   [entry 1 bytes]...[entry N bytes]
+ *   [int N][N x (UTF entry name, long offset, int length)]   &lt;- index
+ *   [long offset of index][int magic number]                  &lt;- footer
+ * </pre>
+ * @since 5.1
+ */
+public class ReportContainer implements Closeable {
+
+  static final int MAGIC_NUMBER = 0x534F4E52;
+  private static final int FOOTER_SIZE = 12;
+  private static final int READ_BUFFER_SIZE = 8192;
+
+  private final File file;
+  private final RandomAccessFile randomAccessFile;
+  private final Map<String, Entry> entries;
+
+  private ReportContainer(File file, RandomAccessFile randomAccessFile, Map<String, Entry> entries) {
+    this.file = file;
+    this.randomAccessFile = randomAccessFile;
+    this.entries = entries;
+  }
+
+  /**
+   * Copies the files of the report directory into a single container file
+   */
+  public static void pack(File reportDir, File toFile) {
+    try (OutputStream out = new FileOutputStream(toFile, false)) {
+      pack(reportDir, out);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to pack analysis report " + reportDir + " into " + toFile, e);
+    }
+  }
+
+  /**
+   * Writes the container of the files of the report directory to a stream, for instance an entry of a zip file.
+   * The container is written sequentially, in a single pass. The stream is flushed but not closed.
+   */
+  public static void pack(File reportDir, OutputStream output) {
+    File[] files = reportDir.listFiles();
+    if (files == null) {
+      throw new IllegalStateException("Directory of analysis report does not exist: " + reportDir);
+    }
+    // sorted to get deterministic containers
+    Arrays.sort(files);
+    Map<String, Entry> index = new HashMap<>();
+    try {
+      DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+      long indexOffset = 0L;
+      for (File entryFile : files) {
+        if (entryFile.isFile()) {
+          long length;
+          try (InputStream input = new FileInputStream(entryFile)) {
+            length = IOUtils.copyLarge(input, out);
+          }
+          index.put(entryFile.getName(), new Entry(indexOffset, (int) length));
+          indexOffset += length;
+        }
+      }
+      if (indexOffset > Integer.MAX_VALUE) {
+        // offsets are limited to 2Gb
+        throw new IllegalStateException("Analysis report is too big to be packed: " + reportDir);
+      }
+      out.writeInt(index.size());
+      for (Map.Entry<String, Entry> entry : index.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue().offset);
+        out.writeInt(entry.getValue().length);
+      }
+      out.writeLong(indexOffset);
+      out.writeInt(MAGIC_NUMBER);
+      out.flush();
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to pack analysis report " + reportDir, e);
+    }
+  }
+
+  /**
+   * Opens the container file and loads its index. The file is kept open until {@link #close()}.
+   */
+  public static ReportContainer open(File file) {
+    RandomAccessFile randomAccessFile = null;
+    boolean opened = false;
+    try {
+      randomAccessFile = new RandomAccessFile(file, "r");
+      FileChannel channel = randomAccessFile.getChannel();
+      long size = channel.size();
+      if (size < FOOTER_SIZE || size > Integer.MAX_VALUE) {
+        throw new IllegalStateException("Invalid size of analysis report container: " + file);
+      }
+      ReportContainer container = new ReportContainer(file, randomAccessFile, readIndex(file, channel, (int) size));
+      opened = true;
+      return container;
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to read analysis report container: " + file, e);
+    } finally {
+      if (!opened) {
+        IOUtils.closeQuietly(randomAccessFile);
+      }
+    }
+  }
+
+  private static Map<String, Entry> readIndex(File file, FileChannel channel, int size) throws IOException {
+    int footerPosition = size - FOOTER_SIZE;
+    ByteBuffer footer = read(channel, footerPosition, FOOTER_SIZE);
+    long indexOffset = footer.getLong(0);
+    if (footer.getInt(8) != MAGIC_NUMBER || indexOffset < 0 || indexOffset > footerPosition) {
+      throw new IllegalStateException("File is not an analysis report container: " + file);
+    }
+    ByteBuffer index = read(channel, indexOffset, footerPosition - (int) indexOffset);
+    try {
+      int count = index.getInt();
+      Map<String, Entry> entries = new HashMap<>(count);
+      for (int i = 0; i < count; i++) {
+        String name = readUTF(index);
+        long offset = index.getLong();
+        int length = index.getInt();
+        if (offset < 0 || offset + length > indexOffset) {
+          throw new IllegalStateException(String.format("Invalid entry '%s' in analysis report container: %s", name, file));
+        }
+        entries.put(name, new Entry(offset, length));
+      }
+      return entries;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalStateException("Corrupted index of analysis report container: " + file, e);
+    }
+  }
+
+  /**
+   * Reads {@code length} bytes at the given position. Positional reads do not change the position of
+   * the channel, so they can be executed concurrently.
+   */
+  private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of file");
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Reads a string written by {@link java.io.DataOutput#writeUTF(String)}. Entry names are ASCII, so
+   * UTF-8 decoding is equivalent to modified UTF-8.
+   */
+  private static String readUTF(ByteBuffer buffer) {
+    int length = buffer.getShort() & 0xFFFF;
+    byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  public File getFile() {
+    return file;
+  }
+
+  public Set<String> entryNames() {
+    return entries.keySet();
+  }
+
+  public boolean hasEntry(String name) {
+    return entries.containsKey(name);
+  }
+
+  /**
+   * @return null if the entry does not exist
+   */
+  @CheckForNull
+  public <T extends Message> T readMessage(String name, Parser<T> parser) {
+    InputStream entry = openEntry(name);
+    if (entry == null) {
+      return null;
+    }
+    try {
+      return parser.parseFrom(entry);
+    } catch (InvalidProtocolBufferException e) {
+      throw new IllegalStateException(String.format("Failed to read entry '%s' of %s", name, file), e);
+    }
+  }
+
+  /**
+   * Lazily reads an entry of length-delimited messages. Only one message is loaded in memory at a time.
+   * Returns an empty iterator if the entry does not exist.
+   */
+  public <T extends Message> CloseableIterator<T> readDelimitedMessages(String name, Parser<T> parser) {
+    InputStream entry = openEntry(name);
+    if (entry == null) {
+      return CloseableIterator.emptyCloseableIterator();
+    }
+    return ProtobufUtil.readDelimitedStream(entry, parser);
+  }
+
+  /**
+   * Releases the file, which can then be deleted. Entries can not be read anymore.
+   */
+  @Override
+  public void close() {
+    IOUtils.closeQuietly(randomAccessFile);
+  }
+
+  /**
+   * Stream of the bytes of an entry. Closing it is not required as it does not hold any resource.
+   */
+  @CheckForNull
+  private InputStream openEntry(String name) {
+    Entry entry = entries.get(name);
+    if (entry == null) {
+      return null;
+    }
+    FileChannel channel = randomAccessFile.getChannel();
+    if (!channel.isOpen()) {
+      throw new IllegalStateException("Analysis report container is closed: " + file);
+    }
+    return new EntryInputStream(channel, entry);
+  }
+
+  private static class Entry {
+    private final long offset;
+    private final int length;
+
+    Entry(long offset, int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+  }
+
+  /**
+   * Reads a range of the file through positional reads, so that several entries can be read concurrently.
+   * At most {@link #READ_BUFFER_SIZE} bytes are loaded in memory.
+   */
+  private static class EntryInputStream extends InputStream {
+    private final FileChannel channel;
+    private final long end;
+    private final ByteBuffer buffer;
+    private long position;
+
+    EntryInputStream(FileChannel channel, Entry entry) {
+      this.channel = channel;
+      this.position = entry.offset;
+      this.end = entry.offset + entry.length;
+      this.buffer = ByteBuffer.allocate(Math.max(1, Math.min(READ_BUFFER_SIZE, entry.length)));
+      this.buffer.limit(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!buffer.hasRemaining() && !fill()) {
+        return -1;
+      }
+      return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!buffer.hasRemaining() && !fill()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.remaining());
+      buffer.get(bytes, off, count);
+      return count;
+    }
+
+    @Override
+    public long skip(long n) {
+      long skipped = Math.min(Math.max(0L, n), buffer.remaining() + end - position);
+      if (skipped <= buffer.remaining()) {
+        buffer.position(buffer.position() + (int) skipped);
+      } else {
+        position += skipped - buffer.remaining();
+        buffer.limit(0);
+      }
+      return skipped;
+    }
+
+    @Override
+    public int available() {
+      return (int) Math.min(Integer.MAX_VALUE, buffer.remaining() + end - position);
+    }
+
+    private boolean fill() throws IOException {
+      if (position >= end) {
+        return false;
+      }
+      buffer.clear();
+      buffer.limit((int) Math.min(buffer.capacity(), end - position));
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new IOException("Unexpected end of file");
+        }
+      }
+      buffer.flip();
+      position += buffer.limit();
+      return true;
+    }
+  }
+}
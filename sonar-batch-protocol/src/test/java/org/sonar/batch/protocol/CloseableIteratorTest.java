@@ -0,0 +1,117 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.protocol;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class CloseableIteratorTest {
+
+  @Test
+  public void close_at_end_of_traversal() {
+    SimpleCloseableIterator it = new SimpleCloseableIterator("a", "b");
+    assertThat(it.next()).isEqualTo("a");
+    assertThat(it.closeCalls).isEqualTo(0);
+    assertThat(it.next()).isEqualTo("b");
+    assertThat(it.hasNext()).isFalse();
+    assertThat(it.closeCalls).isEqualTo(1);
+
+    it.close();
+    assertThat(it.closeCalls).isEqualTo(1);
+    try {
+      it.next();
+      fail();
+    } catch (NoSuchElementException expected) {
+      // ok
+    }
+  }
+
+  @Test
+  public void close_before_end_of_traversal() {
+    SimpleCloseableIterator it = new SimpleCloseableIterator("a", "b");
+    try (SimpleCloseableIterator closeable = it) {
+      assertThat(closeable.next()).isEqualTo("a");
+    }
+    assertThat(it.closeCalls).isEqualTo(1);
+    assertThat(it.hasNext()).isFalse();
+  }
+
+  @Test
+  public void close_if_failure() {
+    CloseableIterator<String> it = new CloseableIterator<String>() {
+      @Override
+      protected String doNext() {
+        throw new IllegalStateException("expected failure");
+      }
+
+      @Override
+      protected void doClose() {
+        // nothing to release
+      }
+    };
+    try {
+      it.hasNext();
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("expected failure");
+    }
+    assertThat(it.hasNext()).isFalse();
+  }
+
+  @Test
+  public void remove_is_not_supported() {
+    try {
+      CloseableIterator.from(Arrays.asList("a").iterator()).remove();
+      fail();
+    } catch (UnsupportedOperationException expected) {
+      // ok
+    }
+  }
+
+  @Test
+  public void empty() {
+    assertThat(CloseableIterator.<String>emptyCloseableIterator().hasNext()).isFalse();
+  }
+
+  private static class SimpleCloseableIterator extends CloseableIterator<String> {
+    private final Iterator<String> it;
+    private int closeCalls = 0;
+
+    SimpleCloseableIterator(String... values) {
+      this.it = Arrays.asList(values).iterator();
+    }
+
+    @Override
+    protected String doNext() {
+      return it.hasNext() ? it.next() : null;
+    }
+
+    @Override
+    protected void doClose() {
+      closeCalls++;
+    }
+  }
+}
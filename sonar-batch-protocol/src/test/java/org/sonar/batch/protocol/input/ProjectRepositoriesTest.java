@@ -102,4 +102,48 @@ public class ProjectRepositoriesTest {
 
     assertThat(ref.lastAnalysisDate()).isEqualTo(new SimpleDateFormat("dd/MM/yyyy").parse("31/10/2014"));
   }
+
+  @Test
+  public void protobuf_encoding_keeps_all_data() throws Exception {
+    ProjectRepositories ref = new ProjectRepositories();
+    ref.addQProfile(new QProfile("squid-java", "Java", "java", new SimpleDateFormat("dd/MM/yyyy").parse("14/03/1984")));
+    HashMap<String, String> settings = new HashMap<String, String>();
+    settings.put("prop1", "value1");
+    settings.put("prop2", "value2");
+    ref.addSettings("foo", settings);
+    ActiveRule activeRule = new ActiveRule("repo", "rule", "templateRule", "Rule", "MAJOR", "rule", "java");
+    activeRule.addParam("param1", "value1");
+    ref.addActiveRule(activeRule);
+    ref.addActiveRule(new ActiveRule("manual", "rule2", null, "Manual Rule", null, null, null));
+    ref.setLastAnalysisDate(new SimpleDateFormat("dd/MM/yyyy").parse("31/10/2014"));
+    ref.setTimestamp(10);
+    ref.addFileData("foo", "src/main/java/Foo.java", new FileData("xyz", true, "1=12345,2=3456", "1=345,2=345", "1=henryju,2=gaudin"));
+    ref.addFileData("foo", "src/main/java/Foo2.java", new FileData(null, false, null, null, null));
+
+    ProjectRepositories decoded = ProjectRepositories.fromProtobuf(ref.toProtobuf());
+
+    JSONAssert.assertEquals(ref.toJson(), decoded.toJson(), true);
+    assertThat(decoded.fileData("foo", "src/main/java/Foo2.java").hash()).isNull();
+  }
+
+  @Test
+  public void protobuf_encoding_does_not_depend_on_insertion_order() {
+    ProjectRepositories ref1 = new ProjectRepositories();
+    ProjectRepositories ref2 = new ProjectRepositories();
+    for (int i = 0; i < 20; i++) {
+      ref1.addFileData("foo", "src/File" + i + ".java", new FileData("hash" + i, false, null, null, null));
+      ref2.addFileData("foo", "src/File" + (19 - i) + ".java", new FileData("hash" + (19 - i), false, null, null, null));
+    }
+
+    assertThat(ref1.toProtobuf()).isEqualTo(ref2.toProtobuf());
+  }
+
+  @Test
+  public void empty_protobuf() {
+    ProjectRepositories ref = ProjectRepositories.fromProtobuf(new ProjectRepositories().toProtobuf());
+
+    assertThat(ref.qProfiles()).isEmpty();
+    assertThat(ref.activeRules()).isEmpty();
+    assertThat(ref.lastAnalysisDate()).isNull();
+  }
 }
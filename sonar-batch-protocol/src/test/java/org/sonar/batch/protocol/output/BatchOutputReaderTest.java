@@ -22,11 +22,16 @@ package org.sonar.batch.protocol.output;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.sonar.batch.protocol.CloseableIterator;
+import org.sonar.batch.protocol.ProtobufUtil;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 
 public class BatchOutputReaderTest {
 
@@ -70,6 +75,77 @@ public class BatchOutputReaderTest {
     writer.writeComponentIssues(1, Arrays.asList(issue));
   }
 
+  @Test
+  public void stream_issues() throws Exception {
+    File dir = temp.newFolder();
+    BatchOutputWriter writer = new BatchOutputWriter(dir);
+    List<BatchReport.Issue> issues = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      issues.add(BatchReport.Issue.newBuilder().setUuid("ISSUE_" + i).setLine(i).build());
+    }
+    writer.writeComponentIssues(1, issues);
+
+    assertThat(new BatchOutputReader(dir).readComponentIssues(1)).containsExactlyElementsOf(issues);
+  }
+
+  @Test
+  public void close_issues_before_end_of_stream() throws Exception {
+    File dir = temp.newFolder();
+    BatchOutputWriter writer = new BatchOutputWriter(dir);
+    BatchReport.Issue issue1 = BatchReport.Issue.newBuilder().setUuid("ISSUE_A").build();
+    BatchReport.Issue issue2 = BatchReport.Issue.newBuilder().setUuid("ISSUE_B").build();
+    writer.writeComponentIssues(1, Arrays.asList(issue1, issue2));
+
+    try (CloseableIterator<BatchReport.Issue> it = new BatchOutputReader(dir).readComponentIssues(1)) {
+      assertThat(it.next()).isEqualTo(issue1);
+      it.close();
+      assertThat(it.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  public void read_legacy_issues_file() throws Exception {
+    File dir = temp.newFolder();
+    BatchOutputWriter writer = new BatchOutputWriter(dir);
+    BatchReport.Issues issues = BatchReport.Issues.newBuilder()
+      .setComponentRef(1)
+      .addList(BatchReport.Issue.newBuilder().setUuid("ISSUE_A"))
+      .addList(BatchReport.Issue.newBuilder().setUuid("ISSUE_B"))
+      .build();
+    ProtobufUtil.writeToFile(issues, writer.getFileStructure().fileFor(FileStructure.Domain.ISSUES, 1));
+
+    assertThat(new BatchOutputReader(dir).readComponentIssues(1)).extracting("uuid").containsExactly("ISSUE_A", "ISSUE_B");
+  }
+
+  @Test
+  public void read_packed_report() throws Exception {
+    File dir = temp.newFolder();
+    initFiles(dir);
+    File packedDir = temp.newFolder();
+    ReportContainer.pack(dir, new File(packedDir, FileStructure.CONTAINER_FILENAME));
+
+    BatchOutputReader reader = new BatchOutputReader(packedDir);
+    assertThat(reader.readMetadata().getAnalysisDate()).isEqualTo(15000000L);
+    assertThat(reader.readComponentIssues(1)).extracting("uuid").containsExactly("ISSUE_A");
+    assertThat(reader.readComponentIssues(200)).isEmpty();
+    assertThat(reader.readComponent(1).getUuid()).isEqualTo("UUID_A");
+    assertThat(reader.readComponent(200)).isNull();
+  }
+
+  @Test
+  public void fail_if_packed_report_has_no_metadata() throws Exception {
+    File packedDir = temp.newFolder();
+    File containerFile = new File(packedDir, FileStructure.CONTAINER_FILENAME);
+    ReportContainer.pack(temp.newFolder(), containerFile);
+
+    try {
+      new BatchOutputReader(packedDir).readMetadata();
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Metadata is missing in analysis report: " + containerFile);
+    }
+  }
+
   @Test
   public void readMetadata() throws Exception {
 
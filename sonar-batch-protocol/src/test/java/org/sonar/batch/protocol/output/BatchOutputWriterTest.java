@@ -99,7 +99,7 @@ public class BatchOutputWriterTest {
     BatchOutputWriter writer = new BatchOutputWriter(dir);
 
     // no data yet
-    assertThat(writer.hasComponentData(FileStructure.Domain.ISSUES, 1)).isFalse();
+    assertThat(writer.hasComponentData(FileStructure.Domain.DELIMITED_ISSUES, 1)).isFalse();
 
     // write data
     BatchReport.Issue issue = BatchReport.Issue.newBuilder()
@@ -108,13 +108,16 @@ public class BatchOutputWriterTest {
       .setMsg("the message")
       .build();
 
-    writer.writeComponentIssues(1, Arrays.asList(issue));
+    BatchReport.Issue otherIssue = BatchReport.Issue.newBuilder()
+      .setUuid("ISSUE_B")
+      .build();
+
+    writer.writeComponentIssues(1, Arrays.asList(issue, otherIssue));
 
-    assertThat(writer.hasComponentData(FileStructure.Domain.ISSUES, 1)).isTrue();
-    File file = writer.getFileStructure().fileFor(FileStructure.Domain.ISSUES, 1);
+    assertThat(writer.hasComponentData(FileStructure.Domain.DELIMITED_ISSUES, 1)).isTrue();
+    assertThat(writer.hasComponentData(FileStructure.Domain.ISSUES, 1)).isFalse();
+    File file = writer.getFileStructure().fileFor(FileStructure.Domain.DELIMITED_ISSUES, 1);
     assertThat(file).exists().isFile();
-    BatchReport.Issues read = ProtobufUtil.readFile(file, BatchReport.Issues.PARSER);
-    assertThat(read.getComponentRef()).isEqualTo(1);
-    assertThat(read.getListCount()).isEqualTo(1);
+    assertThat(ProtobufUtil.readDelimitedFile(file, BatchReport.Issue.PARSER)).containsExactly(issue, otherIssue);
   }
 }
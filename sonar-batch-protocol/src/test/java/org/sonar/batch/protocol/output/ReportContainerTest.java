@@ -0,0 +1,161 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.protocol.output;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.batch.protocol.ProtobufUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class ReportContainerTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void pack_and_read_entries() throws Exception {
+    File dir = temp.newFolder();
+    BatchReport.Component component = BatchReport.Component.newBuilder().setRef(1).setUuid("UUID_A").build();
+    ProtobufUtil.writeToFile(component, new File(dir, "component-1.pb"));
+    BatchReport.Issue issue1 = BatchReport.Issue.newBuilder().setUuid("ISSUE_A").build();
+    BatchReport.Issue issue2 = BatchReport.Issue.newBuilder().setUuid("ISSUE_B").setLine(3).build();
+    ProtobufUtil.writeDelimitedToFile(Arrays.asList(issue1, issue2), new File(dir, "delimited-issues-1.pb"));
+    FileUtils.touch(new File(dir, "empty.pb"));
+
+    File file = temp.newFile();
+    ReportContainer.pack(dir, file);
+    ReportContainer container = ReportContainer.open(file);
+
+    assertThat(container.getFile()).isEqualTo(file);
+    assertThat(container.entryNames()).containsOnly("component-1.pb", "delimited-issues-1.pb", "empty.pb");
+    assertThat(container.hasEntry("component-1.pb")).isTrue();
+    assertThat(container.hasEntry("component-2.pb")).isFalse();
+    assertThat(container.readMessage("component-1.pb", BatchReport.Component.PARSER)).isEqualTo(component);
+    assertThat(container.readMessage("component-2.pb", BatchReport.Component.PARSER)).isNull();
+    assertThat(container.readMessage("empty.pb", BatchReport.Component.PARSER)).isEqualTo(BatchReport.Component.getDefaultInstance());
+
+    assertThat(container.readDelimitedMessages("delimited-issues-1.pb", BatchReport.Issue.PARSER)).containsExactly(issue1, issue2);
+    assertThat(container.readDelimitedMessages("delimited-issues-2.pb", BatchReport.Issue.PARSER)).isEmpty();
+  }
+
+  @Test
+  public void stream_entries_bigger_than_read_buffer() throws Exception {
+    File dir = temp.newFolder();
+    List<BatchReport.Issue> issues = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      issues.add(BatchReport.Issue.newBuilder().setUuid("ISSUE_" + i).setLine(i).setMsg("message of issue " + i).build());
+    }
+    ProtobufUtil.writeDelimitedToFile(issues, new File(dir, "delimited-issues-1.pb"));
+    BatchReport.Issues legacyIssues = BatchReport.Issues.newBuilder().setComponentRef(2).addAllList(issues).build();
+    ProtobufUtil.writeToFile(legacyIssues, new File(dir, "issues-2.pb"));
+
+    File file = temp.newFile();
+    ReportContainer.pack(dir, file);
+    ReportContainer container = ReportContainer.open(file);
+
+    List<BatchReport.Issue> readIssues = new ArrayList<>();
+    Iterator<BatchReport.Issue> it = container.readDelimitedMessages("delimited-issues-1.pb", BatchReport.Issue.PARSER);
+    while (it.hasNext()) {
+      readIssues.add(it.next());
+    }
+    assertThat(readIssues).isEqualTo(issues);
+    assertThat(container.readMessage("issues-2.pb", BatchReport.Issues.PARSER)).isEqualTo(legacyIssues);
+  }
+
+  @Test
+  public void pack_to_stream() throws Exception {
+    File dir = temp.newFolder();
+    BatchReport.Component component = BatchReport.Component.newBuilder().setRef(1).setUuid("UUID_A").build();
+    ProtobufUtil.writeToFile(component, new File(dir, "component-1.pb"));
+
+    File file = temp.newFile();
+    try (OutputStream output = new FileOutputStream(file)) {
+      ReportContainer.pack(dir, output);
+    }
+
+    assertThat(ReportContainer.open(file).readMessage("component-1.pb", BatchReport.Component.PARSER)).isEqualTo(component);
+  }
+
+  @Test
+  public void release_file_on_close() throws Exception {
+    File dir = temp.newFolder();
+    ProtobufUtil.writeToFile(BatchReport.Component.newBuilder().setRef(1).build(), new File(dir, "component-1.pb"));
+    File file = temp.newFile();
+    ReportContainer.pack(dir, file);
+    ReportContainer container = ReportContainer.open(file);
+    assertThat(container.readMessage("component-1.pb", BatchReport.Component.PARSER).getRef()).isEqualTo(1);
+
+    container.close();
+
+    // the file is not locked anymore
+    assertThat(file.delete()).isTrue();
+    try {
+      container.readMessage("component-1.pb", BatchReport.Component.PARSER);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Analysis report container is closed: " + file);
+    }
+  }
+
+  @Test
+  public void pack_empty_dir() throws Exception {
+    File file = temp.newFile();
+    ReportContainer.pack(temp.newFolder(), file);
+
+    assertThat(ReportContainer.open(file).entryNames()).isEmpty();
+  }
+
+  @Test
+  public void fail_to_open_file_which_is_not_a_container() throws Exception {
+    File file = temp.newFile();
+    FileUtils.write(file, "this is not a report container");
+
+    try {
+      ReportContainer.open(file);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("File is not an analysis report container: " + file);
+    }
+  }
+
+  @Test
+  public void fail_to_open_too_small_file() throws Exception {
+    File file = temp.newFile();
+
+    try {
+      ReportContainer.open(file);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).hasMessage("Invalid size of analysis report container: " + file);
+    }
+  }
+}
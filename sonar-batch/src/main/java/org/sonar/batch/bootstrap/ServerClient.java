@@ -45,7 +45,9 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Replace the deprecated org.sonar.batch.ServerMetadata
@@ -111,6 +113,14 @@ public class ServerClient implements BatchComponent {
   }
 
   public InputSupplier<InputStream> doRequest(String pathStartingWithSlash, String requestMethod, @Nullable Integer timeoutMillis) {
+    return doRequest(pathStartingWithSlash, requestMethod, timeoutMillis, Collections.<String, String>emptyMap());
+  }
+
+  /**
+   * Sends additional headers. On conditional requests, for example with the header If-None-Match, the response
+   * 304 Not Modified raises {@link HttpDownloader.HttpException} when reading input.
+   */
+  public InputSupplier<InputStream> doRequest(String pathStartingWithSlash, String requestMethod, @Nullable Integer timeoutMillis, Map<String, String> headers) {
     Preconditions.checkArgument(pathStartingWithSlash.startsWith("/"), "Path must start with slash /");
     String path = StringEscapeUtils.escapeHtml(pathStartingWithSlash);
 
@@ -118,9 +128,9 @@ public class ServerClient implements BatchComponent {
     try {
       InputSupplier<InputStream> inputSupplier;
       if (Strings.isNullOrEmpty(getLogin())) {
-        inputSupplier = downloader.newInputSupplier(uri, requestMethod, timeoutMillis);
+        inputSupplier = downloader.newInputSupplier(uri, requestMethod, null, null, timeoutMillis, headers);
       } else {
-        inputSupplier = downloader.newInputSupplier(uri, requestMethod, getLogin(), getPassword(), timeoutMillis);
+        inputSupplier = downloader.newInputSupplier(uri, requestMethod, getLogin(), getPassword(), timeoutMillis, headers);
       }
       return inputSupplier;
     } catch (Exception e) {
@@ -106,10 +106,14 @@ public class DefaultCpdEngine extends CpdEngine {
 
     // Create index
     SonarDuplicationsIndex index = indexFactory.create(project, languageKey);
-    populateIndex(languageKey, sourceFiles, mapping, index);
+    try {
+      populateIndex(languageKey, sourceFiles, mapping, index);
 
-    // Detect
-    runCpdAnalysis(languageKey, context, sourceFiles, index);
+      // Detect
+      runCpdAnalysis(languageKey, context, sourceFiles, index);
+    } finally {
+      index.close();
+    }
   }
 
   private void runCpdAnalysis(String languageKey, SensorContext context, List<InputFile> sourceFiles, SonarDuplicationsIndex index) {
@@ -124,7 +128,7 @@ public class DefaultCpdEngine extends CpdEngine {
 
         Iterable<CloneGroup> filtered;
         try {
-          List<CloneGroup> duplications = executorService.submit(new JavaCpdEngine.Task(index, fileBlocks)).get(TIMEOUT, TimeUnit.SECONDS);
+          List<CloneGroup> duplications = executorService.submit(new JavaCpdEngine.Task(index.forInputFile(inputFile), fileBlocks)).get(TIMEOUT, TimeUnit.SECONDS);
           filtered = Iterables.filter(duplications, minimumTokensPredicate);
         } catch (TimeoutException e) {
           filtered = null;
@@ -20,12 +20,17 @@
 
 package org.sonar.batch.cpd;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.CoreProperties;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
 import org.sonar.api.batch.fs.FilePredicates;
 import org.sonar.api.batch.fs.FileSystem;
 import org.sonar.api.batch.fs.InputFile;
@@ -62,18 +67,31 @@ import java.io.Reader;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
+@Properties({
+  @Property(
+    key = JavaCpdEngine.THREADS_PROPERTY,
+    defaultValue = "" + JavaCpdEngine.DEFAULT_THREADS,
+    name = "Number of threads detecting duplications of Java files",
+    type = PropertyType.INTEGER,
+    global = false, project = false)})
 public class JavaCpdEngine extends CpdEngine {
 
+  static final String THREADS_PROPERTY = "sonar.cpd.java.threads";
+  static final int DEFAULT_THREADS = 1;
+
   private static final Logger LOG = LoggerFactory.getLogger(JavaCpdEngine.class);
 
   private static final int BLOCK_SIZE = 10;
@@ -83,6 +101,8 @@ public class JavaCpdEngine extends CpdEngine {
    */
   private static final int TIMEOUT = 5 * 60;
 
+  private static final long POLL_PERIOD_MS = 500L;
+
   private static final int MAX_CLONE_GROUP_PER_FILE = 100;
   private static final int MAX_CLONE_PART_PER_GROUP = 100;
 
@@ -120,13 +140,16 @@ public class JavaCpdEngine extends CpdEngine {
     if (sourceFiles.isEmpty()) {
       return;
     }
-    SonarDuplicationsIndex index = createIndex(project, languageKey, sourceFiles);
-    detect(index, context, sourceFiles);
+    SonarDuplicationsIndex index = indexFactory.create(project, languageKey);
+    try {
+      populateIndex(index, sourceFiles);
+      detect(index, context, sourceFiles);
+    } finally {
+      index.close();
+    }
   }
 
-  private SonarDuplicationsIndex createIndex(@Nullable Project project, String language, Iterable<InputFile> sourceFiles) {
-    final SonarDuplicationsIndex index = indexFactory.create(project, language);
-
+  private void populateIndex(SonarDuplicationsIndex index, Iterable<InputFile> sourceFiles) {
     TokenChunker tokenChunker = JavaTokenProducer.build();
     StatementChunker statementChunker = JavaStatementBuilder.build();
     BlockChunker blockChunker = new BlockChunker(BLOCK_SIZE);
@@ -150,35 +173,103 @@ public class JavaCpdEngine extends CpdEngine {
       List<Block> blocks = blockChunker.chunk(resourceEffectiveKey, statements);
       index.insert(inputFile, blocks);
     }
+  }
 
-    return index;
+  @VisibleForTesting
+  static int numberOfThreads(Settings settings) {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    return threads;
   }
 
+  /**
+   * Files are processed concurrently. Results are saved by the current thread, in order of completion.
+   * Detection of a file is cancelled when it exceeds {@link #TIMEOUT}, without delaying the other files.
+   */
   private void detect(SonarDuplicationsIndex index, org.sonar.api.batch.sensor.SensorContext context, List<InputFile> sourceFiles) {
-    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads(settings), new ThreadFactoryBuilder()
+      .setNameFormat("CPD-%d")
+      .setDaemon(true)
+      .build());
     try {
+      CompletionService<List<CloneGroup>> completionService = new ExecutorCompletionService<>(executorService);
+      Map<Future<List<CloneGroup>>, FileTask> pendingTasks = new HashMap<>();
       for (InputFile inputFile : sourceFiles) {
-        LOG.debug("Detection of duplications for {}", inputFile);
-        String resourceEffectiveKey = ((DeprecatedDefaultInputFile) inputFile).key();
-
-        Collection<Block> fileBlocks = index.getByInputFile(inputFile, resourceEffectiveKey);
-
-        List<CloneGroup> clones;
-        try {
-          clones = executorService.submit(new Task(index, fileBlocks)).get(TIMEOUT, TimeUnit.SECONDS);
-        } catch (TimeoutException e) {
-          clones = null;
-          LOG.warn("Timeout during detection of duplications for " + inputFile, e);
-        } catch (InterruptedException e) {
-          throw new SonarException("Fail during detection of duplication for " + inputFile, e);
-        } catch (ExecutionException e) {
-          throw new SonarException("Fail during detection of duplication for " + inputFile, e);
-        }
+        FileTask task = new FileTask(index, inputFile);
+        pendingTasks.put(completionService.submit(task), task);
+      }
 
-        save(context, inputFile, clones);
+      while (!pendingTasks.isEmpty()) {
+        Future<List<CloneGroup>> future = completionService.poll(POLL_PERIOD_MS, TimeUnit.MILLISECONDS);
+        if (future != null) {
+          // cancelled tasks are already removed
+          FileTask task = pendingTasks.remove(future);
+          if (task != null) {
+            save(context, task.inputFile, getClones(future, task.inputFile));
+          }
+        }
+        cancelTimedOutTasks(pendingTasks);
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SonarException("Detection of duplications is interrupted", e);
     } finally {
-      executorService.shutdown();
+      executorService.shutdownNow();
+    }
+  }
+
+  private static List<CloneGroup> getClones(Future<List<CloneGroup>> future, InputFile inputFile) throws InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw new SonarException("Fail during detection of duplication for " + inputFile, e);
+    }
+  }
+
+  private static void cancelTimedOutTasks(Map<Future<List<CloneGroup>>, FileTask> pendingTasks) {
+    long now = System.currentTimeMillis();
+    Iterator<Map.Entry<Future<List<CloneGroup>>, FileTask>> it = pendingTasks.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<Future<List<CloneGroup>>, FileTask> entry = it.next();
+      if (entry.getValue().isTimedOut(now)) {
+        // the thread is interrupted, so that it becomes available for the other files
+        entry.getKey().cancel(true);
+        it.remove();
+        LOG.warn("Timeout during detection of duplications for " + entry.getValue().inputFile);
+      }
+    }
+  }
+
+  /**
+   * Detection of duplications of a single file
+   */
+  private static class FileTask implements Callable<List<CloneGroup>> {
+    private final SonarDuplicationsIndex index;
+    private final InputFile inputFile;
+    private volatile long startedAt = 0L;
+
+    private FileTask(SonarDuplicationsIndex index, InputFile inputFile) {
+      this.index = index;
+      this.inputFile = inputFile;
+    }
+
+    @Override
+    public List<CloneGroup> call() {
+      startedAt = System.currentTimeMillis();
+      LOG.debug("Detection of duplications for {}", inputFile);
+      String resourceEffectiveKey = ((DeprecatedDefaultInputFile) inputFile).key();
+      Collection<Block> fileBlocks = index.getByInputFile(inputFile, resourceEffectiveKey);
+      return SuffixTreeCloneDetectionAlgorithm.detect(index.forInputFile(inputFile), fileBlocks);
+    }
+
+    private boolean isTimedOut(long now) {
+      long start = startedAt;
+      return start > 0L && now - start > TimeUnit.SECONDS.toMillis(TIMEOUT);
     }
   }
 
@@ -21,6 +21,7 @@ package org.sonar.batch.cpd.decorators;
 
 import org.sonar.api.batch.AbstractSumChildrenDecorator;
 import org.sonar.api.batch.DependedUpon;
+import org.sonar.api.batch.ThreadSafe;
 import org.sonar.api.measures.CoreMetrics;
 import org.sonar.api.measures.Metric;
 import org.sonar.api.resources.Project;
@@ -30,6 +31,7 @@ import org.sonar.api.resources.ResourceUtils;
 import java.util.Arrays;
 import java.util.List;
 
+@ThreadSafe
 public class SumDuplicationsDecorator extends AbstractSumChildrenDecorator {
 
   @Override
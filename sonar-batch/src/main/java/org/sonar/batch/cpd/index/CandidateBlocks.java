@@ -0,0 +1,256 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.cpd.index;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.UnsignedLongs;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.sonar.core.duplication.DuplicationUnitDto;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+import org.sonar.duplications.index.AbstractCloneIndex;
+import org.sonar.duplications.index.DataUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Blocks of other projects that may be duplicated by the files of the current project, loaded
+ * with a single query. Hashes are stored as primitive longs and resources as indexes in a table of keys.
+ * Blocks are sorted by hash and partitioned by the highest bits of hash, so a lookup is a binary search
+ * in a small partition.
+ * <p/>
+ * Immutable once built, so it can be queried concurrently.
+ */
+class CandidateBlocks extends AbstractCloneIndex {
+
+  private static final int HASH_HEX_LENGTH = 16;
+  private static final int MAX_PARTITION_BITS = 16;
+
+  private final String[] resourceKeys;
+  private final long[] hashes;
+  private final int[] resourceIds;
+  private final int[] indexesInFile;
+  private final int[] startLines;
+  private final int[] endLines;
+  private final int size;
+  private final int partitionBits;
+  private final int[] partitionStarts;
+
+  /**
+   * Blocks whose hash is not a long, if any
+   */
+  private final ListMultimap<ByteArray, Block> otherBlocks;
+
+  private CandidateBlocks(Builder builder) {
+    this.resourceKeys = builder.resourceKeys.toArray(new String[builder.resourceKeys.size()]);
+    this.size = builder.size;
+    this.hashes = Arrays.copyOf(builder.hashes, size);
+    this.resourceIds = Arrays.copyOf(builder.resourceIds, size);
+    this.indexesInFile = Arrays.copyOf(builder.indexesInFile, size);
+    this.startLines = Arrays.copyOf(builder.startLines, size);
+    this.endLines = Arrays.copyOf(builder.endLines, size);
+    this.otherBlocks = builder.otherBlocks;
+
+    DataUtils.sort(new DataUtils.Sortable() {
+      @Override
+      public int size() {
+        return size;
+      }
+
+      @Override
+      public void swap(int i, int j) {
+        swapLong(hashes, i, j);
+        swapInt(resourceIds, i, j);
+        swapInt(indexesInFile, i, j);
+        swapInt(startLines, i, j);
+        swapInt(endLines, i, j);
+      }
+
+      @Override
+      public boolean isLess(int i, int j) {
+        return UnsignedLongs.compare(hashes[i], hashes[j]) < 0;
+      }
+    });
+
+    // about 16 blocks per partition
+    this.partitionBits = Math.max(1, Math.min(MAX_PARTITION_BITS, 32 - Integer.numberOfLeadingZeros(size >> 4)));
+    this.partitionStarts = new int[(1 << partitionBits) + 1];
+    int position = 0;
+    for (int partition = 0; partition < partitionStarts.length - 1; partition++) {
+      partitionStarts[partition] = position;
+      while (position < size && partitionOf(hashes[position]) == partition) {
+        position++;
+      }
+    }
+    partitionStarts[partitionStarts.length - 1] = size;
+  }
+
+  int size() {
+    return size + otherBlocks.size();
+  }
+
+  @Override
+  public Collection<Block> getBySequenceHash(ByteArray hash) {
+    byte[] bytes = hash.getBytes();
+    if (bytes.length != Longs.BYTES) {
+      return otherBlocks.get(hash);
+    }
+    long value = Longs.fromByteArray(bytes);
+    int partition = partitionOf(value);
+    int end = partitionStarts[partition + 1];
+    int position = lowerBound(value, partitionStarts[partition], end);
+    if (position == end || hashes[position] != value) {
+      return Collections.emptyList();
+    }
+    List<Block> result = Lists.newArrayList();
+    Block.Builder blockBuilder = Block.builder();
+    while (position < end && hashes[position] == value) {
+      result.add(blockBuilder
+        .setResourceId(resourceKeys[resourceIds[position]])
+        .setBlockHash(hash)
+        .setIndexInFile(indexesInFile[position])
+        .setLines(startLines[position], endLines[position])
+        .build());
+      position++;
+    }
+    return result;
+  }
+
+  @Override
+  public Collection<Block> getByResourceId(String resourceId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void insert(Block block) {
+    throw new UnsupportedOperationException();
+  }
+
+  private int partitionOf(long hash) {
+    return (int) (hash >>> (Long.SIZE - partitionBits));
+  }
+
+  private int lowerBound(long value, int from, int to) {
+    int lower = from;
+    int upper = to;
+    while (lower < upper) {
+      int mid = (lower + upper) >>> 1;
+      if (UnsignedLongs.compare(hashes[mid], value) < 0) {
+        lower = mid + 1;
+      } else {
+        upper = mid;
+      }
+    }
+    return lower;
+  }
+
+  private static void swapLong(long[] array, int i, int j) {
+    long tmp = array[i];
+    array[i] = array[j];
+    array[j] = tmp;
+  }
+
+  private static void swapInt(int[] array, int i, int j) {
+    int tmp = array[i];
+    array[i] = array[j];
+    array[j] = tmp;
+  }
+
+  static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Loads the {@link DuplicationUnitDto}s streamed by {@link org.sonar.core.duplication.DuplicationDao#selectCandidatesOfProject}
+   */
+  static class Builder implements ResultHandler {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final List<String> resourceKeys = Lists.newArrayList();
+    private final Map<String, Integer> resourceIdsByKey = Maps.newHashMap();
+    private final ListMultimap<ByteArray, Block> otherBlocks = ArrayListMultimap.create();
+    private long[] hashes = new long[INITIAL_CAPACITY];
+    private int[] resourceIds = new int[INITIAL_CAPACITY];
+    private int[] indexesInFile = new int[INITIAL_CAPACITY];
+    private int[] startLines = new int[INITIAL_CAPACITY];
+    private int[] endLines = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    private Builder() {
+    }
+
+    @Override
+    public void handleResult(ResultContext context) {
+      add((DuplicationUnitDto) context.getResultObject());
+    }
+
+    Builder add(DuplicationUnitDto unit) {
+      String hash = unit.getHash();
+      if (hash.length() != HASH_HEX_LENGTH) {
+        Block block = Block.builder()
+          .setResourceId(unit.getResourceKey())
+          .setBlockHash(new ByteArray(hash))
+          .setIndexInFile(unit.getIndexInFile())
+          .setLines(unit.getStartLine(), unit.getEndLine())
+          .build();
+        otherBlocks.put(block.getBlockHash(), block);
+        return this;
+      }
+      if (size == hashes.length) {
+        int capacity = size * 2;
+        hashes = Arrays.copyOf(hashes, capacity);
+        resourceIds = Arrays.copyOf(resourceIds, capacity);
+        indexesInFile = Arrays.copyOf(indexesInFile, capacity);
+        startLines = Arrays.copyOf(startLines, capacity);
+        endLines = Arrays.copyOf(endLines, capacity);
+      }
+      hashes[size] = UnsignedLongs.parseUnsignedLong(hash, 16);
+      resourceIds[size] = resourceId(unit.getResourceKey());
+      indexesInFile[size] = unit.getIndexInFile();
+      startLines[size] = unit.getStartLine();
+      endLines[size] = unit.getEndLine();
+      size++;
+      return this;
+    }
+
+    private int resourceId(String resourceKey) {
+      Integer id = resourceIdsByKey.get(resourceKey);
+      if (id == null) {
+        id = resourceKeys.size();
+        resourceKeys.add(resourceKey);
+        resourceIdsByKey.put(resourceKey, id);
+      }
+      return id;
+    }
+
+    CandidateBlocks build() {
+      return new CandidateBlocks(this);
+    }
+  }
+}
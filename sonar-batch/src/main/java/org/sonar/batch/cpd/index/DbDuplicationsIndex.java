@@ -20,7 +20,6 @@
 package org.sonar.batch.cpd.index;
 
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.DefaultInputFile;
 import org.sonar.api.database.DatabaseSession;
@@ -31,30 +30,40 @@ import org.sonar.core.duplication.DuplicationDao;
 import org.sonar.core.duplication.DuplicationUnitDto;
 import org.sonar.duplications.block.Block;
 import org.sonar.duplications.block.ByteArray;
+import org.sonar.duplications.index.CloneIndex;
+import org.sonar.duplications.index.MemoryCloneIndex;
 
 import javax.persistence.Query;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 public class DbDuplicationsIndex {
 
   private static final String RESOURCE_ID = "resourceId";
   private static final String LAST = "last";
 
-  private final Map<ByteArray, Collection<Block>> cache = Maps.newHashMap();
-
   private final int currentProjectSnapshotId;
   private final Integer lastSnapshotId;
   private final String languageKey;
   private final DuplicationDao dao;
   private final DatabaseSession session;
   private final ResourceCache resourceCache;
+  private final boolean bulkLoading;
+  private volatile CandidateBlocks bulkCandidates = null;
 
   public DbDuplicationsIndex(Project currentProject, DuplicationDao dao,
     String language, DatabaseSession session, ResourceCache resourceCache) {
+    this(currentProject, dao, language, session, resourceCache, false);
+  }
+
+  /**
+   * @param bulkLoading if true, the candidates of all the files are loaded by the first call to
+   *                    {@link #getCandidates(InputFile)}, with a single query. Else they are loaded file per file.
+   */
+  public DbDuplicationsIndex(Project currentProject, DuplicationDao dao,
+    String language, DatabaseSession session, ResourceCache resourceCache, boolean bulkLoading) {
+    this.bulkLoading = bulkLoading;
     this.dao = dao;
     this.session = session;
     this.resourceCache = resourceCache;
@@ -76,10 +85,17 @@ public class DbDuplicationsIndex {
     return resourceCache.get(((DefaultInputFile) inputFile).key()).snapshotId();
   }
 
-  public void prepareCache(InputFile inputFile) {
+  /**
+   * Blocks of other projects that may be duplicated by the given file, by hash. Can be called
+   * concurrently for different files. Blocks of all the files of the project must be inserted before.
+   */
+  public CloneIndex getCandidates(InputFile inputFile) {
+    if (bulkLoading) {
+      return bulkCandidates();
+    }
     int resourceSnapshotId = getSnapshotIdFor(inputFile);
     List<DuplicationUnitDto> units = dao.selectCandidates(resourceSnapshotId, lastSnapshotId, languageKey);
-    cache.clear();
+    CloneIndex candidates = new MemoryCloneIndex();
     // TODO Godin: maybe remove conversion of units to blocks?
     for (DuplicationUnitDto unit : units) {
       String hash = unit.getHash();
@@ -95,24 +111,25 @@ public class DbDuplicationsIndex {
         .setIndexInFile(indexInFile)
         .setLines(startLine, endLine)
         .build();
-
-      // Group blocks by hash
-      Collection<Block> sameHash = cache.get(block.getBlockHash());
-      if (sameHash == null) {
-        sameHash = Lists.newArrayList();
-        cache.put(block.getBlockHash(), sameHash);
-      }
-      sameHash.add(block);
+      candidates.insert(block);
     }
+    return candidates;
   }
 
-  public Collection<Block> getByHash(ByteArray hash) {
-    Collection<Block> result = cache.get(hash);
-    if (result != null) {
-      return result;
-    } else {
-      return Collections.emptyList();
+  private CandidateBlocks bulkCandidates() {
+    CandidateBlocks result = bulkCandidates;
+    if (result == null) {
+      synchronized (this) {
+        result = bulkCandidates;
+        if (result == null) {
+          CandidateBlocks.Builder builder = CandidateBlocks.builder();
+          dao.selectCandidatesOfProject(currentProjectSnapshotId, lastSnapshotId, languageKey, builder);
+          result = builder.build();
+          bulkCandidates = result;
+        }
+      }
     }
+    return result;
   }
 
   public void insert(InputFile inputFile, Collection<Block> blocks) {
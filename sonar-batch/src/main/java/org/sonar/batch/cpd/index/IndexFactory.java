@@ -25,17 +25,40 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.CoreProperties;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
 import org.sonar.api.config.Settings;
 import org.sonar.api.database.DatabaseSession;
 import org.sonar.api.resources.Project;
+import org.sonar.api.utils.TempFolder;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.index.ResourceCache;
 import org.sonar.core.duplication.DuplicationDao;
+import org.sonar.duplications.index.CloneIndex;
+import org.sonar.duplications.index.MappedCloneIndex;
+import org.sonar.duplications.index.PackedMemoryCloneIndex;
 
 import javax.annotation.Nullable;
 
+@Properties({
+  @Property(
+    key = IndexFactory.BULK_LOADING_PROPERTY,
+    defaultValue = "false",
+    name = "Load the cross-project duplication candidates of all files with a single query",
+    type = PropertyType.BOOLEAN,
+    global = false, project = false),
+  @Property(
+    key = IndexFactory.OFF_HEAP_PROPERTY,
+    defaultValue = "false",
+    name = "Store the blocks of the analyzed project in memory-mapped temporary files instead of heap",
+    type = PropertyType.BOOLEAN,
+    global = false, project = false)})
 public class IndexFactory implements BatchComponent {
 
+  static final String BULK_LOADING_PROPERTY = "sonar.cpd.cross_project.bulkLoading";
+  static final String OFF_HEAP_PROPERTY = "sonar.cpd.index.offHeap";
+
   private static final Logger LOG = LoggerFactory.getLogger(IndexFactory.class);
 
   private final Settings settings;
@@ -43,27 +66,42 @@ public class IndexFactory implements BatchComponent {
   private final DefaultAnalysisMode mode;
   private final DatabaseSession session;
   private final ResourceCache resourceCache;
+  private final TempFolder tempFolder;
 
-  public IndexFactory(DefaultAnalysisMode mode, Settings settings, @Nullable DuplicationDao dao, @Nullable DatabaseSession session, ResourceCache resourceCache) {
+  public IndexFactory(DefaultAnalysisMode mode, Settings settings, @Nullable DuplicationDao dao, @Nullable DatabaseSession session, ResourceCache resourceCache,
+    TempFolder tempFolder) {
     this.mode = mode;
     this.settings = settings;
     this.dao = dao;
     this.session = session;
     this.resourceCache = resourceCache;
+    this.tempFolder = tempFolder;
   }
 
   /**
    * Used by new sensor mode
    */
-  public IndexFactory(DefaultAnalysisMode mode, Settings settings, ResourceCache resourceCache) {
-    this(mode, settings, null, null, resourceCache);
+  public IndexFactory(DefaultAnalysisMode mode, Settings settings, ResourceCache resourceCache, TempFolder tempFolder) {
+    this(mode, settings, null, null, resourceCache, tempFolder);
   }
 
+  /**
+   * The returned index must be closed after detection of duplications
+   */
   public SonarDuplicationsIndex create(@Nullable Project project, String languageKey) {
+    CloneIndex mem = createMemIndex();
     if (verifyCrossProject(project, LOG) && dao != null && session != null) {
-      return new SonarDuplicationsIndex(new DbDuplicationsIndex(project, dao, languageKey, session, resourceCache));
+      return new SonarDuplicationsIndex(mem, new DbDuplicationsIndex(project, dao, languageKey, session, resourceCache,
+        settings.getBoolean(BULK_LOADING_PROPERTY)));
+    }
+    return new SonarDuplicationsIndex(mem);
+  }
+
+  private CloneIndex createMemIndex() {
+    if (settings.getBoolean(OFF_HEAP_PROPERTY)) {
+      return new MappedCloneIndex(tempFolder.newDir());
     }
-    return new SonarDuplicationsIndex();
+    return new PackedMemoryCloneIndex();
   }
 
   @VisibleForTesting
@@ -20,6 +20,7 @@
 package org.sonar.batch.cpd.index;
 
 import com.google.common.collect.Lists;
+import org.apache.commons.io.IOUtils;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.duplications.block.Block;
 import org.sonar.duplications.block.ByteArray;
@@ -27,19 +28,27 @@ import org.sonar.duplications.index.AbstractCloneIndex;
 import org.sonar.duplications.index.CloneIndex;
 import org.sonar.duplications.index.PackedMemoryCloneIndex;
 
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
 import java.util.Collection;
 import java.util.List;
 
 public class SonarDuplicationsIndex extends AbstractCloneIndex {
 
-  private final CloneIndex mem = new PackedMemoryCloneIndex();
+  private final CloneIndex mem;
   private final DbDuplicationsIndex db;
 
   public SonarDuplicationsIndex() {
-    this.db = null;
+    this(new PackedMemoryCloneIndex());
+  }
+
+  public SonarDuplicationsIndex(CloneIndex mem) {
+    this(mem, null);
   }
 
-  public SonarDuplicationsIndex(DbDuplicationsIndex db) {
+  public SonarDuplicationsIndex(CloneIndex mem, @Nullable DbDuplicationsIndex db) {
+    this.mem = mem;
     this.db = db;
   }
 
@@ -53,21 +62,26 @@ public class SonarDuplicationsIndex extends AbstractCloneIndex {
   }
 
   public Collection<Block> getByInputFile(InputFile inputFile, String resourceKey) {
-    if (db != null) {
-      db.prepareCache(inputFile);
-    }
     return mem.getByResourceId(resourceKey);
   }
 
-  @Override
-  public Collection<Block> getBySequenceHash(ByteArray hash) {
+  /**
+   * Index to be used to detect duplications of the given file. It includes the blocks of other projects
+   * on cross-project detection. Indices of different files can be used concurrently.
+   */
+  public CloneIndex forInputFile(InputFile inputFile) {
     if (db == null) {
-      return mem.getBySequenceHash(hash);
-    } else {
-      List<Block> result = Lists.newArrayList(mem.getBySequenceHash(hash));
-      result.addAll(db.getByHash(hash));
-      return result;
+      return this;
     }
+    return new CrossProjectIndex(db.getCandidates(inputFile));
+  }
+
+  /**
+   * Blocks of the current project only
+   */
+  @Override
+  public Collection<Block> getBySequenceHash(ByteArray hash) {
+    return mem.getBySequenceHash(hash);
   }
 
   @Override
@@ -80,4 +94,42 @@ public class SonarDuplicationsIndex extends AbstractCloneIndex {
     throw new UnsupportedOperationException();
   }
 
+  /**
+   * Releases the resources of the index of current project, for example the temporary files
+   * of {@link org.sonar.duplications.index.MappedCloneIndex}
+   */
+  public void close() {
+    if (mem instanceof Closeable) {
+      IOUtils.closeQuietly((Closeable) mem);
+    }
+  }
+
+  private class CrossProjectIndex extends AbstractCloneIndex {
+    private final CloneIndex candidates;
+
+    private CrossProjectIndex(CloneIndex candidates) {
+      this.candidates = candidates;
+    }
+
+    @Override
+    public Collection<Block> getBySequenceHash(ByteArray hash) {
+      Collection<Block> fromDb = candidates.getBySequenceHash(hash);
+      if (fromDb.isEmpty()) {
+        return mem.getBySequenceHash(hash);
+      }
+      List<Block> result = Lists.newArrayList(mem.getBySequenceHash(hash));
+      result.addAll(fromDb);
+      return result;
+    }
+
+    @Override
+    public Collection<Block> getByResourceId(String resourceId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void insert(Block block) {
+      throw new UnsupportedOperationException();
+    }
+  }
 }
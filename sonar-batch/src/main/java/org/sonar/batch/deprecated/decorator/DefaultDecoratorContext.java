@@ -47,9 +47,35 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 public class DefaultDecoratorContext implements DecoratorContext {
 
+  /**
+   * Executes the accesses to the index and to the caches. They are not thread-safe, and Persistit exchanges
+   * are bound to a thread, so they must all be executed by the same thread when contexts of different
+   * resources are used concurrently.
+   */
+  public interface SharedStateAccess {
+    <T> T execute(Callable<T> access);
+  }
+
+  /**
+   * Accesses are executed by the current thread
+   */
+  public static final SharedStateAccess CURRENT_THREAD_ACCESS = new SharedStateAccess() {
+    @Override
+    public <T> T execute(Callable<T> access) {
+      try {
+        return access.call();
+      } catch (RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  };
+
   private static final String SAVE_MEASURE_METHOD = "saveMeasure";
   private SonarIndex sonarIndex;
   private Resource resource;
@@ -62,11 +88,25 @@ public class DefaultDecoratorContext implements DecoratorContext {
   private MetricFinder metricFinder;
   private final DuplicationCache duplicationCache;
   private final CoverageExclusions coverageFilter;
+  private final SharedStateAccess sharedStateAccess;
 
   public DefaultDecoratorContext(Resource resource,
     SonarIndex index,
     List<DecoratorContext> childrenContexts,
     MeasureCache measureCache, MetricFinder metricFinder, DuplicationCache duplicationCache, CoverageExclusions coverageFilter) {
+    this(resource, index, childrenContexts, measureCache, metricFinder, duplicationCache, coverageFilter, CURRENT_THREAD_ACCESS);
+  }
+
+  /**
+   * @param sharedStateAccess executes the accesses to the index and to the caches, when contexts of different
+   *             resources are used concurrently. Measures of the context itself are not shared.
+   */
+  public DefaultDecoratorContext(Resource resource,
+    SonarIndex index,
+    List<DecoratorContext> childrenContexts,
+    MeasureCache measureCache, MetricFinder metricFinder, DuplicationCache duplicationCache, CoverageExclusions coverageFilter,
+    SharedStateAccess sharedStateAccess) {
+    this.sharedStateAccess = sharedStateAccess;
     this.sonarIndex = index;
     this.resource = resource;
     this.childrenContexts = childrenContexts;
@@ -77,24 +117,41 @@ public class DefaultDecoratorContext implements DecoratorContext {
   }
 
   public void init() {
-    Iterable<Measure> unfiltered = measureCache.byResource(resource);
-    for (Measure measure : unfiltered) {
-      measuresByMetric.put(measure.getMetricKey(), measure);
-    }
+    sharedStateAccess.execute(new Callable<Void>() {
+      @Override
+      public Void call() {
+        Iterable<Measure> unfiltered = measureCache.byResource(resource);
+        for (Measure measure : unfiltered) {
+          measuresByMetric.put(measure.getMetricKey(), measure);
+        }
+        return null;
+      }
+    });
   }
 
   public DefaultDecoratorContext end() {
     readOnly = true;
     childrenContexts = null;
-    for (Measure measure : measuresByMetric.values()) {
-      measureCache.put(resource, measure);
-    }
+    sharedStateAccess.execute(new Callable<Void>() {
+      @Override
+      public Void call() {
+        for (Measure measure : measuresByMetric.values()) {
+          measureCache.put(resource, measure);
+        }
+        return null;
+      }
+    });
     return this;
   }
 
   @Override
   public Project getProject() {
-    return sonarIndex.getProject();
+    return sharedStateAccess.execute(new Callable<Project>() {
+      @Override
+      public Project call() {
+        return sonarIndex.getProject();
+      }
+    });
   }
 
   @Override
@@ -125,8 +182,14 @@ public class DefaultDecoratorContext implements DecoratorContext {
     String metricKey = ((MeasuresFilters.MetricFilter<M>) filter).filterOnMetricKey();
     if (CoreMetrics.DUPLICATIONS_DATA_KEY.equals(metricKey)) {
       // Hack for SONAR-5765
-      Iterable<DefaultDuplication> group = duplicationCache.byComponent(resource.getEffectiveKey());
-      unfiltered = Arrays.asList(new Measure(CoreMetrics.DUPLICATIONS_DATA, DuplicationUtils.toXml(group)));
+      String xml = sharedStateAccess.execute(new Callable<String>() {
+        @Override
+        public String call() {
+          Iterable<DefaultDuplication> group = duplicationCache.byComponent(resource.getEffectiveKey());
+          return DuplicationUtils.toXml(group);
+        }
+      });
+      unfiltered = Arrays.asList(new Measure(CoreMetrics.DUPLICATIONS_DATA, xml));
     } else {
       // optimization
       unfiltered = measuresByMetric.get(metricKey);
@@ -168,12 +231,7 @@ public class DefaultDecoratorContext implements DecoratorContext {
   @Override
   public DecoratorContext saveMeasure(Measure measure) {
     checkReadOnly(SAVE_MEASURE_METHOD);
-    Metric metric = metricFinder.findByKey(measure.getMetricKey());
-    if (metric == null) {
-      throw new SonarException("Unknown metric: " + measure.getMetricKey());
-    }
-    measure.setMetric(metric);
-    if (coverageFilter.accept(resource, measure)) {
+    if (accept(measure)) {
       List<Measure> metricMeasures = measuresByMetric.get(measure.getMetricKey());
 
       boolean add = true;
@@ -194,6 +252,20 @@ public class DefaultDecoratorContext implements DecoratorContext {
     return this;
   }
 
+  private boolean accept(final Measure measure) {
+    return sharedStateAccess.execute(new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        Metric metric = metricFinder.findByKey(measure.getMetricKey());
+        if (metric == null) {
+          throw new SonarException("Unknown metric: " + measure.getMetricKey());
+        }
+        measure.setMetric(metric);
+        return coverageFilter.accept(resource, measure);
+      }
+    });
+  }
+
   @Override
   public DecoratorContext saveMeasure(Metric metric, Double value) {
     checkReadOnly(SAVE_MEASURE_METHOD);
@@ -202,47 +274,89 @@ public class DefaultDecoratorContext implements DecoratorContext {
   }
 
   @Override
-  public Dependency saveDependency(Dependency dependency) {
+  public Dependency saveDependency(final Dependency dependency) {
     checkReadOnly("addDependency");
-    return sonarIndex.addDependency(dependency);
+    return sharedStateAccess.execute(new Callable<Dependency>() {
+      @Override
+      public Dependency call() {
+        return sonarIndex.addDependency(dependency);
+      }
+    });
   }
 
   @Override
   public Set<Dependency> getDependencies() {
-    return sonarIndex.getDependencies();
+    return sharedStateAccess.execute(new Callable<Set<Dependency>>() {
+      @Override
+      public Set<Dependency> call() {
+        return sonarIndex.getDependencies();
+      }
+    });
   }
 
   @Override
   public Collection<Dependency> getIncomingDependencies() {
-    return sonarIndex.getIncomingEdges(resource);
+    return sharedStateAccess.execute(new Callable<Collection<Dependency>>() {
+      @Override
+      public Collection<Dependency> call() {
+        return sonarIndex.getIncomingEdges(resource);
+      }
+    });
   }
 
   @Override
   public Collection<Dependency> getOutgoingDependencies() {
-    return sonarIndex.getOutgoingEdges(resource);
+    return sharedStateAccess.execute(new Callable<Collection<Dependency>>() {
+      @Override
+      public Collection<Dependency> call() {
+        return sonarIndex.getOutgoingEdges(resource);
+      }
+    });
   }
 
   @Override
   public List<Event> getEvents() {
-    return sonarIndex.getEvents(resource);
+    return sharedStateAccess.execute(new Callable<List<Event>>() {
+      @Override
+      public List<Event> call() {
+        return sonarIndex.getEvents(resource);
+      }
+    });
   }
 
   @Override
-  public Event createEvent(String name, String description, String category, Date date) {
-    return sonarIndex.addEvent(resource, name, description, category, date);
+  public Event createEvent(final String name, final String description, final String category, final Date date) {
+    return sharedStateAccess.execute(new Callable<Event>() {
+      @Override
+      public Event call() {
+        return sonarIndex.addEvent(resource, name, description, category, date);
+      }
+    });
   }
 
   @Override
-  public void deleteEvent(Event event) {
-    sonarIndex.deleteEvent(event);
+  public void deleteEvent(final Event event) {
+    sharedStateAccess.execute(new Callable<Void>() {
+      @Override
+      public Void call() {
+        sonarIndex.deleteEvent(event);
+        return null;
+      }
+    });
   }
 
   @Override
-  public DefaultDecoratorContext saveViolation(Violation violation, boolean force) {
+  public DefaultDecoratorContext saveViolation(final Violation violation, final boolean force) {
     if (violation.getResource() == null) {
       violation.setResource(resource);
     }
-    sonarIndex.addViolation(violation, force);
+    sharedStateAccess.execute(new Callable<Void>() {
+      @Override
+      public Void call() {
+        sonarIndex.addViolation(violation, force);
+        return null;
+      }
+    });
     return this;
   }
 
@@ -0,0 +1,73 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.index;
+
+import javax.annotation.CheckForNull;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Storage of the entries of a {@link Cache}. Keys are arrays of objects, for example
+ * <code>{"europe", "france", "paris"}</code>. A prefix of key designates all the entries
+ * whose key starts with this prefix. The empty prefix designates all the entries.
+ * Entries are returned in the order of keys, as defined by Persistit.
+ *
+ * @see org.sonar.batch.index.Caches.Backend
+ */
+interface CacheBackend<V> {
+
+  void put(Object[] key, V value);
+
+  @CheckForNull
+  V get(Object[] key);
+
+  boolean containsKey(Object[] key);
+
+  /**
+   * Removes the entry of the given key, but not the entries of its sub-keys
+   */
+  boolean remove(Object[] key);
+
+  /**
+   * Removes all the entries whose key starts with the given prefix, including the entry of the prefix itself
+   */
+  void clear(Object[] prefix);
+
+  /**
+   * The distinct elements of keys that immediately follow the given prefix
+   */
+  Set<Object> keySet(Object[] prefix);
+
+  /**
+   * Lazy-loading values of the keys starting with the given prefix, excluding the prefix itself
+   */
+  Iterator<V> values(Object[] prefix);
+
+  /**
+   * @see #values(Object[])
+   */
+  Iterator<Cache.Entry<V>> entries(Object[] prefix);
+
+  /**
+   * Releases resources. The backend can't be used anymore.
+   */
+  void close();
+}
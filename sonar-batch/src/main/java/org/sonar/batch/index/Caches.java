@@ -20,6 +20,7 @@
 package org.sonar.batch.index;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.persistit.Exchange;
 import com.persistit.Persistit;
@@ -30,12 +31,18 @@ import com.persistit.encoding.ValueCoder;
 import com.persistit.exception.PersistitException;
 import com.persistit.logging.Slf4jAdapter;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang.StringUtils;
 import org.picocontainer.Startable;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.BatchComponent;
+import org.sonar.api.config.Settings;
 import org.sonar.api.utils.TempFolder;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
+import java.util.List;
+import java.util.Locale;
 import java.util.Properties;
 import java.util.Set;
 
@@ -46,14 +53,47 @@ import java.util.Set;
  */
 public class Caches implements BatchComponent, Startable {
 
+  /**
+   * Default backend of caches. It can be overridden for a given cache with the property
+   * <code>sonar.batch.cache.backend.&lt;cache name&gt;</code>.
+   */
+  static final String BACKEND_PROPERTY = "sonar.batch.cache.backend";
+
+  /**
+   * Storage of cache entries
+   */
+  public enum Backend {
+    /**
+     * Persistit B-tree, serialized values. Memory is bounded by the size of the buffer pool.
+     */
+    PERSISTIT,
+
+    /**
+     * Values are kept by reference on the heap. Fastest, but memory depends on the size of the cache.
+     */
+    HEAP,
+
+    /**
+     * Serialized values are stored in a memory-mapped file, keys are kept on the heap.
+     */
+    OFF_HEAP
+  }
+
   private final Set<String> cacheNames = Sets.newHashSet();
+  private final List<CacheBackend<?>> backends = Lists.newArrayList();
   private File tempDir;
   private Persistit persistit;
   private Volume volume;
   private final TempFolder tempFolder;
+  private final Settings settings;
 
   public Caches(TempFolder tempFolder) {
+    this(tempFolder, null);
+  }
+
+  public Caches(TempFolder tempFolder, @Nullable Settings settings) {
     this.tempFolder = tempFolder;
+    this.settings = settings;
     initPersistit();
   }
 
@@ -84,20 +124,54 @@ public class Caches implements BatchComponent, Startable {
     cm.registerValueCoder(clazz, coder);
   }
 
+  /**
+   * Creates a cache stored by the backend defined in settings, {@link Backend#PERSISTIT} by default
+   */
   public <V> Cache<V> createCache(String cacheName) {
+    return createCache(cacheName, backendOf(cacheName));
+  }
+
+  public <V> Cache<V> createCache(String cacheName, Backend backend) {
     Preconditions.checkState(volume != null && volume.isOpened(), "Caches are not initialized");
     Preconditions.checkState(!cacheNames.contains(cacheName), "Cache is already created: " + cacheName);
     try {
-      Exchange exchange = persistit.getExchange(volume, cacheName, true);
-      exchange.setMaximumValueSize(Value.MAXIMUM_SIZE);
-      Cache<V> cache = new Cache<V>(cacheName, exchange);
+      CacheBackend<V> cacheBackend = newBackend(cacheName, backend);
+      backends.add(cacheBackend);
       cacheNames.add(cacheName);
-      return cache;
+      return new Cache<V>(cacheBackend);
     } catch (Exception e) {
       throw new IllegalStateException("Fail to create cache: " + cacheName, e);
     }
   }
 
+  private <V> CacheBackend<V> newBackend(String cacheName, Backend backend) throws PersistitException {
+    switch (backend) {
+      case HEAP:
+        return new HeapCacheBackend<V>();
+      case OFF_HEAP:
+        return new OffHeapCacheBackend<V>(persistit, new File(tempDir, cacheName + ".offheap"));
+      default:
+        Exchange exchange = persistit.getExchange(volume, cacheName, true);
+        exchange.setMaximumValueSize(Value.MAXIMUM_SIZE);
+        return new PersistitCacheBackend<V>(cacheName, exchange);
+    }
+  }
+
+  Backend backendOf(String cacheName) {
+    String value = null;
+    if (settings != null) {
+      value = StringUtils.defaultIfBlank(settings.getString(BACKEND_PROPERTY + "." + cacheName), settings.getString(BACKEND_PROPERTY));
+    }
+    if (StringUtils.isBlank(value)) {
+      return Backend.PERSISTIT;
+    }
+    try {
+      return Backend.valueOf(value.trim().toUpperCase(Locale.ENGLISH).replace('-', '_'));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(String.format("Bad backend of cache %s: %s", cacheName, value), e);
+    }
+  }
+
   @Override
   public void start() {
     // already started in constructor
@@ -105,6 +179,10 @@ public class Caches implements BatchComponent, Startable {
 
   @Override
   public void stop() {
+    for (CacheBackend<?> backend : backends) {
+      backend.close();
+    }
+    backends.clear();
     if (persistit != null) {
       try {
         persistit.close(false);
@@ -0,0 +1,68 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.index;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+/**
+ * Values are kept by reference on the heap, without any serialization. They must not be
+ * modified once put in cache.
+ */
+class HeapCacheBackend<V> extends TreeCacheBackend<V> {
+
+  private static final Object NO_VALUE = new Object();
+
+  @Override
+  Node newNode() {
+    return new HeapNode();
+  }
+
+  @Override
+  boolean hasValue(Node node) {
+    return ((HeapNode) node).value != NO_VALUE;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  @CheckForNull
+  V readValue(Node node) {
+    return (V) ((HeapNode) node).value;
+  }
+
+  @Override
+  void writeValue(Node node, @Nullable V value) {
+    ((HeapNode) node).value = value;
+  }
+
+  @Override
+  void removeValue(Node node) {
+    ((HeapNode) node).value = NO_VALUE;
+  }
+
+  @Override
+  public void close() {
+    clear(new Object[0]);
+  }
+
+  private static class HeapNode extends Node {
+    private Object value = NO_VALUE;
+  }
+}
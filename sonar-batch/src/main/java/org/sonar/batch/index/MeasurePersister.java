@@ -23,6 +23,7 @@ import com.google.common.annotations.VisibleForTesting;
 import org.sonar.api.database.model.MeasureMapper;
 import org.sonar.api.database.model.MeasureModel;
 import org.sonar.api.measures.Measure;
+import org.sonar.api.measures.Metric;
 import org.sonar.api.measures.MetricFinder;
 import org.sonar.api.measures.RuleMeasure;
 import org.sonar.api.resources.Resource;
@@ -36,8 +37,12 @@ import org.sonar.batch.scan.measure.MeasureCache;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class MeasurePersister implements ScanPersister {
   private final MyBatis mybatis;
   private final RuleFinder ruleFinder;
@@ -54,21 +59,36 @@ public class MeasurePersister implements ScanPersister {
     this.resourceCache = resourceCache;
   }
 
+  /**
+   * Metrics and rules are resolved once per scan, not once per measure. Measures are sorted
+   * by component in cache, so the component of the previous measure is generally reused.
+   * Inserts are executed in JDBC batches of {@link org.sonar.core.persistence.BatchSession#MAX_BATCH_SIZE}.
+   */
   @Override
   public void persist() {
+    Map<String, Metric> metricsByKey = new HashMap<>();
+    Map<RuleKey, Integer> ruleIdsByKey = new HashMap<>();
+    String currentEffectiveKey = null;
+    BatchResource currentResource = null;
     try (DbSession session = mybatis.openSession(true)) {
       MeasureMapper mapper = session.getMapper(MeasureMapper.class);
 
       for (Entry<Measure> entry : measureCache.entries()) {
         String effectiveKey = entry.key()[0].toString();
+        if (!effectiveKey.equals(currentEffectiveKey)) {
+          currentEffectiveKey = effectiveKey;
+          currentResource = resourceCache.get(effectiveKey);
+        }
         Measure measure = entry.value();
-        BatchResource batchResource = resourceCache.get(effectiveKey);
 
         // Reload Metric to have all Hibernate fields populated
-        measure.setMetric(metricFinder.findByKey(measure.getMetricKey()));
+        measure.setMetric(metric(metricsByKey, measure.getMetricKey()));
 
-        if (shouldPersistMeasure(batchResource.resource(), measure)) {
-          MeasureModel measureModel = model(measure, ruleFinder).setSnapshotId(batchResource.snapshotId());
+        if (shouldPersistMeasure(currentResource.resource(), measure)) {
+          MeasureModel measureModel = model(measure).setSnapshotId(currentResource.snapshotId());
+          if (measure instanceof RuleMeasure) {
+            measureModel.setRuleId(ruleId(ruleIdsByKey, (RuleMeasure) measure));
+          }
           mapper.insert(measureModel);
         }
       }
@@ -79,6 +99,32 @@ public class MeasurePersister implements ScanPersister {
     }
   }
 
+  private Metric metric(Map<String, Metric> metricsByKey, String metricKey) {
+    Metric metric = metricsByKey.get(metricKey);
+    if (metric == null) {
+      metric = metricFinder.findByKey(metricKey);
+      if (metric == null) {
+        throw new IllegalStateException("Unknown metric: " + metricKey);
+      }
+      metricsByKey.put(metricKey, metric);
+    }
+    return metric;
+  }
+
+  @CheckForNull
+  private Integer ruleId(Map<RuleKey, Integer> ruleIdsByKey, RuleMeasure ruleMeasure) {
+    RuleKey ruleKey = ruleMeasure.ruleKey();
+    if (ruleKey == null) {
+      return null;
+    }
+    Integer ruleId = ruleIdsByKey.get(ruleKey);
+    if (ruleId == null) {
+      ruleId = ruleId(ruleMeasure, ruleFinder);
+      ruleIdsByKey.put(ruleKey, ruleId);
+    }
+    return ruleId;
+  }
+
   @VisibleForTesting
   static boolean shouldPersistMeasure(@Nullable Resource resource, @Nullable Measure measure) {
     if (resource == null || measure == null) {
@@ -98,6 +144,17 @@ public class MeasurePersister implements ScanPersister {
   }
 
   static MeasureModel model(Measure measure, RuleFinder ruleFinder) {
+    MeasureModel model = model(measure);
+    if (measure instanceof RuleMeasure && ((RuleMeasure) measure).ruleKey() != null) {
+      model.setRuleId(ruleId((RuleMeasure) measure, ruleFinder));
+    }
+    return model;
+  }
+
+  /**
+   * The rule id of {@link RuleMeasure} is not set
+   */
+  private static MeasureModel model(Measure measure) {
     MeasureModel model = new MeasureModel();
     // Assume Metric was reloaded
     model.setMetricId(measure.getMetric().getId());
@@ -119,17 +176,16 @@ public class MeasurePersister implements ScanPersister {
     model.setPersonId(measure.getPersonId());
     model.setValue(measure.getValue());
     if (measure instanceof RuleMeasure) {
-      RuleMeasure ruleMeasure = (RuleMeasure) measure;
-      model.setRulePriority(ruleMeasure.getSeverity());
-      RuleKey ruleKey = ruleMeasure.ruleKey();
-      if (ruleKey != null) {
-        Rule ruleWithId = ruleFinder.findByKey(ruleKey);
-        if (ruleWithId == null) {
-          throw new IllegalStateException("Can not save a measure with unknown rule " + ruleMeasure);
-        }
-        model.setRuleId(ruleWithId.getId());
-      }
+      model.setRulePriority(((RuleMeasure) measure).getSeverity());
     }
     return model;
   }
+
+  private static Integer ruleId(RuleMeasure ruleMeasure, RuleFinder ruleFinder) {
+    Rule ruleWithId = ruleFinder.findByKey(ruleMeasure.ruleKey());
+    if (ruleWithId == null) {
+      throw new IllegalStateException("Can not save a measure with unknown rule " + ruleMeasure);
+    }
+    return ruleWithId.getId();
+  }
 }
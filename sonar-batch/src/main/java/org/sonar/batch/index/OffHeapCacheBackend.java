@@ -0,0 +1,299 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.index;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.persistit.Persistit;
+import com.persistit.Value;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Values are serialized with the Persistit value coders, so the registered {@link com.persistit.encoding.ValueCoder}s
+ * are supported, and are appended to segments of a memory-mapped file. Only the tree of keys is kept on the heap.
+ * <p/>
+ * Space of overwritten and removed values is reclaimed : the file is reused from its beginning when the cache is
+ * fully cleared, and live values are copied to a new file when dead values use more space than live values.
+ */
+class OffHeapCacheBackend<V> extends TreeCacheBackend<V> {
+
+  static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+  private static final long NO_POSITION = -1L;
+  private static final int LENGTH_BYTES = 4;
+
+  private final File baseFile;
+  private final int segmentSize;
+  private final Value value;
+  private final List<ByteBuffer> segments = Lists.newArrayList();
+  private File file;
+  private RandomAccessFile randomAccessFile;
+  private long fileLength = 0L;
+  private int compactions = 0;
+
+  // size of the values referenced by keys, and size of all the values written in segments
+  private long liveBytes = 0L;
+  private long writtenBytes = 0L;
+
+  OffHeapCacheBackend(Persistit persistit, File file) {
+    this(persistit, file, DEFAULT_SEGMENT_SIZE);
+  }
+
+  OffHeapCacheBackend(Persistit persistit, File file, int segmentSize) {
+    this.baseFile = file;
+    this.file = file;
+    this.segmentSize = segmentSize;
+    this.value = new Value(persistit, Value.INITIAL_SIZE, Value.MAXIMUM_SIZE);
+    this.randomAccessFile = openFile(file);
+  }
+
+  private static RandomAccessFile openFile(File file) {
+    try {
+      return new RandomAccessFile(file, "rw");
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to create cache file: " + file, e);
+    }
+  }
+
+  @Override
+  Node newNode() {
+    return new OffHeapNode();
+  }
+
+  @Override
+  boolean hasValue(Node node) {
+    return ((OffHeapNode) node).position != NO_POSITION;
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  @CheckForNull
+  V readValue(Node node) {
+    ByteBuffer segment = recordOf(segments, ((OffHeapNode) node).position);
+    int length = segment.getInt();
+    value.clear();
+    value.ensureFit(length);
+    segment.get(value.getEncodedBytes(), 0, length);
+    value.setEncodedSize(length);
+    return (V) value.get();
+  }
+
+  @Override
+  void writeValue(Node node, @Nullable V v) {
+    OffHeapNode offHeapNode = (OffHeapNode) node;
+    boolean overwrite = offHeapNode.position != NO_POSITION;
+    if (overwrite) {
+      liveBytes -= recordSize(offHeapNode.position);
+    }
+    value.clear();
+    value.put(v);
+    offHeapNode.position = append(value.getEncodedBytes(), value.getEncodedSize());
+    if (overwrite) {
+      compactIfNeeded();
+    }
+  }
+
+  @Override
+  void removeValue(Node node) {
+    OffHeapNode offHeapNode = (OffHeapNode) node;
+    if (offHeapNode.position != NO_POSITION) {
+      liveBytes -= recordSize(offHeapNode.position);
+      offHeapNode.position = NO_POSITION;
+    }
+  }
+
+  @Override
+  void beforeSubTreeRemoval(Node node) {
+    removeValue(node);
+    for (Node child : node.children()) {
+      beforeSubTreeRemoval(child);
+    }
+  }
+
+  @Override
+  public boolean remove(Object[] key) {
+    boolean removed = super.remove(key);
+    if (removed) {
+      compactIfNeeded();
+    }
+    return removed;
+  }
+
+  @Override
+  public void clear(Object[] prefix) {
+    super.clear(prefix);
+    if (prefix.length == 0) {
+      // all the values are removed, the file is reused from its beginning
+      while (segments.size() > 1) {
+        segments.remove(segments.size() - 1);
+      }
+      fileLength = 0L;
+      if (!segments.isEmpty()) {
+        segments.get(0).clear();
+        fileLength = segments.get(0).capacity();
+      }
+      liveBytes = 0L;
+      writtenBytes = 0L;
+    } else {
+      compactIfNeeded();
+    }
+  }
+
+  @Override
+  public void close() {
+    segments.clear();
+    try {
+      if (randomAccessFile != null) {
+        randomAccessFile.close();
+        randomAccessFile = null;
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to close cache file: " + file, e);
+    } finally {
+      deleteFile(file);
+    }
+  }
+
+  boolean isClosed() {
+    return randomAccessFile == null;
+  }
+
+  /**
+   * Size of the file(s) currently used to store values
+   */
+  @VisibleForTesting
+  long fileLength() {
+    return fileLength;
+  }
+
+  @VisibleForTesting
+  int compactions() {
+    return compactions;
+  }
+
+  /**
+   * @return the position of the record, made of the segment index (high 32 bits) and the offset in segment (low 32 bits)
+   */
+  private long append(byte[] bytes, int length) {
+    ByteBuffer segment = segmentFor(LENGTH_BYTES + length);
+    long position = ((long) (segments.size() - 1) << 32) | segment.position();
+    segment.putInt(length);
+    segment.put(bytes, 0, length);
+    liveBytes += LENGTH_BYTES + length;
+    writtenBytes += LENGTH_BYTES + length;
+    return position;
+  }
+
+  private int recordSize(long position) {
+    return LENGTH_BYTES + recordOf(segments, position).getInt();
+  }
+
+  private static ByteBuffer recordOf(List<ByteBuffer> segments, long position) {
+    ByteBuffer segment = segments.get((int) (position >>> 32)).duplicate();
+    segment.position((int) position);
+    return segment;
+  }
+
+  private void compactIfNeeded() {
+    long deadBytes = writtenBytes - liveBytes;
+    if (deadBytes > segmentSize && deadBytes > liveBytes) {
+      compact();
+    }
+  }
+
+  /**
+   * Copies the live values to a new file, without decoding them, then deletes the previous file
+   */
+  private void compact() {
+    List<ByteBuffer> previousSegments = Lists.newArrayList(segments);
+    RandomAccessFile previousRandomAccessFile = randomAccessFile;
+    File previousFile = file;
+
+    compactions++;
+    file = new File(baseFile.getPath() + "." + compactions);
+    randomAccessFile = openFile(file);
+    segments.clear();
+    fileLength = 0L;
+    liveBytes = 0L;
+    writtenBytes = 0L;
+    copyValues(root(), previousSegments);
+
+    IOUtils.closeQuietly(previousRandomAccessFile);
+    deleteFile(previousFile);
+  }
+
+  private void copyValues(Node node, List<ByteBuffer> fromSegments) {
+    OffHeapNode offHeapNode = (OffHeapNode) node;
+    if (offHeapNode.position != NO_POSITION) {
+      ByteBuffer record = recordOf(fromSegments, offHeapNode.position);
+      int length = record.getInt();
+      value.clear();
+      value.ensureFit(length);
+      record.get(value.getEncodedBytes(), 0, length);
+      offHeapNode.position = append(value.getEncodedBytes(), length);
+    }
+    for (Node child : node.children()) {
+      copyValues(child, fromSegments);
+    }
+  }
+
+  private static void deleteFile(File file) {
+    // mapped segments are released only when they are garbage collected. Until then
+    // the file can not be deleted on Windows.
+    if (!FileUtils.deleteQuietly(file)) {
+      file.deleteOnExit();
+    }
+  }
+
+  /**
+   * @return the current segment, or a new one if the current one does not have enough remaining space
+   */
+  private ByteBuffer segmentFor(int size) {
+    if (!segments.isEmpty()) {
+      ByteBuffer current = segments.get(segments.size() - 1);
+      if (current.remaining() >= size) {
+        return current;
+      }
+    }
+    int newSegmentSize = Math.max(segmentSize, size);
+    try {
+      ByteBuffer segment = randomAccessFile.getChannel().map(FileChannel.MapMode.READ_WRITE, fileLength, newSegmentSize);
+      fileLength += newSegmentSize;
+      segments.add(segment);
+      return segment;
+    } catch (IOException e) {
+      throw new IllegalStateException("Fail to extend cache file: " + file, e);
+    }
+  }
+
+  private static class OffHeapNode extends Node {
+    private long position = NO_POSITION;
+  }
+}
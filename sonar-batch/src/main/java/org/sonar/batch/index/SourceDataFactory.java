@@ -62,6 +62,7 @@ public class SourceDataFactory implements BatchComponent {
   private final ComponentDataCache componentDataCache;
   private final DuplicationCache duplicationCache;
   private final CodeColorizers codeColorizers;
+  private final Object cacheLock = new Object();
 
   public SourceDataFactory(MeasureCache measureCache, ComponentDataCache componentDataCache,
     DuplicationCache duplicationCache, CodeColorizers codeColorizers) {
@@ -71,12 +72,17 @@ public class SourceDataFactory implements BatchComponent {
     this.codeColorizers = codeColorizers;
   }
 
+  /**
+   * Can be called concurrently. Only the reads of caches, which are not thread-safe, are serialized.
+   */
   public byte[] consolidateData(DefaultInputFile inputFile, InputFileMetadata metadata) throws IOException {
     FileSourceDb.Data.Builder dataBuilder = createForSource(inputFile);
-    applyLineMeasures(inputFile, dataBuilder);
-    applyDuplications(inputFile.key(), dataBuilder);
-    applyHighlighting(inputFile, metadata, dataBuilder);
-    applySymbolReferences(inputFile, metadata, dataBuilder);
+    synchronized (cacheLock) {
+      applyLineMeasures(inputFile, dataBuilder);
+      applyDuplications(inputFile.key(), dataBuilder);
+      applyHighlighting(inputFile, metadata, dataBuilder);
+      applySymbolReferences(inputFile, metadata, dataBuilder);
+    }
     return FileSourceDto.encodeData(dataBuilder.build());
   }
 
@@ -19,12 +19,18 @@
  */
 package org.sonar.batch.index;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.ibatis.session.ResultContext;
 import org.apache.ibatis.session.ResultHandler;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
 import org.sonar.api.batch.fs.InputFile;
 import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.api.config.Settings;
 import org.sonar.api.utils.System2;
 import org.sonar.batch.ProjectTree;
 import org.sonar.batch.scan.filesystem.FileMetadata;
@@ -40,30 +46,80 @@ import javax.annotation.CheckForNull;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+@Properties({
+  @Property(
+    key = SourcePersister.THREADS_PROPERTY,
+    defaultValue = "" + SourcePersister.DEFAULT_THREADS,
+    name = "Number of threads preparing the sources of files to be persisted",
+    type = PropertyType.INTEGER,
+    global = false, project = false)})
 public class SourcePersister implements ScanPersister {
 
+  static final String THREADS_PROPERTY = "sonar.sourcePersister.threads";
+  static final int DEFAULT_THREADS = 1;
+
+  /**
+   * Maximum number of prepared files waiting to be written, per thread. It bounds the memory
+   * used by the binary data of files.
+   */
+  private static final int PENDING_FILES_PER_THREAD = 2;
+
+  private static final int COMMIT_SIZE = 100;
+
   private final MyBatis mybatis;
   private final System2 system2;
   private final ProjectTree projectTree;
   private final ResourceCache resourceCache;
   private final InputPathCache inputPathCache;
   private final SourceDataFactory dataFactory;
+  private final Settings settings;
 
   public SourcePersister(InputPathCache inputPathCache, MyBatis mybatis, System2 system2,
-    ProjectTree projectTree, ResourceCache resourceCache, SourceDataFactory dataFactory) {
+    ProjectTree projectTree, ResourceCache resourceCache, SourceDataFactory dataFactory, Settings settings) {
     this.inputPathCache = inputPathCache;
     this.mybatis = mybatis;
     this.system2 = system2;
     this.projectTree = projectTree;
     this.resourceCache = resourceCache;
     this.dataFactory = dataFactory;
+    this.settings = settings;
+  }
+
+  @VisibleForTesting
+  static int numberOfThreads(Settings settings) {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    return threads;
   }
 
+  /**
+   * Worker threads consolidate and hash the data of files, while the current thread writes the changed
+   * rows. The number of files prepared in advance is bounded, so the data of all the files is
+   * never loaded in memory at the same time.
+   */
   @Override
   public void persist() {
+    int threads = numberOfThreads(settings);
+    ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+      .setNameFormat("SourcePersister-%d")
+      .setDaemon(true)
+      .build());
     // Don't use batch insert for file_sources since keeping all data in memory can produce OOM for big files
     try (DbSession session = mybatis.openSession(false)) {
 
@@ -77,51 +133,86 @@ public class SourcePersister implements ScanPersister {
       });
 
       FileSourceMapper mapper = session.getMapper(FileSourceMapper.class);
-      for (InputFile inputFile : inputPathCache.allFiles()) {
-        persist(session, mapper, (DefaultInputFile) inputFile, previousDtosByUuid);
+      Iterator<InputFile> inputFiles = inputPathCache.allFiles().iterator();
+      Deque<Future<FileSourceData>> pendingFiles = new ArrayDeque<>();
+      int uncommitted = 0;
+      while (inputFiles.hasNext() || !pendingFiles.isEmpty()) {
+        while (inputFiles.hasNext() && pendingFiles.size() < threads * PENDING_FILES_PER_THREAD) {
+          pendingFiles.add(executor.submit(newTask((DefaultInputFile) inputFiles.next(), previousDtosByUuid)));
+        }
+        FileSourceData fileData = pendingFiles.poll().get();
+        if (fileData.changed) {
+          persist(mapper, fileData);
+          uncommitted++;
+          if (uncommitted >= COMMIT_SIZE) {
+            session.commit();
+            uncommitted = 0;
+          }
+        }
       }
+      session.commit();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Unable to save file sources", e.getCause());
     } catch (Exception e) {
       throw new IllegalStateException("Unable to save file sources", e);
+    } finally {
+      executor.shutdownNow();
     }
+  }
 
+  private Callable<FileSourceData> newTask(final DefaultInputFile inputFile, final Map<String, FileSourceDto> previousDtosByUuid) {
+    final String fileUuid = resourceCache.get(inputFile.key()).resource().getUuid();
+    final InputFileMetadata metadata = inputPathCache.getFileMetadata(inputFile.moduleKey(), inputFile.relativePath());
+    final FileSourceDto previousDto = previousDtosByUuid.get(fileUuid);
+    return new Callable<FileSourceData>() {
+      @Override
+      public FileSourceData call() {
+        return prepare(inputFile, fileUuid, metadata, previousDto);
+      }
+    };
   }
 
-  private void persist(DbSession session, FileSourceMapper mapper, DefaultInputFile inputFile, Map<String, FileSourceDto> previousDtosByUuid) {
-    String fileUuid = resourceCache.get(inputFile.key()).resource().getUuid();
+  private FileSourceData prepare(DefaultInputFile inputFile, String fileUuid, InputFileMetadata metadata, @Nullable FileSourceDto previousDto) {
+    FileSourceData fileData = new FileSourceData(fileUuid, metadata, previousDto);
+    fileData.data = computeData(inputFile, metadata);
+    fileData.dataHash = DigestUtils.md5Hex(fileData.data);
+    // Update only if data_hash has changed or if src_hash is missing (progressive migration)
+    fileData.changed = previousDto == null || !fileData.dataHash.equals(previousDto.getDataHash()) || !metadata.hash().equals(previousDto.getSrcHash());
+    if (fileData.changed) {
+      fileData.lineHashes = lineHashesAsMd5Hex(inputFile);
+    } else {
+      // release memory as soon as possible
+      fileData.data = null;
+    }
+    return fileData;
+  }
 
-    InputFileMetadata metadata = inputPathCache.getFileMetadata(inputFile.moduleKey(), inputFile.relativePath());
-    byte[] data = computeData(inputFile, metadata);
-    String dataHash = DigestUtils.md5Hex(data);
-    FileSourceDto previousDto = previousDtosByUuid.get(fileUuid);
+  private void persist(FileSourceMapper mapper, FileSourceData fileData) {
+    FileSourceDto previousDto = fileData.previousDto;
     if (previousDto == null) {
       FileSourceDto dto = new FileSourceDto()
         .setProjectUuid(projectTree.getRootProject().getUuid())
-        .setFileUuid(fileUuid)
-        .setBinaryData(data)
-        .setDataHash(dataHash)
-        .setSrcHash(metadata.hash())
-        .setLineHashes(lineHashesAsMd5Hex(inputFile))
+        .setFileUuid(fileData.fileUuid)
+        .setBinaryData(fileData.data)
+        .setDataHash(fileData.dataHash)
+        .setSrcHash(fileData.metadata.hash())
+        .setLineHashes(fileData.lineHashes)
         .setCreatedAt(system2.now())
         .setUpdatedAt(system2.now());
       mapper.insert(dto);
-      session.commit();
     } else {
-      // Update only if data_hash has changed or if src_hash is missing (progressive migration)
-      if (!dataHash.equals(previousDto.getDataHash()) || !metadata.hash().equals(previousDto.getSrcHash())) {
-        previousDto
-          .setBinaryData(data)
-          .setDataHash(dataHash)
-          .setSrcHash(metadata.hash())
-          .setLineHashes(lineHashesAsMd5Hex(inputFile))
-          .setUpdatedAt(system2.now());
-        mapper.update(previousDto);
-        session.commit();
-      }
+      previousDto
+        .setBinaryData(fileData.data)
+        .setDataHash(fileData.dataHash)
+        .setSrcHash(fileData.metadata.hash())
+        .setLineHashes(fileData.lineHashes)
+        .setUpdatedAt(system2.now());
+      mapper.update(previousDto);
     }
   }
 
   @CheckForNull
-  private String lineHashesAsMd5Hex(DefaultInputFile f) {
+  private static String lineHashesAsMd5Hex(DefaultInputFile f) {
     if (f.lines() == 0) {
       return null;
     }
@@ -149,4 +240,23 @@ public class SourcePersister implements ScanPersister {
       throw new IllegalStateException("Fail to read file " + inputFile, e);
     }
   }
+
+  /**
+   * Result of the preparation of a file by a worker thread
+   */
+  private static class FileSourceData {
+    private final String fileUuid;
+    private final InputFileMetadata metadata;
+    private final FileSourceDto previousDto;
+    private byte[] data;
+    private String dataHash;
+    private String lineHashes;
+    private boolean changed;
+
+    private FileSourceData(String fileUuid, InputFileMetadata metadata, @Nullable FileSourceDto previousDto) {
+      this.fileUuid = fileUuid;
+      this.metadata = metadata;
+      this.previousDto = previousDto;
+    }
+  }
 }
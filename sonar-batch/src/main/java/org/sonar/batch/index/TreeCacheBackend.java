@@ -0,0 +1,383 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.index;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Keys are stored in memory as a tree : each element of key is a node. Point operations
+ * are hash lookups, one per element of key. Children of a node are sorted only when
+ * they are iterated, and the sorted array is kept until a child is added or removed,
+ * so scans of the same prefix, for example measures of a component, don't sort them again.
+ * <p>
+ * Subclasses define where values are stored.
+ * </p>
+ */
+abstract class TreeCacheBackend<V> implements CacheBackend<V> {
+
+  private static final Object[] NO_KEYS = new Object[0];
+
+  /**
+   * Approximation of the order of keys in Persistit : by type, then by value.
+   */
+  static final Comparator<Object> KEY_ORDER = new Comparator<Object>() {
+    @SuppressWarnings("unchecked")
+    @Override
+    public int compare(Object o1, Object o2) {
+      int rank1 = typeRank(o1);
+      int rank2 = typeRank(o2);
+      if (rank1 != rank2) {
+        return rank1 - rank2;
+      }
+      if (o1 == null) {
+        return 0;
+      }
+      if (o1.getClass() != o2.getClass()) {
+        return o1.getClass().getName().compareTo(o2.getClass().getName());
+      }
+      if (o1 instanceof Comparable) {
+        return ((Comparable<Object>) o1).compareTo(o2);
+      }
+      return o1.toString().compareTo(o2.toString());
+    }
+  };
+
+  private static final Class[] TYPES = {Boolean.class, Byte.class, Short.class, Character.class, Integer.class, Long.class,
+    Float.class, Double.class, BigInteger.class, BigDecimal.class, String.class, Date.class};
+
+  private final Node root = newNode();
+
+  abstract Node newNode();
+
+  abstract boolean hasValue(Node node);
+
+  @CheckForNull
+  abstract V readValue(Node node);
+
+  abstract void writeValue(Node node, @Nullable V value);
+
+  abstract void removeValue(Node node);
+
+  /**
+   * Called by {@link #clear(Object[])} before detaching the sub-tree of a node, including the node itself.
+   * Values of the sub-tree are not removed one by one. Does nothing by default.
+   */
+  void beforeSubTreeRemoval(Node node) {
+    // nothing to do
+  }
+
+  Node root() {
+    return root;
+  }
+
+  @Override
+  public void put(Object[] key, V value) {
+    Node node = root;
+    for (Object element : key) {
+      Node child = node.child(element);
+      if (child == null) {
+        child = newNode();
+        node.putChild(element, child);
+      }
+      node = child;
+    }
+    writeValue(node, value);
+  }
+
+  @Override
+  @CheckForNull
+  public V get(Object[] key) {
+    Node node = find(key);
+    if (node != null && hasValue(node)) {
+      return readValue(node);
+    }
+    return null;
+  }
+
+  @Override
+  public boolean containsKey(Object[] key) {
+    Node node = find(key);
+    return node != null && hasValue(node);
+  }
+
+  @Override
+  public boolean remove(Object[] key) {
+    Node[] path = path(key);
+    Node node = path[key.length];
+    if (node == null || !hasValue(node)) {
+      return false;
+    }
+    removeValue(node);
+    prune(path, key, key.length);
+    return true;
+  }
+
+  @Override
+  public void clear(Object[] prefix) {
+    if (prefix.length == 0) {
+      root.clearChildren();
+      removeValue(root);
+      return;
+    }
+    Node[] path = path(prefix);
+    if (path[prefix.length] != null) {
+      beforeSubTreeRemoval(path[prefix.length]);
+      path[prefix.length - 1].removeChild(prefix[prefix.length - 1]);
+      prune(path, prefix, prefix.length - 1);
+    }
+  }
+
+  @Override
+  public Set<Object> keySet(Object[] prefix) {
+    Node node = find(prefix);
+    if (node == null) {
+      return Collections.emptySet();
+    }
+    return Sets.newLinkedHashSet(Arrays.asList(node.sortedKeys()));
+  }
+
+  @Override
+  public Iterator<V> values(Object[] prefix) {
+    return new TreeIterator<V>(find(prefix), prefix) {
+      @Override
+      V toElement(Node node, Object[] key) {
+        return readValue(node);
+      }
+    };
+  }
+
+  @Override
+  public Iterator<Cache.Entry<V>> entries(Object[] prefix) {
+    return new TreeIterator<Cache.Entry<V>>(find(prefix), prefix) {
+      @Override
+      Cache.Entry<V> toElement(Node node, Object[] key) {
+        return new Cache.Entry<V>(key, readValue(node));
+      }
+    };
+  }
+
+  @CheckForNull
+  private Node find(Object[] key) {
+    Node node = root;
+    for (int i = 0; node != null && i < key.length; i++) {
+      node = node.child(key[i]);
+    }
+    return node;
+  }
+
+  /**
+   * @return the nodes from root to the node of key. Elements are null if nodes do not exist.
+   */
+  private Node[] path(Object[] key) {
+    Node[] path = new Node[key.length + 1];
+    path[0] = root;
+    for (int i = 0; i < key.length && path[i] != null; i++) {
+      path[i + 1] = path[i].child(key[i]);
+    }
+    return path;
+  }
+
+  /**
+   * Removes the nodes that do not have values nor children, starting from path[depth]
+   */
+  private void prune(Node[] path, Object[] key, int depth) {
+    for (int i = depth; i > 0; i--) {
+      Node node = path[i];
+      if (hasValue(node) || node.hasChildren()) {
+        return;
+      }
+      path[i - 1].removeChild(key[i - 1]);
+    }
+  }
+
+  private static int typeRank(@Nullable Object o) {
+    if (o == null) {
+      return 0;
+    }
+    for (int i = 0; i < TYPES.length; i++) {
+      if (TYPES[i] == o.getClass()) {
+        return i + 1;
+      }
+    }
+    return TYPES.length + 1;
+  }
+
+  static class Node {
+    private Map<Object, Node> children = null;
+    private Object[] sortedKeys = null;
+
+    @CheckForNull
+    Node child(Object key) {
+      return children == null ? null : children.get(key);
+    }
+
+    private void putChild(Object key, Node child) {
+      if (children == null) {
+        children = Maps.newHashMap();
+      }
+      children.put(key, child);
+      sortedKeys = null;
+    }
+
+    private void removeChild(Object key) {
+      if (children != null) {
+        children.remove(key);
+        sortedKeys = null;
+      }
+    }
+
+    private void clearChildren() {
+      children = null;
+      sortedKeys = null;
+    }
+
+    private boolean hasChildren() {
+      return children != null && !children.isEmpty();
+    }
+
+    Collection<Node> children() {
+      return children == null ? Collections.<Node>emptyList() : children.values();
+    }
+
+    /**
+     * The returned array must not be modified. It is replaced, not modified, when children change,
+     * so that iterators are not impacted.
+     */
+    private Object[] sortedKeys() {
+      if (children == null) {
+        return NO_KEYS;
+      }
+      if (sortedKeys == null) {
+        Object[] keys = children.keySet().toArray();
+        Arrays.sort(keys, KEY_ORDER);
+        sortedKeys = keys;
+      }
+      return sortedKeys;
+    }
+  }
+
+  /**
+   * Depth-first traversal of the sub-tree of a node, in order of keys, excluding the node itself.
+   * Entries added during iteration may be ignored.
+   */
+  private abstract class TreeIterator<T> implements Iterator<T> {
+    private final Object[] prefix;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private Node nextNode = null;
+    private boolean computed = false;
+
+    private TreeIterator(@Nullable Node from, Object[] prefix) {
+      this.prefix = prefix;
+      if (from != null) {
+        stack.push(new Frame(from, null));
+      }
+    }
+
+    abstract T toElement(Node node, Object[] key);
+
+    @Override
+    public boolean hasNext() {
+      if (!computed) {
+        nextNode = advance();
+        computed = true;
+      }
+      return nextNode != null;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      computed = false;
+      return toElement(nextNode, currentKey());
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("Removing an item is not supported");
+    }
+
+    @CheckForNull
+    private Node advance() {
+      while (!stack.isEmpty()) {
+        Frame top = stack.peek();
+        top.index++;
+        if (top.index >= top.keys.length) {
+          stack.pop();
+          continue;
+        }
+        Object childKey = top.keys[top.index];
+        Node child = top.node.child(childKey);
+        if (child != null) {
+          stack.push(new Frame(child, childKey));
+          if (hasValue(child)) {
+            return child;
+          }
+        }
+      }
+      return null;
+    }
+
+    private Object[] currentKey() {
+      // the bottom frame is the node of prefix
+      Object[] key = Arrays.copyOf(prefix, prefix.length + stack.size() - 1);
+      int i = prefix.length;
+      Iterator<Frame> frames = stack.descendingIterator();
+      frames.next();
+      while (frames.hasNext()) {
+        key[i] = frames.next().key;
+        i++;
+      }
+      return key;
+    }
+  }
+
+  private static class Frame {
+    private final Node node;
+    private final Object key;
+    private final Object[] keys;
+    private int index = -1;
+
+    private Frame(Node node, @Nullable Object key) {
+      this.node = node;
+      this.key = key;
+      this.keys = node.sortedKeys();
+    }
+  }
+}
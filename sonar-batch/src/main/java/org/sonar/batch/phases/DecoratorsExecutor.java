@@ -24,12 +24,18 @@ import org.sonar.batch.deprecated.decorator.DefaultDecoratorContext;
 import org.sonar.batch.deprecated.decorator.DecoratorsSelector;
 import com.google.common.collect.Lists;
 import org.sonar.api.BatchComponent;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
 import org.sonar.api.batch.Decorator;
 import org.sonar.api.batch.DecoratorContext;
 import org.sonar.api.batch.SonarIndex;
+import org.sonar.api.batch.ThreadSafe;
+import org.sonar.api.config.Settings;
 import org.sonar.api.measures.MetricFinder;
 import org.sonar.api.resources.Project;
 import org.sonar.api.resources.Resource;
+import org.sonar.api.utils.AnnotationUtils;
 import org.sonar.api.utils.MessageException;
 import org.sonar.api.utils.SonarException;
 import org.sonar.batch.bootstrap.BatchExtensionDictionnary;
@@ -40,9 +46,34 @@ import org.sonar.batch.sensor.coverage.CoverageExclusions;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
+@Properties({
+  @Property(
+    key = DecoratorsExecutor.THREADS_PROPERTY,
+    defaultValue = "" + DecoratorsExecutor.DEFAULT_THREADS,
+    name = "Number of threads decorating resources",
+    description = "When greater than 1, sibling resources are decorated in parallel. Decorators that are not annotated with "
+      + "@ThreadSafe are executed one at a time by the main thread.",
+    type = PropertyType.INTEGER,
+    global = false, project = false)})
 public class DecoratorsExecutor implements BatchComponent {
 
+  static final String THREADS_PROPERTY = "sonar.batch.decorators.threads";
+  static final int DEFAULT_THREADS = 1;
+  private static final long POLL_PERIOD_MS = 100L;
+
   private DecoratorsSelector decoratorsSelector;
   private SonarIndex index;
   private EventBus eventBus;
@@ -51,10 +82,11 @@ public class DecoratorsExecutor implements BatchComponent {
   private MeasureCache measureCache;
   private MetricFinder metricFinder;
   private final DuplicationCache duplicationCache;
+  private final Settings settings;
 
   public DecoratorsExecutor(BatchExtensionDictionnary batchExtDictionnary,
     Project project, SonarIndex index, EventBus eventBus, CoverageExclusions coverageFilter, MeasureCache measureCache, MetricFinder metricFinder,
-    DuplicationCache duplicationCache) {
+    DuplicationCache duplicationCache, Settings settings) {
     this.measureCache = measureCache;
     this.metricFinder = metricFinder;
     this.duplicationCache = duplicationCache;
@@ -63,12 +95,29 @@ public class DecoratorsExecutor implements BatchComponent {
     this.eventBus = eventBus;
     this.project = project;
     this.coverageFilter = coverageFilter;
+    this.settings = settings;
+  }
+
+  static int numberOfThreads(Settings settings) {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    return threads;
   }
 
   public void execute() {
     Collection<Decorator> decorators = decoratorsSelector.select(project);
     eventBus.fireEvent(new DecoratorsPhaseEvent(Lists.newArrayList(decorators), true));
-    ((DefaultDecoratorContext) decorateResource(project, decorators, true)).end();
+    int threads = numberOfThreads(settings);
+    if (threads > 1) {
+      new ConcurrentDecoration(decorators, threads).run().end();
+    } else {
+      ((DefaultDecoratorContext) decorateResource(project, decorators, true)).end();
+    }
     eventBus.fireEvent(new DecoratorsPhaseEvent(Lists.newArrayList(decorators), false));
   }
 
@@ -105,4 +154,186 @@ public class DecoratorsExecutor implements BatchComponent {
     }
   }
 
+  /**
+   * Same as {@link #executeDecorator(Decorator, DefaultDecoratorContext, Resource)}, but events are not fired
+   * as they are not thread-safe
+   */
+  private static void executeThreadSafeDecorator(Decorator decorator, DefaultDecoratorContext context, Resource resource) {
+    try {
+      decorator.decorate(resource, context);
+
+    } catch (MessageException e) {
+      throw e;
+
+    } catch (Exception e) {
+      throw new SonarException("Fail to decorate '" + resource + "'", e);
+    }
+  }
+
+  static boolean isThreadSafe(Decorator decorator) {
+    return AnnotationUtils.getAnnotation(decorator, ThreadSafe.class) != null;
+  }
+
+  /**
+   * Sibling resources are decorated by the tasks of a fork-join pool. A resource is decorated when all its
+   * children are decorated. Decorators annotated with {@link ThreadSafe} are executed by the pool. The other
+   * ones are handed over to the calling thread, which executes them one at a time, so they don't have to be
+   * thread-safe and keep the thread-local state of the calling thread, for example the database session.
+   * <p/>
+   * The index and the caches are not thread-safe, and Persistit exchanges are bound to the thread which uses
+   * them first. That's why they are accessed only by the calling thread: pool threads hand over these accesses
+   * (listing of children, loading and saving of measures, see {@link DefaultDecoratorContext}) the same way
+   * as the decorators which are not thread-safe.
+   */
+  private class ConcurrentDecoration implements DefaultDecoratorContext.SharedStateAccess {
+    private final Collection<Decorator> decorators;
+    private final int threads;
+    private final Thread callerThread = Thread.currentThread();
+    private final BlockingQueue<FutureTask<?>> callerTasks = new LinkedBlockingQueue<>();
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    private ConcurrentDecoration(Collection<Decorator> decorators, int threads) {
+      this.decorators = decorators;
+      this.threads = threads;
+    }
+
+    DefaultDecoratorContext run() {
+      ForkJoinPool pool = new ForkJoinPool(threads, new ForkJoinPool.ForkJoinWorkerThreadFactory() {
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+          ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+          thread.setName(String.format("Decorator-%d", thread.getPoolIndex()));
+          thread.setDaemon(true);
+          return thread;
+        }
+      }, null, false);
+      try {
+        ForkJoinTask<DefaultDecoratorContext> root = pool.submit(new DecorateTask(project, true));
+        while (!root.isDone()) {
+          FutureTask<?> callerTask = callerTasks.poll(POLL_PERIOD_MS, TimeUnit.MILLISECONDS);
+          if (callerTask != null) {
+            callerTask.run();
+          }
+        }
+        if (failure.get() != null) {
+          throw failure.get();
+        }
+        return root.join();
+
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while decorating resources", e);
+
+      } finally {
+        pool.shutdownNow();
+        for (FutureTask<?> callerTask : callerTasks) {
+          callerTask.cancel(false);
+        }
+      }
+    }
+
+    private class DecorateTask extends RecursiveTask<DefaultDecoratorContext> {
+      private final Resource resource;
+      private final boolean executeDecorators;
+
+      private DecorateTask(Resource resource, boolean executeDecorators) {
+        this.resource = resource;
+        this.executeDecorators = executeDecorators;
+      }
+
+      @Override
+      protected DefaultDecoratorContext compute() {
+        try {
+          return decorate();
+        } catch (RuntimeException e) {
+          // exceptions rethrown by ForkJoinTask#join() may be copies, so the original one is kept
+          failure.compareAndSet(null, e);
+          throw e;
+        }
+      }
+
+      private DefaultDecoratorContext decorate() {
+        List<DecorateTask> childTasks = Lists.newArrayList();
+        List<Resource> children = execute(new Callable<List<Resource>>() {
+          @Override
+          public List<Resource> call() {
+            return Lists.newArrayList(index.getChildren(resource));
+          }
+        });
+        for (Resource child : children) {
+          childTasks.add(new DecorateTask(child, !(child instanceof Project)));
+        }
+        invokeAll(childTasks);
+        List<DecoratorContext> childrenContexts = Lists.newArrayList();
+        for (DecorateTask childTask : childTasks) {
+          childrenContexts.add(childTask.join().end());
+        }
+
+        DefaultDecoratorContext context = new DefaultDecoratorContext(resource, index, childrenContexts, measureCache, metricFinder, duplicationCache,
+          coverageFilter, ConcurrentDecoration.this);
+        context.init();
+        if (executeDecorators) {
+          for (Decorator decorator : decorators) {
+            if (isThreadSafe(decorator)) {
+              executeThreadSafeDecorator(decorator, context, resource);
+            } else {
+              executeInCallerThread(decorator, context, resource);
+            }
+          }
+        }
+        return context;
+      }
+    }
+
+    private void executeInCallerThread(final Decorator decorator, final DefaultDecoratorContext context, final Resource resource) {
+      execute(new Callable<Void>() {
+        @Override
+        public Void call() {
+          executeDecorator(decorator, context, resource);
+          return null;
+        }
+      });
+    }
+
+    /**
+     * Executes the given access in the calling thread. Pool threads wait for its completion.
+     */
+    @Override
+    public <T> T execute(Callable<T> access) {
+      if (Thread.currentThread() == callerThread) {
+        return DefaultDecoratorContext.CURRENT_THREAD_ACCESS.execute(access);
+      }
+      final FutureTask<T> task = new FutureTask<>(access);
+      callerTasks.add(task);
+      try {
+        ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+          @Override
+          public boolean block() throws InterruptedException {
+            try {
+              task.get();
+            } catch (ExecutionException | CancellationException e) {
+              // handled below
+            }
+            return true;
+          }
+
+          @Override
+          public boolean isReleasable() {
+            return task.isDone();
+          }
+        });
+        return task.get();
+
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while decorating resources", e);
+
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+  }
 }
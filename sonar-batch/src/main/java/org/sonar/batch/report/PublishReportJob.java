@@ -30,16 +30,21 @@ import org.sonar.api.config.Settings;
 import org.sonar.api.platform.Server;
 import org.sonar.api.resources.Project;
 import org.sonar.api.utils.TempFolder;
-import org.sonar.api.utils.ZipUtils;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.index.ResourceCache;
 import org.sonar.batch.protocol.output.BatchOutputWriter;
+import org.sonar.batch.protocol.output.FileStructure;
+import org.sonar.batch.protocol.output.ReportContainer;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 public class PublishReportJob implements BatchComponent {
 
@@ -83,7 +88,8 @@ public class PublishReportJob implements BatchComponent {
     logSuccess(LoggerFactory.getLogger(getClass()));
   }
 
-  private File prepareReport() {
+  @VisibleForTesting
+  File prepareReport() {
     try {
       long startTime = System.currentTimeMillis();
       File reportDir = temp.newDir("batch-report");
@@ -95,8 +101,15 @@ public class PublishReportJob implements BatchComponent {
       LOG.info("Analysis reports generated in " + (stopTime - startTime) + "ms, dir size=" + FileUtils.byteCountToDisplaySize(FileUtils.sizeOfDirectory(reportDir)));
 
       startTime = System.currentTimeMillis();
+      // the many small files of the report are packed into a single indexed file, which is read
+      // by ranges by server instead of being unzipped into thousands of files. It is written
+      // directly into the zip, without intermediate file.
       File reportZip = temp.newFile("batch-report", ".zip");
-      ZipUtils.zipDir(reportDir, reportZip);
+      try (ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(reportZip)))) {
+        zip.putNextEntry(new ZipEntry(FileStructure.CONTAINER_FILENAME));
+        ReportContainer.pack(reportDir, zip);
+        zip.closeEntry();
+      }
       FileUtils.deleteDirectory(reportDir);
       stopTime = System.currentTimeMillis();
       LOG.info("Analysis reports compressed in " + (stopTime - startTime) + "ms, zip size=" + FileUtils.byteCountToDisplaySize(FileUtils.sizeOf(reportZip)));
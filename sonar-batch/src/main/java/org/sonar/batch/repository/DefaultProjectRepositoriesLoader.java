@@ -19,27 +19,50 @@
  */
 package org.sonar.batch.repository;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Files;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonar.api.batch.bootstrap.ProjectReactor;
+import org.sonar.api.utils.HttpDownloader;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.bootstrap.TaskProperties;
 import org.sonar.batch.protocol.input.ProjectRepositories;
 import org.sonar.batch.rule.ModuleQProfiles;
+import org.sonar.home.cache.FileCache;
 
+import javax.annotation.CheckForNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Project repositories are downloaded in protobuf format. The response of the last analysis
+ * is kept in the user cache and is sent back as the ETag of the request, so that the server
+ * answers 304 Not Modified without body when nothing changed. Responses with secured settings
+ * are never cached.
+ */
 public class DefaultProjectRepositoriesLoader implements ProjectRepositoriesLoader {
 
   private static final Logger LOG = LoggerFactory.getLogger(DefaultProjectRepositoriesLoader.class);
 
   private static final String BATCH_PROJECT_URL = "/batch/project";
+  private static final String CACHE_DIRNAME = "_project_repositories";
 
   private final ServerClient serverClient;
   private final DefaultAnalysisMode analysisMode;
+  private final File cacheDir;
 
-  public DefaultProjectRepositoriesLoader(ServerClient serverClient, DefaultAnalysisMode analysisMode) {
+  public DefaultProjectRepositoriesLoader(ServerClient serverClient, DefaultAnalysisMode analysisMode, FileCache fileCache) {
     this.serverClient = serverClient;
     this.analysisMode = analysisMode;
+    this.cacheDir = new File(fileCache.getDir(), CACHE_DIRNAME);
   }
 
   @Override
@@ -52,7 +75,84 @@ public class DefaultProjectRepositoriesLoader implements ProjectRepositoriesLoad
       url += "&profile=" + ServerClient.encodeForUrl(taskProperties.properties().get(ModuleQProfiles.SONAR_PROFILE_PROP));
     }
     url += "&preview=" + analysisMode.isPreview();
-    return ProjectRepositories.fromJson(serverClient.request(url));
+    url += "&format=protobuf";
+
+    // responses depend on server and on permissions of user
+    File cacheFile = new File(cacheDir, DigestUtils.sha1Hex(serverClient.getURL() + url + "|" + serverClient.getLogin()));
+    byte[] cached = readCache(cacheFile);
+    Map<String, String> headers = cached == null ? Collections.<String, String>emptyMap() : ImmutableMap.of("If-None-Match", etag(cached));
+    try {
+      byte[] bytes = ByteStreams.toByteArray(serverClient.doRequest(url, "GET", null, headers));
+      ProjectRepositories repositories = ProjectRepositories.fromProtobuf(bytes);
+      if (hasSecuredSettings(repositories)) {
+        // secured settings, for example passwords, must not be stored in clear in the user home
+        deleteCache(cacheFile);
+      } else {
+        writeCache(cacheFile, bytes);
+      }
+      return repositories;
+    } catch (HttpDownloader.HttpException e) {
+      if (e.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+        LOG.debug("Project repositories did not change, use the copy from cache");
+        return ProjectRepositories.fromProtobuf(cached);
+      }
+      throw serverClient.handleHttpException(e);
+    } catch (IOException e) {
+      throw new IllegalStateException(String.format("Unable to request: %s", url), e);
+    }
+  }
+
+  /**
+   * Same value as the ETag returned by server
+   */
+  private static String etag(byte[] response) {
+    return "\"" + DigestUtils.sha1Hex(response) + "\"";
+  }
+
+  private static boolean hasSecuredSettings(ProjectRepositories repositories) {
+    for (Map<String, String> settings : repositories.settingsByModule().values()) {
+      for (String key : settings.keySet()) {
+        if (key.endsWith(".secured")) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @CheckForNull
+  private static byte[] readCache(File cacheFile) {
+    if (!cacheFile.isFile()) {
+      return null;
+    }
+    try {
+      return Files.toByteArray(cacheFile);
+    } catch (IOException e) {
+      LOG.debug("Fail to read " + cacheFile, e);
+      return null;
+    }
+  }
+
+  private static void deleteCache(File cacheFile) {
+    if (cacheFile.exists() && !cacheFile.delete()) {
+      LOG.debug("Fail to delete " + cacheFile);
+    }
+  }
+
+  private static void writeCache(File cacheFile, byte[] bytes) {
+    try {
+      Files.createParentDirs(cacheFile);
+      // write to temp file then rename, so that concurrent analyses never read incomplete files
+      File tempFile = File.createTempFile(cacheFile.getName(), ".tmp", cacheFile.getParentFile());
+      Files.write(bytes, tempFile);
+      if (!tempFile.renameTo(cacheFile)) {
+        Files.copy(tempFile, cacheFile);
+        tempFile.delete();
+      }
+    } catch (IOException e) {
+      // cache is optional
+      LOG.debug("Fail to write " + cacheFile, e);
+    }
   }
 
 }
@@ -20,36 +20,232 @@
 package org.sonar.batch.repository;
 
 import com.google.common.base.Function;
+import com.google.common.io.Files;
 import com.google.common.io.InputSupplier;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sonar.api.config.Settings;
+import org.sonar.api.issue.Issue;
 import org.sonar.api.utils.HttpDownloader;
+import org.sonar.api.utils.System2;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.protocol.input.BatchInput.ServerIssue;
+import org.sonar.core.computation.dbcleaner.DbCleanerConstants;
+import org.sonar.home.cache.FileCache;
 
+import javax.annotation.CheckForNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * The issues returned by server are kept in the user cache, along with the most recent technical
+ * update date of these issues. Next analyses only request the issues changed since this date, and
+ * apply them to the local copy. Closed issues are removed from the copy.
+ * <p/>
+ * Closed issues are eventually deleted on server side, after
+ * {@link DbCleanerConstants#DAYS_BEFORE_DELETING_CLOSED_ISSUES} days. Deleted issues are not returned anymore,
+ * so the local copy is fully reloaded when the last synchronization is older than this period.
+ * <p/>
+ * Format of the local copy: the cursor as a long, followed by the length-delimited {@link ServerIssue} messages.
+ */
 public class DefaultServerIssuesLoader implements ServerIssuesLoader {
 
+  private static final Logger LOG = LoggerFactory.getLogger(DefaultServerIssuesLoader.class);
+
+  private static final String STORE_DIRNAME = "_server_issues";
+
+  /**
+   * Issues are indexed asynchronously on server side, so some changes older than the cursor
+   * may become visible after the previous synchronization. They are requested again.
+   */
+  static final long CURSOR_OVERLAP_MS = 10L * 60 * 1000;
+
+  static final int DEFAULT_DAYS_BEFORE_DELETING_CLOSED_ISSUES = 30;
+
   private final ServerClient serverClient;
+  private final Settings settings;
+  private final System2 system;
+  private final File storeDir;
 
-  public DefaultServerIssuesLoader(ServerClient serverClient) {
+  public DefaultServerIssuesLoader(ServerClient serverClient, FileCache fileCache, Settings settings, System2 system) {
     this.serverClient = serverClient;
+    this.settings = settings;
+    this.system = system;
+    this.storeDir = new File(fileCache.getDir(), STORE_DIRNAME);
   }
 
   @Override
   public void load(String componentKey, Function<ServerIssue, Void> consumer, boolean incremental) {
-    InputSupplier<InputStream> request = serverClient.doRequest("/batch/issues?key=" + ServerClient.encodeForUrl(componentKey), "GET", null);
-    try (InputStream is = request.getInput()) {
-      ServerIssue previousIssue = ServerIssue.parseDelimitedFrom(is);
-      while (previousIssue != null) {
-        consumer.apply(previousIssue);
-        previousIssue = ServerIssue.parseDelimitedFrom(is);
+    // issues depend on server and on permissions of user
+    File storeFile = new File(storeDir, DigestUtils.sha1Hex(serverClient.getURL() + "|" + componentKey + "|" + serverClient.getLogin()));
+    Long cursor = readCursor(storeFile);
+    if (cursor != null && isOlderThanPurge(storeFile)) {
+      LOG.debug("Last synchronization of issues is older than the deletion of closed issues, issues are fully reloaded");
+      cursor = null;
+    }
+    String url = "/batch/issues?key=" + ServerClient.encodeForUrl(componentKey);
+    if (cursor != null) {
+      url += "&changedSince=" + Math.max(0L, cursor - CURSOR_OVERLAP_MS);
+    }
+
+    StoreWriter store = new StoreWriter(storeFile);
+    try {
+      long maxUpdateDate = cursor == null ? 0L : cursor;
+      Map<String, ServerIssue> changedIssues = new LinkedHashMap<>();
+      InputSupplier<InputStream> request = serverClient.doRequest(url, "GET", null);
+      try (InputStream is = request.getInput()) {
+        ServerIssue issue = ServerIssue.parseDelimitedFrom(is);
+        while (issue != null) {
+          maxUpdateDate = Math.max(maxUpdateDate, issue.getUpdateDate());
+          if (cursor == null) {
+            consumer.apply(issue);
+            store.write(issue);
+          } else {
+            changedIssues.put(issue.getKey(), issue);
+          }
+          issue = ServerIssue.parseDelimitedFrom(is);
+        }
+      }
+      if (cursor != null) {
+        LOG.debug("{} issues changed on server since last synchronization", changedIssues.size());
+        applyChanges(storeFile, changedIssues, consumer, store);
       }
+      store.commit(maxUpdateDate);
     } catch (HttpDownloader.HttpException e) {
       throw serverClient.handleHttpException(e);
     } catch (IOException e) {
+      // next analysis executes a full synchronization
+      FileUtils.deleteQuietly(storeFile);
       throw new IllegalStateException("Unable to get previous issues", e);
+    } finally {
+      store.close();
+    }
+  }
+
+  private static void applyChanges(File storeFile, Map<String, ServerIssue> changedIssues, Function<ServerIssue, Void> consumer, StoreWriter store)
+    throws IOException {
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(storeFile)))) {
+      // skip cursor
+      input.readLong();
+      ServerIssue issue = ServerIssue.parseDelimitedFrom(input);
+      while (issue != null) {
+        if (!changedIssues.containsKey(issue.getKey())) {
+          consumer.apply(issue);
+          store.write(issue);
+        }
+        issue = ServerIssue.parseDelimitedFrom(input);
+      }
+    }
+    for (ServerIssue changedIssue : changedIssues.values()) {
+      if (!Issue.STATUS_CLOSED.equals(changedIssue.getStatus())) {
+        consumer.apply(changedIssue);
+        store.write(changedIssue);
+      }
+    }
+  }
+
+  /**
+   * The local copy is rewritten by each synchronization
+   */
+  private boolean isOlderThanPurge(File storeFile) {
+    int days = settings.hasKey(DbCleanerConstants.DAYS_BEFORE_DELETING_CLOSED_ISSUES) ?
+      settings.getInt(DbCleanerConstants.DAYS_BEFORE_DELETING_CLOSED_ISSUES) : DEFAULT_DAYS_BEFORE_DELETING_CLOSED_ISSUES;
+    return system.now() - storeFile.lastModified() >= TimeUnit.DAYS.toMillis(days);
+  }
+
+  @CheckForNull
+  private static Long readCursor(File storeFile) {
+    if (!storeFile.isFile()) {
+      return null;
+    }
+    try (DataInputStream input = new DataInputStream(new FileInputStream(storeFile))) {
+      long cursor = input.readLong();
+      return cursor > 0L ? cursor : null;
+    } catch (IOException e) {
+      LOG.debug("Fail to read " + storeFile, e);
+      return null;
     }
   }
 
+  /**
+   * The local copy is optional, so failures are only logged. It is written to a temporary file
+   * then renamed, so that concurrent analyses never read incomplete files.
+   */
+  private static class StoreWriter implements Closeable {
+    private final File storeFile;
+    private File tempFile;
+    private OutputStream output;
+
+    StoreWriter(File storeFile) {
+      this.storeFile = storeFile;
+      try {
+        Files.createParentDirs(storeFile);
+        tempFile = File.createTempFile(storeFile.getName(), ".tmp", storeFile.getParentFile());
+        output = new BufferedOutputStream(new FileOutputStream(tempFile));
+        // placeholder of cursor, which is known only when all issues are written
+        output.write(new byte[8]);
+      } catch (IOException e) {
+        fail(e);
+      }
+    }
+
+    void write(ServerIssue issue) {
+      if (output != null) {
+        try {
+          issue.writeDelimitedTo(output);
+        } catch (IOException e) {
+          fail(e);
+        }
+      }
+    }
+
+    /**
+     * The copy is dropped when issues have no update dates, as there is no cursor to request changes
+     */
+    void commit(long cursor) {
+      if (output == null || cursor <= 0L) {
+        return;
+      }
+      try {
+        output.close();
+        output = null;
+        try (RandomAccessFile file = new RandomAccessFile(tempFile, "rw")) {
+          file.writeLong(cursor);
+        }
+        if (!tempFile.renameTo(storeFile)) {
+          Files.copy(tempFile, storeFile);
+        }
+      } catch (IOException e) {
+        fail(e);
+      }
+    }
+
+    private void fail(IOException e) {
+      LOG.debug("Fail to write " + storeFile, e);
+      IOUtils.closeQuietly(output);
+      output = null;
+    }
+
+    @Override
+    public void close() {
+      IOUtils.closeQuietly(output);
+      FileUtils.deleteQuietly(tempFile);
+    }
+  }
 }
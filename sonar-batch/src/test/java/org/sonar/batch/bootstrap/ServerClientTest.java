@@ -20,7 +20,9 @@
 package org.sonar.batch.bootstrap;
 
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Files;
+import com.google.common.io.InputSupplier;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.Request;
@@ -31,6 +33,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
+import org.sonar.api.utils.HttpDownloader;
 import org.sonar.batch.bootstrapper.EnvironmentInformation;
 
 import javax.servlet.ServletException;
@@ -39,10 +42,15 @@ import javax.servlet.http.HttpServletResponse;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
 
 import static javax.servlet.http.HttpServletResponse.SC_OK;
 import static org.apache.commons.io.IOUtils.write;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -82,6 +90,33 @@ public class ServerClientTest {
     assertThat(newServerClient().request("/foo")).isEqualTo("this is the content");
   }
 
+  @Test
+  public void should_send_request_headers() throws Exception {
+    server = new MockHttpServer();
+    server.start();
+    server.setMockResponseData("this is the content");
+
+    InputSupplier<InputStream> input = newServerClient().doRequest("/foo", "GET", null, ImmutableMap.of("If-None-Match", "\"abc\""));
+
+    assertThat(IOUtils.toString(input.getInput())).isEqualTo("this is the content");
+    assertThat(server.getRequestHeaders()).containsEntry("If-None-Match", "\"abc\"");
+  }
+
+  @Test
+  public void should_fail_if_not_modified() throws Exception {
+    server = new MockHttpServer();
+    server.start();
+    server.setMockResponseStatus(304);
+
+    InputSupplier<InputStream> input = newServerClient().doRequest("/foo", "GET", null, ImmutableMap.of("If-None-Match", "\"abc\""));
+    try {
+      input.getInput();
+      fail();
+    } catch (HttpDownloader.HttpException e) {
+      assertThat(e.getResponseCode()).isEqualTo(304);
+    }
+  }
+
   @Test
   public void should_escape_html_from_url() throws Exception {
     server = new MockHttpServer();
@@ -160,6 +195,7 @@ public class ServerClientTest {
     private Server server;
     private String responseBody;
     private String requestBody;
+    private final Map<String, String> requestHeaders = new HashMap<>();
     private String mockResponseData;
     private int mockResponseStatus = SC_OK;
 
@@ -180,6 +216,10 @@ public class ServerClientTest {
         public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException, ServletException {
           setResponseBody(getMockResponseData());
           setRequestBody(IOUtils.toString(baseRequest.getInputStream()));
+          for (Enumeration names = request.getHeaderNames(); names.hasMoreElements();) {
+            String name = (String) names.nextElement();
+            requestHeaders.put(name, request.getHeader(name));
+          }
           response.setStatus(mockResponseStatus);
           response.setContentType("text/xml;charset=utf-8");
           write(getResponseBody(), response.getOutputStream());
@@ -215,6 +255,10 @@ public class ServerClientTest {
       this.requestBody = requestBody;
     }
 
+    public Map<String, String> getRequestHeaders() {
+      return requestHeaders;
+    }
+
     public void setMockResponseStatus(int status) {
       this.mockResponseStatus = status;
     }
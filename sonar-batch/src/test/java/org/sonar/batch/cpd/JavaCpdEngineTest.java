@@ -27,22 +27,35 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.apache.commons.io.FileUtils;
+import org.sonar.api.batch.fs.InputFile;
+import org.sonar.api.batch.fs.internal.DefaultFileSystem;
 import org.sonar.api.batch.fs.internal.DeprecatedDefaultInputFile;
 import org.sonar.api.batch.sensor.SensorContext;
 import org.sonar.api.batch.sensor.duplication.NewDuplication;
 import org.sonar.api.batch.sensor.duplication.internal.DefaultDuplication;
 import org.sonar.api.batch.sensor.measure.Measure;
 import org.sonar.api.batch.sensor.measure.internal.DefaultMeasure;
+import org.sonar.api.batch.sensor.duplication.Duplication;
+import org.sonar.api.config.Settings;
 import org.sonar.api.measures.CoreMetrics;
+import org.sonar.batch.cpd.index.IndexFactory;
+import org.sonar.batch.cpd.index.SonarDuplicationsIndex;
 import org.sonar.duplications.index.CloneGroup;
 import org.sonar.duplications.index.ClonePart;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -151,4 +164,50 @@ public class JavaCpdEngineTest {
     return CloneGroup.builder().setLength(0).setOrigin(parts[0]).setParts(Arrays.asList(parts)).build();
   }
 
+  @Test
+  public void number_of_threads() {
+    Settings settings = new Settings();
+    assertThat(JavaCpdEngine.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(JavaCpdEngine.THREADS_PROPERTY, 4);
+    assertThat(JavaCpdEngine.numberOfThreads(settings)).isEqualTo(4);
+
+    settings.setProperty(JavaCpdEngine.THREADS_PROPERTY, -1);
+    try {
+      JavaCpdEngine.numberOfThreads(settings);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Bad value of sonar.cpd.java.threads: -1");
+    }
+  }
+
+  @Test
+  public void detect_duplications_concurrently() throws Exception {
+    File baseDir = temp.newFolder();
+    DefaultFileSystem fs = new DefaultFileSystem(baseDir).setEncoding(StandardCharsets.UTF_8);
+    StringBuilder source = new StringBuilder("public class Foo {\n");
+    for (int i = 0; i < 20; i++) {
+      source.append("  int field").append(i).append(" = ").append(i).append(";\n");
+    }
+    source.append("}\n");
+    for (int i = 1; i <= 4; i++) {
+      File file = new File(baseDir, "src/main/java/Foo" + i + ".java");
+      FileUtils.write(file, source.toString(), StandardCharsets.UTF_8);
+      fs.add(new DeprecatedDefaultInputFile("foo", "src/main/java/Foo" + i + ".java")
+        .setModuleBaseDir(baseDir.toPath())
+        .setLanguage("java")
+        .setType(InputFile.Type.MAIN)
+        .setLines(22));
+    }
+    IndexFactory indexFactory = mock(IndexFactory.class);
+    when(indexFactory.create(null, "java")).thenReturn(new SonarDuplicationsIndex());
+    Settings settings = new Settings();
+    settings.setProperty(JavaCpdEngine.THREADS_PROPERTY, 2);
+
+    new JavaCpdEngine(indexFactory, fs, settings).analyse("java", context);
+
+    // each of the 4 files is duplicated
+    verify(storage, times(4)).store(any(Duplication.class));
+  }
+
 }
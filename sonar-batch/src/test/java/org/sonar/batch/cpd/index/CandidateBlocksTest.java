@@ -0,0 +1,96 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.cpd.index;
+
+import org.junit.Test;
+import org.sonar.core.duplication.DuplicationUnitDto;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CandidateBlocksTest {
+
+  @Test
+  public void get_blocks_by_hash() {
+    CandidateBlocks.Builder builder = CandidateBlocks.builder();
+    // unsigned order of hashes differs from signed order
+    builder.add(unit("ffffffffffffffff", "foo:A", 0, 1, 10));
+    builder.add(unit("0000000000000001", "foo:A", 1, 2, 11));
+    builder.add(unit("ffffffffffffffff", "bar:B", 4, 5, 14));
+    builder.add(unit("8000000000000000", "bar:B", 3, 4, 13));
+    CandidateBlocks candidates = builder.build();
+
+    assertThat(candidates.size()).isEqualTo(4);
+    Collection<Block> blocks = candidates.getBySequenceHash(new ByteArray(-1L));
+    assertThat(blocks).hasSize(2);
+    assertThat(blocks).containsOnly(
+      Block.builder().setResourceId("foo:A").setBlockHash(new ByteArray(-1L)).setIndexInFile(0).setLines(1, 10).build(),
+      Block.builder().setResourceId("bar:B").setBlockHash(new ByteArray(-1L)).setIndexInFile(4).setLines(5, 14).build());
+
+    blocks = candidates.getBySequenceHash(new ByteArray(Long.MIN_VALUE));
+    assertThat(blocks).hasSize(1);
+    Block block = blocks.iterator().next();
+    assertThat(block.getResourceId()).isEqualTo("bar:B");
+    assertThat(block.getIndexInFile()).isEqualTo(3);
+    assertThat(block.getStartLine()).isEqualTo(4);
+    assertThat(block.getEndLine()).isEqualTo(13);
+
+    assertThat(candidates.getBySequenceHash(new ByteArray(1L))).hasSize(1);
+    assertThat(candidates.getBySequenceHash(new ByteArray(2L))).isEmpty();
+  }
+
+  @Test
+  public void many_blocks() {
+    CandidateBlocks.Builder builder = CandidateBlocks.builder();
+    for (long i = 0; i < 10000; i++) {
+      // spread hashes over partitions
+      long hash = i * 0x9E3779B97F4A7C15L;
+      builder.add(unit(new ByteArray(hash).toString(), "foo:" + (i % 10), (int) i, 1, 2));
+    }
+    CandidateBlocks candidates = builder.build();
+
+    for (long i = 0; i < 10000; i++) {
+      long hash = i * 0x9E3779B97F4A7C15L;
+      Collection<Block> blocks = candidates.getBySequenceHash(new ByteArray(hash));
+      assertThat(blocks).hasSize(1);
+      assertThat(blocks.iterator().next().getIndexInFile()).isEqualTo((int) i);
+      assertThat(blocks.iterator().next().getResourceId()).isEqualTo("foo:" + (i % 10));
+    }
+  }
+
+  @Test
+  public void hashes_that_are_not_longs() {
+    CandidateBlocks.Builder builder = CandidateBlocks.builder();
+    builder.add(unit("aa", "foo:A", 0, 1, 10));
+    CandidateBlocks candidates = builder.build();
+
+    assertThat(candidates.getBySequenceHash(new ByteArray("aa"))).hasSize(1);
+    assertThat(candidates.getBySequenceHash(new ByteArray(1L))).isEmpty();
+  }
+
+  private static DuplicationUnitDto unit(String hash, String resourceKey, int indexInFile, int startLine, int endLine) {
+    DuplicationUnitDto unit = new DuplicationUnitDto(1, 2, hash, indexInFile, startLine, endLine);
+    unit.setResourceKey(resourceKey);
+    return unit;
+  }
+}
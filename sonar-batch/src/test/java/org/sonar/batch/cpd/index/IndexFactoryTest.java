@@ -22,15 +22,25 @@ package org.sonar.batch.cpd.index;
 import org.sonar.batch.cpd.index.IndexFactory;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.sonar.api.CoreProperties;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
 import org.sonar.api.config.Settings;
 import org.sonar.api.database.DatabaseSession;
 import org.sonar.api.resources.Project;
+import org.sonar.api.utils.internal.DefaultTempFolder;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.index.ResourceCache;
 import org.sonar.core.duplication.DuplicationDao;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import java.io.File;
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -38,18 +48,25 @@ import static org.mockito.Mockito.when;
 
 public class IndexFactoryTest {
 
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
   Project project;
   Settings settings;
   IndexFactory factory;
   Logger logger;
   private DefaultAnalysisMode analysisMode;
 
+  File tempDir;
+
   @Before
-  public void setUp() {
+  public void setUp() throws Exception {
+    tempDir = temp.newFolder();
     project = new Project("foo");
     settings = new Settings();
     analysisMode = mock(DefaultAnalysisMode.class);
-    factory = new IndexFactory(analysisMode, settings, mock(DuplicationDao.class), mock(DatabaseSession.class), new ResourceCache());
+    factory = new IndexFactory(analysisMode, settings, mock(DuplicationDao.class), mock(DatabaseSession.class), new ResourceCache(),
+      new DefaultTempFolder(tempDir));
     logger = mock(Logger.class);
   }
 
@@ -83,4 +100,22 @@ public class IndexFactoryTest {
     verify(logger).info("Cross-project analysis disabled");
   }
 
+  @Test
+  public void create_off_heap_index() {
+    settings.setProperty(IndexFactory.OFF_HEAP_PROPERTY, "true");
+    SonarDuplicationsIndex index = factory.create(null, "java");
+    DefaultInputFile inputFile = new DefaultInputFile("foo", "src/Foo.java");
+    index.insert(inputFile, Arrays.asList(Block.builder()
+      .setResourceId("foo:src/Foo.java")
+      .setBlockHash(new ByteArray(1L))
+      .setIndexInFile(0)
+      .setLines(1, 10)
+      .build()));
+    assertThat(index.getByInputFile(inputFile, "foo:src/Foo.java")).hasSize(1);
+    assertThat(tempDir.list()).isNotEmpty();
+
+    index.close();
+    assertThat(tempDir.listFiles()[0].list()).isEmpty();
+  }
+
 }
@@ -25,17 +25,34 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 import org.sonar.batch.index.Cache.Entry;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
+@RunWith(Parameterized.class)
 public class CacheTest {
 
   @Rule
   public TemporaryFolder temp = new TemporaryFolder();
 
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> backends() {
+    return Arrays.asList(new Object[][] {{Caches.Backend.PERSISTIT}, {Caches.Backend.HEAP}, {Caches.Backend.OFF_HEAP}});
+  }
+
+  private final Caches.Backend backend;
+
   Caches caches;
 
+  public CacheTest(Caches.Backend backend) {
+    this.backend = backend;
+  }
+
   @Before
   public void start() throws Exception {
     caches = CachesTest.createCacheOnTemp(temp);
@@ -49,7 +66,7 @@ public class CacheTest {
 
   @Test
   public void one_part_key() throws Exception {
-    Cache<String> cache = caches.createCache("capitals");
+    Cache<String> cache = caches.createCache("capitals", backend);
 
     assertThat(cache.get("france")).isNull();
 
@@ -87,7 +104,7 @@ public class CacheTest {
 
   @Test
   public void test_key_being_prefix_of_another_key() throws Exception {
-    Cache<String> cache = caches.createCache("components");
+    Cache<String> cache = caches.createCache("components", backend);
 
     cache.put("struts-el:org.apache.strutsel.taglib.html.ELButtonTag", "the Tag");
     cache.put("struts-el:org.apache.strutsel.taglib.html.ELButtonTagBeanInfo", "the BeanInfo");
@@ -98,7 +115,7 @@ public class CacheTest {
 
   @Test
   public void two_parts_key() throws Exception {
-    Cache<String> cache = caches.createCache("capitals");
+    Cache<String> cache = caches.createCache("capitals", backend);
 
     assertThat(cache.get("europe", "france")).isNull();
 
@@ -154,7 +171,7 @@ public class CacheTest {
 
   @Test
   public void three_parts_key() throws Exception {
-    Cache<String> cache = caches.createCache("places");
+    Cache<String> cache = caches.createCache("places", backend);
     assertThat(cache.get("europe", "france", "paris")).isNull();
 
     cache.put("europe", "france", "paris", "eiffel tower");
@@ -230,7 +247,7 @@ public class CacheTest {
 
   @Test
   public void remove_versus_clear() throws Exception {
-    Cache<String> cache = caches.createCache("capitals");
+    Cache<String> cache = caches.createCache("capitals", backend);
     cache.put("europe", "france", "paris");
     cache.put("europe", "italy", "rome");
 
@@ -243,9 +260,21 @@ public class CacheTest {
     assertThat(cache.values()).isEmpty();
   }
 
+  @Test
+  public void keys_are_sorted_by_type_then_by_value() throws Exception {
+    Cache<String> cache = caches.createCache("mixed", backend);
+    cache.put("b", "string b");
+    cache.put(10, "int 10");
+    cache.put("a", "string a");
+    cache.put(2, "int 2");
+
+    assertThat(cache.values()).containsExactly("int 2", "int 10", "string a", "string b");
+    assertThat(cache.keySet()).containsExactly(2, 10, "a", "b");
+  }
+
   @Test
   public void empty_cache() throws Exception {
-    Cache<String> cache = caches.createCache("empty");
+    Cache<String> cache = caches.createCache("empty", backend);
 
     assertThat(cache.get("foo")).isNull();
     assertThat(cache.get("foo", "bar")).isNull();
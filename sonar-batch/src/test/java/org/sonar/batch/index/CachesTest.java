@@ -20,12 +20,14 @@
 package org.sonar.batch.index;
 
 import com.google.common.collect.ImmutableMap;
+import org.apache.commons.lang.SystemUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 import org.sonar.api.CoreProperties;
+import org.sonar.api.config.Settings;
 import org.sonar.batch.bootstrap.BootstrapProperties;
 import org.sonar.batch.bootstrap.TempFolderProvider;
 
@@ -95,6 +97,46 @@ public class CachesTest {
     }
   }
 
+  @Test
+  public void select_backend_from_settings() throws Exception {
+    Settings settings = new Settings();
+    Caches cachesWithSettings = new Caches(new TempFolderProvider().provide(
+      new BootstrapProperties(ImmutableMap.of(CoreProperties.WORKING_DIRECTORY, temp.newFolder().getAbsolutePath()))), settings);
+    try {
+      assertThat(cachesWithSettings.backendOf("measures")).isEqualTo(Caches.Backend.PERSISTIT);
+
+      settings.setProperty("sonar.batch.cache.backend", "heap");
+      settings.setProperty("sonar.batch.cache.backend.measures", "off-heap");
+      assertThat(cachesWithSettings.backendOf("measures")).isEqualTo(Caches.Backend.OFF_HEAP);
+      assertThat(cachesWithSettings.backendOf("issues")).isEqualTo(Caches.Backend.HEAP);
+
+      settings.setProperty("sonar.batch.cache.backend.issues", "unknown");
+      try {
+        cachesWithSettings.backendOf("issues");
+        fail();
+      } catch (IllegalArgumentException e) {
+        assertThat(e).hasMessage("Bad backend of cache issues: unknown");
+      }
+    } finally {
+      cachesWithSettings.stop();
+    }
+  }
+
+  @Test
+  public void close_backends_on_stop() throws Exception {
+    caches.start();
+    Cache<String> cache = caches.<String>createCache("foo", Caches.Backend.OFF_HEAP).put("key", "value");
+    File tempDir = caches.tempDir();
+    assertThat(new File(tempDir, "foo.offheap")).exists();
+
+    caches.stop();
+    assertThat(((OffHeapCacheBackend<String>) cache.backend()).isClosed()).isTrue();
+    // on Windows the off-heap file can not be deleted while its segments are still mapped
+    if (!SystemUtils.IS_OS_WINDOWS) {
+      assertThat(tempDir).doesNotExist();
+    }
+  }
+
   static class Element implements Serializable {
 
   }
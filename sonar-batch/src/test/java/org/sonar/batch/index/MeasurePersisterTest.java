@@ -44,6 +44,8 @@ import java.util.Arrays;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class MeasurePersisterTest extends AbstractDaoTestCase {
@@ -60,6 +62,7 @@ public class MeasurePersisterTest extends AbstractDaoTestCase {
 
   MeasurePersister measurePersister;
   RuleFinder ruleFinder = mock(RuleFinder.class);
+  MetricFinder metricFinder = mock(MetricFinder.class);
   Project project = new Project("foo");
   Directory aDirectory = Directory.create("org/foo");
   File aFile = File.create("org/foo/Bar.java");
@@ -76,7 +79,6 @@ public class MeasurePersisterTest extends AbstractDaoTestCase {
     when(resourceCache.get("foo:org/foo/Bar.java")).thenReturn(fileResource);
     when(resourceCache.get("foo:org/foo")).thenReturn(dirResource);
 
-    MetricFinder metricFinder = mock(MetricFinder.class);
     Metric ncloc = ncloc();
     Metric coverage = coverage();
     when(metricFinder.findByKey(ncloc.getKey())).thenReturn(ncloc);
@@ -124,6 +126,27 @@ public class MeasurePersisterTest extends AbstractDaoTestCase {
     checkTables("shouldInsertRuleMeasure", "project_measures");
   }
 
+  @Test
+  public void should_resolve_metrics_and_rules_once() {
+    setupData("empty");
+
+    Rule rule = Rule.create("pmd", "key");
+    rule.setId(30);
+    when(ruleFinder.findByKey(rule.ruleKey())).thenReturn(rule);
+
+    Measure measure1 = new RuleMeasure(ncloc(), rule, RulePriority.MAJOR, 1).setValue(10.0);
+    Measure measure2 = new RuleMeasure(ncloc(), rule, RulePriority.MAJOR, 1).setValue(20.0);
+    when(measureCache.entries()).thenReturn(Arrays.asList(
+      new Cache.Entry<Measure>(new String[] {"foo", "ncloc"}, measure1),
+      new Cache.Entry<Measure>(new String[] {"foo:org/foo", "ncloc"}, measure2)));
+
+    measurePersister.persist();
+
+    checkTables("shouldResolveMetricsAndRulesOnce", "project_measures");
+    verify(metricFinder, times(1)).findByKey("ncloc");
+    verify(ruleFinder, times(1)).findByKey(rule.ruleKey());
+  }
+
   @Test
   public void should_insert_measure_with_text_data() {
     setupData("empty");
@@ -0,0 +1,162 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.index;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.SystemUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OffHeapCacheBackendTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  Caches caches;
+  File file;
+  OffHeapCacheBackend<String> backend;
+
+  @Before
+  public void start() throws Exception {
+    caches = CachesTest.createCacheOnTemp(temp);
+    file = temp.newFile();
+    backend = new OffHeapCacheBackend<String>(caches.persistit(), file, 64);
+  }
+
+  @After
+  public void stop() {
+    backend.close();
+    caches.stop();
+  }
+
+  @Test
+  public void values_are_stored_in_many_segments() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      backend.put(new Object[] {"key", i}, "value" + i);
+    }
+    // larger than a segment
+    String large = StringUtils.repeat("x", 1000);
+    backend.put(new Object[] {"large"}, large);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(backend.get(new Object[] {"key", i})).isEqualTo("value" + i);
+    }
+    assertThat(backend.get(new Object[] {"large"})).isEqualTo(large);
+    assertThat(file.length()).isGreaterThan(1000L);
+  }
+
+  @Test
+  public void overwrite_value() throws Exception {
+    backend.put(new Object[] {"key"}, "foo");
+    backend.put(new Object[] {"key"}, "bar");
+    assertThat(backend.get(new Object[] {"key"})).isEqualTo("bar");
+
+    backend.clear(new Object[0]);
+    assertThat(backend.get(new Object[] {"key"})).isNull();
+    backend.put(new Object[] {"key"}, "baz");
+    assertThat(backend.get(new Object[] {"key"})).isEqualTo("baz");
+  }
+
+  @Test
+  public void reuse_file_after_full_clear() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      backend.put(new Object[] {"key", i}, "value" + i);
+    }
+    long fileLength = backend.fileLength();
+    assertThat(file.length()).isEqualTo(fileLength);
+
+    for (int cycle = 0; cycle < 3; cycle++) {
+      backend.clear(new Object[0]);
+      for (int i = 0; i < 100; i++) {
+        backend.put(new Object[] {"key", i}, "value" + i);
+      }
+    }
+    assertThat(backend.fileLength()).isEqualTo(fileLength);
+    assertThat(file.length()).isEqualTo(fileLength);
+    assertThat(backend.get(new Object[] {"key", 99})).isEqualTo("value99");
+  }
+
+  @Test
+  public void reclaim_space_of_removed_values() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      backend.put(new Object[] {"key", i}, "value" + i);
+    }
+    long fileLength = backend.fileLength();
+
+    for (int i = 10; i < 100; i++) {
+      backend.remove(new Object[] {"key", i});
+    }
+
+    assertThat(backend.compactions()).isGreaterThan(0);
+    assertThat(backend.fileLength()).isLessThan(fileLength);
+    for (int i = 0; i < 10; i++) {
+      assertThat(backend.get(new Object[] {"key", i})).isEqualTo("value" + i);
+    }
+    assertThat(backend.get(new Object[] {"key", 10})).isNull();
+    // previous file is deleted
+    assertThat(file).doesNotExist();
+  }
+
+  @Test
+  public void reclaim_space_of_cleared_prefix() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      backend.put(new Object[] {"a", i}, "a" + i);
+      backend.put(new Object[] {"b", i}, "b" + i);
+    }
+    backend.clear(new Object[] {"a"});
+    backend.put(new Object[] {"c"}, "c");
+    backend.clear(new Object[] {"c"});
+
+    assertThat(backend.compactions()).isGreaterThan(0);
+    assertThat(backend.keySet(new Object[0])).containsOnly("b");
+    for (int i = 0; i < 100; i++) {
+      assertThat(backend.get(new Object[] {"b", i})).isEqualTo("b" + i);
+    }
+  }
+
+  @Test
+  public void reclaim_space_of_overwritten_values() throws Exception {
+    for (int i = 0; i < 1000; i++) {
+      backend.put(new Object[] {"key"}, "value" + i);
+    }
+
+    assertThat(backend.compactions()).isGreaterThan(0);
+    assertThat(backend.fileLength()).isLessThan(1000L);
+    assertThat(backend.get(new Object[] {"key"})).isEqualTo("value999");
+  }
+
+  @Test
+  public void delete_file_on_close() throws Exception {
+    backend.put(new Object[] {"key"}, "foo");
+    backend.close();
+    assertThat(backend.isClosed()).isTrue();
+    // on Windows the file is still mapped until segments are garbage collected. It is deleted on exit.
+    if (!SystemUtils.IS_OS_WINDOWS) {
+      assertThat(file).doesNotExist();
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.batch.index;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.api.batch.fs.internal.DefaultInputFile;
+import org.sonar.api.batch.fs.internal.DeprecatedDefaultInputFile;
+import org.sonar.api.config.Settings;
+import org.sonar.api.resources.File;
+import org.sonar.api.resources.Project;
+import org.sonar.api.utils.System2;
+import org.sonar.batch.ProjectTree;
+import org.sonar.batch.scan.filesystem.InputFileMetadata;
+import org.sonar.batch.scan.filesystem.InputPathCache;
+import org.sonar.core.persistence.AbstractDaoTestCase;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SourcePersisterTest extends AbstractDaoTestCase {
+
+  InputPathCache inputPathCache = new InputPathCache();
+  ResourceCache resourceCache = mock(ResourceCache.class);
+  SourceDataFactory dataFactory = mock(SourceDataFactory.class);
+  System2 system2 = mock(System2.class);
+  Settings settings = new Settings();
+  SourcePersister persister;
+
+  @Before
+  public void setUp() throws Exception {
+    Project project = new Project("foo");
+    project.setUuid("projectUuid");
+    ProjectTree projectTree = mock(ProjectTree.class);
+    when(projectTree.getRootProject()).thenReturn(project);
+    when(system2.now()).thenReturn(1500000000000L);
+
+    // binary data is the name of file, for example "same" for file "src/same.java"
+    when(dataFactory.consolidateData(any(DefaultInputFile.class), any(InputFileMetadata.class))).thenAnswer(new Answer<byte[]>() {
+      @Override
+      public byte[] answer(InvocationOnMock invocation) throws Throwable {
+        DefaultInputFile inputFile = (DefaultInputFile) invocation.getArguments()[0];
+        return inputFile.file().getName().replace(".java", "").getBytes(StandardCharsets.UTF_8);
+      }
+    });
+
+    persister = new SourcePersister(inputPathCache, getMyBatis(), system2, projectTree, resourceCache, dataFactory, settings);
+  }
+
+  @Test
+  public void persist_only_changed_files() throws Exception {
+    setupData("persist_changed_files");
+    addFile("same");
+    addFile("changed");
+    addFile("new");
+    settings.setProperty(SourcePersister.THREADS_PROPERTY, 2);
+
+    persister.persist();
+
+    checkTables("persist_changed_files", new String[] {"id", "binary_data"}, "file_sources");
+  }
+
+  @Test
+  public void number_of_threads() throws Exception {
+    assertThat(SourcePersister.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(SourcePersister.THREADS_PROPERTY, 4);
+    assertThat(SourcePersister.numberOfThreads(settings)).isEqualTo(4);
+
+    settings.setProperty(SourcePersister.THREADS_PROPERTY, -1);
+    try {
+      SourcePersister.numberOfThreads(settings);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Bad value of sonar.sourcePersister.threads: -1");
+    }
+  }
+
+  private void addFile(String name) {
+    DefaultInputFile inputFile = new DeprecatedDefaultInputFile("foo", "src/" + name + ".java")
+      .setModuleBaseDir(new java.io.File("src").toPath());
+    inputPathCache.put("foo", inputFile);
+    inputPathCache.put("foo", inputFile.relativePath(), new InputFileMetadata().setHash("123456"));
+
+    File file = File.create(inputFile.relativePath());
+    file.setUuid("uuid" + name);
+    BatchResource batchResource = mock(BatchResource.class);
+    when(batchResource.resource()).thenReturn(file);
+    when(resourceCache.get(inputFile.key())).thenReturn(batchResource);
+  }
+}
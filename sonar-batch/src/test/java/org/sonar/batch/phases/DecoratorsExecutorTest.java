@@ -19,30 +19,59 @@
  */
 package org.sonar.batch.phases;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.sonar.api.batch.Decorator;
 import org.sonar.api.batch.DecoratorContext;
 import org.sonar.api.batch.SonarIndex;
+import org.sonar.api.batch.ThreadSafe;
+import org.sonar.api.config.Settings;
+import org.sonar.api.measures.CoreMetrics;
+import org.sonar.api.measures.Measure;
+import org.sonar.api.measures.MeasureUtils;
+import org.sonar.api.measures.Metric;
 import org.sonar.api.measures.MetricFinder;
+import org.sonar.api.resources.Directory;
 import org.sonar.api.resources.File;
 import org.sonar.api.resources.Project;
 import org.sonar.api.resources.Resource;
 import org.sonar.api.utils.SonarException;
 import org.sonar.batch.bootstrap.BatchExtensionDictionnary;
+import org.sonar.batch.cpd.decorators.DuplicationDensityDecorator;
+import org.sonar.batch.cpd.decorators.SumDuplicationsDecorator;
 import org.sonar.batch.deprecated.decorator.DefaultDecoratorContext;
 import org.sonar.batch.duplication.DuplicationCache;
 import org.sonar.batch.events.EventBus;
+import org.sonar.batch.index.Caches;
+import org.sonar.batch.index.CachesTest;
 import org.sonar.batch.scan.measure.MeasureCache;
 import org.sonar.batch.sensor.coverage.CoverageExclusions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.fail;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class DecoratorsExecutorTest {
 
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
   @Test
   public void shouldProfileExecutionTime() {
     Decorator1 decorator1 = new Decorator1();
@@ -67,7 +96,7 @@ public class DecoratorsExecutorTest {
     doThrow(new SonarException()).when(decorator).decorate(any(Resource.class), any(DecoratorContext.class));
 
     DecoratorsExecutor executor = new DecoratorsExecutor(mock(BatchExtensionDictionnary.class), new Project("key"), mock(SonarIndex.class),
-      mock(EventBus.class), mock(CoverageExclusions.class), mock(MeasureCache.class), mock(MetricFinder.class), mock(DuplicationCache.class));
+      mock(EventBus.class), mock(CoverageExclusions.class), mock(MeasureCache.class), mock(MetricFinder.class), mock(DuplicationCache.class), new Settings());
     try {
       executor.executeDecorator(decorator, mock(DefaultDecoratorContext.class), File.create("src/org/foo/Bar.java", null, false));
       fail("Exception has not been thrown");
@@ -77,6 +106,210 @@ public class DecoratorsExecutorTest {
     }
   }
 
+  @Test
+  public void number_of_threads() {
+    Settings settings = new Settings();
+    assertThat(DecoratorsExecutor.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(DecoratorsExecutor.THREADS_PROPERTY, 0);
+    assertThat(DecoratorsExecutor.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(DecoratorsExecutor.THREADS_PROPERTY, 4);
+    assertThat(DecoratorsExecutor.numberOfThreads(settings)).isEqualTo(4);
+
+    settings.setProperty(DecoratorsExecutor.THREADS_PROPERTY, -1);
+    try {
+      DecoratorsExecutor.numberOfThreads(settings);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Bad value of sonar.batch.decorators.threads: -1");
+    }
+  }
+
+  @Test
+  public void decorate_resources_concurrently() {
+    Project project = new Project("key");
+    Directory dir = Directory.create("src");
+    File file1 = File.create("src/Foo.java");
+    File file2 = File.create("src/Bar.java");
+    SonarIndex index = mock(SonarIndex.class);
+    when(index.getChildren(project)).thenReturn(Arrays.<Resource>asList(dir));
+    when(index.getChildren(dir)).thenReturn(Arrays.<Resource>asList(file1, file2));
+    MeasureCache measureCache = mock(MeasureCache.class);
+    when(measureCache.byResource(any(Resource.class))).thenReturn(Collections.<Measure>emptyList());
+
+    ThreadSafeDecorator threadSafeDecorator = new ThreadSafeDecorator();
+    RecordingDecorator otherDecorator = new RecordingDecorator();
+    BatchExtensionDictionnary dictionnary = mock(BatchExtensionDictionnary.class);
+    when(dictionnary.select(Decorator.class, project, false, null)).thenReturn(Arrays.<Decorator>asList(threadSafeDecorator, otherDecorator));
+    when(dictionnary.sort(anyCollection())).thenAnswer(returnsFirstArg());
+    Settings settings = new Settings();
+    settings.setProperty(DecoratorsExecutor.THREADS_PROPERTY, 2);
+
+    DecoratorsExecutor executor = new DecoratorsExecutor(dictionnary, project, index, mock(EventBus.class), mock(CoverageExclusions.class),
+      measureCache, mock(MetricFinder.class), mock(DuplicationCache.class), settings);
+    executor.execute();
+
+    assertThat(threadSafeDecorator.resources).containsOnly(project, dir, file1, file2);
+    assertThat(otherDecorator.resources).containsOnly(project, dir, file1, file2);
+    // children are decorated before parents
+    assertThat(otherDecorator.resources.indexOf(dir)).isGreaterThan(otherDecorator.resources.indexOf(file1));
+    assertThat(otherDecorator.resources.indexOf(dir)).isGreaterThan(otherDecorator.resources.indexOf(file2));
+    assertThat(otherDecorator.resources.get(3)).isEqualTo(project);
+    // decorators that are not thread-safe are executed by the calling thread
+    assertThat(otherDecorator.threads).containsOnly(Thread.currentThread());
+  }
+
+  @Test
+  public void decorate_tree_of_resources_concurrently() {
+    Caches caches = CachesTest.createCacheOnTemp(temp);
+    caches.start();
+    try {
+      Answer<Metric> coreMetric = new Answer<Metric>() {
+        @Override
+        public Metric answer(InvocationOnMock invocation) {
+          return CoreMetrics.getMetric((String) invocation.getArguments()[0]);
+        }
+      };
+      MetricFinder metricFinder = mock(MetricFinder.class);
+      when(metricFinder.findByKey(anyString())).thenAnswer(coreMetric);
+      org.sonar.api.batch.measure.MetricFinder batchMetricFinder = mock(org.sonar.api.batch.measure.MetricFinder.class);
+      when(batchMetricFinder.findByKey(anyString())).thenAnswer(coreMetric);
+      CoverageExclusions coverageExclusions = mock(CoverageExclusions.class);
+      when(coverageExclusions.accept(any(Resource.class), any(Measure.class))).thenReturn(true);
+      MeasureCache measureCache = new MeasureCache(caches, batchMetricFinder);
+
+      // 4 directories of 25 files. Each file has 10 lines, including 1 duplicated line
+      Project project = new Project("key");
+      project.setEffectiveKey("key");
+      SonarIndex index = mock(SonarIndex.class);
+      List<Resource> dirs = new ArrayList<>();
+      List<Resource> allFiles = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        Directory dir = Directory.create("src" + i);
+        dir.setEffectiveKey("key:src" + i);
+        dirs.add(dir);
+        List<Resource> files = new ArrayList<>();
+        for (int j = 0; j < 25; j++) {
+          File file = File.create("src" + i + "/File" + j + ".java");
+          file.setEffectiveKey("key:src" + i + "/File" + j + ".java");
+          measureCache.put(file, new Measure(CoreMetrics.LINES, 10.0));
+          measureCache.put(file, new Measure(CoreMetrics.DUPLICATED_LINES, 1.0));
+          files.add(file);
+        }
+        allFiles.addAll(files);
+        when(index.getChildren(dir)).thenReturn(files);
+      }
+      when(index.getChildren(project)).thenReturn(dirs);
+
+      CountFilesDecorator countFilesDecorator = new CountFilesDecorator(measureCache);
+      BatchExtensionDictionnary dictionnary = mock(BatchExtensionDictionnary.class);
+      when(dictionnary.select(Decorator.class, project, false, null)).thenReturn(Arrays.<Decorator>asList(
+        new SumDuplicationsDecorator(), new DuplicationDensityDecorator(), countFilesDecorator));
+      when(dictionnary.sort(anyCollection())).thenAnswer(returnsFirstArg());
+      Settings settings = new Settings();
+      settings.setProperty(DecoratorsExecutor.THREADS_PROPERTY, 4);
+
+      new DecoratorsExecutor(dictionnary, project, index, mock(EventBus.class), coverageExclusions,
+        measureCache, metricFinder, mock(DuplicationCache.class), settings).execute();
+
+      assertThat(measureCache.byMetric(project, CoreMetrics.DUPLICATED_LINES_KEY).iterator().next().getValue()).isEqualTo(100.0);
+      assertThat(measureCache.byMetric(project, CoreMetrics.FILES_KEY).iterator().next().getValue()).isEqualTo(100.0);
+      for (Resource dir : dirs) {
+        assertThat(measureCache.byMetric(dir, CoreMetrics.DUPLICATED_LINES_KEY).iterator().next().getValue()).isEqualTo(25.0);
+        assertThat(measureCache.byMetric(dir, CoreMetrics.FILES_KEY).iterator().next().getValue()).isEqualTo(25.0);
+      }
+      for (Resource file : allFiles) {
+        assertThat(measureCache.byMetric(file, CoreMetrics.DUPLICATED_LINES_DENSITY_KEY).iterator().next().getValue()).isEqualTo(10.0);
+        assertThat(measureCache.byMetric(file, CoreMetrics.FILES_KEY).iterator().next().getValue()).isEqualTo(1.0);
+      }
+      assertThat(countFilesDecorator.threads).containsOnly(Thread.currentThread());
+    } finally {
+      caches.stop();
+    }
+  }
+
+  @Test
+  public void fail_to_decorate_concurrently() {
+    Project project = new Project("key");
+    File file = File.create("src/org/foo/Bar.java");
+    SonarIndex index = mock(SonarIndex.class);
+    when(index.getChildren(project)).thenReturn(Arrays.<Resource>asList(file));
+    MeasureCache measureCache = mock(MeasureCache.class);
+    when(measureCache.byResource(any(Resource.class))).thenReturn(Collections.<Measure>emptyList());
+    Decorator decorator = mock(Decorator.class);
+    doThrow(new IllegalStateException()).when(decorator).decorate(any(Resource.class), any(DecoratorContext.class));
+    BatchExtensionDictionnary dictionnary = mock(BatchExtensionDictionnary.class);
+    when(dictionnary.select(Decorator.class, project, false, null)).thenReturn(Arrays.asList(decorator));
+    when(dictionnary.sort(anyCollection())).thenAnswer(returnsFirstArg());
+    Settings settings = new Settings();
+    settings.setProperty(DecoratorsExecutor.THREADS_PROPERTY, 2);
+
+    DecoratorsExecutor executor = new DecoratorsExecutor(dictionnary, project, index, mock(EventBus.class), mock(CoverageExclusions.class),
+      measureCache, mock(MetricFinder.class), mock(DuplicationCache.class), settings);
+    try {
+      executor.execute();
+      fail();
+    } catch (SonarException e) {
+      assertThat(e.getMessage()).contains("src/org/foo/Bar.java");
+    }
+  }
+
+  @ThreadSafe
+  static class ThreadSafeDecorator implements Decorator {
+    final List<Resource> resources = Collections.synchronizedList(new ArrayList<Resource>());
+
+    public void decorate(Resource resource, DecoratorContext context) {
+      resources.add(resource);
+    }
+
+    public boolean shouldExecuteOnProject(Project project) {
+      return true;
+    }
+  }
+
+  static class RecordingDecorator implements Decorator {
+    final List<Resource> resources = new ArrayList<>();
+    final Set<Thread> threads = new HashSet<>();
+
+    public void decorate(Resource resource, DecoratorContext context) {
+      resources.add(resource);
+      threads.add(Thread.currentThread());
+    }
+
+    public boolean shouldExecuteOnProject(Project project) {
+      return true;
+    }
+  }
+
+  /**
+   * Not thread-safe. It reads the measure cache directly, like decorators which use components of the container.
+   */
+  static class CountFilesDecorator implements Decorator {
+    final MeasureCache measureCache;
+    final Set<Thread> threads = new HashSet<>();
+
+    CountFilesDecorator(MeasureCache measureCache) {
+      this.measureCache = measureCache;
+    }
+
+    public void decorate(Resource resource, DecoratorContext context) {
+      threads.add(Thread.currentThread());
+      if (measureCache.byMetric(resource, CoreMetrics.FILES_KEY).iterator().hasNext()) {
+        return;
+      }
+      if (Resource.QUALIFIER_FILE.equals(resource.getQualifier())) {
+        context.saveMeasure(CoreMetrics.FILES, 1.0);
+      } else {
+        context.saveMeasure(CoreMetrics.FILES, MeasureUtils.sum(false, context.getChildrenMeasures(CoreMetrics.FILES)));
+      }
+    }
+
+    public boolean shouldExecuteOnProject(Project project) {
+      return true;
+    }
+  }
+
   static class Decorator1 implements Decorator {
     public void decorate(Resource resource, DecoratorContext context) {
     }
@@ -20,24 +20,38 @@
 package org.sonar.batch.report;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.sonar.api.CoreProperties;
 import org.sonar.api.config.Settings;
 import org.sonar.api.platform.Server;
 import org.sonar.api.resources.Project;
 import org.sonar.api.utils.TempFolder;
+import org.sonar.api.utils.ZipUtils;
+import org.sonar.api.utils.internal.DefaultTempFolder;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.index.ResourceCache;
+import org.sonar.batch.protocol.output.BatchOutputReader;
+import org.sonar.batch.protocol.output.BatchOutputWriter;
+import org.sonar.batch.protocol.output.BatchReport;
+import org.sonar.batch.protocol.output.FileStructure;
 import org.sonar.jpa.test.AbstractDbUnitTestCase;
 
+import java.io.File;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PublishReportJobTest extends AbstractDbUnitTestCase {
 
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
   private DefaultAnalysisMode mode;
 
   ResourceCache resourceCache = mock(ResourceCache.class);
@@ -74,4 +88,25 @@ public class PublishReportJobTest extends AbstractDbUnitTestCase {
     verify(logger).info("ANALYSIS SUCCESSFUL");
   }
 
+  @Test
+  public void pack_report_into_a_single_container() throws Exception {
+    ReportPublisher publisher = new ReportPublisher() {
+      @Override
+      public void publish(BatchOutputWriter writer) {
+        writer.writeMetadata(BatchReport.Metadata.newBuilder().setProjectKey("struts").setRootComponentRef(1).build());
+      }
+    };
+    PublishReportJob job = new PublishReportJob(new Settings(), mock(ServerClient.class), mock(Server.class), new Project("struts"), mode,
+      new DefaultTempFolder(temp.newFolder()), resourceCache, new ReportPublisher[] {publisher});
+
+    File zip = job.prepareReport();
+
+    File dir = temp.newFolder();
+    ZipUtils.unzip(zip, dir);
+    assertThat(dir.list()).containsOnly(FileStructure.CONTAINER_FILENAME);
+    try (BatchOutputReader reader = new BatchOutputReader(dir)) {
+      assertThat(reader.readMetadata().getProjectKey()).isEqualTo("struts");
+    }
+  }
+
 }
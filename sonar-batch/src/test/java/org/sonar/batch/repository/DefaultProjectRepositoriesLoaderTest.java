@@ -19,37 +19,66 @@
  */
 package org.sonar.batch.repository;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import com.google.common.io.InputSupplier;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.sonar.api.batch.bootstrap.ProjectDefinition;
 import org.sonar.api.batch.bootstrap.ProjectReactor;
+import org.sonar.api.utils.HttpDownloader;
 import org.sonar.batch.bootstrap.DefaultAnalysisMode;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.bootstrap.TaskProperties;
+import org.sonar.batch.protocol.input.ProjectRepositories;
 import org.sonar.batch.rule.ModuleQProfiles;
+import org.sonar.home.cache.FileCache;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyMapOf;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isNull;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DefaultProjectRepositoriesLoaderTest {
 
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
   private DefaultProjectRepositoriesLoader loader;
   private ServerClient serverClient;
   private DefaultAnalysisMode analysisMode;
   private ProjectReactor reactor;
   private TaskProperties taskProperties;
+  private File cacheDir;
 
   @Before
-  public void prepare() {
+  public void prepare() throws Exception {
     serverClient = mock(ServerClient.class);
+    when(serverClient.getURL()).thenReturn("http://localhost:9000");
     analysisMode = mock(DefaultAnalysisMode.class);
-    loader = new DefaultProjectRepositoriesLoader(serverClient, analysisMode);
-    loader = spy(loader);
-    when(serverClient.request(anyString())).thenReturn("{}");
+    FileCache fileCache = mock(FileCache.class);
+    File cacheHome = temp.newFolder();
+    cacheDir = new File(cacheHome, "_project_repositories");
+    when(fileCache.getDir()).thenReturn(cacheHome);
+    loader = new DefaultProjectRepositoriesLoader(serverClient, analysisMode, fileCache);
+    respond(new ProjectRepositories());
     taskProperties = new TaskProperties(Maps.<String, String>newHashMap(), "");
   }
 
@@ -58,18 +87,18 @@ public class DefaultProjectRepositoriesLoaderTest {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
     when(analysisMode.isPreview()).thenReturn(false);
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&preview=false");
+    verifyRequest("/batch/project?key=foo&preview=false&format=protobuf");
 
     when(analysisMode.isPreview()).thenReturn(true);
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&preview=true");
+    verifyRequest("/batch/project?key=foo&preview=true&format=protobuf");
   }
 
   @Test
   public void passAndEncodeProjectKeyParameter() {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo bàr"));
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo+b%C3%A0r&preview=false");
+    verifyRequest("/batch/project?key=foo+b%C3%A0r&preview=false&format=protobuf");
   }
 
   @Test
@@ -77,7 +106,86 @@ public class DefaultProjectRepositoriesLoaderTest {
     reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
     taskProperties.properties().put(ModuleQProfiles.SONAR_PROFILE_PROP, "my-profile#2");
     loader.load(reactor, taskProperties);
-    verify(serverClient).request("/batch/project?key=foo&profile=my-profile%232&preview=false");
+    verifyRequest("/batch/project?key=foo&profile=my-profile%232&preview=false&format=protobuf");
+  }
+
+  @Test
+  public void use_cache_if_not_modified() throws Exception {
+    reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
+    ProjectRepositories repositories = new ProjectRepositories();
+    repositories.addSettings("foo", ImmutableMap.of("prop", "value"));
+    respond(repositories);
+    assertThat(loader.load(reactor, taskProperties).settings("foo")).containsEntry("prop", "value");
+
+    // second analysis sends the etag of the cached response
+    final String url = "/batch/project?key=foo&preview=false&format=protobuf";
+    Map<String, String> headers = ImmutableMap.of("If-None-Match", etag(repositories.toProtobuf()));
+    when(serverClient.doRequest(eq(url), eq("GET"), isNull(Integer.class), eq(headers))).thenReturn(new InputSupplier<InputStream>() {
+      @Override
+      public InputStream getInput() throws IOException {
+        throw new HttpDownloader.HttpException(URI.create("http://localhost:9000" + url), 304);
+      }
+    });
+
+    assertThat(loader.load(reactor, taskProperties).settings("foo")).containsEntry("prop", "value");
+  }
+
+  @Test
+  public void do_not_cache_secured_settings() throws Exception {
+    reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
+    ProjectRepositories repositories = new ProjectRepositories();
+    repositories.addSettings("foo", ImmutableMap.of("sonar.jira.login.secured", "john"));
+    respond(repositories);
+
+    assertThat(loader.load(reactor, taskProperties).settings("foo")).containsEntry("sonar.jira.login.secured", "john");
+    assertThat(loader.load(reactor, taskProperties).settings("foo")).containsEntry("sonar.jira.login.secured", "john");
+
+    // nothing in cache, so the etag is never sent
+    verify(serverClient, times(2)).doRequest("/batch/project?key=foo&preview=false&format=protobuf", "GET", null, Collections.<String, String>emptyMap());
+    assertThat(cacheDir.listFiles()).isNullOrEmpty();
+  }
+
+  @Test
+  public void fail_if_not_modified_but_not_in_cache() throws Exception {
+    reactor = new ProjectReactor(ProjectDefinition.create().setKey("foo"));
+    HttpDownloader.HttpException notModified = new HttpDownloader.HttpException(URI.create("http://localhost:9000/batch/project"), 304);
+    respondError(notModified);
+    IllegalStateException error = new IllegalStateException();
+    when(serverClient.handleHttpException(notModified)).thenReturn(error);
+
+    try {
+      loader.load(reactor, taskProperties);
+      fail();
+    } catch (IllegalStateException e) {
+      assertThat(e).isSameAs(error);
+    }
+  }
+
+  private void verifyRequest(String url) {
+    verify(serverClient).doRequest(url, "GET", null, Collections.<String, String>emptyMap());
+  }
+
+  private void respond(ProjectRepositories repositories) {
+    final byte[] bytes = repositories.toProtobuf();
+    when(serverClient.doRequest(anyString(), eq("GET"), isNull(Integer.class), anyMapOf(String.class, String.class))).thenReturn(new InputSupplier<InputStream>() {
+      @Override
+      public InputStream getInput() {
+        return new ByteArrayInputStream(bytes);
+      }
+    });
+  }
+
+  private void respondError(final HttpDownloader.HttpException e) {
+    when(serverClient.doRequest(anyString(), eq("GET"), isNull(Integer.class), anyMapOf(String.class, String.class))).thenReturn(new InputSupplier<InputStream>() {
+      @Override
+      public InputStream getInput() {
+        throw e;
+      }
+    });
+  }
+
+  private static String etag(byte[] bytes) {
+    return "\"" + DigestUtils.sha1Hex(bytes) + "\"";
   }
 
 }
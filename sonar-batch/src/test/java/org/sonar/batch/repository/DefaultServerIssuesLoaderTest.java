@@ -22,47 +22,139 @@ package org.sonar.batch.repository;
 import com.google.common.base.Function;
 import com.google.common.io.InputSupplier;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.api.config.Settings;
+import org.sonar.api.issue.Issue;
+import org.sonar.api.utils.System2;
 import org.sonar.batch.bootstrap.ServerClient;
 import org.sonar.batch.protocol.input.BatchInput;
 import org.sonar.batch.protocol.input.BatchInput.ServerIssue;
+import org.sonar.core.computation.dbcleaner.DbCleanerConstants;
+import org.sonar.home.cache.FileCache;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class DefaultServerIssuesLoaderTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
   private DefaultServerIssuesLoader loader;
   private ServerClient serverClient;
+  private Settings settings;
+  private System2 system;
+  private File cacheDir;
 
   @Before
-  public void prepare() {
+  public void prepare() throws Exception {
     serverClient = mock(ServerClient.class);
-    loader = new DefaultServerIssuesLoader(serverClient);
+    when(serverClient.getURL()).thenReturn("http://localhost:9000");
+    FileCache fileCache = mock(FileCache.class);
+    cacheDir = temp.newFolder();
+    when(fileCache.getDir()).thenReturn(cacheDir);
+    settings = new Settings();
+    system = mock(System2.class);
+    when(system.now()).thenReturn(System.currentTimeMillis());
+    loader = new DefaultServerIssuesLoader(serverClient, fileCache, settings, system);
   }
 
   @Test
   public void loadFromWs() throws Exception {
-    InputSupplier<InputStream> is = mock(InputSupplier.class);
-    when(serverClient.doRequest("/batch/issues?key=foo", "GET", null)).thenReturn(is);
+    respond("/batch/issues?key=foo", ServerIssue.newBuilder().setKey("ab1").build(), ServerIssue.newBuilder().setKey("ab2").build());
 
-    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    assertThat(load("foo")).extracting("key").containsExactly("ab1", "ab2");
+  }
+
+  @Test
+  public void apply_changes_since_last_synchronization() throws Exception {
+    respond("/batch/issues?key=foo",
+      issue("ab1", "OPEN", 1000000000L),
+      issue("ab2", "OPEN", 2000000000L),
+      issue("ab3", "CONFIRMED", 1500000000L));
+    assertThat(load("foo")).extracting("key").containsExactly("ab1", "ab2", "ab3");
 
-    ServerIssue.newBuilder().setKey("ab1").build()
-      .writeDelimitedTo(bos);
-    ServerIssue.newBuilder().setKey("ab2").build()
-      .writeDelimitedTo(bos);
+    // cursor is the most recent update date, minus the overlap
+    respond("/batch/issues?key=foo&changedSince=" + (2000000000L - DefaultServerIssuesLoader.CURSOR_OVERLAP_MS),
+      issue("ab2", Issue.STATUS_CLOSED, 3000000000L),
+      issue("ab3", "REOPENED", 3000000000L),
+      issue("ab4", "OPEN", 3000000000L));
+    List<ServerIssue> issues = load("foo");
+    assertThat(issues).extracting("key").containsExactly("ab1", "ab3", "ab4");
+    assertThat(issues).extracting("status").containsExactly("OPEN", "REOPENED", "OPEN");
 
-    when(is.getInput()).thenReturn(new ByteArrayInputStream(bos.toByteArray()));
+    // no changes
+    respond("/batch/issues?key=foo&changedSince=" + (3000000000L - DefaultServerIssuesLoader.CURSOR_OVERLAP_MS));
+    assertThat(load("foo")).extracting("key").containsExactly("ab1", "ab3", "ab4");
+  }
+
+  @Test
+  public void local_copy_depends_on_component() throws Exception {
+    respond("/batch/issues?key=foo", issue("ab1", "OPEN", 1000000000L));
+    load("foo");
+
+    respond("/batch/issues?key=bar", issue("ab2", "OPEN", 1000000000L));
+    assertThat(load("bar")).extracting("key").containsExactly("ab2");
+  }
+
+  @Test
+  public void full_synchronization_if_issues_have_no_update_date() throws Exception {
+    respond("/batch/issues?key=foo", ServerIssue.newBuilder().setKey("ab1").build());
+    load("foo");
+    load("foo");
+
+    verify(serverClient, times(2)).doRequest("/batch/issues?key=foo", "GET", null);
+  }
+
+  @Test
+  public void full_synchronization_if_last_one_is_older_than_deletion_of_closed_issues() throws Exception {
+    settings.setProperty(DbCleanerConstants.DAYS_BEFORE_DELETING_CLOSED_ISSUES, 5);
+    respond("/batch/issues?key=foo", issue("ab1", "OPEN", 1000000000L), issue("ab2", "CLOSED", 1000000000L));
+    load("foo");
+    File storeFile = new File(cacheDir, "_server_issues").listFiles()[0];
+
+    // ab2 has been deleted on server
+    when(system.now()).thenReturn(storeFile.lastModified() + TimeUnit.DAYS.toMillis(5));
+    respond("/batch/issues?key=foo", issue("ab1", "OPEN", 1000000000L));
+    assertThat(load("foo")).extracting("key").containsExactly("ab1");
+    verify(serverClient, times(2)).doRequest("/batch/issues?key=foo", "GET", null);
+  }
+
+  @Test
+  public void closed_issues_are_deleted_after_30_days_by_default() throws Exception {
+    respond("/batch/issues?key=foo", issue("ab1", "OPEN", 1000000000L));
+    load("foo");
+    File storeFile = new File(cacheDir, "_server_issues").listFiles()[0];
+
+    when(system.now()).thenReturn(storeFile.lastModified() + TimeUnit.DAYS.toMillis(29));
+    respond("/batch/issues?key=foo&changedSince=" + (1000000000L - DefaultServerIssuesLoader.CURSOR_OVERLAP_MS));
+    load("foo");
+    verify(serverClient, times(1)).doRequest("/batch/issues?key=foo", "GET", null);
 
+    // local copy has been rewritten
+    storeFile = new File(cacheDir, "_server_issues").listFiles()[0];
+    when(system.now()).thenReturn(storeFile.lastModified() + TimeUnit.DAYS.toMillis(30));
+    load("foo");
+    verify(serverClient, times(2)).doRequest("/batch/issues?key=foo", "GET", null);
+  }
+
+  private List<ServerIssue> load(String componentKey) {
     final List<ServerIssue> result = new ArrayList<>();
-    loader.load("foo", new Function<BatchInput.ServerIssue, Void>() {
+    loader.load(componentKey, new Function<BatchInput.ServerIssue, Void>() {
 
       @Override
       public Void apply(ServerIssue input) {
@@ -70,7 +162,20 @@ public class DefaultServerIssuesLoaderTest {
         return null;
       }
     }, false);
+    return result;
+  }
+
+  private static ServerIssue issue(String key, String status, long updateDate) {
+    return ServerIssue.newBuilder().setKey(key).setStatus(status).setUpdateDate(updateDate).build();
+  }
 
-    assertThat(result).extracting("key").containsExactly("ab1", "ab2");
+  private void respond(String url, ServerIssue... issues) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    for (ServerIssue issue : issues) {
+      issue.writeDelimitedTo(bos);
+    }
+    InputSupplier<InputStream> is = mock(InputSupplier.class);
+    when(is.getInput()).thenReturn(new ByteArrayInputStream(bos.toByteArray()));
+    when(serverClient.doRequest(url, "GET", null)).thenReturn(is);
   }
 }
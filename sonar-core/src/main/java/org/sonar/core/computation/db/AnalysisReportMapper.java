@@ -45,4 +45,6 @@ public interface AnalysisReportMapper {
   void delete(long id);
 
   List<AnalysisReportDto> selectAll();
+
+  long countByStatus(@Param("status") AnalysisReportDto.Status status);
 }
@@ -19,14 +19,19 @@
  */
 package org.sonar.core.duplication;
 
+import com.google.common.collect.Maps;
+import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.ServerComponent;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
+import javax.annotation.Nullable;
+
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public class DuplicationDao implements BatchComponent, ServerComponent {
 
@@ -46,6 +51,23 @@ public class DuplicationDao implements BatchComponent, ServerComponent {
     }
   }
 
+  /**
+   * Same as {@link #selectCandidates(int, Integer, String)} for all the files of a project in a single query.
+   * Units are streamed to the handler, as {@link DuplicationUnitDto}.
+   */
+  public void selectCandidatesOfProject(int projectSnapshotId, @Nullable Integer lastSnapshotId, String language, ResultHandler handler) {
+    SqlSession session = mybatis.openSession(false);
+    try {
+      Map<String, Object> params = Maps.newHashMap();
+      params.put("project_snapshot_id", projectSnapshotId);
+      params.put("last_project_snapshot_id", lastSnapshotId);
+      params.put("language", language);
+      session.select("org.sonar.core.duplication.DuplicationMapper.selectCandidatesOfProject", params, handler);
+    } finally {
+      MyBatis.closeQuietly(session);
+    }
+  }
+
   /**
    * Insert rows in the table DUPLICATIONS_INDEX.
    * Note that generated ids are not returned.
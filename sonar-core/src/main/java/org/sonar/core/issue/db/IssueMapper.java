@@ -28,6 +28,11 @@ import java.util.List;
 
 public interface IssueMapper {
 
+  /**
+   * An issue has 24 parameters. MsSQL does not support more than 2100 parameters per statement.
+   */
+  int MAX_ROWS_PER_INSERT = 50;
+
   IssueDto selectByKey(String key);
 
   List<IssueDto> selectByKeys(List<String> keys);
@@ -40,6 +45,14 @@ public interface IssueMapper {
 
   void insert(IssueDto issue);
 
+  /**
+   * Inserts several issues with a single multi-row statement. It is not supported by Oracle. The number
+   * of issues must be limited (see {@link #MAX_ROWS_PER_INSERT}) to not exceed the maximum number of
+   * parameters per statement.
+   * @since 5.1
+   */
+  void insertMultiple(List<IssueDto> issues);
+
   int update(IssueDto issue);
 
   int updateIfBeforeSelectedDate(IssueDto issue);
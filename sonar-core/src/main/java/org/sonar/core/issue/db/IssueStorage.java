@@ -30,6 +30,7 @@ import org.sonar.core.persistence.BatchSession;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.google.common.collect.Lists.newArrayList;
@@ -74,22 +75,30 @@ public abstract class IssueStorage {
     // Batch session can not be used for updates. It does not return the number of updated rows,
     // required for detecting conflicts.
     long now = System.currentTimeMillis();
-    List<DefaultIssue> toBeUpdated = batchInsertAndReturnIssuesToUpdate(session, issues, now);
+    List<String> savedIssueKeys = newArrayList();
+    List<DefaultIssue> toBeUpdated = batchInsertAndReturnIssuesToUpdate(session, issues, now, savedIssueKeys);
     update(toBeUpdated, now);
-    doAfterSave();
+    for (DefaultIssue issue : toBeUpdated) {
+      savedIssueKeys.add(issue.key());
+    }
+    doAfterSave(savedIssueKeys);
   }
 
-  protected void doAfterSave() {
+  /**
+   * @param issueKeys keys of the issues inserted or updated, possibly empty
+   */
+  protected void doAfterSave(Collection<String> issueKeys) {
     // overridden on server-side to index ES
   }
 
-  private List<DefaultIssue> batchInsertAndReturnIssuesToUpdate(DbSession session, Iterable<DefaultIssue> issues, long now) {
+  private List<DefaultIssue> batchInsertAndReturnIssuesToUpdate(DbSession session, Iterable<DefaultIssue> issues, long now, List<String> insertedIssueKeys) {
     List<DefaultIssue> toBeUpdated = newArrayList();
     int count = 0;
     IssueChangeMapper issueChangeMapper = session.getMapper(IssueChangeMapper.class);
     for (DefaultIssue issue : issues) {
       if (issue.isNew()) {
         doInsert(session, now, issue);
+        insertedIssueKeys.add(issue.key());
         insertChanges(issueChangeMapper, issue);
         if (count > BatchSession.MAX_BATCH_SIZE) {
           session.commit();
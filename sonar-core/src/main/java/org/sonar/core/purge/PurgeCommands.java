@@ -21,7 +21,9 @@ package org.sonar.core.purge;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.SqlSession;
+import org.sonar.core.persistence.BatchSession;
 
 import java.util.List;
 
@@ -30,6 +32,12 @@ class PurgeCommands {
   private static final int MAX_SNAPSHOTS_PER_QUERY = 1000;
   private static final int MAX_RESOURCES_PER_QUERY = 1000;
 
+  /**
+   * Less than {@link BatchSession#MAX_BATCH_SIZE}, so that statements are never flushed by the automatic commit
+   * of the session, which does not return the numbers of updated rows
+   */
+  private static final int MAX_STATEMENTS_PER_CHUNK = BatchSession.MAX_BATCH_SIZE - 1;
+
   private final SqlSession session;
   private final PurgeMapper purgeMapper;
   private final PurgeProfiler profiler;
@@ -65,92 +73,92 @@ class PurgeCommands {
     profiler.start("deleteResourceLinks (project_links)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceLinks(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceProperties (properties)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceProperties(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceIndex (resource_index)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceIndex(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceGroupRoles (group_roles)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceGroupRoles(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceUserRoles (user_roles)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceUserRoles(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceManualMeasures (manual_measures)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceManualMeasures(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteComponentIssueChanges (issue_changes)");
     for (List<String> componentUuidPartition : componentUuidsPartitions) {
       purgeMapper.deleteComponentIssueChanges(componentUuidPartition);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteComponentIssues (issues)");
     for (List<String> componentUuidPartition : componentUuidsPartitions) {
       purgeMapper.deleteComponentIssues(componentUuidPartition);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceActionPlans (action_plans)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceActionPlans(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceEvents (events)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceEvents(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResourceGraphs (graphs)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResourceGraphs(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteResource (projects)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteResource(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteAuthors (authors)");
     for (List<Long> partResourceIds : componentIdPartitions) {
       purgeMapper.deleteAuthors(partResourceIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
   }
 
@@ -170,15 +178,15 @@ class PurgeCommands {
     profiler.start("deleteSnapshotEvents (events)");
     for (List<Long> partSnapshotIds : snapshotIdsPartition) {
       purgeMapper.deleteSnapshotEvents(partSnapshotIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("deleteSnapshotMeasures (project_measures)");
     for (List<Long> partSnapshotIds : snapshotIdsPartition) {
       purgeMapper.deleteSnapshotMeasures(partSnapshotIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     deleteSnapshotGraphs(snapshotIdsPartition);
@@ -186,8 +194,8 @@ class PurgeCommands {
     profiler.start("deleteSnapshot (snapshots)");
     for (List<Long> partSnapshotIds : snapshotIdsPartition) {
       purgeMapper.deleteSnapshot(partSnapshotIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
   }
 
@@ -210,15 +218,17 @@ class PurgeCommands {
     List<Long> metricIdsWithoutHistoricalData = purgeMapper.selectMetricIdsWithoutHistoricalData();
     for (List<Long> partSnapshotIds : snapshotIdsPartition) {
       purgeMapper.deleteSnapshotWastedMeasures(partSnapshotIds, metricIdsWithoutHistoricalData);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
 
     profiler.start("updatePurgeStatusToOne (snapshots)");
-    for (Long snapshotId : snapshotIds) {
-      purgeMapper.updatePurgeStatusToOne(snapshotId);
+    for (List<Long> partSnapshotIds : Lists.partition(snapshotIds, MAX_STATEMENTS_PER_CHUNK)) {
+      for (Long snapshotId : partSnapshotIds) {
+        purgeMapper.updatePurgeStatusToOne(snapshotId);
+      }
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
   }
 
@@ -226,8 +236,8 @@ class PurgeCommands {
     profiler.start("deleteSnapshotGraphs (graphs)");
     for (List<Long> partSnapshotIds : snapshotIdsPartition) {
       purgeMapper.deleteSnapshotGraphs(partSnapshotIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
   }
 
@@ -235,8 +245,8 @@ class PurgeCommands {
     profiler.start("deleteSnapshotDuplications (duplications_index)");
     for (List<Long> partSnapshotIds : snapshotIdsPartition) {
       purgeMapper.deleteSnapshotDuplications(partSnapshotIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
   }
 
@@ -249,15 +259,39 @@ class PurgeCommands {
       purgeMapper.deleteSnapshotDependenciesFromSnapshotId(partSnapshotIds);
       purgeMapper.deleteSnapshotDependenciesToSnapshotId(partSnapshotIds);
       purgeMapper.deleteSnapshotDependenciesProjectSnapshotId(partSnapshotIds);
+      commitChunk();
     }
-    session.commit();
     profiler.stop();
   }
 
   public void deleteFileSources(String rootUuid) {
     profiler.start("deleteFileSources (file_sources)");
     purgeMapper.deleteFileSourcesByProjectUuid(rootUuid);
-    session.commit();
+    commitChunk();
     profiler.stop();
   }
+
+  /**
+   * Each chunk of ids is committed in its own transaction, so that locks are not held
+   * during the whole purge and an interrupted purge keeps the chunks already deleted.
+   * A chunk must not execute more than {@link #MAX_STATEMENTS_PER_CHUNK} statements, otherwise
+   * the rows of the statements flushed by the session itself are not counted.
+   */
+  private void commitChunk() {
+    profiler.addRows(countRows(session.flushStatements()));
+    session.commit();
+  }
+
+  private static long countRows(List<BatchResult> results) {
+    long rows = 0L;
+    for (BatchResult result : results) {
+      for (int count : result.getUpdateCounts()) {
+        // drivers can return Statement.SUCCESS_NO_INFO
+        if (count > 0) {
+          rows += count;
+        }
+      }
+    }
+    return rows;
+  }
 }
@@ -34,17 +34,27 @@ public class PurgeConfiguration {
   private final IdUuidPair rootProjectIdUuid;
   private final String[] scopesWithoutHistoricalData;
   private final int maxAgeInDaysOfClosedIssues;
+  private final int threads;
   private final System2 system2;
 
   public PurgeConfiguration(IdUuidPair rootProjectId, String[] scopesWithoutHistoricalData, int maxAgeInDaysOfClosedIssues) {
-    this(rootProjectId, scopesWithoutHistoricalData, maxAgeInDaysOfClosedIssues, System2.INSTANCE);
+    this(rootProjectId, scopesWithoutHistoricalData, maxAgeInDaysOfClosedIssues, PurgeDao.DEFAULT_THREADS);
+  }
+
+  public PurgeConfiguration(IdUuidPair rootProjectId, String[] scopesWithoutHistoricalData, int maxAgeInDaysOfClosedIssues, int threads) {
+    this(rootProjectId, scopesWithoutHistoricalData, maxAgeInDaysOfClosedIssues, threads, System2.INSTANCE);
   }
 
   @VisibleForTesting
   PurgeConfiguration(IdUuidPair rootProjectId, String[] scopesWithoutHistoricalData, int maxAgeInDaysOfClosedIssues, System2 system2) {
+    this(rootProjectId, scopesWithoutHistoricalData, maxAgeInDaysOfClosedIssues, PurgeDao.DEFAULT_THREADS, system2);
+  }
+
+  private PurgeConfiguration(IdUuidPair rootProjectId, String[] scopesWithoutHistoricalData, int maxAgeInDaysOfClosedIssues, int threads, System2 system2) {
     this.rootProjectIdUuid = rootProjectId;
     this.scopesWithoutHistoricalData = scopesWithoutHistoricalData;
     this.maxAgeInDaysOfClosedIssues = maxAgeInDaysOfClosedIssues;
+    this.threads = threads;
     this.system2 = system2;
   }
 
@@ -53,7 +63,8 @@ public class PurgeConfiguration {
     if (settings.getBoolean(DbCleanerConstants.PROPERTY_CLEAN_DIRECTORY)) {
       scopes = new String[]{Scopes.DIRECTORY, Scopes.FILE};
     }
-    return new PurgeConfiguration(idUuidPair, scopes, settings.getInt(DbCleanerConstants.DAYS_BEFORE_DELETING_CLOSED_ISSUES));
+    return new PurgeConfiguration(idUuidPair, scopes, settings.getInt(DbCleanerConstants.DAYS_BEFORE_DELETING_CLOSED_ISSUES),
+      PurgeDao.numberOfThreads(settings));
   }
 
   public IdUuidPair rootProjectIdUuid() {
@@ -64,6 +75,13 @@ public class PurgeConfiguration {
     return scopesWithoutHistoricalData;
   }
 
+  /**
+   * Number of threads, and of db connections, used to purge the snapshots of a project
+   */
+  public int threads() {
+    return threads;
+  }
+
   @CheckForNull
   public Date maxLiveDateOfClosedIssues() {
     return maxLiveDateOfClosedIssues(new Date(system2.now()));
@@ -20,12 +20,17 @@
 package org.sonar.core.purge;
 
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.ibatis.session.ResultContext;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.sonar.api.Properties;
+import org.sonar.api.Property;
+import org.sonar.api.PropertyType;
+import org.sonar.api.config.Settings;
 import org.sonar.api.utils.System2;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
@@ -33,13 +38,35 @@ import org.sonar.core.resource.ResourceDao;
 import org.sonar.core.resource.ResourceDto;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.sonar.api.utils.DateUtils.dateToLong;
 
 /**
  * @since 2.14
  */
+@Properties({
+  @Property(
+    key = PurgeDao.THREADS_PROPERTY,
+    defaultValue = "" + PurgeDao.DEFAULT_THREADS,
+    name = "Number of threads purging the snapshots of a project",
+    type = PropertyType.INTEGER,
+    project = false,
+    global = false)
+})
 public class PurgeDao {
+
+  public static final String THREADS_PROPERTY = "sonar.dbcleaner.threads";
+  public static final int DEFAULT_THREADS = 1;
+
+  /**
+   * Maximum number of project snapshots purged by a task when purge is executed by multiple threads
+   */
+  private static final int MAX_SNAPSHOTS_PER_TASK = 10;
+
   private static final Logger LOG = LoggerFactory.getLogger(PurgeDao.class);
   private final MyBatis mybatis;
   private final ResourceDao resourceDao;
@@ -53,6 +80,17 @@ public class PurgeDao {
     this.system2 = system2;
   }
 
+  static int numberOfThreads(Settings settings) {
+    int threads = settings.getInt(THREADS_PROPERTY);
+    if (threads < 0) {
+      throw new IllegalArgumentException(String.format("Bad value of %s: %d", THREADS_PROPERTY, threads));
+    }
+    if (threads == 0) {
+      threads = DEFAULT_THREADS;
+    }
+    return threads;
+  }
+
   public PurgeDao purge(PurgeConfiguration conf, PurgeListener purgeListener) {
     DbSession session = mybatis.openSession(true);
     try {
@@ -71,7 +109,7 @@ public class PurgeDao {
     for (ResourceDto project : projects) {
       LOG.info("-> Clean " + project.getLongName() + " [id=" + project.getId() + "]");
       deleteAbortedBuilds(project, commands);
-      purge(project, conf.scopesWithoutHistoricalData(), commands);
+      purge(project, conf, commands);
     }
     for (ResourceDto project : projects) {
       disableOrphanResources(project, session, mapper, purgeListener);
@@ -104,13 +142,21 @@ public class PurgeDao {
     return !commands.selectSnapshotIds(query).isEmpty();
   }
 
-  private void purge(ResourceDto project, String[] scopesWithoutHistoricalData, PurgeCommands purgeCommands) {
+  private void purge(ResourceDto project, PurgeConfiguration conf, PurgeCommands purgeCommands) {
     List<Long> projectSnapshotIds = purgeCommands.selectSnapshotIds(
       PurgeSnapshotQuery.create()
         .setResourceId(project.getId())
         .setIslast(false)
         .setNotPurged(true)
       );
+    if (conf.threads() > 1 && projectSnapshotIds.size() > 1) {
+      purgeInParallel(projectSnapshotIds, conf.scopesWithoutHistoricalData(), conf.threads());
+    } else {
+      purge(projectSnapshotIds, conf.scopesWithoutHistoricalData(), purgeCommands);
+    }
+  }
+
+  private static void purge(List<Long> projectSnapshotIds, String[] scopesWithoutHistoricalData, PurgeCommands purgeCommands) {
     for (final Long projectSnapshotId : projectSnapshotIds) {
       LOG.info("<- Clean snapshot " + projectSnapshotId);
       if (!ArrayUtils.isEmpty(scopesWithoutHistoricalData)) {
@@ -129,6 +175,41 @@ public class PurgeDao {
     }
   }
 
+  /**
+   * The trees of snapshots of the different project snapshots do not share any rows, so they
+   * are purged concurrently. Each task uses its own db session.
+   */
+  private void purgeInParallel(List<Long> projectSnapshotIds, final String[] scopesWithoutHistoricalData, int threads) {
+    ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat("Purge-%d").setDaemon(true).build());
+    try {
+      List<Future<?>> futures = new ArrayList<Future<?>>();
+      int snapshotsPerTask = Math.min(MAX_SNAPSHOTS_PER_TASK, (projectSnapshotIds.size() + threads - 1) / threads);
+      for (final List<Long> partSnapshotIds : Lists.partition(projectSnapshotIds, snapshotsPerTask)) {
+        futures.add(executor.submit(new Runnable() {
+          @Override
+          public void run() {
+            DbSession session = mybatis.openSession(true);
+            try {
+              purge(partSnapshotIds, scopesWithoutHistoricalData, new PurgeCommands(session, profiler));
+            } finally {
+              MyBatis.closeQuietly(session);
+            }
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while purging snapshots", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Fail to purge snapshots", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private void disableOrphanResources(final ResourceDto project, final SqlSession session, final PurgeMapper purgeMapper, final PurgeListener purgeListener) {
     final List<IdUuidPair> componentIdUuids = new ArrayList<IdUuidPair>();
     session.select("org.sonar.core.purge.PurgeMapper.selectComponentIdUuidsToDisable", project.getId(), new ResultHandler() {
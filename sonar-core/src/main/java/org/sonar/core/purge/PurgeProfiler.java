@@ -31,11 +31,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+/**
+ * Durations and numbers of deleted rows by step of purge. Steps can be executed concurrently by
+ * different threads, in which case durations are cumulated.
+ */
 public class PurgeProfiler {
 
-  private Map<String, Long> durations = new HashMap<String, Long>();
-  private long startTime;
-  private String currentTable;
+  private final Map<String, Long> durations = new HashMap<String, Long>();
+  private final Map<String, Long> rows = new HashMap<String, Long>();
+  private final ThreadLocal<Step> currentStep = new ThreadLocal<Step>();
   private final Clock clock;
 
   public PurgeProfiler() {
@@ -47,26 +51,43 @@ public class PurgeProfiler {
     this.clock = clock;
   }
 
-  public void reset() {
+  public synchronized void reset() {
     durations.clear();
+    rows.clear();
   }
 
   void start(String table) {
-    this.startTime = clock.now();
-    this.currentTable = table;
+    currentStep.set(new Step(table, clock.now()));
+  }
+
+  /**
+   * Rows deleted or updated by the current step of the calling thread
+   */
+  void addRows(long count) {
+    Step step = currentStep.get();
+    if (step != null) {
+      step.rows += count;
+    }
   }
 
   void stop() {
-    final Long cumulatedDuration;
-    if (durations.containsKey(currentTable)) {
-      cumulatedDuration = durations.get(currentTable);
-    } else {
-      cumulatedDuration = 0L;
+    Step step = currentStep.get();
+    currentStep.remove();
+    if (step != null) {
+      long duration = clock.now() - step.startTime;
+      synchronized (this) {
+        increment(durations, step.table, duration);
+        increment(rows, step.table, step.rows);
+      }
     }
-    durations.put(currentTable, cumulatedDuration + (clock.now() - startTime));
   }
 
-  public void dump(long totalTime, Logger logger) {
+  private static void increment(Map<String, Long> map, String table, long value) {
+    Long previous = map.get(table);
+    map.put(table, previous == null ? value : (previous + value));
+  }
+
+  public synchronized void dump(long totalTime, Logger logger) {
     List<Entry<String, Long>> data = new ArrayList<Map.Entry<String, Long>>(durations.entrySet());
     Collections.sort(data, new Comparator<Entry<String, Long>>() {
       @Override
@@ -79,6 +100,14 @@ public class PurgeProfiler {
       StringBuilder sb = new StringBuilder();
       sb.append("   o ").append(entry.getKey()).append(": ").append(TimeUtils.formatDuration(entry.getValue()))
           .append(" (").append((int) (entry.getValue() / percent)).append("%)");
+      long rowCount = rows.get(entry.getKey());
+      if (rowCount > 0L) {
+        sb.append(", ").append(rowCount).append(" rows");
+        // steps faster than the clock resolution have no throughput
+        if (entry.getValue() > 0L) {
+          sb.append(" (").append(rowCount * 1000L / entry.getValue()).append(" rows/s)");
+        }
+      }
       logger.info(sb.toString());
     }
   }
@@ -88,14 +117,29 @@ public class PurgeProfiler {
     List<Entry<String, Long>> result = new ArrayList<Entry<String, Long>>(maxSize);
     int i = 0;
     for (Entry<String, Long> item : sortedFullList) {
-      if (i++ >= maxSize || item.getValue() == 0) {
+      if (i >= maxSize) {
         return result;
       }
-      result.add(item);
+      // steps that took no time are logged only if they deleted rows
+      if (item.getValue() > 0L || rows.get(item.getKey()) > 0L) {
+        result.add(item);
+        i++;
+      }
     }
     return result;
   }
 
+  private static class Step {
+    private final String table;
+    private final long startTime;
+    private long rows = 0L;
+
+    Step(String table, long startTime) {
+      this.table = table;
+      this.startTime = startTime;
+    }
+  }
+
   static class Clock {
     public long now() {
       return System.currentTimeMillis();
@@ -21,11 +21,13 @@
 package org.sonar.core.source.db;
 
 import com.google.common.base.Function;
+import com.google.common.collect.Iterables;
 import org.apache.commons.dbutils.DbUtils;
 import org.apache.commons.io.IOUtils;
 import org.sonar.api.BatchComponent;
 import org.sonar.api.ServerComponent;
 import org.sonar.core.persistence.DaoComponent;
+import org.sonar.core.persistence.DaoUtils;
 import org.sonar.core.persistence.DbSession;
 import org.sonar.core.persistence.MyBatis;
 
@@ -37,9 +39,16 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class FileSourceDao implements BatchComponent, ServerComponent, DaoComponent {
 
+  // Oracle does not support more than 1000 elements in IN clauses, see DaoUtils
+  private static final int PARTITION_SIZE = 1000;
+
   private final MyBatis mybatis;
 
   public FileSourceDao(MyBatis myBatis) {
@@ -80,6 +89,57 @@ public class FileSourceDao implements BatchComponent, ServerComponent, DaoCompon
     }
   }
 
+  /**
+   * Bulk version of {@link #readDataStream(String, com.google.common.base.Function)}. Column BINARY_DATA of the
+   * given files is loaded with a single query per partition of 1000 files. The function is applied on each file, and its results are returned by file UUID. Files
+   * that do not exist in table FILE_SOURCES are ignored.
+   */
+  public <T> Map<String, T> readDataStreams(Collection<String> fileUuids, Function<InputStream, T> function) {
+    Map<String, T> result = new HashMap<>();
+    if (fileUuids.isEmpty()) {
+      return result;
+    }
+    DbSession dbSession = mybatis.openSession(false);
+    Connection connection = dbSession.getConnection();
+    try {
+      for (List<String> partition : Iterables.partition(fileUuids, PARTITION_SIZE)) {
+        readDataStreams(connection, partition, function, result);
+      }
+    } finally {
+      DbUtils.closeQuietly(connection);
+      MyBatis.closeQuietly(dbSession);
+    }
+    return result;
+  }
+
+  private static <T> void readDataStreams(Connection connection, List<String> fileUuids, Function<InputStream, T> function, Map<String, T> result) {
+    PreparedStatement pstmt = null;
+    ResultSet rs = null;
+    InputStream input = null;
+    try {
+      pstmt = connection.prepareStatement("SELECT file_uuid, binary_data FROM file_sources WHERE file_uuid IN ("
+        + DaoUtils.repeatCondition("?", fileUuids.size(), ",") + ")");
+      for (int i = 0; i < fileUuids.size(); i++) {
+        pstmt.setString(i + 1, fileUuids.get(i));
+      }
+      rs = pstmt.executeQuery();
+      while (rs.next()) {
+        String fileUuid = rs.getString(1);
+        input = rs.getBinaryStream(2);
+        if (input != null) {
+          result.put(fileUuid, function.apply(input));
+          IOUtils.closeQuietly(input);
+          input = null;
+        }
+      }
+    } catch (SQLException e) {
+      throw new IllegalStateException("Fail to read FILE_SOURCES.BINARY_DATA of files " + fileUuids, e);
+    } finally {
+      IOUtils.closeQuietly(input);
+      DbUtils.closeQuietly(null, pstmt, rs);
+    }
+  }
+
   public <T> void readLineHashesStream(DbSession dbSession, String fileUuid, Function<Reader, T> function) {
     Connection connection = dbSession.getConnection();
     PreparedStatement pstmt = null;
@@ -27,6 +27,8 @@ import org.sonar.api.utils.DateUtils;
 import org.sonar.core.persistence.AbstractDaoTestCase;
 import org.sonar.core.persistence.MyBatis;
 
+import java.util.Arrays;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class IssueMapperTest extends AbstractDaoTestCase {
@@ -78,6 +80,48 @@ public class IssueMapperTest extends AbstractDaoTestCase {
     checkTables("testInsert", new String[] {"id"}, "issues");
   }
 
+  @Test
+  public void insert_multiple() throws Exception {
+    IssueDto dto1 = new IssueDto();
+    dto1.setComponentUuid("uuid-123");
+    dto1.setProjectUuid("uuid-100");
+    dto1.setRuleId(200);
+    dto1.setKee("ABCDE");
+    dto1.setLine(500);
+    dto1.setEffortToFix(3.14);
+    dto1.setDebt(10L);
+    dto1.setResolution("FIXED");
+    dto1.setStatus("RESOLVED");
+    dto1.setSeverity("BLOCKER");
+    dto1.setReporter("emmerik");
+    dto1.setAuthorLogin("morgan");
+    dto1.setAssignee("karadoc");
+    dto1.setActionPlanKey("current_sprint");
+    dto1.setIssueAttributes("JIRA=FOO-1234");
+    dto1.setChecksum("123456789");
+    dto1.setMessage("the message");
+    dto1.setIssueCreationDate(DateUtils.parseDate("2013-05-18"));
+    dto1.setIssueUpdateDate(DateUtils.parseDate("2013-05-19"));
+    dto1.setIssueCloseDate(DateUtils.parseDate("2013-05-20"));
+    dto1.setCreatedAt(1400000000000L);
+    dto1.setUpdatedAt(1500000000000L);
+
+    IssueDto dto2 = new IssueDto();
+    dto2.setComponentUuid("uuid-123");
+    dto2.setProjectUuid("uuid-100");
+    dto2.setRuleId(201);
+    dto2.setKee("FGHIJ");
+    dto2.setStatus("OPEN");
+    dto2.setSeverity("MINOR");
+    dto2.setCreatedAt(1400000000000L);
+    dto2.setUpdatedAt(1500000000000L);
+
+    mapper.insertMultiple(Arrays.asList(dto1, dto2));
+    session.commit();
+
+    checkTables("insert_multiple", new String[] {"id"}, "issues");
+  }
+
   @Test
   public void update() throws Exception {
     setupData("testUpdate");
@@ -39,6 +39,8 @@ import org.sonar.core.persistence.MyBatis;
 import java.util.Collection;
 import java.util.Date;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class IssueStorageTest extends AbstractDaoTestCase {
 
   IssueChangeContext context = IssueChangeContext.createUser(new Date(), "emmerik");
@@ -88,6 +90,7 @@ public class IssueStorageTest extends AbstractDaoTestCase {
     saver.save(issue);
 
     checkTables("should_insert_new_issues", new String[] {"id", "created_at", "updated_at", "issue_change_creation_date"}, "issues", "issue_changes");
+    assertThat(saver.savedIssueKeys).containsOnly("ABCDE");
   }
 
   @Test
@@ -251,10 +254,13 @@ public class IssueStorageTest extends AbstractDaoTestCase {
     saver.save(issue);
 
     checkTables("should_update_issues", new String[] {"id", "created_at", "updated_at", "issue_change_creation_date"}, "issues", "issue_changes");
+    assertThat(saver.savedIssueKeys).containsOnly("ABCDE");
   }
 
   static class FakeBatchSaver extends IssueStorage {
 
+    Collection<String> savedIssueKeys;
+
     protected FakeBatchSaver(MyBatis mybatis, RuleFinder ruleFinder) {
       super(mybatis, ruleFinder);
     }
@@ -272,10 +278,17 @@ public class IssueStorageTest extends AbstractDaoTestCase {
       IssueDto dto = IssueDto.toDtoForUpdate(issue, now);
       session.getMapper(IssueMapper.class).update(dto);
     }
+
+    @Override
+    protected void doAfterSave(Collection<String> issueKeys) {
+      this.savedIssueKeys = issueKeys;
+    }
   }
 
   static class FakeServerSaver extends IssueStorage {
 
+    Collection<String> savedIssueKeys;
+
     private final ComponentDto component;
     private final ComponentDto project;
 
@@ -298,6 +311,11 @@ public class IssueStorageTest extends AbstractDaoTestCase {
       IssueDto dto = IssueDto.toDtoForUpdate(issue, now);
       session.getMapper(IssueMapper.class).update(dto);
     }
+
+    @Override
+    protected void doAfterSave(Collection<String> issueKeys) {
+      this.savedIssueKeys = issueKeys;
+    }
   }
 
   static class FakeRuleFinder implements RuleFinder {
@@ -19,15 +19,29 @@
  */
 package org.sonar.core.purge;
 
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.SqlSession;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.sonar.api.utils.log.Logger;
 import org.sonar.core.persistence.AbstractDaoTestCase;
+import org.sonar.core.persistence.BatchSession;
 import org.sonar.core.persistence.MyBatis;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class PurgeCommandsTest extends AbstractDaoTestCase {
 
@@ -98,6 +112,40 @@ public class PurgeCommandsTest extends AbstractDaoTestCase {
     checkTables("shouldDeleteWastedMeasuresWhenPurgingSnapshot", "project_measures");
   }
 
+  @Test
+  public void count_rows_of_chunks_bigger_than_batch_size() {
+    SqlSession session = mock(SqlSession.class);
+    PurgeMapper mapper = mock(PurgeMapper.class);
+    final AtomicInteger pendingStatements = new AtomicInteger();
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        pendingStatements.incrementAndGet();
+        return null;
+      }
+    }).when(mapper).updatePurgeStatusToOne(anyLong());
+    when(session.flushStatements()).thenAnswer(new Answer<List<BatchResult>>() {
+      @Override
+      public List<BatchResult> answer(InvocationOnMock invocation) {
+        // the session would flush the statements itself
+        int count = pendingStatements.getAndSet(0);
+        assertThat(count).isLessThan(BatchSession.MAX_BATCH_SIZE);
+        BatchResult result = mock(BatchResult.class);
+        int[] updateCounts = new int[count];
+        Arrays.fill(updateCounts, 1);
+        when(result.getUpdateCounts()).thenReturn(updateCounts);
+        return Arrays.asList(result);
+      }
+    });
+
+    new PurgeCommands(session, mapper, profiler).purgeSnapshots(getHugeNumberOfIds());
+
+    Logger logger = mock(Logger.class);
+    profiler.dump(1000L, logger);
+    verify(logger).info(contains("updatePurgeStatusToOne (snapshots): "));
+    verify(logger).info(contains(", 4500 rows"));
+  }
+
   /**
    * Test that SQL queries execution do not fail with a huge number of parameter
    */
@@ -20,6 +20,7 @@
 package org.sonar.core.purge;
 
 import org.junit.Test;
+import org.sonar.api.config.Settings;
 import org.sonar.api.utils.DateUtils;
 
 import java.util.Date;
@@ -36,6 +37,15 @@ public class PurgeConfigurationTest {
     assertThat(conf.maxLiveDateOfClosedIssues()).isNull();
   }
 
+  @Test
+  public void number_of_threads_from_settings() throws Exception {
+    Settings settings = new Settings();
+    assertThat(PurgeConfiguration.newDefaultPurgeConfiguration(settings, new IdUuidPair(1L, "1")).threads()).isEqualTo(1);
+
+    settings.setProperty(PurgeDao.THREADS_PROPERTY, 3);
+    assertThat(PurgeConfiguration.newDefaultPurgeConfiguration(settings, new IdUuidPair(1L, "1")).threads()).isEqualTo(3);
+  }
+
   @Test
   public void should_delete_only_old_closed_issues() throws Exception {
     Date now = DateUtils.parseDate("2013-05-18");
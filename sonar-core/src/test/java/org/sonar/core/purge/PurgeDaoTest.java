@@ -22,6 +22,7 @@ package org.sonar.core.purge;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.sonar.api.config.Settings;
 import org.sonar.api.resources.Scopes;
 import org.sonar.api.utils.System2;
 import org.sonar.core.persistence.AbstractDaoTestCase;
@@ -32,6 +33,7 @@ import org.sonar.core.resource.ResourceDao;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -78,6 +80,33 @@ public class PurgeDaoTest extends AbstractDaoTestCase {
     checkTables("shouldPurgeProject", "projects", "snapshots");
   }
 
+  @Test
+  public void purge_snapshots_in_parallel() {
+    setupData("purge_snapshots_in_parallel");
+    sut.purge(new PurgeConfiguration(new IdUuidPair(1L, "ABCD"), new String[] {Scopes.FILE}, 30, 2), PurgeListener.EMPTY);
+    checkTables("purge_snapshots_in_parallel", "snapshots");
+  }
+
+  @Test
+  public void number_of_threads() throws Exception {
+    Settings settings = new Settings();
+    assertThat(PurgeDao.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(PurgeDao.THREADS_PROPERTY, 0);
+    assertThat(PurgeDao.numberOfThreads(settings)).isEqualTo(1);
+
+    settings.setProperty(PurgeDao.THREADS_PROPERTY, 4);
+    assertThat(PurgeDao.numberOfThreads(settings)).isEqualTo(4);
+
+    settings.setProperty(PurgeDao.THREADS_PROPERTY, -1);
+    try {
+      PurgeDao.numberOfThreads(settings);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertThat(e).hasMessage("Bad value of sonar.dbcleaner.threads: -1");
+    }
+  }
+
   private PurgeConfiguration newConfigurationWith30Days() {
     return new PurgeConfiguration(new IdUuidPair(1L, "1"), new String[0], 30);
   }
@@ -24,7 +24,9 @@ import org.junit.Test;
 import org.sonar.api.utils.log.Logger;
 
 import static org.mockito.Matchers.contains;
+import static org.mockito.Matchers.endsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 public class PurgeProfilerTest {
@@ -59,6 +61,42 @@ public class PurgeProfilerTest {
     verify(logger).info(contains("bar: 5ms"));
   }
 
+  @Test
+  public void log_rows_per_second() {
+    profiler.start("foo");
+    profiler.addRows(150);
+    clock.sleep(100);
+    profiler.addRows(50);
+    profiler.stop();
+
+    profiler.start("bar");
+    clock.sleep(5);
+    profiler.stop();
+
+    profiler.dump(105, logger);
+    verify(logger).info(contains("foo: 100ms (95%), 200 rows (2000 rows/s)"));
+    verify(logger).info(endsWith("bar: 5ms (4%)"));
+  }
+
+  @Test
+  public void log_rows_of_steps_faster_than_clock() {
+    profiler.start("foo");
+    profiler.addRows(20);
+    profiler.stop();
+
+    profiler.start("bar");
+    profiler.stop();
+
+    profiler.start("baz");
+    clock.sleep(5);
+    profiler.stop();
+
+    profiler.dump(5, logger);
+    verify(logger).info(endsWith("foo: 0ms (0%), 20 rows"));
+    verify(logger).info(endsWith("baz: 5ms (100%)"));
+    verify(logger, never()).info(contains("bar"));
+  }
+
   @Test
   public void shouldResetPurgeProfiling() {
     profiler.start("foo");
@@ -31,6 +31,9 @@ import org.sonar.core.persistence.DbSession;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -75,6 +78,26 @@ public class FileSourceDaoTest extends AbstractDaoTestCase {
     assertThat(fn.result).isNotEmpty();
   }
 
+  @Test
+  public void select_data_of_several_files() throws Exception {
+    setupData("shared");
+
+    Map<String, String> result = dao.readDataStreams(Arrays.asList("FILE1_UUID", "unknown"), new Function<InputStream, String>() {
+      @Override
+      public String apply(InputStream input) {
+        try {
+          return IOUtils.toString(input);
+        } catch (IOException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    });
+
+    assertThat(result).hasSize(1);
+    assertThat(result.get("FILE1_UUID")).isNotEmpty();
+    assertThat(dao.readDataStreams(Collections.<String>emptyList(), new InputStreamToStringFunction())).isEmpty();
+  }
+
   @Test
   public void select_line_hashes() throws Exception {
     setupData("shared");
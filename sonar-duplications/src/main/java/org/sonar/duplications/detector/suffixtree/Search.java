@@ -102,6 +102,10 @@ public final class Search {
    */
   private void visitInnerNodes() {
     for (Node node : innerNodes) {
+      if (Thread.currentThread().isInterrupted()) {
+        // detection is cancelled, for example on timeout, so its result is not used
+        return;
+      }
       if (containsOrigin(node)) {
         report(node);
       }
@@ -0,0 +1,375 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.duplications.index;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Same structure as {@link PackedMemoryCloneIndex}, but the table of blocks is stored in memory-mapped temporary
+ * files, so it does not consume heap. Resource ids are interned : the table refers to them by integer. The table
+ * grows by mapping new segments of file, without copying data.
+ * <p>
+ * Lookups do not allocate memory when nothing is found, which is the most frequent case during detection.
+ * Otherwise only the returned blocks are allocated.
+ * </p>
+ * <p>
+ * Queries can be executed concurrently by several threads, as long as no block is inserted meanwhile.
+ * The index must be closed in order to delete the temporary files.
+ * </p>
+ *
+ * @since 5.1
+ */
+public class MappedCloneIndex extends AbstractCloneIndex implements Closeable {
+
+  private static final int DEFAULT_SEGMENT_INTS = 1 << 20;
+
+  /**
+   * resource, index in file, first line, last line, start unit, end unit
+   */
+  private static final int BLOCK_INTS = 6;
+
+  private final int hashInts;
+  private final int blockInts;
+
+  private final List<String> resourceIds = Lists.newArrayList();
+  private final Map<String, Integer> resourceIdsByKey = Maps.newHashMap();
+
+  private final MappedInts blockData;
+
+  /**
+   * Positions of blocks sorted by resource
+   */
+  private final MappedInts resourceIdsIndex;
+
+  private volatile boolean sorted = false;
+  private int size = 0;
+
+  public MappedCloneIndex(File tempDir) {
+    this(tempDir, 8, DEFAULT_SEGMENT_INTS);
+  }
+
+  /**
+   * @param hashBytes size of hash in bytes
+   * @param segmentInts number of ints mapped at once in temporary files
+   */
+  public MappedCloneIndex(File tempDir, int hashBytes, int segmentInts) {
+    this.hashInts = hashBytes / 4;
+    this.blockInts = hashInts + BLOCK_INTS;
+    // a block is never split across segments
+    int segmentBlocks = Math.max(1, segmentInts / blockInts);
+    this.blockData = new MappedInts(tempDir, "blocks", segmentBlocks * blockInts);
+    this.resourceIdsIndex = new MappedInts(tempDir, "resources", segmentBlocks);
+  }
+
+  @Override
+  public Collection<Block> getByResourceId(String resourceId) {
+    ensureSorted();
+    Integer id = resourceIdsByKey.get(resourceId);
+    if (id == null) {
+      return Collections.emptyList();
+    }
+    int index = lowerBoundByResourceId(id);
+    if (index == size || resourceIdOf(resourceIdsIndex.get(index)) != id) {
+      return Collections.emptyList();
+    }
+
+    List<Block> result = Lists.newArrayList();
+    Block.Builder blockBuilder = Block.builder();
+    while (index < size && resourceIdOf(resourceIdsIndex.get(index)) == id) {
+      long offset = (long) resourceIdsIndex.get(index) * blockInts;
+      int[] hash = new int[hashInts];
+      for (int j = 0; j < hashInts; j++) {
+        hash[j] = blockData.get(offset++);
+      }
+      result.add(blockBuilder
+        .setResourceId(resourceId)
+        .setBlockHash(new ByteArray(hash))
+        .setIndexInFile(blockData.get(offset + 1))
+        .setLines(blockData.get(offset + 2), blockData.get(offset + 3))
+        .setUnit(blockData.get(offset + 4), blockData.get(offset + 5))
+        .build());
+      index++;
+    }
+    return result;
+  }
+
+  @Override
+  public Collection<Block> getBySequenceHash(ByteArray sequenceHash) {
+    ensureSorted();
+    byte[] hash = sequenceHash.getBytes();
+    checkHashSize(hash);
+
+    int index = lowerBoundByHash(hash);
+    if (index == size || compareHash(index, hash) != 0) {
+      return Collections.emptyList();
+    }
+
+    List<Block> result = Lists.newArrayList();
+    Block.Builder blockBuilder = Block.builder();
+    while (index < size && compareHash(index, hash) == 0) {
+      long offset = (long) index * blockInts + hashInts;
+      result.add(blockBuilder
+        .setResourceId(resourceIds.get(blockData.get(offset)))
+        .setBlockHash(sequenceHash)
+        .setIndexInFile(blockData.get(offset + 1))
+        .setLines(blockData.get(offset + 2), blockData.get(offset + 3))
+        .setUnit(blockData.get(offset + 4), blockData.get(offset + 5))
+        .build());
+      index++;
+    }
+    return result;
+  }
+
+  @Override
+  public void insert(Block block) {
+    sorted = false;
+    byte[] hash = block.getBlockHash().getBytes();
+    checkHashSize(hash);
+
+    long offset = (long) size * blockInts;
+    blockData.ensureCapacity(offset + blockInts);
+    resourceIdsIndex.ensureCapacity(size + 1L);
+    for (int i = 0; i < hashInts; i++) {
+      blockData.set(offset++, hashInt(hash, i));
+    }
+    blockData.set(offset++, internResourceId(block.getResourceId()));
+    blockData.set(offset++, block.getIndexInFile());
+    blockData.set(offset++, block.getStartLine());
+    blockData.set(offset++, block.getEndLine());
+    blockData.set(offset++, block.getStartUnit());
+    blockData.set(offset, block.getEndUnit());
+    size++;
+  }
+
+  /**
+   * Deletes temporary files. The index can't be used anymore.
+   */
+  @Override
+  public void close() {
+    blockData.close();
+    resourceIdsIndex.close();
+  }
+
+  private int internResourceId(String resourceId) {
+    Integer id = resourceIdsByKey.get(resourceId);
+    if (id == null) {
+      id = resourceIds.size();
+      resourceIds.add(resourceId);
+      resourceIdsByKey.put(resourceId, id);
+    }
+    return id;
+  }
+
+  private void checkHashSize(byte[] hash) {
+    if (hash.length != hashInts * 4) {
+      int ints = (hash.length / 4) + (hash.length % 4 == 0 ? 0 : 1);
+      throw new IllegalArgumentException("Expected " + hashInts + " ints in hash, but got " + ints);
+    }
+  }
+
+  private static int hashInt(byte[] hash, int i) {
+    int offset = i * 4;
+    return (hash[offset] << 24) | ((hash[offset + 1] & 0xff) << 16) | ((hash[offset + 2] & 0xff) << 8) | (hash[offset + 3] & 0xff);
+  }
+
+  private int resourceIdOf(int block) {
+    return blockData.get((long) block * blockInts + hashInts);
+  }
+
+  /**
+   * Only the first of concurrent queries sorts the index.
+   */
+  private void ensureSorted() {
+    if (sorted) {
+      return;
+    }
+    synchronized (this) {
+      if (!sorted) {
+        DataUtils.sort(byBlockHash);
+        for (int i = 0; i < size; i++) {
+          resourceIdsIndex.set(i, i);
+        }
+        DataUtils.sort(byResourceId);
+        sorted = true;
+      }
+    }
+  }
+
+  private int lowerBoundByResourceId(int resourceId) {
+    int lower = 0;
+    int upper = size;
+    while (lower < upper) {
+      int mid = (lower + upper) >>> 1;
+      if (resourceIdOf(resourceIdsIndex.get(mid)) < resourceId) {
+        lower = mid + 1;
+      } else {
+        upper = mid;
+      }
+    }
+    return lower;
+  }
+
+  private int lowerBoundByHash(byte[] hash) {
+    int lower = 0;
+    int upper = size;
+    while (lower < upper) {
+      int mid = (lower + upper) >>> 1;
+      if (compareHash(mid, hash) < 0) {
+        lower = mid + 1;
+      } else {
+        upper = mid;
+      }
+    }
+    return lower;
+  }
+
+  private int compareHash(int i, byte[] hash) {
+    long offset = (long) i * blockInts;
+    for (int k = 0; k < hashInts; k++, offset++) {
+      int value = blockData.get(offset);
+      int other = hashInt(hash, k);
+      if (value != other) {
+        return value < other ? -1 : 1;
+      }
+    }
+    return 0;
+  }
+
+  private final DataUtils.Sortable byBlockHash = new DataUtils.Sortable() {
+    @Override
+    public void swap(int i, int j) {
+      long i2 = (long) i * blockInts;
+      long j2 = (long) j * blockInts;
+      for (int k = 0; k < blockInts; k++, i2++, j2++) {
+        int x = blockData.get(i2);
+        blockData.set(i2, blockData.get(j2));
+        blockData.set(j2, x);
+      }
+    }
+
+    @Override
+    public boolean isLess(int i, int j) {
+      long i2 = (long) i * blockInts;
+      long j2 = (long) j * blockInts;
+      for (int k = 0; k < hashInts; k++, i2++, j2++) {
+        int a = blockData.get(i2);
+        int b = blockData.get(j2);
+        if (a != b) {
+          return a < b;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  };
+
+  private final DataUtils.Sortable byResourceId = new DataUtils.Sortable() {
+    @Override
+    public void swap(int i, int j) {
+      int tmp = resourceIdsIndex.get(i);
+      resourceIdsIndex.set(i, resourceIdsIndex.get(j));
+      resourceIdsIndex.set(j, tmp);
+    }
+
+    @Override
+    public boolean isLess(int i, int j) {
+      return resourceIdOf(resourceIdsIndex.get(i)) < resourceIdOf(resourceIdsIndex.get(j));
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+  };
+
+  /**
+   * Growable array of ints stored in segments of a memory-mapped temporary file
+   */
+  private static class MappedInts {
+    private final int segmentInts;
+    private final File file;
+    private final RandomAccessFile randomAccessFile;
+    private final List<IntBuffer> segments = Lists.newArrayList();
+
+    MappedInts(File tempDir, String prefix, int segmentInts) {
+      this.segmentInts = segmentInts;
+      try {
+        this.file = File.createTempFile(prefix, ".idx", tempDir);
+        this.randomAccessFile = new RandomAccessFile(file, "rw");
+      } catch (IOException e) {
+        throw new IllegalStateException("Fail to create temporary file in " + tempDir, e);
+      }
+    }
+
+    int get(long index) {
+      return segments.get((int) (index / segmentInts)).get((int) (index % segmentInts));
+    }
+
+    void set(long index, int value) {
+      segments.get((int) (index / segmentInts)).put((int) (index % segmentInts), value);
+    }
+
+    void ensureCapacity(long capacity) {
+      while ((long) segments.size() * segmentInts < capacity) {
+        long position = (long) segments.size() * segmentInts * 4;
+        try {
+          segments.add(randomAccessFile.getChannel()
+            .map(FileChannel.MapMode.READ_WRITE, position, segmentInts * 4L)
+            .order(ByteOrder.nativeOrder())
+            .asIntBuffer());
+        } catch (IOException e) {
+          throw new IllegalStateException("Fail to extend file " + file, e);
+        }
+      }
+    }
+
+    void close() {
+      segments.clear();
+      try {
+        randomAccessFile.close();
+      } catch (IOException e) {
+        throw new IllegalStateException("Fail to close file " + file, e);
+      } finally {
+        if (!file.delete()) {
+          file.deleteOnExit();
+        }
+      }
+    }
+  }
+}
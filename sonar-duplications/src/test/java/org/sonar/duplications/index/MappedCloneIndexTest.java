@@ -0,0 +1,196 @@
+/*
+ * SonarQube, open source software quality management tool.
+ * Copyright (C) 2008-2014 SonarSource
+ * mailto:contact AT sonarsource DOT com
+ *
+ * SonarQube is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * SonarQube is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301, USA.
+ */
+package org.sonar.duplications.index;
+
+import com.google.common.collect.Lists;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.sonar.duplications.block.Block;
+import org.sonar.duplications.block.ByteArray;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class MappedCloneIndexTest {
+
+  @Rule
+  public TemporaryFolder temp = new TemporaryFolder();
+
+  private File dir;
+  private MappedCloneIndex index;
+
+  @Before
+  public void setUp() throws Exception {
+    dir = temp.newFolder();
+    // small segments in order to store blocks in several files regions
+    index = new MappedCloneIndex(dir, 8, 16);
+  }
+
+  @After
+  public void tearDown() {
+    index.close();
+  }
+
+  @Test
+  public void test() {
+    index.insert(newBlock("a", 1));
+    index.insert(newBlock("a", 2));
+    index.insert(newBlock("b", 1));
+    index.insert(newBlock("c", 1));
+    index.insert(newBlock("d", 1));
+    index.insert(newBlock("e", 1));
+    index.insert(newBlock("e", 2));
+    index.insert(newBlock("e", 3));
+
+    assertThat(index.getBySequenceHash(new ByteArray(1L)).size(), is(5));
+    assertThat(index.getBySequenceHash(new ByteArray(2L)).size(), is(2));
+    assertThat(index.getBySequenceHash(new ByteArray(3L)).size(), is(1));
+    assertThat(index.getBySequenceHash(new ByteArray(4L)).size(), is(0));
+    assertThat(index.getByResourceId("a").size(), is(2));
+    assertThat(index.getByResourceId("b").size(), is(1));
+    assertThat(index.getByResourceId("e").size(), is(3));
+    assertThat(index.getByResourceId("does not exist").size(), is(0));
+  }
+
+  @Test
+  public void should_restore_blocks() {
+    index.insert(Block.builder()
+      .setResourceId("a")
+      .setBlockHash(new ByteArray(-42L))
+      .setIndexInFile(3)
+      .setLines(10, 20)
+      .setUnit(30, 40)
+      .build());
+
+    Block block = index.getByResourceId("a").iterator().next();
+    assertThat(block.getResourceId(), is("a"));
+    assertThat(block.getBlockHash(), is(new ByteArray(-42L)));
+    assertThat(block.getIndexInFile(), is(3));
+    assertThat(block.getStartLine(), is(10));
+    assertThat(block.getEndLine(), is(20));
+    assertThat(block.getStartUnit(), is(30));
+    assertThat(block.getEndUnit(), is(40));
+  }
+
+  @Test
+  public void should_construct_blocks_with_normalized_hash() {
+    index.insert(newBlock("a", 1));
+    index.insert(newBlock("b", 1));
+    index.insert(newBlock("c", 1));
+    ByteArray requestedHash = new ByteArray(1L);
+    Collection<Block> blocks = index.getBySequenceHash(requestedHash);
+    assertThat(blocks.size(), is(3));
+    for (Block block : blocks) {
+      assertThat(block.getBlockHash(), sameInstance(requestedHash));
+    }
+  }
+
+  @Test
+  public void should_sort_again_after_insertion() {
+    index.insert(newBlock("b", 2));
+    assertThat(index.getBySequenceHash(new ByteArray(2L)).size(), is(1));
+
+    index.insert(newBlock("a", 2));
+    index.insert(newBlock("a", 1));
+    assertThat(index.getBySequenceHash(new ByteArray(2L)).size(), is(2));
+    assertThat(index.getByResourceId("a").size(), is(2));
+    assertThat(index.getByResourceId("b").size(), is(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void attempt_to_insert_hash_of_incorrect_size() throws Exception {
+    MappedCloneIndex index = new MappedCloneIndex(dir, 4, 16);
+    try {
+      index.insert(newBlock("a", 1));
+    } finally {
+      index.close();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void attempt_to_find_hash_of_incorrect_size() throws Exception {
+    MappedCloneIndex index = new MappedCloneIndex(dir, 4, 16);
+    try {
+      index.getBySequenceHash(new ByteArray(1L));
+    } finally {
+      index.close();
+    }
+  }
+
+  @Test
+  public void delete_files_on_close() {
+    index.insert(newBlock("a", 1));
+    assertThat(dir.list().length, is(2));
+
+    index.close();
+    assertThat(dir.list().length, is(0));
+  }
+
+  @Test
+  public void should_support_concurrent_queries() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      for (int hash = 0; hash < 10; hash++) {
+        index.insert(newBlock("resource" + i, hash));
+      }
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Boolean>> results = Lists.newArrayList();
+      for (int i = 0; i < 100; i++) {
+        final String resourceId = "resource" + i;
+        final long hash = i % 10;
+        results.add(executor.submit(new Callable<Boolean>() {
+          @Override
+          public Boolean call() {
+            return index.getByResourceId(resourceId).size() == 10 && index.getBySequenceHash(new ByteArray(hash)).size() == 100;
+          }
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        assertThat(result.get(), is(true));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static Block newBlock(String resourceId, long hash) {
+    return Block.builder()
+      .setResourceId(resourceId)
+      .setBlockHash(new ByteArray(hash))
+      .setIndexInFile(1)
+      .setLines(1, 2)
+      .build();
+  }
+
+}
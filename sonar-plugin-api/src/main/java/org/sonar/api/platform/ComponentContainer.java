@@ -19,6 +19,7 @@
  */
 package org.sonar.api.platform;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import org.picocontainer.Characteristics;
 import org.picocontainer.ComponentAdapter;
@@ -32,6 +33,7 @@ import org.sonar.api.ServerComponent;
 import org.sonar.api.config.PropertyDefinitions;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -40,8 +42,9 @@ import java.util.List;
  */
 public class ComponentContainer implements BatchComponent, ServerComponent {
 
-  // no need for multiple children
   ComponentContainer parent, child;
+  // all the children, including the last created one referenced by field "child"
+  final List<ComponentContainer> children = new ArrayList<ComponentContainer>();
   MutablePicoContainer pico;
   PropertyDefinitions propertyDefinitions;
   ComponentKeys componentKeys;
@@ -66,6 +69,7 @@ public class ComponentContainer implements BatchComponent, ServerComponent {
     this.parent = parent;
     this.pico = parent.pico.makeChildContainer();
     this.parent.child = this;
+    this.parent.children.add(this);
     this.propertyDefinitions = parent.propertyDefinitions;
     this.componentKeys = new ComponentKeys();
     addSingleton(this);
@@ -130,7 +134,7 @@ public class ComponentContainer implements BatchComponent, ServerComponent {
     } finally {
       removeChild();
       if (parent != null) {
-        parent.removeChild();
+        parent.removeChild(this);
       }
     }
     return this;
@@ -217,15 +221,34 @@ public class ComponentContainer implements BatchComponent, ServerComponent {
     return pico.getComponents(tClass);
   }
 
-  public ComponentContainer removeChild() {
-    if (child != null) {
-      pico.removeChildContainer(child.pico);
-      child = null;
+  /**
+   * Removes all the children
+   */
+  public synchronized ComponentContainer removeChild() {
+    for (ComponentContainer c : children) {
+      pico.removeChildContainer(c.pico);
     }
+    children.clear();
+    child = null;
     return this;
   }
 
-  public ComponentContainer createChild() {
+  /**
+   * Removes only the given child. Other children are kept, so that
+   * several children can be used concurrently.
+   * @since 5.1
+   */
+  public synchronized ComponentContainer removeChild(ComponentContainer childToBeRemoved) {
+    if (children.remove(childToBeRemoved)) {
+      pico.removeChildContainer(childToBeRemoved.pico);
+    }
+    if (child == childToBeRemoved) {
+      child = children.isEmpty() ? null : children.get(children.size() - 1);
+    }
+    return this;
+  }
+
+  public synchronized ComponentContainer createChild() {
     return new ComponentContainer(this);
   }
 
@@ -238,10 +261,20 @@ public class ComponentContainer implements BatchComponent, ServerComponent {
     return parent;
   }
 
+  /**
+   * The last created child, if any
+   */
   public ComponentContainer getChild() {
     return child;
   }
 
+  /**
+   * @since 5.1
+   */
+  public synchronized List<ComponentContainer> getChildren() {
+    return ImmutableList.copyOf(children);
+  }
+
   public MutablePicoContainer getPicoContainer() {
     return pico;
   }
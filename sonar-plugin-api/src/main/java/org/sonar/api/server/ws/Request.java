@@ -117,6 +117,17 @@ public abstract class Request {
   @CheckForNull
   public abstract InputStream paramAsInputStream(String key);
 
+  /**
+   * Value of the HTTP header, or null if the header is missing or if headers are not
+   * supported by the implementation.
+   *
+   * @since 5.1
+   */
+  @CheckForNull
+  public String header(String name) {
+    return null;
+  }
+
   /**
    * @deprecated to be dropped in 4.4. Default values are declared in ws metadata
    */
@@ -36,6 +36,7 @@ import java.util.Map;
 public class SimpleGetRequest extends Request {
 
   private final Map<String, String> params = Maps.newHashMap();
+  private final Map<String, String> headers = Maps.newHashMap();
 
   @Override
   public String method() {
@@ -64,4 +65,16 @@ public class SimpleGetRequest extends Request {
     return this;
   }
 
+  @Override
+  public String header(String name) {
+    return headers.get(name);
+  }
+
+  public SimpleGetRequest setHeader(String name, @Nullable String value) {
+    if (value != null) {
+      headers.put(name, value);
+    }
+    return this;
+  }
+
 }
@@ -50,6 +50,7 @@ import java.net.Proxy;
 import java.net.ProxySelector;
 import java.net.URI;
 import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.zip.GZIPInputStream;
@@ -252,6 +253,18 @@ public class HttpDownloader extends UriReader.SchemeProcessor implements BatchCo
       return new HttpInputSupplier(uri, requestMethod, userAgent, login, password, TIMEOUT_MILLISECONDS);
     }
 
+    /**
+     * Same as {@link #newInputSupplier(java.net.URI, String, String, String, Integer)}, but sends additional
+     * headers, for example If-None-Match. The response 304 Not Modified raises {@link HttpException}.
+     *
+     * @since 5.1
+     */
+    public InputSupplier<InputStream> newInputSupplier(URI uri, String requestMethod, @Nullable String login, @Nullable String password,
+      @Nullable Integer readTimeoutMillis, Map<String, String> requestHeaders) {
+      return new HttpInputSupplier(uri, requestMethod, userAgent, login, password, readTimeoutMillis != null ? readTimeoutMillis : TIMEOUT_MILLISECONDS,
+        requestHeaders);
+    }
+
     private static class HttpInputSupplier implements InputSupplier<InputStream> {
       private final String login;
       private final String password;
@@ -259,14 +272,21 @@ public class HttpDownloader extends UriReader.SchemeProcessor implements BatchCo
       private final String userAgent;
       private final int readTimeoutMillis;
       private final String requestMethod;
+      private final Map<String, String> requestHeaders;
 
       HttpInputSupplier(URI uri, String requestMethod, String userAgent, String login, String password, int readTimeoutMillis) {
+        this(uri, requestMethod, userAgent, login, password, readTimeoutMillis, Collections.<String, String>emptyMap());
+      }
+
+      HttpInputSupplier(URI uri, String requestMethod, String userAgent, String login, String password, int readTimeoutMillis,
+        Map<String, String> requestHeaders) {
         this.uri = uri;
         this.requestMethod = requestMethod;
         this.userAgent = userAgent;
         this.login = login;
         this.password = password;
         this.readTimeoutMillis = readTimeoutMillis;
+        this.requestHeaders = requestHeaders;
       }
 
       @Override
@@ -288,6 +308,9 @@ public class HttpDownloader extends UriReader.SchemeProcessor implements BatchCo
         connection.setUseCaches(true);
         connection.setInstanceFollowRedirects(true);
         connection.setRequestProperty("User-Agent", userAgent);
+        for (Map.Entry<String, String> header : requestHeaders.entrySet()) {
+          connection.setRequestProperty(header.getKey(), header.getValue());
+        }
 
         // establish connection, get response headers
         connection.connect();
@@ -296,6 +319,9 @@ public class HttpDownloader extends UriReader.SchemeProcessor implements BatchCo
         String encoding = connection.getContentEncoding();
 
         int responseCode = connection.getResponseCode();
+        if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+          throw new HttpException(uri, responseCode);
+        }
         if (responseCode >= 400) {
           InputStream errorResponse = null;
           try {
@@ -44,4 +44,13 @@ public class SimpleGetRequestTest {
     assertThat(request.hasParam("foo")).isTrue();
     assertThat(request.hasParam("unknown")).isFalse();
   }
+
+  @Test
+  public void header() throws Exception {
+    SimpleGetRequest request = new SimpleGetRequest();
+    request.setHeader("If-None-Match", "\"abc\"");
+
+    assertThat(request.header("If-None-Match")).isEqualTo("\"abc\"");
+    assertThat(request.header("unknown")).isNull();
+  }
 }
@@ -20,6 +20,9 @@
 package org.sonar.api.utils;
 
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.InputSupplier;
+import org.apache.commons.io.IOUtils;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.junit.AfterClass;
@@ -49,10 +52,12 @@ import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
 import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -80,6 +85,13 @@ public class HttpDownloaderTest {
             resp.setCode(303);
             resp.add("Location", "/");
           }
+          else if (req.getPath().getPath().contains("/etag/")) {
+            if ("\"abc\"".equals(req.getValue("If-None-Match"))) {
+              resp.setCode(304);
+            } else {
+              resp.getPrintStream().append("modified");
+            }
+          }
           else {
             if (req.getPath().getPath().contains("/timeout/")) {
               try {
@@ -198,6 +210,29 @@ public class HttpDownloaderTest {
     assertThat(props.getProperty("agent")).isEqualTo("SonarQube 2.2");
   }
 
+  @Test
+  public void send_request_headers() throws Exception {
+    HttpDownloader.BaseHttpDownloader downloader = new HttpDownloader.BaseHttpDownloader(Collections.<String, String>emptyMap(), null);
+    InputSupplier<InputStream> supplier = downloader.newInputSupplier(new URI(baseUrl + "/etag/"), "GET", null, null, null,
+      ImmutableMap.of("If-None-Match", "\"def\""));
+
+    assertThat(IOUtils.toString(supplier.getInput())).isEqualTo("modified");
+  }
+
+  @Test
+  public void fail_if_not_modified() throws Exception {
+    HttpDownloader.BaseHttpDownloader downloader = new HttpDownloader.BaseHttpDownloader(Collections.<String, String>emptyMap(), null);
+    InputSupplier<InputStream> supplier = downloader.newInputSupplier(new URI(baseUrl + "/etag/"), "GET", null, null, null,
+      ImmutableMap.of("If-None-Match", "\"abc\""));
+
+    try {
+      supplier.getInput();
+      fail();
+    } catch (HttpDownloader.HttpException e) {
+      assertThat(e.getResponseCode()).isEqualTo(304);
+    }
+  }
+
   @Test
   public void followRedirect() throws URISyntaxException {
     String content = new HttpDownloader(new Settings()).readString(new URI(baseUrl + "/redirect/"), Charsets.UTF_8);